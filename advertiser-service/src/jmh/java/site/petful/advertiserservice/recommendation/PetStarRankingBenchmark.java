@@ -0,0 +1,72 @@
+package site.petful.advertiserservice.recommendation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import site.petful.advertiserservice.recommendation.dto.PetStarRecommendationResponse.PetStarScore;
+import site.petful.advertiserservice.recommendation.store.PetStarEmbeddingStore;
+import site.petful.advertiserservice.recommendation.store.TopKSimilarity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 펫스타 10k / 100k명에 대한 상위 K 추천 순위 계산 지연시간.
+ * 차원은 KoSimCSE-roberta hidden size(768)와 동일하게 둔다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PetStarRankingBenchmark {
+
+    private static final int DIMENSION = 768;
+
+    @Param({"10000", "100000"})
+    public int petStars;
+
+    @Param({"2", "20"})
+    public int topK;
+
+    private PetStarEmbeddingStore store;
+    private float[] query;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        store = new PetStarEmbeddingStore();
+
+        Map<Long, float[]> batch = new HashMap<>();
+        for (long petNo = 1; petNo <= petStars; petNo++) {
+            batch.put(petNo, randomVector(random));
+            if (batch.size() == 5_000) {
+                store.upsertAll(batch);
+                batch.clear();
+            }
+        }
+        store.upsertAll(batch);
+        query = TopKSimilarity.normalize(randomVector(random));
+    }
+
+    private static float[] randomVector(SplittableRandom random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    @Benchmark
+    public List<PetStarScore> rankTopK() {
+        return store.topK(query, topK);
+    }
+}
@@ -0,0 +1,90 @@
+package site.petful.advertiserservice.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 토큰 서명/검증 처리량 (ops/ms).
+ * - signRebuildingKey / verifyRebuildingParser: 변경 전 방식. 호출마다 시크릿을 디코딩해 키(와 파서)를 새로 만든다
+ * - signPrecomputedKey / verifyPrecomputedParser: JwtTokenProvider. 기동 시 만든 키와 파서를 재사용한다
+ * - cachedServiceToken: ServiceTokenProvider. Feign 요청마다 호출되는 경로로, 유효 기간 동안 같은 토큰을 돌려준다
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ServiceTokenBenchmark {
+
+    private String accessSecret;
+    private JwtTokenProvider jwtTokenProvider;
+    private ServiceTokenProvider serviceTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SplittableRandom(42).nextBytes(secret);
+        accessSecret = Base64.getEncoder().encodeToString(secret);
+        jwtTokenProvider = new JwtTokenProvider(accessSecret, accessSecret, 60, 14);
+        serviceTokenProvider = new ServiceTokenProvider(jwtTokenProvider, 300, 30);
+        token = jwtTokenProvider.generateServiceToken();
+    }
+
+    @TearDown
+    public void tearDown() {
+        serviceTokenProvider.shutdown();
+    }
+
+    @Benchmark
+    public String signRebuildingKey() {
+        Date now = new Date();
+        return Jwts.builder()
+                .claim("userType", "SERVICE")
+                .claim("tokenType", "SERVICE")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 60 * 60 * 1000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(accessSecret.trim())), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String signPrecomputedKey() {
+        return jwtTokenProvider.generateServiceToken();
+    }
+
+    @Benchmark
+    public String cachedServiceToken() {
+        return serviceTokenProvider.getToken();
+    }
+
+    @Benchmark
+    public Claims verifyRebuildingParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(accessSecret.trim())))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims verifyPrecomputedParser() {
+        return jwtTokenProvider.getAccessTokenClaims(token);
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.web.server.ResponseStatusException;
 import site.petful.advertiserservice.entity.advertisement.AdStatus;
 import site.petful.advertiserservice.entity.advertisement.Advertisement;
 import site.petful.advertiserservice.repository.AdRepository;
+import site.petful.advertiserservice.service.AdListCache;
 import site.petful.advertiserservice.repository.AdvertiserRepository;
 import site.petful.advertiserservice.repository.FileRepository;
 import site.petful.advertiserservice.repository.ImageRepository;
@@ -30,6 +31,7 @@ public class AdvertiserAdminService {
     private final AdRepository adRepository;
     private final FileRepository fileRepository;
     private final ImageRepository imageRepository;
+    private final AdListCache adListCache;
     // 광고주 제한
     public void restrictAdvertiser(Long id) {
         Advertiser restrictAdvertiser = advertiserRepository.findById(id)
@@ -108,6 +110,7 @@ public class AdvertiserAdminService {
             return; // 이미 삭제 상태면 아무 것도 안 함
         }
         ad.setAdStatus(AdStatus.REJECTED);
+        adListCache.evictGrouped();
     }
 
     public Page<AdAdminResponse> getPendingAds(Pageable pageable) {
@@ -148,6 +151,7 @@ public class AdvertiserAdminService {
         }
 
         ad.setAdStatus(AdStatus.APPROVED);
+        adListCache.evictGrouped();
     }
 
     public void reject(Long adId, String reason) {
@@ -170,6 +174,7 @@ public class AdvertiserAdminService {
 
         ad.setAdStatus(AdStatus.REJECTED);
         ad.setReason(reason);
+        adListCache.evictGrouped();
     }
 
 }
@@ -17,6 +17,11 @@ public interface CampaignFeignClient {
     @PutMapping("/applicant/{applicantNo}")
     ApiResponse<ApplicantResponse> updateApplicant(@PathVariable Long applicantNo, @RequestBody ApplicantRequest request);
 
+    // 2-1. 광고별 체험단 상태 일괄 수정 (+ 선정 체험단 리뷰 생성)
+    @PutMapping("/{adNo}/applicants")
+    ApiResponse<ApplicantBulkUpdateResponse> updateApplicantsByAdNo(@PathVariable("adNo") Long adNo,
+                                                                   @RequestBody ApplicantBulkUpdateRequest request);
+
     /* 리뷰 API */
     // 3. 리뷰 생성
     @PostMapping("/review/{applicantNo}")
@@ -0,0 +1,171 @@
+package site.petful.advertiserservice.common.ftp;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.net.ftp.FTP;
+import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPReply;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 로그인까지 마친 FTPClient를 재사용하는 커넥션 풀.
+ * - 유휴 커넥션은 keep-alive 주기마다 NOOP으로 상태를 확인하고, 실패하면 폐기
+ * - max-idle을 넘게 쉬고 있던 커넥션은 정리
+ * - 사용 중 끊긴 커넥션은 invalidate로 버리고 새로 만든다
+ */
+@Slf4j
+@Component
+public class FtpClientPool {
+
+    private final GenericObjectPool<FTPClient> pool;
+    private final int maxTotal;
+
+    public FtpClientPool(@Value("${ftp.host}") String host,
+                         @Value("${ftp.port}") int port,
+                         @Value("${ftp.username}") String username,
+                         @Value("${ftp.password}") String password,
+                         @Value("${ftp.pool.max-total:4}") int maxTotal,
+                         @Value("${ftp.pool.max-idle-ms:60000}") long maxIdleMillis,
+                         @Value("${ftp.pool.keep-alive-ms:30000}") long keepAliveMillis,
+                         @Value("${ftp.pool.max-wait-ms:10000}") long maxWaitMillis,
+                         @Value("${ftp.pool.buffer-size:65536}") int bufferSize) {
+        this.maxTotal = Math.max(1, maxTotal);
+
+        GenericObjectPoolConfig<FTPClient> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(this.maxTotal);
+        config.setMaxIdle(this.maxTotal);
+        config.setMinIdle(0);
+        config.setMaxWait(Duration.ofMillis(maxWaitMillis));
+        // 유휴 검사(evictor)가 keep-alive 역할: NOOP 실패 시 폐기, max-idle 초과 시 정리
+        config.setTestWhileIdle(true);
+        config.setTimeBetweenEvictionRuns(Duration.ofMillis(keepAliveMillis));
+        config.setMinEvictableIdleDuration(Duration.ofMillis(maxIdleMillis));
+        config.setNumTestsPerEvictionRun(this.maxTotal);
+        config.setJmxEnabled(false);
+
+        this.pool = new GenericObjectPool<>(
+                new FtpClientFactory(host, port, username, password, bufferSize), config);
+    }
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    public FTPClient borrow() throws IOException {
+        try {
+            return pool.borrowObject();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("FTP 커넥션을 가져오지 못했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    public void release(FTPClient client) {
+        pool.returnObject(client);
+    }
+
+    // 끊겼거나 상태가 불확실한 커넥션은 풀에 돌려보내지 않고 폐기
+    public void invalidate(FTPClient client) {
+        try {
+            pool.invalidateObject(client);
+        } catch (Exception e) {
+            log.debug("FTP 커넥션 폐기 중 오류: {}", e.getMessage());
+        }
+    }
+
+    public int getNumActive() {
+        return pool.getNumActive();
+    }
+
+    public int getNumIdle() {
+        return pool.getNumIdle();
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.close();
+    }
+
+    private static class FtpClientFactory extends BasePooledObjectFactory<FTPClient> {
+
+        private final String host;
+        private final int port;
+        private final String username;
+        private final String password;
+        private final int bufferSize;
+
+        FtpClientFactory(String host, int port, String username, String password, int bufferSize) {
+            this.host = host;
+            this.port = port;
+            this.username = username;
+            this.password = password;
+            this.bufferSize = bufferSize;
+        }
+
+        @Override
+        public FTPClient create() throws Exception {
+            FTPClient client = new FTPClient();
+            client.setConnectTimeout(10_000);
+            client.setDefaultTimeout(30_000);
+            client.connect(host, port);
+
+            if (!FTPReply.isPositiveCompletion(client.getReplyCode())) {
+                client.disconnect();
+                throw new IOException("FTP 서버가 연결을 거부했습니다: " + client.getReplyString());
+            }
+            if (!client.login(username, password)) {
+                client.disconnect();
+                throw new IOException("FTP 로그인 실패");
+            }
+
+            client.enterLocalPassiveMode();
+            client.setFileType(FTP.BINARY_FILE_TYPE);
+            client.setBufferSize(bufferSize);
+            return client;
+        }
+
+        @Override
+        public PooledObject<FTPClient> wrap(FTPClient client) {
+            return new DefaultPooledObject<>(client);
+        }
+
+        // keep-alive 겸 상태 확인
+        @Override
+        public boolean validateObject(PooledObject<FTPClient> pooled) {
+            FTPClient client = pooled.getObject();
+            try {
+                return client.isConnected() && client.sendNoOp();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void destroyObject(PooledObject<FTPClient> pooled) {
+            FTPClient client = pooled.getObject();
+            if (!client.isConnected()) {
+                return;
+            }
+            try {
+                client.logout();
+            } catch (IOException ignored) {
+                // 이미 끊긴 커넥션
+            }
+            try {
+                client.disconnect();
+            } catch (IOException ignored) {
+                // 정리 중 오류는 무시
+            }
+        }
+    }
+}
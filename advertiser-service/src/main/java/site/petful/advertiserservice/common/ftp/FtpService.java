@@ -1,23 +1,16 @@
 
 package site.petful.advertiserservice.common.ftp;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
+@RequiredArgsConstructor
 public class FtpService {
-    @Value("${ftp.host}")
-    private String host;
 
-    @Value("${ftp.port}")
-    private int port;
-
-    @Value("${ftp.username}")
-    private String username;
-
-    @Value("${ftp.password}")
-    private String password;
+    private final FtpUploader ftpUploader;
 
     @Value("${ftp.base-folder}")
     private String baseFolder;
@@ -26,7 +19,7 @@ public class FtpService {
     private String viewUrl;
 
     public String upload(String path, MultipartFile file) {
-        return FtpUploader.uploadFile(host, port, username, password, baseFolder+path, file);
+        return ftpUploader.upload(baseFolder + path, file);
     }
 
     public String getFileUrl(String path, String filename) {
@@ -1,93 +1,172 @@
-
 package site.petful.advertiserservice.common.ftp;
-import org.apache.commons.net.ftp.FTP;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPConnectionClosedException;
+import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
-
+/**
+ * 풀에서 빌린 커넥션으로 업로드한다.
+ * - 이미 만든(확인한) 디렉토리는 기억해 두고 다시 만들지 않는다
+ * - 절대 경로로 저장해 작업 디렉토리 이동(CWD) 왕복을 없앤다
+ * - multipart 입력 스트림을 그대로 흘려보낸다 (파일 전체를 메모리에 올리지 않음)
+ * - 여러 파일은 풀 크기만큼 병렬로 올린다
+ */
+@Slf4j
+@Component
 public class FtpUploader {
-    public static String uploadFile(String host, int port, String username, String password, String baseFolder, MultipartFile file) {
-        FTPClient ftpClient = new FTPClient();
-
-        try (InputStream input = file.getInputStream()) {
-            ftpClient.connect(host, port);
-            
-            boolean loginSuccess = ftpClient.login(username, password);
-            
-            if (!loginSuccess) {
+
+    private final FtpClientPool pool;
+    private final ExecutorService executor;
+    private final Set<String> knownDirectories = ConcurrentHashMap.newKeySet();
+
+    public FtpUploader(FtpClientPool pool) {
+        this.pool = pool;
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(pool.getMaxTotal(), r -> {
+            Thread t = new Thread(r, "ftp-upload-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 파일 하나를 업로드하고 생성된 파일명을 반환한다. 실패 시 null.
+     */
+    public String upload(String folder, MultipartFile file) {
+        String directory = normalizeDirectory(folder);
+        String safeFilename = generateSafeFilename(file.getOriginalFilename());
+        String remotePath = directory + safeFilename;
+
+        // 끊긴 커넥션을 받은 경우 한 번만 새 커넥션으로 재시도
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            FTPClient client = null;
+            try {
+                client = pool.borrow();
+                ensureDirectory(client, directory);
+
+                boolean done;
+                try (InputStream input = file.getInputStream()) {
+                    done = client.storeFile(remotePath, input);
+                }
+                String reply = client.getReplyString();
+                pool.release(client);
+
+                if (!done) {
+                    // 디렉토리가 외부에서 지워졌을 수 있으므로 다음 업로드 때 다시 확인
+                    knownDirectories.clear();
+                    log.warn("FTP 업로드 실패 - path: {}, reply: {}", remotePath, reply);
+                    return null;
+                }
+                return safeFilename; // 생성된 파일명 반환
+            } catch (FTPConnectionClosedException | SocketException e) {
+                if (client != null) {
+                    pool.invalidate(client);
+                }
+                log.debug("FTP 커넥션 끊김 ({}회차): {}", attempt, e.getMessage());
+            } catch (IOException e) {
+                if (client != null) {
+                    pool.invalidate(client);
+                }
+                log.warn("FTP 업로드 오류 - path: {}, error: {}", remotePath, e.getMessage());
                 return null;
             }
-            
-            ftpClient.enterLocalPassiveMode();
-            ftpClient.setFileType(FTP.BINARY_FILE_TYPE);
-
-            // 파일명을 안전한 영문명으로 변경
-            String originalFilename = file.getOriginalFilename();
-            String safeFilename = generateSafeFilename(originalFilename);
-            
-            // baseFolder 끝에 /가 있는지 확인하고 경로 구성
-            String remoteFilePath;
-            if (baseFolder.endsWith("/")) {
-                remoteFilePath = baseFolder + safeFilename;
-            } else {
-                remoteFilePath = baseFolder + "/" + safeFilename;
-            }
-            
-            // 디렉토리 존재 확인 및 생성
-            String[] pathParts = baseFolder.split("/");
-            String currentPath = "";
-            for (String part : pathParts) {
-                if (!part.isEmpty()) {
-                    currentPath += "/" + part;
-                    if (!ftpClient.changeWorkingDirectory(currentPath)) {
-                        ftpClient.makeDirectory(currentPath);
-                    }
-                }
+        }
+        return null;
+    }
+
+    /**
+     * 여러 파일을 병렬로 업로드한다. 결과는 입력 순서를 따르며 실패한 항목은 null.
+     */
+    public List<String> uploadAll(String folder, List<MultipartFile> files) {
+        if (files.size() <= 1) {
+            List<String> result = new ArrayList<>(files.size());
+            files.forEach(file -> result.add(upload(folder, file)));
+            return result;
+        }
+
+        List<CompletableFuture<String>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> upload(folder, file), executor));
+        }
+
+        List<String> result = new ArrayList<>(files.size());
+        for (CompletableFuture<String> future : futures) {
+            result.add(future.join());
+        }
+        return result;
+    }
+
+    // 경로의 각 단계를 한 번씩만 만든다 (이미 있으면 MKD가 실패해도 무시)
+    private void ensureDirectory(FTPClient client, String directory) throws IOException {
+        if (knownDirectories.contains(directory)) {
+            return;
+        }
+        StringBuilder current = new StringBuilder();
+        for (String part : directory.split("/")) {
+            if (part.isEmpty()) {
+                continue;
             }
-            
-            // 업로드 디렉토리로 이동
-            ftpClient.changeWorkingDirectory(baseFolder);
-            
-            boolean done = ftpClient.storeFile(safeFilename, input);
-            
-            if (!done) {
-                ftpClient.logout();
-                ftpClient.disconnect();
-                return null;
+            current.append('/').append(part);
+            String path = current.toString() + "/";
+            if (!knownDirectories.contains(path)) {
+                client.makeDirectory(current.toString());
+                knownDirectories.add(path);
             }
-            
-            ftpClient.logout();
-            ftpClient.disconnect();
-            return safeFilename; // 생성된 파일명 반환
-
-        } catch (IOException e) {
-            e.printStackTrace();
-            return null;
         }
+        knownDirectories.add(directory);
+    }
+
+    private static String normalizeDirectory(String folder) {
+        String directory = folder == null ? "" : folder.trim();
+        if (!directory.startsWith("/")) {
+            directory = "/" + directory;
+        }
+        if (!directory.endsWith("/")) {
+            directory = directory + "/";
+        }
+        return directory;
     }
-    
+
     /**
      * 안전한 파일명 생성 (영문, 숫자, 언더스코어만 허용)
      */
-    private static String generateSafeFilename(String originalFilename) {
+    static String generateSafeFilename(String originalFilename) {
+        // 병렬 업로드 시 같은 밀리초에 겹치지 않도록 난수 부분은 UUID에서 가져온다
+        String random = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+
         if (originalFilename == null || originalFilename.isEmpty()) {
-            return "file_" + System.currentTimeMillis() + ".jpg";
+            return "file_" + System.currentTimeMillis() + "_" + random + ".jpg";
         }
-        
+
         // 파일 확장자 추출
         String extension = "";
         int lastDotIndex = originalFilename.lastIndexOf('.');
         if (lastDotIndex > 0) {
-            extension = originalFilename.substring(lastDotIndex);
+            extension = originalFilename.substring(lastDotIndex).replaceAll("[^A-Za-z0-9.]", "");
         }
-        
-        // 안전한 파일명 생성 (타임스탬프 + 랜덤 숫자)
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String random = String.valueOf((int)(Math.random() * 1000));
-        
-        return "file_" + timestamp + "_" + random + extension;
+
+        // 안전한 파일명 생성 (타임스탬프 + 랜덤)
+        return "file_" + System.currentTimeMillis() + "_" + random + extension;
     }
-}
\ No newline at end of file
+}
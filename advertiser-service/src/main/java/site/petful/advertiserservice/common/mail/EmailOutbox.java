@@ -0,0 +1,76 @@
+package site.petful.advertiserservice.common.mail;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 중인 메일. API 스레드는 여기까지만 저장하고, MailDispatcher 워커가 SMTP로 보낸다.
+ */
+@Entity
+@Table(name = "email_outbox",
+        indexes = {
+                @Index(name = "idx_email_outbox_due", columnList = "sent_at, failed_at, next_attempt_at"),
+                @Index(name = "idx_email_outbox_claim", columnList = "claim_token")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "email_no")
+    private Long id;
+
+    @Column(name = "to_address", nullable = false, length = 255)
+    private String toAddress;
+
+    @Column(name = "subject", nullable = false, length = 255)
+    private String subject;
+
+    @Lob
+    @Column(name = "body", nullable = false)
+    private String body;
+
+    @Column(name = "html", nullable = false)
+    private boolean html;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 워커가 가져간 메일 표시 (lease_until까지 다른 워커는 건드리지 않음)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @ColumnDefault("0")
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    public EmailOutbox(String toAddress, String subject, String body, boolean html) {
+        this.toAddress = toAddress;
+        this.subject = subject;
+        this.body = body;
+        this.html = html;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
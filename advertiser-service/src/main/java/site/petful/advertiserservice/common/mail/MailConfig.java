@@ -0,0 +1,10 @@
+package site.petful.advertiserservice.common.mail;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 스케줄링은 SchedulerConfig에서 켠다
+@Configuration
+@EnableConfigurationProperties(MailProps.class)
+public class MailConfig {
+}
@@ -0,0 +1,44 @@
+package site.petful.advertiserservice.common.mail;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * 메일 발송 요청을 email_outbox 테이블에 적는다.
+ * 호출한 쪽은 저장까지만 기다리고, 실제 SMTP 발송은 MailDispatcher 워커가 한다.
+ * 트랜잭션 안에서 호출하면 함께 커밋/롤백되고, 커밋된 뒤에 워커를 깨운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailQueue {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final MailTemplateRenderer templateRenderer;
+    private final MailDispatcher mailDispatcher;
+
+    public void enqueue(String to, MailTemplate template, Map<String, String> params) {
+        enqueue(to, template.getSubject(), templateRenderer.render(template, params), template.isHtml());
+    }
+
+    public void enqueue(String to, String subject, String body, boolean html) {
+        EmailOutbox saved = emailOutboxRepository.save(new EmailOutbox(to, subject, body, html));
+        log.debug("📥 [MailQueue] 메일 적재: emailNo={}, to={}", saved.getId(), to);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailDispatcher.trigger();
+                }
+            });
+        } else {
+            mailDispatcher.trigger();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package site.petful.advertiserservice.config;
 
 import feign.RequestInterceptor;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,11 +32,12 @@ public class FeignConfig {
                 if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
                     String token = authorizationHeader.substring(7);
 
-                    // JWT 토큰 유효성 검사
-                    if (jwtTokenProvider.validateAccessToken(token)) {
+                    // 서명 검증과 클레임 추출을 한 번의 파싱으로 처리
+                    Claims claims = parseClaims(token);
+                    if (claims != null) {
                         // JWT 토큰에서 직접 사용자 정보 추출
-                        Long advertiserNo = jwtTokenProvider.getAdvertiserNoFromAccessToken(token);
-                        String userType = jwtTokenProvider.getUserTypeFromAccessToken(token);
+                        Long advertiserNo = claims.get("advertiserNo", Long.class);
+                        String userType = claims.get("userType", String.class);
 
                         template.header("Authorization", authorizationHeader);
 
@@ -49,4 +52,12 @@ public class FeignConfig {
             }
         };
     }
+
+    private Claims parseClaims(String token) {
+        try {
+            return jwtTokenProvider.getAccessTokenClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
\ No newline at end of file
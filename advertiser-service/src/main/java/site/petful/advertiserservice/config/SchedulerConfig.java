@@ -1,9 +1,11 @@
 package site.petful.advertiserservice.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
 @EnableScheduling
+@EnableConfigurationProperties(StatusSchedulerProps.class)
 public class SchedulerConfig {
 }
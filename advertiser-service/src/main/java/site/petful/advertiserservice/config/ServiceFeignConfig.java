@@ -2,29 +2,25 @@ package site.petful.advertiserservice.config;
 
 import feign.RequestInterceptor;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import site.petful.advertiserservice.security.JwtTokenProvider;
+import site.petful.advertiserservice.security.ServiceTokenProvider;
 
 @Configuration
 @RequiredArgsConstructor
-@Slf4j
 public class ServiceFeignConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final ServiceTokenProvider serviceTokenProvider;
 
     @Bean
     public RequestInterceptor serviceAuthInterceptor() {
         return template -> {
-            // 서비스 간 통신용 토큰 생성
-            String serviceToken = jwtTokenProvider.generateServiceToken();
-            
+            // 서비스 간 통신용 토큰 (유효 기간 동안 재사용, 만료 전에 미리 갱신)
+            String serviceToken = serviceTokenProvider.getToken();
+
             // Authorization 헤더에 서비스 토큰 추가
             template.header("Authorization", "Bearer " + serviceToken);
             template.header("X-User-Type", "SERVICE");
-            
-            log.debug("Service token generated for inter-service communication");
         };
     }
 }
@@ -0,0 +1,15 @@
+package site.petful.advertiserservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.scheduler.status")
+@Getter
+@Setter
+public class StatusSchedulerProps {
+    // 한 번에 처리할 광고 수 (광고 상태 UPDATE 단위)
+    private int chunkSize = 50;
+    // 광고별 체험단 처리 동시 실행 수
+    private int parallelism = 4;
+}
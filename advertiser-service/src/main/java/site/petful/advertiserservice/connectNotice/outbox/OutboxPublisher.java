@@ -0,0 +1,46 @@
+package site.petful.advertiserservice.connectNotice.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 도메인 이벤트를 outbox 테이블에 적는다. 호출한 트랜잭션과 함께 커밋/롤백되고,
+ * 커밋된 뒤에 OutboxRelay를 깨워 바로 발행한다. (브로커가 느려도 API 스레드는 기다리지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String exchange, String routingKey, String eventId, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화 실패: eventId=" + eventId, e);
+        }
+        outboxEventRepository.save(new OutboxEvent(eventId, exchange, routingKey, event.getClass().getName(), payload));
+        log.debug("📥 [OutboxPublisher] 이벤트 적재: eventId={}, routingKey={}", eventId, routingKey);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.trigger();
+                }
+            });
+        }
+    }
+}
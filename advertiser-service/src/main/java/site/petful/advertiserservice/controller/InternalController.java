@@ -1,6 +1,7 @@
 package site.petful.advertiserservice.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -55,6 +56,32 @@ public class InternalController {
         }
     }
 
+    // 2-4-1. adStatus별(recruiting/ended) 광고(캠페인) 페이지 조회 - 체험단
+    @GetMapping("/adStatus/grouped/{group}")
+    public ResponseEntity<ApiResponse<?>> getAdsByAdStatusGroup(
+            @PathVariable String group,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        boolean recruiting;
+        if ("recruiting".equalsIgnoreCase(group)) {
+            recruiting = true;
+        } else if ("ended".equalsIgnoreCase(group)) {
+            recruiting = false;
+        } else {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseGenerator.fail(ErrorCode.AD_INVALID_REQUEST));
+        }
+
+        try {
+            AdsResponse response = adService.getAdsByAdStatusGroup(recruiting,
+                    PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100)));
+            return ResponseEntity.ok(ApiResponseGenerator.success(response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseGenerator.fail(ErrorCode.AD_INTERNAL_SERVER_ERROR));
+        }
+    }
+
     // 2-5. List<Long> adNo에 대한 광고(캠페인) 조회 - 체험단
     @PostMapping("/adNos")
     public ResponseEntity<ApiResponse<?>> getAdsByAdNos(@RequestBody List<Long> adNos) {
@@ -2,6 +2,7 @@ package site.petful.advertiserservice.controller;
 
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
+import site.petful.advertiserservice.recommendation.dto.PetStarRecommendationResponse;
 import site.petful.advertiserservice.service.RecommendationService;
 
 @RestController
@@ -15,7 +16,7 @@ public class RecommendationController {
 
     // 펫스타 추천
     @PostMapping("/petStars/{adNo}")
-    public Mono<String> getPetStars(@RequestHeader("Authorization") String authorizationHeader,
+    public Mono<PetStarRecommendationResponse> getPetStars(@RequestHeader("Authorization") String authorizationHeader,
                                     @PathVariable Long adNo) {
         return recommendationService.getPetStars(authorizationHeader, adNo);
     }
@@ -0,0 +1,5 @@
+package site.petful.advertiserservice.dto.advertisement;
+
+// 미션/키워드/요구사항 일괄 조회용 프로젝션
+public record AdChildRow(Long adNo, Long id, String content) {
+}
@@ -0,0 +1,34 @@
+package site.petful.advertiserservice.dto.advertisement;
+
+import site.petful.advertiserservice.entity.advertisement.AdStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 광고 목록 조회용 프로젝션 (광고 + 광고주 컬럼만, 하위 컬렉션 제외)
+public record AdListRow(
+        Long adNo,
+        String title,
+        String content,
+        String objective,
+        LocalDate announceStart,
+        LocalDate announceEnd,
+        LocalDate campaignSelect,
+        LocalDate campaignStart,
+        LocalDate campaignEnd,
+        Integer applicants,
+        Integer members,
+        AdStatus adStatus,
+        String adUrl,
+        LocalDateTime createdAt,
+        String reason,
+        Boolean isDeleted,
+        Long advertiserNo,
+        String advertiserName,
+        String advertiserPhone,
+        String advertiserWebsite,
+        String advertiserEmail,
+        String advertiserDescription,
+        String advertiserReason
+) {
+}
@@ -78,4 +78,45 @@ public class AdResponse {
 
         return res;
     }
+
+    // 프로젝션 + 일괄 조회한 하위 목록으로 조립 (엔티티 지연 로딩 없음)
+    public static AdResponse from(AdListRow row,
+                                  List<MissionResponse> mission,
+                                  List<KeywordResponse> keyword,
+                                  List<RequirementResponse> requirement) {
+        AdResponse res = new AdResponse();
+        res.setAdNo(row.adNo());
+        res.setTitle(row.title());
+        res.setContent(row.content());
+        res.setObjective(row.objective());
+        res.setAnnounceStart(row.announceStart());
+        res.setAnnounceEnd(row.announceEnd());
+        res.setCampaignSelect(row.campaignSelect());
+        res.setCampaignStart(row.campaignStart());
+        res.setCampaignEnd(row.campaignEnd());
+        res.setApplicants(row.applicants());
+        res.setMembers(row.members());
+        res.setAdStatus(row.adStatus());
+        res.setAdUrl(row.adUrl());
+        res.setCreatedAt(row.createdAt());
+        res.setReason(row.reason());
+        res.setIsDeleted(row.isDeleted());
+        res.setMission(mission);
+        res.setKeyword(keyword);
+        res.setRequirement(requirement);
+
+        if (row.advertiserNo() != null) {
+            AdvertiserResponse advertiser = new AdvertiserResponse();
+            advertiser.setAdvertiserNo(row.advertiserNo());
+            advertiser.setName(row.advertiserName());
+            advertiser.setPhone(row.advertiserPhone());
+            advertiser.setWebsite(row.advertiserWebsite());
+            advertiser.setEmail(row.advertiserEmail());
+            advertiser.setDescription(row.advertiserDescription());
+            advertiser.setReason(row.advertiserReason());
+            res.setAdvertiser(advertiser);
+        }
+
+        return res;
+    }
 }
@@ -0,0 +1,24 @@
+package site.petful.advertiserservice.dto.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import site.petful.advertiserservice.entity.ApplicantStatus;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantBulkUpdateRequest {
+
+    // 수정 대상 체험단 번호 (모두 같은 adNo 소속)
+    private List<Long> applicantNos;
+    // null이면 기존 값 유지
+    private ApplicantStatus status;
+    private Boolean isSaved;
+    // 리뷰를 함께 생성할 체험단 번호 (선정된 체험단)
+    private List<Long> reviewApplicantNos;
+}
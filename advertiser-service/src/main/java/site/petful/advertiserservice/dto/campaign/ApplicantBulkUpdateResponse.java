@@ -0,0 +1,13 @@
+package site.petful.advertiserservice.dto.campaign;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ApplicantBulkUpdateResponse {
+
+    private Long adNo;
+    private int updatedCount;
+    private int reviewCount;
+}
@@ -0,0 +1,42 @@
+package site.petful.advertiserservice.recommendation.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import site.petful.advertiserservice.recommendation.config.RecommendationProps;
+import site.petful.advertiserservice.recommendation.dto.EmbeddingRequest;
+import site.petful.advertiserservice.recommendation.dto.EmbeddingResponse;
+
+import java.util.List;
+
+/**
+ * recommendation-service(Python)의 /embed 호출 - 문장을 정규화된 임베딩 벡터로 변환
+ */
+@Slf4j
+@Component
+public class EmbeddingClient {
+
+    private final WebClient webClient;
+
+    public EmbeddingClient(WebClient.Builder webClientBuilder, RecommendationProps props) {
+        this.webClient = webClientBuilder
+                .baseUrl(props.getEmbeddingBaseUrl())
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .build();
+    }
+
+    public Mono<float[][]> embed(List<String> texts, String authorization) {
+        if (texts.isEmpty()) {
+            return Mono.just(new float[0][]);
+        }
+        return webClient.post()
+                .uri("/embed")
+                .header("Authorization", authorization)
+                .body(BodyInserters.fromValue(new EmbeddingRequest(texts)))
+                .retrieve()
+                .bodyToMono(EmbeddingResponse.class)
+                .map(EmbeddingResponse::getEmbeddings);
+    }
+}
@@ -0,0 +1,28 @@
+package site.petful.advertiserservice.recommendation.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import site.petful.advertiserservice.common.ApiResponse;
+import site.petful.advertiserservice.config.ServiceFeignConfig;
+import site.petful.advertiserservice.dto.campaign.InstagramMediaDto;
+import site.petful.advertiserservice.recommendation.dto.InstagramCaptionDto;
+
+import java.util.List;
+
+// 요청 컨텍스트가 없는 백그라운드 갱신용 - 서비스 토큰으로 호출
+@FeignClient(name = "sns-service", contextId = "snsMediaFeignClient", path = "/instagram/medias",
+        configuration = ServiceFeignConfig.class)
+public interface SnsMediaFeignClient {
+
+    // 1. 캡션 변경분 조회 ((updated_after, after_id) 커서 다음부터 (변경 시각, id) 오래된 순. after_id가 없으면 같은 시각 포함)
+    @GetMapping(value = "/captions", headers = "X-User-No=0")
+    ApiResponse<List<InstagramCaptionDto>> getCaptionsUpdatedAfter(
+            @RequestParam(name = "updated_after", required = false) String updatedAfter,
+            @RequestParam(name = "after_id", required = false) Long afterId,
+            @RequestParam(name = "size") int size);
+
+    // 2. instagramId별 Media 조회
+    @GetMapping(headers = "X-User-No=0")
+    ApiResponse<List<InstagramMediaDto>> getMedias(@RequestParam(name = "instagram_id") Long instagramId);
+}
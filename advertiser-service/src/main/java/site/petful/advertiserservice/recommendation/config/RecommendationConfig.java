@@ -0,0 +1,9 @@
+package site.petful.advertiserservice.recommendation.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RecommendationProps.class)
+public class RecommendationConfig {
+}
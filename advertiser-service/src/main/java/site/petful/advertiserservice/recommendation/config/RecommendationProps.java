@@ -0,0 +1,22 @@
+package site.petful.advertiserservice.recommendation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.recommendation")
+@Getter
+@Setter
+public class RecommendationProps {
+    // 추천 결과로 돌려줄 펫스타 수
+    private int topK = 2;
+    // 임베딩 서버 호출 시 한 번에 보낼 문장 수
+    private int embedBatchSize = 64;
+    // sns-service 캡션 변경분 조회 페이지 크기
+    private int captionPageSize = 500;
+    // 캡션 변경분 커서를 되돌려 다시 읽는 시간 (sns-service 동기화 트랜잭션이 가장 길게 걸리는 시간보다 길게)
+    private long captionSafetyLagMs = 120_000;
+    // 임베딩 서버(Python) 기본 URL
+    private String embeddingBaseUrl = System.getenv()
+            .getOrDefault("GATEWAY_URL", "http://localhost:8000") + "/recommendation";
+}
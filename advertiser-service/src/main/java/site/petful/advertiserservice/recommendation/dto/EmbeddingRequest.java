@@ -0,0 +1,14 @@
+package site.petful.advertiserservice.recommendation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmbeddingRequest {
+    private List<String> texts;
+}
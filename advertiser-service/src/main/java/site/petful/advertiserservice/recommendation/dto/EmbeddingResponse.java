@@ -0,0 +1,14 @@
+package site.petful.advertiserservice.recommendation.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class EmbeddingResponse {
+    private int dimension;
+    // 요청 texts와 같은 순서의 L2 정규화 벡터
+    private float[][] embeddings;
+}
@@ -0,0 +1,15 @@
+package site.petful.advertiserservice.recommendation.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+public class InstagramCaptionDto {
+    private Long instagramId;
+    private Long mediaId;
+    private String caption;
+    private OffsetDateTime captionUpdatedAt;
+}
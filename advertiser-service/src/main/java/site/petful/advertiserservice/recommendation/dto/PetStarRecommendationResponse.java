@@ -0,0 +1,33 @@
+package site.petful.advertiserservice.recommendation.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 기존 Python 추천 응답과 같은 JSON 형태 유지
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PetStarRecommendationResponse {
+
+    @JsonProperty("ad")
+    private Long adNo;
+
+    @JsonProperty("top_petstars")
+    private List<PetStarScore> topPetStars;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PetStarScore {
+        @JsonProperty("pet_no")
+        private Long petNo;
+        private double similarity;
+    }
+}
@@ -0,0 +1,234 @@
+package site.petful.advertiserservice.recommendation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.petful.advertiserservice.client.PetFeignClient;
+import site.petful.advertiserservice.common.ApiResponse;
+import site.petful.advertiserservice.dto.campaign.InstagramMediaDto;
+import site.petful.advertiserservice.dto.campaign.PetResponse;
+import site.petful.advertiserservice.recommendation.client.EmbeddingClient;
+import site.petful.advertiserservice.recommendation.client.SnsMediaFeignClient;
+import site.petful.advertiserservice.recommendation.config.RecommendationProps;
+import site.petful.advertiserservice.recommendation.dto.InstagramCaptionDto;
+import site.petful.advertiserservice.recommendation.store.PetStarEmbeddingStore;
+import site.petful.advertiserservice.recommendation.store.TopKSimilarity;
+import site.petful.advertiserservice.security.ServiceTokenProvider;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 펫스타 임베딩 저장소 갱신.
+ * - 최초 1회: 전체 펫스타의 캡션을 임베딩해 적재
+ * - 이후: sns-service에서 캡션이 바뀐 계정만 골라 해당 펫스타 벡터를 다시 계산
+ * 변경분은 (변경 시각, mediaId) 커서로 페이지를 넘겨 같은 시각의 행이 페이지 경계에 걸려도 빠뜨리지 않는다.
+ * 변경 시각은 커밋이 아니라 엔티티 변경 시점에 찍히므로, 저장하는 커서는 읽기 시작 시각 - 안전 지연을 넘기지 않는다.
+ * 되돌려 다시 읽는 구간에서 이미 반영한 (mediaId, 변경 시각)은 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PetStarEmbeddingRefresher {
+
+    private final PetFeignClient petFeignClient;
+    private final SnsMediaFeignClient snsMediaFeignClient;
+    private final EmbeddingClient embeddingClient;
+    private final PetStarEmbeddingStore embeddingStore;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final RecommendationProps props;
+
+    // 다음에 읽을 캡션 변경 커서 (watermark가 null이면 아직 전체 적재 전, watermarkId가 null이면 같은 시각 포함)
+    private volatile OffsetDateTime watermark;
+    private volatile Long watermarkId;
+    // 커서 뒤쪽(다시 읽는 구간)에서 이미 반영한 변경: mediaId -> captionUpdatedAt
+    private final Map<Long, OffsetDateTime> appliedInOverlap = new HashMap<>();
+
+    @Scheduled(initialDelayString = "${app.recommendation.initial-delay-ms:30000}",
+            fixedDelayString = "${app.recommendation.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            if (watermark == null) {
+                rebuildAll();
+            } else {
+                refreshChanged();
+            }
+        } catch (Exception e) {
+            log.error("펫스타 임베딩 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void rebuildAll() {
+        OffsetDateTime startedAt = OffsetDateTime.now();
+        Map<Long, Long> petNoBySnsId = loadPetStars();
+
+        Map<Long, float[]> embeddings = embedPets(petNoBySnsId, petNoBySnsId.keySet());
+        embeddingStore.upsertAll(embeddings);
+
+        // 적재 중에 바뀐 캡션(늦게 커밋된 것 포함)은 다음 주기에 변경분으로 다시 반영된다
+        watermark = startedAt.minus(safetyLag());
+        watermarkId = null;
+        appliedInOverlap.clear();
+        log.info("펫스타 임베딩 전체 적재 완료 - 펫스타 {}명, 저장소 {}건", petNoBySnsId.size(), embeddingStore.size());
+    }
+
+    private void refreshChanged() {
+        OffsetDateTime readStartedAt = OffsetDateTime.now();
+        Set<Long> changedSnsIds = new LinkedHashSet<>();
+        Map<Long, OffsetDateTime> seen = new HashMap<>();
+        OffsetDateTime cursorAt = watermark;
+        Long cursorId = watermarkId;
+
+        // 변경분을 페이지 단위로 끝까지 따라간다 (페이지는 (변경 시각, mediaId) 오름차순이라 마지막 행이 다음 커서)
+        while (true) {
+            ApiResponse<List<InstagramCaptionDto>> response = snsMediaFeignClient.getCaptionsUpdatedAfter(
+                    cursorAt.toInstant().toString(), cursorId, props.getCaptionPageSize());
+            List<InstagramCaptionDto> page = response.getData();
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            for (InstagramCaptionDto caption : page) {
+                OffsetDateTime updatedAt = caption.getCaptionUpdatedAt();
+                if (updatedAt == null) {
+                    continue;
+                }
+                OffsetDateTime applied = appliedInOverlap.get(caption.getMediaId());
+                if (applied == null || !applied.isEqual(updatedAt)) {
+                    changedSnsIds.add(caption.getInstagramId());
+                }
+                seen.put(caption.getMediaId(), updatedAt);
+                cursorAt = updatedAt;
+                cursorId = caption.getMediaId();
+            }
+            if (page.size() < props.getCaptionPageSize()) {
+                break;
+            }
+        }
+
+        Map<Long, Long> petNoBySnsId = loadPetStars();
+
+        // 펫스타로 새로 승인됐지만 아직 저장소에 없는 계정도 함께 계산
+        for (Map.Entry<Long, Long> entry : petNoBySnsId.entrySet()) {
+            if (!embeddingStore.contains(entry.getValue())) {
+                changedSnsIds.add(entry.getKey());
+            }
+        }
+
+        if (!changedSnsIds.isEmpty()) {
+            embeddingStore.upsertAll(embedPets(petNoBySnsId, changedSnsIds));
+            log.info("펫스타 임베딩 증분 갱신 - 계정 {}개", changedSnsIds.size());
+        }
+        advanceWatermark(cursorAt, cursorId, readStartedAt, seen);
+    }
+
+    // 늦게 커밋된 동기화 트랜잭션의 변경을 놓치지 않도록 커서는 읽기 시작 시각 - 안전 지연까지만 옮긴다
+    private void advanceWatermark(OffsetDateTime cursorAt, Long cursorId, OffsetDateTime readStartedAt,
+                                  Map<Long, OffsetDateTime> seen) {
+        OffsetDateTime floor = readStartedAt.minus(safetyLag());
+        if (cursorAt.isAfter(floor)) {
+            if (floor.isAfter(watermark)) {
+                watermark = floor;
+                watermarkId = null;
+            }
+        } else {
+            watermark = cursorAt;
+            watermarkId = cursorId;
+        }
+        appliedInOverlap.putAll(seen);
+        OffsetDateTime from = watermark;
+        appliedInOverlap.values().removeIf(updatedAt -> updatedAt.isBefore(from));
+    }
+
+    private Duration safetyLag() {
+        return Duration.ofMillis(Math.max(0, props.getCaptionSafetyLagMs()));
+    }
+
+    // 펫스타 목록을 받아 snsId -> petNo 매핑을 만들고, 펫스타가 아닌 항목은 저장소에서 제거
+    private Map<Long, Long> loadPetStars() {
+        List<PetResponse> pets = petFeignClient.getAllPetStars().getData();
+        Map<Long, Long> petNoBySnsId = new HashMap<>();
+        Set<Long> activePetNos = new HashSet<>();
+        if (pets != null) {
+            for (PetResponse pet : pets) {
+                activePetNos.add(pet.getPetNo());
+                if (pet.getSnsId() != null) {
+                    petNoBySnsId.put(pet.getSnsId(), pet.getPetNo());
+                }
+            }
+        }
+        embeddingStore.retainOnly(activePetNos);
+        return petNoBySnsId;
+    }
+
+    private Map<Long, float[]> embedPets(Map<Long, Long> petNoBySnsId, Collection<Long> snsIds) {
+        Map<Long, float[]> result = new HashMap<>();
+
+        for (Long snsId : snsIds) {
+            Long petNo = petNoBySnsId.get(snsId);
+            if (petNo == null) {
+                continue;
+            }
+            try {
+                List<String> captions = loadCaptions(snsId);
+                if (captions.isEmpty()) {
+                    continue;
+                }
+                // 적재가 토큰 수명보다 길어질 수 있어 펫마다 현재 토큰을 받는다 (캐시된 토큰이라 서명 비용은 없다)
+                float[] mean = meanEmbedding(captions, "Bearer " + serviceTokenProvider.getToken());
+                if (mean != null) {
+                    result.put(petNo, mean);
+                }
+            } catch (Exception e) {
+                log.warn("펫스타 {} 임베딩 계산 실패: {}", petNo, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private List<String> loadCaptions(Long snsId) {
+        List<InstagramMediaDto> medias = snsMediaFeignClient.getMedias(snsId).getData();
+        List<String> captions = new ArrayList<>();
+        if (medias != null) {
+            for (InstagramMediaDto media : medias) {
+                if (media.getCaption() != null && !media.getCaption().isBlank()) {
+                    captions.add(media.getCaption());
+                }
+            }
+        }
+        return captions;
+    }
+
+    // 캡션 임베딩의 평균 (Python 추천 로직과 동일 - 정규화는 저장소에서 수행)
+    private float[] meanEmbedding(List<String> captions, String authorization) {
+        float[] sum = null;
+        int count = 0;
+        int batchSize = Math.max(1, props.getEmbedBatchSize());
+
+        for (int from = 0; from < captions.size(); from += batchSize) {
+            List<String> batch = captions.subList(from, Math.min(from + batchSize, captions.size()));
+            float[][] vectors = embeddingClient.embed(batch, authorization).block();
+            if (vectors == null) {
+                continue;
+            }
+            for (float[] vector : vectors) {
+                if (sum == null) {
+                    sum = new float[vector.length];
+                }
+                for (int i = 0; i < vector.length; i++) {
+                    sum[i] += vector[i];
+                }
+                count++;
+            }
+        }
+        return count == 0 ? null : TopKSimilarity.normalize(sum);
+    }
+}
@@ -0,0 +1,148 @@
+package site.petful.advertiserservice.recommendation.store;
+
+import org.springframework.stereotype.Component;
+import site.petful.advertiserservice.recommendation.dto.PetStarRecommendationResponse.PetStarScore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 펫스타별 정규화 임베딩을 하나의 float[]에 행 단위로 보관하는 인메모리 저장소.
+ * 추천 요청은 읽기 락으로 전체 스캔만 하고, 갱신은 쓰기 락으로 묶어서 반영한다.
+ */
+@Component
+public class PetStarEmbeddingStore {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> rowByPetNo = new HashMap<>();
+
+    private int dimension;
+    private int size;
+    private long[] petNos = new long[0];
+    private float[] vectors = new float[0];
+
+    /**
+     * 펫스타 임베딩을 추가하거나 교체한다. 전달한 벡터는 정규화되어 저장된다.
+     */
+    public void upsertAll(Map<Long, float[]> embeddings) {
+        if (embeddings.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, float[]> entry : embeddings.entrySet()) {
+                upsert(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 더 이상 펫스타가 아닌 반려동물을 제거한다.
+     */
+    public void retainOnly(Set<Long> activePetNos) {
+        lock.writeLock().lock();
+        try {
+            List<Long> toRemove = new ArrayList<>();
+            for (Long petNo : rowByPetNo.keySet()) {
+                if (!activePetNos.contains(petNo)) {
+                    toRemove.add(petNo);
+                }
+            }
+            toRemove.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<PetStarScore> topK(float[] query, int k) {
+        lock.readLock().lock();
+        try {
+            if (size == 0 || query.length != dimension) {
+                return List.of();
+            }
+            float[] normalized = TopKSimilarity.normalize(Arrays.copyOf(query, query.length));
+            TopKSimilarity.Result result = TopKSimilarity.rank(vectors, size, dimension, normalized, k);
+
+            List<PetStarScore> scores = new ArrayList<>(result.size());
+            for (int i = 0; i < result.size(); i++) {
+                scores.add(new PetStarScore(petNos[result.rows()[i]], result.scores()[i]));
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(Long petNo) {
+        lock.readLock().lock();
+        try {
+            return rowByPetNo.containsKey(petNo);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private void upsert(Long petNo, float[] embedding) {
+        if (dimension == 0) {
+            dimension = embedding.length;
+        } else if (embedding.length != dimension) {
+            throw new IllegalArgumentException(
+                    "임베딩 차원이 일치하지 않습니다. expected=" + dimension + ", actual=" + embedding.length);
+        }
+
+        Integer row = rowByPetNo.get(petNo);
+        if (row == null) {
+            ensureCapacity(size + 1);
+            row = size++;
+            rowByPetNo.put(petNo, row);
+            petNos[row] = petNo;
+        }
+        float[] normalized = TopKSimilarity.normalize(Arrays.copyOf(embedding, dimension));
+        System.arraycopy(normalized, 0, vectors, row * dimension, dimension);
+    }
+
+    // 마지막 행을 빈 자리로 옮겨 배열을 촘촘하게 유지
+    private void remove(Long petNo) {
+        Integer row = rowByPetNo.remove(petNo);
+        if (row == null) {
+            return;
+        }
+        int last = --size;
+        if (row != last) {
+            System.arraycopy(vectors, last * dimension, vectors, row * dimension, dimension);
+            petNos[row] = petNos[last];
+            rowByPetNo.put(petNos[row], row);
+        }
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= petNos.length) {
+            return;
+        }
+        int capacity = Math.max(INITIAL_CAPACITY, Math.max(rows, petNos.length * 2));
+        petNos = Arrays.copyOf(petNos, capacity);
+        vectors = Arrays.copyOf(vectors, capacity * dimension);
+    }
+}
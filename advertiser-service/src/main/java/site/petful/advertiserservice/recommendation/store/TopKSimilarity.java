@@ -0,0 +1,127 @@
+package site.petful.advertiserservice.recommendation.store;
+
+/**
+ * 행 우선(flat) float 배열에 대한 내적 스캔 + 크기 K 최소 힙으로 상위 K개를 고른다.
+ * 벡터는 모두 L2 정규화되어 있다고 가정하므로 내적 = 코사인 유사도.
+ *
+ * JDK 17에서는 Vector API가 incubator 모듈이라 사용하지 않고,
+ * 누산기 4개로 펼친 단순 루프로 작성해 JIT가 명령 수준 병렬화/벡터화를 하기 쉽게 둔다.
+ */
+public final class TopKSimilarity {
+
+    private TopKSimilarity() {
+    }
+
+    public record Result(int[] rows, float[] scores) {
+
+        public int size() {
+            return rows.length;
+        }
+    }
+
+    public static Result rank(float[] vectors, int rowCount, int dimension, float[] query, int k) {
+        int limit = Math.min(k, rowCount);
+        if (limit <= 0) {
+            return new Result(new int[0], new float[0]);
+        }
+
+        // heapScores[0]이 현재 K개 중 최소값인 최소 힙
+        int[] heapRows = new int[limit];
+        float[] heapScores = new float[limit];
+        int heapSize = 0;
+
+        for (int row = 0, offset = 0; row < rowCount; row++, offset += dimension) {
+            float score = dot(vectors, offset, query, dimension);
+            if (heapSize < limit) {
+                heapRows[heapSize] = row;
+                heapScores[heapSize] = score;
+                siftUp(heapRows, heapScores, heapSize);
+                heapSize++;
+            } else if (score > heapScores[0]) {
+                heapRows[0] = row;
+                heapScores[0] = score;
+                siftDown(heapRows, heapScores, heapSize);
+            }
+        }
+
+        // 힙을 비우면서 점수 내림차순으로 채운다
+        int[] rows = new int[heapSize];
+        float[] scores = new float[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            rows[i] = heapRows[0];
+            scores[i] = heapScores[0];
+            heapSize--;
+            heapRows[0] = heapRows[heapSize];
+            heapScores[0] = heapScores[heapSize];
+            siftDown(heapRows, heapScores, heapSize);
+        }
+        return new Result(rows, scores);
+    }
+
+    public static float dot(float[] vectors, int offset, float[] query, int dimension) {
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int i = 0;
+        int upper = dimension & ~3;
+        for (; i < upper; i += 4) {
+            s0 += vectors[offset + i] * query[i];
+            s1 += vectors[offset + i + 1] * query[i + 1];
+            s2 += vectors[offset + i + 2] * query[i + 2];
+            s3 += vectors[offset + i + 3] * query[i + 3];
+        }
+        for (; i < dimension; i++) {
+            s0 += vectors[offset + i] * query[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * 벡터를 제자리에서 L2 정규화한다. 영벡터는 그대로 둔다.
+     */
+    public static float[] normalize(float[] vector) {
+        float norm = (float) Math.sqrt(dot(vector, 0, vector, vector.length));
+        if (norm > 0f) {
+            float inv = 1f / norm;
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] *= inv;
+            }
+        }
+        return vector;
+    }
+
+    private static void siftUp(int[] rows, float[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) {
+                return;
+            }
+            swap(rows, scores, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] rows, float[] scores, int size) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int smallest = (right < size && scores[right] < scores[left]) ? right : left;
+            if (scores[index] <= scores[smallest]) {
+                return;
+            }
+            swap(rows, scores, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] rows, float[] scores, int a, int b) {
+        int row = rows[a];
+        rows[a] = rows[b];
+        rows[b] = row;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
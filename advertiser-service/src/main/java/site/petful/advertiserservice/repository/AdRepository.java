@@ -6,11 +6,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import site.petful.advertiserservice.dto.advertisement.AdChildRow;
+import site.petful.advertiserservice.dto.advertisement.AdListRow;
 import site.petful.advertiserservice.entity.advertiser.Advertiser;
 import site.petful.advertiserservice.entity.advertisement.AdStatus;
 import site.petful.advertiserservice.entity.advertisement.Advertisement;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +40,49 @@ public interface AdRepository extends JpaRepository<Advertisement, Long> {
     List<Advertisement> findByCampaignStartAndAdStatus(LocalDate today, AdStatus adStatus);
 
     List<Advertisement> findByCampaignEndAndAdStatus(LocalDate targetDate, AdStatus adStatus);
+
+    // 상태별 광고 목록 - 하위 컬렉션 없이 광고/광고주 컬럼만 프로젝션으로 조회
+    @Query(value = "SELECT new site.petful.advertiserservice.dto.advertisement.AdListRow("
+            + "a.adNo, a.title, a.content, a.objective, a.announceStart, a.announceEnd, "
+            + "a.campaignSelect, a.campaignStart, a.campaignEnd, a.applicants, a.members, "
+            + "a.adStatus, a.adUrl, a.createdAt, a.reason, a.isDeleted, "
+            + "adv.advertiserNo, adv.name, adv.phone, adv.website, adv.email, adv.description, adv.reason) "
+            + "FROM Advertisement a LEFT JOIN a.advertiser adv "
+            + "WHERE a.adStatus IN :statuses ORDER BY a.adNo",
+            countQuery = "SELECT COUNT(a) FROM Advertisement a WHERE a.adStatus IN :statuses")
+    Page<AdListRow> findListRowsByAdStatusIn(@Param("statuses") Collection<AdStatus> statuses, Pageable pageable);
+
+    @Query("SELECT new site.petful.advertiserservice.dto.advertisement.AdChildRow(m.advertisement.adNo, m.missionNo, m.content) "
+            + "FROM Mission m WHERE m.advertisement.adNo IN :adNos ORDER BY m.missionNo")
+    List<AdChildRow> findMissionRowsByAdNoIn(@Param("adNos") Collection<Long> adNos);
+
+    @Query("SELECT new site.petful.advertiserservice.dto.advertisement.AdChildRow(k.advertisement.adNo, k.keywordNo, k.content) "
+            + "FROM Keyword k WHERE k.advertisement.adNo IN :adNos ORDER BY k.keywordNo")
+    List<AdChildRow> findKeywordRowsByAdNoIn(@Param("adNos") Collection<Long> adNos);
+
+    @Query("SELECT new site.petful.advertiserservice.dto.advertisement.AdChildRow(r.advertisement.adNo, r.reqNo, r.content) "
+            + "FROM Requirement r WHERE r.advertisement.adNo IN :adNos ORDER BY r.reqNo")
+    List<AdChildRow> findRequirementRowsByAdNoIn(@Param("adNos") Collection<Long> adNos);
+
+    // 스케줄러용 상태 일괄 변경 (from 상태인 광고만 to 상태로)
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Advertisement a SET a.adStatus = :to WHERE a.adNo IN :adNos AND a.adStatus = :from")
+    int updateAdStatusByAdNoIn(@Param("adNos") List<Long> adNos,
+                               @Param("from") AdStatus from,
+                               @Param("to") AdStatus to);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Advertisement a SET a.adStatus = :to WHERE a.campaignStart = :date AND a.adStatus = :from")
+    int updateAdStatusByCampaignStart(@Param("date") LocalDate date,
+                                      @Param("from") AdStatus from,
+                                      @Param("to") AdStatus to);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Advertisement a SET a.adStatus = :to WHERE a.campaignEnd = :date AND a.adStatus = :from")
+    int updateAdStatusByCampaignEnd(@Param("date") LocalDate date,
+                                    @Param("from") AdStatus from,
+                                    @Param("to") AdStatus to);
 }
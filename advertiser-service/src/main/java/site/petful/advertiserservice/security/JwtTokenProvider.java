@@ -14,24 +14,26 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.access-secret:default-access-secret-key-for-development-only-change-in-production}")
-    private String accessSecret;
-
-    @Value("${jwt.refresh-secret:default-refresh-secret-key-for-development-only-change-in-production}")
-    private String refreshSecret;
-
-    @Value("${jwt.access-exp-min:60}")
-    private long accessExpMin;
-
-    @Value("${jwt.refresh-exp-days:14}")
-    private long refreshExpDays;
-
-    private SecretKey getAccessSigningKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(accessSecret.trim()));
-    }
-
-    private SecretKey getRefreshSigningKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(refreshSecret.trim()));
+    private final long accessExpMin;
+    private final long refreshExpDays;
+
+    // 시크릿은 기동 시 한 번만 디코딩해 키와 파서를 만들어 두고 재사용한다
+    private final SecretKey accessSigningKey;
+    private final SecretKey refreshSigningKey;
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
+
+    public JwtTokenProvider(
+            @Value("${jwt.access-secret:default-access-secret-key-for-development-only-change-in-production}") String accessSecret,
+            @Value("${jwt.refresh-secret:default-refresh-secret-key-for-development-only-change-in-production}") String refreshSecret,
+            @Value("${jwt.access-exp-min:60}") long accessExpMin,
+            @Value("${jwt.refresh-exp-days:14}") long refreshExpDays) {
+        this.accessExpMin = accessExpMin;
+        this.refreshExpDays = refreshExpDays;
+        this.accessSigningKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(accessSecret.trim()));
+        this.refreshSigningKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(refreshSecret.trim()));
+        this.accessParser = Jwts.parserBuilder().setSigningKey(accessSigningKey).build();
+        this.refreshParser = Jwts.parserBuilder().setSigningKey(refreshSigningKey).build();
     }
 
     public String generateAccessToken(Long advertiserNo, String userType) {
@@ -44,7 +46,7 @@ public class JwtTokenProvider {
                 .claim("tokenType", "ACCESS")
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getAccessSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(accessSigningKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -58,31 +60,33 @@ public class JwtTokenProvider {
                 .claim("tokenType", "REFRESH")
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getRefreshSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(refreshSigningKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    // 서비스 간 통신용 토큰 생성 (스케줄러 등에서 사용)
+    // 서비스 간 통신용 토큰 생성 (호출마다 새로 서명하므로, 요청에 붙일 토큰은 ServiceTokenProvider에서 받는다)
     public String generateServiceToken() {
+        return issueServiceToken().token();
+    }
+
+    // 서비스 간 통신용 토큰과 만료 시각
+    public ServiceToken issueServiceToken() {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + (accessExpMin * 60 * 1000));
 
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .claim("userType", "SERVICE")
                 .claim("tokenType", "SERVICE")
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getAccessSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(accessSigningKey, SignatureAlgorithm.HS256)
                 .compact();
+        return new ServiceToken(token, now.getTime(), expiryDate.getTime());
     }
 
     public Claims getAccessTokenClaims(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getAccessSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = accessParser.parseClaimsJws(token).getBody();
             
             return claims;
         } catch (JwtException | IllegalArgumentException e) {
@@ -92,11 +96,7 @@ public class JwtTokenProvider {
 
     public Claims getRefreshTokenClaims(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getRefreshSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = refreshParser.parseClaimsJws(token).getBody();
             
             return claims;
         } catch (JwtException | IllegalArgumentException e) {
@@ -142,10 +142,7 @@ public class JwtTokenProvider {
 
     public boolean validateAccessToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getAccessSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            accessParser.parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -154,10 +151,7 @@ public class JwtTokenProvider {
 
     public boolean validateRefreshToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getRefreshSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            refreshParser.parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -0,0 +1,11 @@
+package site.petful.advertiserservice.security;
+
+/**
+ * 서비스 간 통신용 토큰과 발급/만료 시각(epoch millis)
+ */
+public record ServiceToken(String token, long issuedAtMillis, long expiresAtMillis) {
+
+    public long lifetimeMillis() {
+        return expiresAtMillis - issuedAtMillis;
+    }
+}
@@ -0,0 +1,115 @@
+package site.petful.advertiserservice.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 서비스 간 통신용 토큰 공급자
+ * - 토큰은 유효 기간마다 한 번만 서명하고, 모든 Feign 요청/스케줄러가 같은 토큰을 재사용한다
+ * - 만료 refreshAhead 전부터는 요청 스레드를 막지 않고 백그라운드에서 새 토큰을 미리 발급한다
+ * - 갱신이 늦어져 남은 시간이 minRemaining보다 적으면 요청 스레드에서 바로 새로 발급한다
+ */
+@Slf4j
+@Component
+public class ServiceTokenProvider {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final long refreshAheadMillis;
+    private final long minRemainingMillis;
+    private final ExecutorService refresher;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile ServiceToken current;
+
+    public ServiceTokenProvider(JwtTokenProvider jwtTokenProvider,
+                                @Value("${jwt.service-token.refresh-ahead-seconds:300}") long refreshAheadSeconds,
+                                @Value("${jwt.service-token.min-remaining-seconds:30}") long minRemainingSeconds) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshAheadMillis = refreshAheadSeconds * 1000;
+        this.minRemainingMillis = minRemainingSeconds * 1000;
+        this.refresher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "service-token-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+
+    /**
+     * Authorization 헤더에 붙일 서비스 토큰
+     */
+    public String getToken() {
+        ServiceToken token = current;
+        long now = System.currentTimeMillis();
+        if (token == null || !isUsable(token, now)) {
+            return renew(now).token();
+        }
+        if (needsRefresh(token, now)) {
+            refreshInBackground();
+        }
+        return token.token();
+    }
+
+    private synchronized ServiceToken renew(long now) {
+        // 다른 스레드가 먼저 갱신했으면 그 토큰을 쓴다
+        ServiceToken token = current;
+        if (token != null && isUsable(token, now)) {
+            return token;
+        }
+        return mint();
+    }
+
+    private ServiceToken mint() {
+        ServiceToken token = jwtTokenProvider.issueServiceToken();
+        current = token;
+        log.debug("🔑 [ServiceTokenProvider] 서비스 토큰 발급: expiresAt={}", token.expiresAtMillis());
+        return token;
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    synchronized (this) {
+                        ServiceToken token = current;
+                        if (token == null || needsRefresh(token, System.currentTimeMillis())) {
+                            mint();
+                        }
+                    }
+                } catch (Exception e) {
+                    // 실패해도 기존 토큰은 아직 유효하므로 다음 요청에서 다시 시도한다
+                    log.warn("⚠️ [ServiceTokenProvider] 서비스 토큰 미리 갱신 실패: {}", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    // 토큰 수명이 짧게 설정돼도 갱신 시점이 수명 안에 들어오도록 절반으로 제한한다
+    private boolean needsRefresh(ServiceToken token, long now) {
+        long ahead = Math.min(refreshAheadMillis, token.lifetimeMillis() / 2);
+        return now >= token.expiresAtMillis() - ahead;
+    }
+
+    private boolean isUsable(ServiceToken token, long now) {
+        long margin = Math.min(minRemainingMillis, token.lifetimeMillis() / 4);
+        return now < token.expiresAtMillis() - margin;
+    }
+}
@@ -0,0 +1,73 @@
+package site.petful.advertiserservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.petful.advertiserservice.dto.advertisement.AdsGroupedResponse;
+
+import java.time.Duration;
+
+/**
+ * 상태별 광고 목록(체험단 서비스가 자주 조회) 단기 Redis 캐시.
+ * 광고 생성/수정/상태 변경 시 커밋 이후에 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdListCache {
+
+    private static final String GROUPED_KEY = "ads:grouped";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.cache.ads-grouped-ttl-seconds:30}")
+    private long groupedTtlSeconds;
+
+    public AdsGroupedResponse getGrouped() {
+        try {
+            String json = redisTemplate.opsForValue().get(GROUPED_KEY);
+            return json == null ? null : objectMapper.readValue(json, AdsGroupedResponse.class);
+        } catch (Exception e) {
+            // 캐시 장애는 조회 실패로만 취급하고 DB에서 읽는다
+            log.warn("광고 목록 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void putGrouped(AdsGroupedResponse response) {
+        try {
+            redisTemplate.opsForValue().set(GROUPED_KEY, objectMapper.writeValueAsString(response),
+                    Duration.ofSeconds(groupedTtlSeconds));
+        } catch (Exception e) {
+            log.warn("광고 목록 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후에, 아니면 즉시 삭제
+    public void evictGrouped() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteGrouped();
+                }
+            });
+        } else {
+            deleteGrouped();
+        }
+    }
+
+    private void deleteGrouped() {
+        try {
+            redisTemplate.delete(GROUPED_KEY);
+        } catch (Exception e) {
+            log.warn("광고 목록 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package site.petful.advertiserservice.service;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +13,12 @@ import site.petful.advertiserservice.repository.AdRepository;
 import site.petful.advertiserservice.repository.AdvertiserRepository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,8 +26,13 @@ import java.util.stream.Collectors;
 @Transactional
 public class AdService {
 
+    // 모집중 / 종료된(선정·진행·종료) 광고 상태 묶음
+    private static final Set<AdStatus> RECRUITING_STATUSES = EnumSet.of(AdStatus.APPROVED);
+    private static final Set<AdStatus> ENDED_STATUSES = EnumSet.of(AdStatus.CLOSED, AdStatus.TRIAL, AdStatus.ENDED);
+
     private final AdvertiserRepository advertiserRepository;
     private final AdRepository adRepository;
+    private final AdListCache adListCache;
 
     // 1. 광고(캠페인) 생성
     public AdResponse createAd(Long advertiserNo, AdRequest request) {
@@ -32,6 +43,7 @@ public class AdService {
         Advertisement ad = new Advertisement();
         register(ad, request, advertiser);
         Advertisement saved = adRepository.save(ad);
+        adListCache.evictGrouped();
         return AdResponse.from(saved);
     }
 
@@ -80,19 +92,63 @@ public class AdService {
     // 2-4. adStatus별(모집중/종료된) 광고(캠페인) 전체 조회 - 체험단
     @Transactional(readOnly = true)
     public AdsGroupedResponse getAllAdsByAdStatusGrouped() {
-        List<Advertisement> allAds = adRepository.findAll();
+        AdsGroupedResponse cached = adListCache.getGrouped();
+        if (cached != null) {
+            return cached;
+        }
+
+        List<AdResponse> recruitingAds = getAdsByAdStatusIn(RECRUITING_STATUSES, Pageable.unpaged()).getContent();
+        List<AdResponse> endedAds = getAdsByAdStatusIn(ENDED_STATUSES, Pageable.unpaged()).getContent();
+
+        AdsGroupedResponse response = new AdsGroupedResponse(recruitingAds, endedAds);
+        adListCache.putGrouped(response);
+        return response;
+    }
 
-        List<Advertisement> recruitingAds = allAds.stream()
-                .filter(ad -> ad.getAdStatus() == AdStatus.APPROVED)
-                .collect(Collectors.toList());
+    // 2-4-1. adStatus별 광고(캠페인) 페이지 조회 - 체험단
+    @Transactional(readOnly = true)
+    public AdsResponse getAdsByAdStatusGroup(boolean recruiting, Pageable pageable) {
+        Page<AdResponse> page = getAdsByAdStatusIn(recruiting ? RECRUITING_STATUSES : ENDED_STATUSES, pageable);
+        return new AdsResponse(page.getContent());
+    }
 
-        List<Advertisement> endedAds = allAds.stream()
-                .filter(ad -> ad.getAdStatus() == AdStatus.CLOSED
-                        || ad.getAdStatus() == AdStatus.TRIAL
-                        || ad.getAdStatus() == AdStatus.ENDED)
-                .collect(Collectors.toList());
+    // 광고 1회 + 하위 컬렉션 종류별 IN 조회 1회씩 (광고 수와 무관하게 쿼리 4번)
+    private Page<AdResponse> getAdsByAdStatusIn(Collection<AdStatus> statuses, Pageable pageable) {
+        Page<AdListRow> rows = adRepository.findListRowsByAdStatusIn(statuses, pageable);
+        if (rows.isEmpty()) {
+            return Page.empty(pageable);
+        }
 
-        return AdsGroupedResponse.from(recruitingAds, endedAds);
+        List<Long> adNos = rows.stream().map(AdListRow::adNo).toList();
+
+        Map<Long, List<MissionResponse>> missions = adRepository.findMissionRowsByAdNoIn(adNos).stream()
+                .collect(Collectors.groupingBy(AdChildRow::adNo, Collectors.mapping(row -> {
+                    MissionResponse res = new MissionResponse();
+                    res.setMissionNo(row.id());
+                    res.setContent(row.content());
+                    return res;
+                }, Collectors.toList())));
+
+        Map<Long, List<KeywordResponse>> keywords = adRepository.findKeywordRowsByAdNoIn(adNos).stream()
+                .collect(Collectors.groupingBy(AdChildRow::adNo, Collectors.mapping(row -> {
+                    KeywordResponse res = new KeywordResponse();
+                    res.setKeywordNo(row.id());
+                    res.setContent(row.content());
+                    return res;
+                }, Collectors.toList())));
+
+        Map<Long, List<RequirementResponse>> requirements = adRepository.findRequirementRowsByAdNoIn(adNos).stream()
+                .collect(Collectors.groupingBy(AdChildRow::adNo, Collectors.mapping(row -> {
+                    RequirementResponse res = new RequirementResponse();
+                    res.setReqNo(row.id());
+                    res.setContent(row.content());
+                    return res;
+                }, Collectors.toList())));
+
+        return rows.map(row -> AdResponse.from(row,
+                missions.getOrDefault(row.adNo(), new ArrayList<>()),
+                keywords.getOrDefault(row.adNo(), new ArrayList<>()),
+                requirements.getOrDefault(row.adNo(), new ArrayList<>())));
     }
 
     // 2-5. List<Long> adNo에 대한 광고(캠페인) 조회 - 체험단
@@ -114,6 +170,7 @@ public class AdService {
 
         modify(ad, request);
         Advertisement updatedAd = adRepository.save(ad);
+        adListCache.evictGrouped();
 
         return AdResponse.from(updatedAd);
     }
@@ -124,6 +181,7 @@ public class AdService {
         if (updatedCount == 0) {
             throw new RuntimeException(ErrorCode.AD_NOT_FOUND.getDefaultMessage());
         }
+        adListCache.evictGrouped();
 
         Advertisement updatedAd = adRepository.findByAdNo(adNo)
                 .orElseThrow(() -> new RuntimeException(ErrorCode.AD_NOT_FOUND.getDefaultMessage()));
@@ -136,6 +194,7 @@ public class AdService {
                 .orElseThrow(() -> new RuntimeException(ErrorCode.AD_NOT_FOUND.getDefaultMessage()));
 
         adRepository.delete(ad);
+        adListCache.evictGrouped();
     }
 
     // 4-1. 광고(캠페인) 소프트 삭제 - 광고주
@@ -144,6 +203,7 @@ public class AdService {
                 .orElseThrow(() -> new RuntimeException(ErrorCode.AD_NOT_FOUND.getDefaultMessage()));
 
         ad.setIsDeleted(isDeleted);
+        adListCache.evictGrouped();
 
         return AdResponse.from(ad);
     }
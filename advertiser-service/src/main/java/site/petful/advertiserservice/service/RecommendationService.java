@@ -1,35 +1,75 @@
 package site.petful.advertiserservice.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import site.petful.advertiserservice.dto.advertisement.AdResponse;
+import site.petful.advertiserservice.recommendation.client.EmbeddingClient;
+import site.petful.advertiserservice.recommendation.config.RecommendationProps;
+import site.petful.advertiserservice.recommendation.dto.PetStarRecommendationResponse;
+import site.petful.advertiserservice.recommendation.store.PetStarEmbeddingStore;
 
+import java.util.List;
+
+@Slf4j
 @Service
 public class RecommendationService {
 
     private final WebClient webClient;
     private final AdService adService;
+    private final EmbeddingClient embeddingClient;
+    private final PetStarEmbeddingStore embeddingStore;
+    private final RecommendationProps props;
 
-    public RecommendationService(WebClient.Builder webClientBuilder, AdService adService) {
+    public RecommendationService(WebClient.Builder webClientBuilder, AdService adService,
+                                 EmbeddingClient embeddingClient, PetStarEmbeddingStore embeddingStore,
+                                 RecommendationProps props) {
         this.webClient = webClientBuilder
                 .baseUrl(System.getenv()
                 .getOrDefault("GATEWAY_URL", "http://localhost:8000"))
                 .build();
         this.adService = adService;
+        this.embeddingClient = embeddingClient;
+        this.embeddingStore = embeddingStore;
+        this.props = props;
     }
 
     // 펫스타 추천
-    public Mono<String> getPetStars(String token, Long adNo) {
+    public Mono<PetStarRecommendationResponse> getPetStars(String token, Long adNo) {
+
+        // JPA 조회는 블로킹이므로 boundedElastic 스케줄러에서 수행
+        return Mono.fromCallable(() -> adService.getAd(adNo))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(adInfo -> {
+                    // 임베딩 저장소가 아직 비어 있으면 기존 Python 전체 계산으로 대체
+                    if (embeddingStore.isEmpty()) {
+                        return recommendByPython(token, adInfo);
+                    }
+                    return recommendByStore(token, adInfo);
+                });
+    }
 
-        AdResponse adInfo = adService.getAd(adNo);
+    // 광고 문구만 임베딩하고 저장된 펫스타 벡터에서 상위 K개를 고른다
+    private Mono<PetStarRecommendationResponse> recommendByStore(String token, AdResponse adInfo) {
+        String adText = adInfo.getContent() != null ? adInfo.getContent() : adInfo.getTitle();
+
+        return embeddingClient.embed(List.of(adText == null ? "" : adText), token)
+                .publishOn(Schedulers.parallel())
+                .map(vectors -> new PetStarRecommendationResponse(
+                        adInfo.getAdNo(),
+                        vectors.length == 0 ? List.of() : embeddingStore.topK(vectors[0], props.getTopK())));
+    }
 
+    private Mono<PetStarRecommendationResponse> recommendByPython(String token, AdResponse adInfo) {
+        log.debug("펫스타 임베딩 저장소가 비어 있어 Python 추천으로 처리 - adNo: {}", adInfo.getAdNo());
         return webClient.post()
                 .uri("/recommendation/hello") // 이후 pets로 수정
                 .header("Authorization", token)
                 .body(BodyInserters.fromValue(adInfo))
                 .retrieve()
-                .bodyToMono(String.class);
+                .bodyToMono(PetStarRecommendationResponse.class);
     }
 }
@@ -1,15 +1,19 @@
 package site.petful.advertiserservice.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import site.petful.advertiserservice.client.CampaignFeignClient;
 import site.petful.advertiserservice.common.ApiResponse;
+import site.petful.advertiserservice.config.StatusSchedulerProps;
 import site.petful.advertiserservice.connectNotice.dto.EventMessage;
-import site.petful.advertiserservice.dto.campaign.ApplicantRequest;
+import site.petful.advertiserservice.connectNotice.outbox.OutboxPublisher;
+import site.petful.advertiserservice.dto.campaign.ApplicantBulkUpdateRequest;
 import site.petful.advertiserservice.dto.campaign.ApplicantsResponse;
 import site.petful.advertiserservice.entity.ApplicantStatus;
 import site.petful.advertiserservice.entity.advertisement.AdStatus;
@@ -20,178 +24,294 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 광고 상태 전환 스케줄러.
+ * 광고 목록을 chunk 단위로 나눠, chunk 안의 광고들은 제한된 병렬도로 체험단을 처리하고
+ * 성공한 광고만 한 번의 UPDATE로 상태를 바꾼다. (작업 전체를 하나의 트랜잭션으로 묶지 않는다)
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class StatusSchedulerService {
 
+    private static final String METRIC_NAME = "advertiser.status.scheduler";
+
     private final AdRepository adRepository;
+    private final AdListCache adListCache;
     private final CampaignFeignClient campaignFeignClient;
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final StatusSchedulerProps props;
+    private final ExecutorService executor;
+
+    public StatusSchedulerService(AdRepository adRepository,
+                                  AdListCache adListCache,
+                                  CampaignFeignClient campaignFeignClient,
+                                  OutboxPublisher outboxPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  StatusSchedulerProps props) {
+        this.adRepository = adRepository;
+        this.adListCache = adListCache;
+        this.campaignFeignClient = campaignFeignClient;
+        this.outboxPublisher = outboxPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.props = props;
+
+        // 큐가 차면 스케줄러 스레드가 직접 실행해 속도를 맞춘다
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                props.getParallelism(), props.getParallelism(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, props.getChunkSize())),
+                r -> {
+                    Thread t = new Thread(r, "ad-status-" + threadNo.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
 
-    @Transactional
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")  // 매일 0시 실행
     public void updateAdStatusByAnnounceEnd() {
         LocalDate targetDate = LocalDate.now().minusDays(1);
 
         // announceEnd가 어제이고, 상태가 APPROVED인 광고 리스트 조회
-        List<Advertisement> targetAds = adRepository.findByAnnounceEndAndAdStatus(targetDate, AdStatus.APPROVED);
+        List<Advertisement> targetAds = timed("announceEnd", "load_ads",
+                () -> adRepository.findByAnnounceEndAndAdStatus(targetDate, AdStatus.APPROVED));
 
         if (targetAds.isEmpty()) {
             return;  // 처리할 광고가 없으면 종료
         }
 
-        // applicant의 status를 PENDING로 변경
-        for (Advertisement ad : targetAds) {
-            // 지원자 리스트 가져오기
-            ApiResponse<ApplicantsResponse> response = campaignFeignClient.getApplicants(ad.getAdNo());
-            ApplicantsResponse applicants = response.getData();
-
-            for (ApplicantsResponse.ApplicantDetail applicant : applicants.getApplicants()) {
-                ApplicantRequest req = new ApplicantRequest();
-                req.setIsSaved(applicant.getIsSaved());
-                req.setStatus(ApplicantStatus.PENDING);
-
-                campaignFeignClient.updateApplicant(applicant.getApplicantNo(), req);
+        // applicant의 status를 PENDING로 변경한 뒤 광고는 CLOSED로
+        processInChunks("announceEnd", targetAds, ad -> {
+            List<ApplicantsResponse.ApplicantDetail> applicants = fetchApplicants(ad.getAdNo());
+            if (!applicants.isEmpty()) {
+                List<Long> applicantNos = applicants.stream()
+                        .map(ApplicantsResponse.ApplicantDetail::getApplicantNo)
+                        .toList();
+                timed("announceEnd", "update_applicants", () -> campaignFeignClient.updateApplicantsByAdNo(
+                        ad.getAdNo(),
+                        new ApplicantBulkUpdateRequest(applicantNos, ApplicantStatus.PENDING, null, null)));
             }
-        }
-
-        for (Advertisement ad : targetAds) {
-            ad.setAdStatus(AdStatus.CLOSED);  // 상태 변경
-        }
-        adRepository.saveAll(targetAds);
+            return true;
+        }, AdStatus.APPROVED, AdStatus.CLOSED);
     }
 
-    @Transactional
-    @Scheduled(cron = "0 5 21 * * *", zone = "Asia/Seoul")  // 매일 0시 실행
+    @Scheduled(cron = "0 5 21 * * *", zone = "Asia/Seoul")  // 매일 21시 5분 실행
     public void updateAdStatusByCampaignSelect() {
         LocalDate today = LocalDate.now();
 
         // campaignSelect가 오늘이고, 상태가 CLOSED인 광고 리스트 조회
-        List<Advertisement> targetAds = adRepository.findByCampaignSelectAndAdStatus(today, AdStatus.CLOSED);
-
-        // applicant의 isSaved를 true로 변경
-        for (Advertisement ad : targetAds) {
-            // 지원자 리스트 가져오기
-            ApiResponse<ApplicantsResponse> response = campaignFeignClient.getApplicants(ad.getAdNo());
-            ApplicantsResponse applicants = response.getData();
-
-            for (ApplicantsResponse.ApplicantDetail applicant : applicants.getApplicants()) {
-                // isSaved가 false인 지원자만 처리
-                if (!Boolean.TRUE.equals(applicant.getIsSaved())) {
-                    ApplicantRequest req = new ApplicantRequest();
-                    req.setIsSaved(true);
-                    req.setStatus(applicant.getStatus()); // 기존 상태 유지
-
-                    campaignFeignClient.updateApplicant(applicant.getApplicantNo(), req);
-                    if(applicant.getStatus().equals(ApplicantStatus.SELECTED)) {
-                        campaignFeignClient.createReview(applicant.getApplicantNo());
-                    }
-                }
-            }
-            publishCampaignSelectedEvent(ad);
+        List<Advertisement> targetAds = timed("campaignSelect", "load_ads",
+                () -> adRepository.findByCampaignSelectAndAdStatus(today, AdStatus.CLOSED));
+
+        if (targetAds.isEmpty()) {
+            return;
         }
 
-        adRepository.saveAll(targetAds);
-    }
+        // applicant의 isSaved를 true로 변경 (광고 상태는 그대로)
+        processInChunks("campaignSelect", targetAds, ad -> {
+            // 지원자 리스트는 광고당 한 번만 조회하고 알림 발행까지 재사용
+            List<ApplicantsResponse.ApplicantDetail> applicants = fetchApplicants(ad.getAdNo());
 
+            // isSaved가 false인 지원자만 처리
+            List<ApplicantsResponse.ApplicantDetail> unsaved = applicants.stream()
+                    .filter(applicant -> !Boolean.TRUE.equals(applicant.getIsSaved()))
+                    .toList();
+
+            if (!unsaved.isEmpty()) {
+                List<Long> applicantNos = unsaved.stream()
+                        .map(ApplicantsResponse.ApplicantDetail::getApplicantNo)
+                        .toList();
+                List<Long> reviewApplicantNos = unsaved.stream()
+                        .filter(applicant -> applicant.getStatus() == ApplicantStatus.SELECTED)
+                        .map(ApplicantsResponse.ApplicantDetail::getApplicantNo)
+                        .toList();
+
+                timed("campaignSelect", "update_applicants", () -> campaignFeignClient.updateApplicantsByAdNo(
+                        ad.getAdNo(),
+                        new ApplicantBulkUpdateRequest(applicantNos, null, true, reviewApplicantNos)));
+            }
+
+            timed("campaignSelect", "publish_events", () -> {
+                publishCampaignSelectedEvent(ad, applicants);
+                return null;
+            });
+            return true;
+        }, null, null);
+    }
 
-    @Transactional
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")  // 매일 0시 실행
     public void updateAdStatusByCampaignStart() {
         LocalDate today = LocalDate.now();
 
-        // campaignStart가 오늘이고, 상태가 CLOSED인 광고 리스트 조회
-        List<Advertisement> targetAds = adRepository.findByCampaignStartAndAdStatus(today, AdStatus.CLOSED);
-
-        if (targetAds.isEmpty()) {
-            return;  // 처리할 광고가 없으면 종료
-        }
-
-        for (Advertisement ad : targetAds) {
-            ad.setAdStatus(AdStatus.TRIAL);  // 상태 변경
+        // campaignStart가 오늘이고, 상태가 CLOSED인 광고를 TRIAL로
+        int updated = timed("campaignStart", "update_ads",
+                () -> adRepository.updateAdStatusByCampaignStart(today, AdStatus.CLOSED, AdStatus.TRIAL));
+        if (updated > 0) {
+            adListCache.evictGrouped();
         }
-        adRepository.saveAll(targetAds);
+        log.info("캠페인 시작 광고 상태 변경: {}건", updated);
     }
 
-    @Transactional
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")  // 매일 0시 실행
     public void updateAdStatusByCampaignEnd() {
         LocalDate targetDate = LocalDate.now().minusDays(1);
 
-        // campaignEnd가 어제이고, 상태가 TRIAL인 광고 리스트 조회
-        List<Advertisement> targetAds = adRepository.findByCampaignEndAndAdStatus(targetDate, AdStatus.TRIAL);
+        // campaignEnd가 어제이고, 상태가 TRIAL인 광고를 ENDED로
+        int updated = timed("campaignEnd", "update_ads",
+                () -> adRepository.updateAdStatusByCampaignEnd(targetDate, AdStatus.TRIAL, AdStatus.ENDED));
+        if (updated > 0) {
+            adListCache.evictGrouped();
+        }
+        log.info("캠페인 종료 광고 상태 변경: {}건", updated);
+    }
 
-        if (targetAds.isEmpty()) {
-            return;  // 처리할 광고가 없으면 종료
+    /**
+     * 광고를 chunk 단위로 병렬 처리하고, 처리에 성공한 광고만 from -> to 상태로 일괄 변경한다.
+     * from/to가 null이면 광고 상태는 변경하지 않는다.
+     */
+    private void processInChunks(String job, List<Advertisement> ads,
+                                 Function<Advertisement, Boolean> perAd,
+                                 AdStatus from, AdStatus to) {
+        int chunkSize = Math.max(1, props.getChunkSize());
+        int succeeded = 0;
+        List<Long> failedAdNos = new ArrayList<>();
+
+        for (int start = 0; start < ads.size(); start += chunkSize) {
+            List<Advertisement> chunk = ads.subList(start, Math.min(start + chunkSize, ads.size()));
+
+            List<CompletableFuture<Long>> futures = chunk.stream()
+                    .map(ad -> CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return Boolean.TRUE.equals(perAd.apply(ad)) ? ad.getAdNo() : null;
+                        } catch (Exception e) {
+                            log.error("[{}] 광고 처리 실패: adNo={}, error={}", job, ad.getAdNo(), e.getMessage());
+                            return null;
+                        }
+                    }, executor))
+                    .toList();
+
+            List<Long> doneAdNos = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                Long adNo = futures.get(i).join();
+                if (adNo != null) {
+                    doneAdNos.add(adNo);
+                } else {
+                    failedAdNos.add(chunk.get(i).getAdNo());
+                }
+            }
+
+            if (from != null && to != null && !doneAdNos.isEmpty()) {
+                timed(job, "update_ads", () -> adRepository.updateAdStatusByAdNoIn(doneAdNos, from, to));
+                adListCache.evictGrouped();
+            }
+            succeeded += doneAdNos.size();
         }
 
-        for (Advertisement ad : targetAds) {
-            ad.setAdStatus(AdStatus.ENDED);  // 상태 변경
+        meterRegistry.counter(METRIC_NAME + ".ads", "job", job, "result", "success").increment(succeeded);
+        meterRegistry.counter(METRIC_NAME + ".ads", "job", job, "result", "failure").increment(failedAdNos.size());
+
+        if (failedAdNos.isEmpty()) {
+            log.info("[{}] 광고 {}건 처리 완료", job, succeeded);
+        } else {
+            log.warn("[{}] 광고 {}건 처리 완료, 실패 {}건: {}", job, succeeded, failedAdNos.size(), failedAdNos);
         }
-        adRepository.saveAll(targetAds);
     }
 
+    private List<ApplicantsResponse.ApplicantDetail> fetchApplicants(Long adNo) {
+        ApiResponse<ApplicantsResponse> response = timed("common", "fetch_applicants",
+                () -> campaignFeignClient.getApplicants(adNo));
+        ApplicantsResponse applicants = response == null ? null : response.getData();
+        if (applicants == null || applicants.getApplicants() == null) {
+            return List.of();
+        }
+        return applicants.getApplicants();
+    }
 
+    private <T> T timed(String job, String phase, Supplier<T> action) {
+        Timer timer = Timer.builder(METRIC_NAME)
+                .description("광고 상태 스케줄러 단계별 소요 시간")
+                .tag("job", job)
+                .tag("phase", phase)
+                .register(meterRegistry);
+        return timer.record(action);
+    }
 
-    private void publishCampaignSelectedEvent(Advertisement ad) {
+    private void publishCampaignSelectedEvent(Advertisement ad,
+                                              List<ApplicantsResponse.ApplicantDetail> applicants) {
         try {
-            // 지원자 리스트 조회
-            ApiResponse<ApplicantsResponse> response = campaignFeignClient.getApplicants(ad.getAdNo());
-            ApplicantsResponse applicants = response.getData();
-            
-            if (applicants.getApplicants().isEmpty()) {
+            if (applicants.isEmpty()) {
                 log.info("지원자가 없습니다. adNo={}", ad.getAdNo());
                 return;
             }
-            
-    
-            List<ApplicantsResponse.ApplicantDetail> selectedApplicants = applicants.getApplicants().stream()
+
+            List<ApplicantsResponse.ApplicantDetail> selectedApplicants = applicants.stream()
                     .filter(applicant -> applicant.getStatus() == ApplicantStatus.SELECTED)
                     .toList();
-            
+
             if (selectedApplicants.isEmpty()) {
                 log.info("선정된 체험단이 없습니다. adNo={}", ad.getAdNo());
                 return;
             }
 
-            for (ApplicantsResponse.ApplicantDetail applicant : selectedApplicants) {
-                EventMessage event = new EventMessage();
-                event.setEventId(UUID.randomUUID().toString());
-                event.setType("campaign.applicant.selected");
-                event.setOccurredAt(Instant.now());
-                event.setSchemaVersion(1);
-                
-                event.setActor(new EventMessage.Actor(ad.getAdNo(), ad.getTitle()));
-
-                List<EventMessage.Target> targets = new ArrayList<>();
-                targets.add(new EventMessage.Target(
-                        applicant.getPet().getUserNo(),  // 사용자 ID
-                        ad.getAdNo(),                    // 광고 ID
-                        "CAMPAIGN"                       // 리소스 타입
-                ));
-                event.setTarget(targets);
-
-                event.setAttributes(java.util.Map.of(
-                        "adTitle", ad.getTitle(),
-                        "petName", applicant.getPet().getName(),
-                        "applicantNo", applicant.getApplicantNo(),
-                        "campaignStart", ad.getCampaignStart().toString(),
-                        "campaignEnd", ad.getCampaignEnd().toString()
-                ));
-                
-                // RabbitMQ로 메시지 발송
-                rabbitTemplate.convertAndSend("notif.events", "campaign.selected", event);
-                
-                log.info("체험단 선정 알림 발송 완료: adNo={}, applicantNo={}, userId={}", 
-                        ad.getAdNo(), applicant.getApplicantNo(), applicant.getPet().getUserNo());
-            }
-            
+            // 광고 하나의 선정 알림은 한 트랜잭션으로 outbox에 적는다
+            transactionTemplate.executeWithoutResult(status -> {
+                for (ApplicantsResponse.ApplicantDetail applicant : selectedApplicants) {
+                    EventMessage event = new EventMessage();
+                    event.setEventId(UUID.randomUUID().toString());
+                    event.setType("campaign.applicant.selected");
+                    event.setOccurredAt(Instant.now());
+                    event.setSchemaVersion(1);
+
+                    event.setActor(new EventMessage.Actor(ad.getAdNo(), ad.getTitle()));
+
+                    List<EventMessage.Target> targets = new ArrayList<>();
+                    targets.add(new EventMessage.Target(
+                            applicant.getPet().getUserNo(),  // 사용자 ID
+                            ad.getAdNo(),                    // 광고 ID
+                            "CAMPAIGN"                       // 리소스 타입
+                    ));
+                    event.setTarget(targets);
+
+                    event.setAttributes(Map.of(
+                            "adTitle", ad.getTitle(),
+                            "petName", applicant.getPet().getName(),
+                            "applicantNo", applicant.getApplicantNo(),
+                            "campaignStart", ad.getCampaignStart().toString(),
+                            "campaignEnd", ad.getCampaignEnd().toString()
+                    ));
+
+                    // outbox에 적재 (브로커 발행은 커밋 후 OutboxRelay)
+                    outboxPublisher.append("notif.events", "campaign.selected", event.getEventId(), event);
+
+                    log.info("체험단 선정 알림 적재 완료: adNo={}, applicantNo={}, userId={}",
+                            ad.getAdNo(), applicant.getApplicantNo(), applicant.getPet().getUserNo());
+                }
+            });
+
         } catch (Exception e) {
-            log.error("체험단 선정 이벤트 발행 실패: adNo={}, error={}", 
+            log.error("체험단 선정 이벤트 발행 실패: adNo={}, error={}",
                     ad.getAdNo(), e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
@@ -4,16 +4,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import site.petful.advertiserservice.common.mail.MailQueue;
+import site.petful.advertiserservice.common.mail.MailTemplate;
 import site.petful.advertiserservice.repository.AdvertiserRepository;
 
-import jakarta.mail.internet.MimeMessage;
-import org.springframework.mail.javamail.MimeMessageHelper;
-
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 @Service
@@ -21,13 +18,10 @@ import java.util.concurrent.ThreadLocalRandom;
 @Slf4j
 public class EmailVerificationService {
 
-    private final JavaMailSender mailSender;
+    private final MailQueue mailQueue;
     private final RedisTemplate<String, String> redisTemplate;
     private final AdvertiserRepository advertiserRepository;
 
-    @Value("${mail.from:no-reply@petful.app}")
-    private String fromAddress;
-
     @Value("${auth.email.code-ttl-seconds:300}") // 5분
     private long codeTtlSeconds;
 
@@ -59,30 +53,9 @@ public class EmailVerificationService {
 
         log.info("인증 코드 저장 완료: {}", normalizedEmail);
 
-        // HTML 메일 전송
-        String subject = "Petful 광고주 이메일 인증 코드";
-        String html = """
-                <div style="font-family:Arial,Helvetica,sans-serif;font-size:14px">
-                  <p>안녕하세요, Petful 광고주 서비스입니다.</p>
-                  <p>아래 <b>인증 코드</b>를 5분 이내에 입력해 이메일을 인증해주세요.</p>
-                  <div style="font-size:24px;letter-spacing:4px;margin:16px 0"><b>%s</b></div>
-                  <p>만약 본인이 요청하지 않았다면 이 메일을 무시해도 됩니다.</p>
-                </div>
-                """.formatted(code);
-
-        try {
-            MimeMessage mime = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mime, false, StandardCharsets.UTF_8.name());
-            helper.setFrom(fromAddress);
-            helper.setTo(normalizedEmail);
-            helper.setSubject(subject);
-            helper.setText(html, true);
-            mailSender.send(mime);
-            log.info("인증 이메일 발송 완료: {}", normalizedEmail);
-        } catch (MailException | jakarta.mail.MessagingException e) {
-            log.error("메일 전송 실패: {}", e.getMessage());
-            throw new IllegalStateException("메일 전송에 실패했습니다.");
-        }
+        // HTML 메일 발송 (큐에 적재만 하고 SMTP 발송은 워커가 처리)
+        mailQueue.enqueue(normalizedEmail, MailTemplate.SIGNUP_VERIFICATION_CODE, Map.of("code", code));
+        log.info("인증 이메일 발송 요청 완료: {}", normalizedEmail);
     }
 
     public boolean verifyCode(String email, String code) {
@@ -0,0 +1,146 @@
+package site.petful.advertiserservice.recommendation.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.petful.advertiserservice.client.PetFeignClient;
+import site.petful.advertiserservice.common.ApiResponse;
+import site.petful.advertiserservice.dto.campaign.PetResponse;
+import site.petful.advertiserservice.recommendation.client.EmbeddingClient;
+import site.petful.advertiserservice.recommendation.client.SnsMediaFeignClient;
+import site.petful.advertiserservice.recommendation.config.RecommendationProps;
+import site.petful.advertiserservice.recommendation.dto.InstagramCaptionDto;
+import site.petful.advertiserservice.recommendation.store.PetStarEmbeddingStore;
+import site.petful.advertiserservice.security.ServiceTokenProvider;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 캡션 변경분 커서: 페이지 경계의 같은 시각 행, 안전 지연만큼 되돌려 다시 읽기, 다시 읽은 변경의 중복 반영 방지.
+ * 계정을 다시 계산했는지는 그 계정의 미디어 조회(getMedias) 호출로 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class PetStarEmbeddingRefresherTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    private PetFeignClient petFeignClient;
+
+    @Mock
+    private SnsMediaFeignClient snsMediaFeignClient;
+
+    @Mock
+    private EmbeddingClient embeddingClient;
+
+    @Mock
+    private PetStarEmbeddingStore embeddingStore;
+
+    @Mock
+    private ServiceTokenProvider serviceTokenProvider;
+
+    private RecommendationProps props;
+    private PetStarEmbeddingRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        props = new RecommendationProps();
+        props.setCaptionPageSize(PAGE_SIZE);
+        refresher = new PetStarEmbeddingRefresher(petFeignClient, snsMediaFeignClient, embeddingClient,
+                embeddingStore, serviceTokenProvider, props);
+
+        List<PetResponse> pets = new ArrayList<>();
+        for (long snsId = 10; snsId <= 40; snsId += 10) {
+            PetResponse pet = mock(PetResponse.class);
+            when(pet.getPetNo()).thenReturn(snsId / 10);
+            when(pet.getSnsId()).thenReturn(snsId);
+            pets.add(pet);
+        }
+        when(petFeignClient.getAllPetStars()).thenReturn(response(pets));
+        when(snsMediaFeignClient.getMedias(anyLong())).thenReturn(response(List.of()));
+        when(embeddingStore.contains(any())).thenReturn(true);
+    }
+
+    @Test
+    void 같은_시각의_행이_페이지_경계에_걸려도_커서의_id로_이어서_읽는다() {
+        props.setCaptionSafetyLagMs(0);
+        refresher.refresh(); // 전체 적재
+        clearInvocations(snsMediaFeignClient);
+
+        OffsetDateTime tied = OffsetDateTime.now(ZoneOffset.UTC).minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        when(snsMediaFeignClient.getCaptionsUpdatedAfter(anyString(), isNull(), eq(PAGE_SIZE)))
+                .thenReturn(response(List.of(caption(10L, 1L, tied), caption(20L, 2L, tied))));
+        when(snsMediaFeignClient.getCaptionsUpdatedAfter(eq(tied.toInstant().toString()), eq(2L), eq(PAGE_SIZE)))
+                .thenReturn(response(List.of(caption(30L, 3L, tied))));
+
+        refresher.refresh();
+
+        verify(snsMediaFeignClient).getMedias(10L);
+        verify(snsMediaFeignClient).getMedias(20L);
+        verify(snsMediaFeignClient).getMedias(30L);
+        verify(snsMediaFeignClient, never()).getMedias(40L);
+    }
+
+    @Test
+    void 커서는_안전_지연만큼_되돌려_늦게_커밋된_변경을_다시_읽고_이미_반영한_변경은_건너뛴다() {
+        props.setCaptionSafetyLagMs(60_000);
+        props.setCaptionPageSize(10);
+        refresher.refresh(); // 전체 적재
+        clearInvocations(snsMediaFeignClient);
+
+        OffsetDateTime recent = OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(5);
+        InstagramCaptionDto first = caption(10L, 1L, recent);
+        // 첫 주기에는 커밋 전이라 보이지 않던, 더 이른 시각의 변경
+        InstagramCaptionDto lateCommitted = caption(40L, 4L, recent.minusSeconds(1));
+        when(snsMediaFeignClient.getCaptionsUpdatedAfter(anyString(), isNull(), anyInt()))
+                .thenReturn(response(List.of(first)))
+                .thenReturn(response(List.of(lateCommitted, first)));
+
+        refresher.refresh();
+        refresher.refresh();
+
+        // 두 번째 주기도 되돌린 커서(같은 시각 포함)에서 다시 읽는다
+        ArgumentCaptor<String> from = ArgumentCaptor.forClass(String.class);
+        verify(snsMediaFeignClient, times(2)).getCaptionsUpdatedAfter(from.capture(), isNull(), anyInt());
+        assertThat(OffsetDateTime.parse(from.getAllValues().get(1))).isBefore(recent.minusSeconds(1));
+
+        verify(snsMediaFeignClient, times(1)).getMedias(10L);
+        verify(snsMediaFeignClient, times(1)).getMedias(40L);
+    }
+
+    private static InstagramCaptionDto caption(Long instagramId, Long mediaId, OffsetDateTime updatedAt) {
+        InstagramCaptionDto caption = new InstagramCaptionDto();
+        caption.setInstagramId(instagramId);
+        caption.setMediaId(mediaId);
+        caption.setCaption("caption " + mediaId);
+        caption.setCaptionUpdatedAt(updatedAt);
+        return caption;
+    }
+
+    private static <T> ApiResponse<T> response(T data) {
+        ApiResponse<T> response = new ApiResponse<>();
+        response.setData(data);
+        return response;
+    }
+}
@@ -8,6 +8,8 @@ import site.petful.campaignservice.common.ApiResponseGenerator;
 import site.petful.campaignservice.common.ErrorCode;
 import site.petful.campaignservice.dto.ReviewRequest;
 import site.petful.campaignservice.dto.ReviewResponse;
+import site.petful.campaignservice.dto.campaign.ApplicantBulkUpdateRequest;
+import site.petful.campaignservice.dto.campaign.ApplicantBulkUpdateResponse;
 import site.petful.campaignservice.dto.campaign.ApplicantRequest;
 import site.petful.campaignservice.dto.campaign.ApplicantResponse;
 import site.petful.campaignservice.dto.campaign.ApplicantsResponse;
@@ -54,6 +56,20 @@ public class InternalController {
         }
     }
 
+    // 4. 광고별 체험단 상태 일괄 수정 - 스케줄러
+    @PutMapping("/{adNo}/applicants")
+    public ResponseEntity<ApiResponse<?>> updateApplicantsByAdNo(
+            @PathVariable Long adNo,
+            @RequestBody ApplicantBulkUpdateRequest request) {
+        try {
+            ApplicantBulkUpdateResponse response = campaignService.updateApplicantsByAdNo(adNo, request);
+            return ResponseEntity.ok(ApiResponseGenerator.success(response));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponseGenerator.fail(ErrorCode.APPLICANT_NOT_FOUND));
+        }
+    }
+
     /* 리뷰 API */
     // 1. 리뷰 생성
     @PostMapping("/review/{applicantNo}")
@@ -8,6 +8,8 @@ import lombok.Setter;
 public class HistoryImageInfo {
     private Long id;
     private String url;
+    private String thumbnailUrl;
+    private String webUrl;
     private String originalName;
     private String savedName;
     private Long historyNo;
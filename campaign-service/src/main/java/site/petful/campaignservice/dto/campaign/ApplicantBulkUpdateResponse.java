@@ -0,0 +1,17 @@
+package site.petful.campaignservice.dto.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantBulkUpdateResponse {
+
+    private Long adNo;
+    private int updatedCount;
+    private int reviewCount;
+}
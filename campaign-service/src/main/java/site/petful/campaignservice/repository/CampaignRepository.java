@@ -1,7 +1,11 @@
 package site.petful.campaignservice.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import site.petful.campaignservice.entity.Applicant;
+import site.petful.campaignservice.entity.ApplicantStatus;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +18,14 @@ public interface CampaignRepository extends JpaRepository<Applicant, Long> {
     List<Applicant> findByAdNo(Long adNo);
 
     List<Applicant> findByPetNo(Long petNo);
+
+    // 광고 단위 일괄 수정 - null 파라미터는 기존 값 유지
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Applicant a SET a.status = COALESCE(:status, a.status), "
+            + "a.isSaved = COALESCE(:isSaved, a.isSaved) "
+            + "WHERE a.adNo = :adNo AND a.applicantNo IN :applicantNos")
+    int bulkUpdateByAdNo(@Param("adNo") Long adNo,
+                         @Param("applicantNos") List<Long> applicantNos,
+                         @Param("status") ApplicantStatus status,
+                         @Param("isSaved") Boolean isSaved);
 }
@@ -1,10 +1,17 @@
 package site.petful.campaignservice.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import site.petful.campaignservice.entity.Review;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     Optional<Review> findReviewByApplicantNo(Long applicantNo);
+
+    @Query("SELECT r.applicantNo FROM Review r WHERE r.applicantNo IN :applicantNos")
+    List<Long> findExistingApplicantNos(@Param("applicantNos") Collection<Long> applicantNos);
 }
@@ -9,6 +9,8 @@ import site.petful.campaignservice.client.UserFeignClient;
 import site.petful.campaignservice.common.ApiResponse;
 import site.petful.campaignservice.common.ErrorCode;
 import site.petful.campaignservice.dto.advertisement.AdResponse;
+import site.petful.campaignservice.dto.campaign.ApplicantBulkUpdateRequest;
+import site.petful.campaignservice.dto.campaign.ApplicantBulkUpdateResponse;
 import site.petful.campaignservice.dto.campaign.ApplicantResponse;
 import site.petful.campaignservice.dto.campaign.ApplicantRequest;
 import site.petful.campaignservice.dto.pet.PetResponse;
@@ -29,6 +31,7 @@ public class CampaignService {
     public final CampaignRepository campaignRepository;
     private final AdvertiserFeignClient advertiserFeignClient;
     private final PetFeignClient petFeignClient;
+    private final ReviewService reviewService;
 
     // 1. 체험단 신청
     public ApplicantResponse applyCampaign(Long adNo, Long petNo, ApplicantRequest request) {
@@ -146,6 +149,20 @@ public class CampaignService {
         return ApplicantResponse.from(saved, pet);
     }
 
+    // 3-1. 광고별 체험단 상태 일괄 수정 (+ 선정 체험단 리뷰 생성)
+    public ApplicantBulkUpdateResponse updateApplicantsByAdNo(Long adNo, ApplicantBulkUpdateRequest request) {
+
+        if (request.getApplicantNos() == null || request.getApplicantNos().isEmpty()) {
+            return new ApplicantBulkUpdateResponse(adNo, 0, 0);
+        }
+
+        int updated = campaignRepository.bulkUpdateByAdNo(
+                adNo, request.getApplicantNos(), request.getStatus(), request.getIsSaved());
+        int reviews = reviewService.createReviews(request.getReviewApplicantNos());
+
+        return new ApplicantBulkUpdateResponse(adNo, updated, reviews);
+    }
+
     // 4. 체험단 신청 취소
     public void cancelApplicant(Long applicantNo) {
 
@@ -11,6 +11,12 @@ import site.petful.campaignservice.entity.ReviewStatus;
 import site.petful.campaignservice.repository.CampaignRepository;
 import site.petful.campaignservice.repository.ReviewRepository;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
@@ -34,6 +40,29 @@ public class ReviewService {
         return ReviewResponse.from(saved);
     }
 
+    // 1-1. 리뷰 일괄 생성 (이미 리뷰가 있는 체험단은 건너뜀)
+    public int createReviews(List<Long> applicantNos) {
+        if (applicantNos == null || applicantNos.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> existing = new HashSet<>(reviewRepository.findExistingApplicantNos(applicantNos));
+        List<Review> reviews = new ArrayList<>();
+        for (Long applicantNo : new LinkedHashSet<>(applicantNos)) {
+            if (existing.contains(applicantNo)) {
+                continue;
+            }
+            Review review = new Review();
+            review.setApplicant(campaignRepository.getReferenceById(applicantNo));
+            review.setReviewUrl(null);
+            review.setIsApproved(ReviewStatus.PENDING);
+            review.setReason(null);
+            reviews.add(review);
+        }
+        reviewRepository.saveAll(reviews);
+        return reviews.size();
+    }
+
     // 2. 리뷰 조회
     public ReviewResponse getReview(Long applicantNo) {
 
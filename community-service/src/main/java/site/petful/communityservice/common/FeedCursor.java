@@ -0,0 +1,41 @@
+package site.petful.communityservice.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션 위치. (created_at, id) 내림차순 정렬에서 마지막으로 내려준 행을 가리킨다.
+ * 클라이언트에는 "createdAt|id"를 base64url로 감싼 불투명 문자열로 내려준다.
+ */
+public record FeedCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int at = raw.lastIndexOf(SEPARATOR);
+            if (at <= 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return new FeedCursor(LocalDateTime.parse(raw.substring(0, at)), Long.parseLong(raw.substring(at + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException도 IllegalArgumentException
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package site.petful.communityservice.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답. 전체 개수(COUNT)는 세지 않고 다음 페이지 존재 여부와 다음 커서만 내려준다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SliceResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <T> SliceResponse<T> of(Slice<T> slice, FeedCursor last) {
+        return new SliceResponse<>(
+                slice.getContent(),
+                slice.getSize(),
+                slice.hasNext(),
+                slice.hasNext() && last != null ? last.encode() : null
+        );
+    }
+}
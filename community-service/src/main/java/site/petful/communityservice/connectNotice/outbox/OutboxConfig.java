@@ -0,0 +1,11 @@
+package site.petful.communityservice.connectNotice.outbox;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProps.class)
+public class OutboxConfig {
+}
@@ -0,0 +1,74 @@
+package site.petful.communityservice.connectNotice.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발행 대기 중인 도메인 이벤트. 업무 데이터와 같은 트랜잭션에서 저장되고 OutboxRelay가 브로커로 보낸다.
+ */
+@Entity
+@Table(name = "outbox_event",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbox_event_id", columnNames = "event_id"),
+        indexes = @Index(name = "idx_outbox_published", columnList = "published_at, outbox_no"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_no")
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, length = 100)
+    private String eventId;
+
+    @Column(name = "exchange_name", nullable = false, length = 100)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false, length = 100)
+    private String routingKey;
+
+    // 컨버터가 붙이던 __TypeId__ 헤더 값
+    @Column(name = "payload_type", nullable = false, length = 200)
+    private String payloadType;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @ColumnDefault("0")
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    // 발행을 가져간 relay의 lease 만료 시각. 그 전에는 다른 인스턴스가 가져가지 않는다
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    // maxAttempts 만큼 실패해 발행을 멈춘 시각 (원인 확인 후 NULL로 되돌리면 다시 발행된다)
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    public OutboxEvent(String eventId, String exchange, String routingKey, String payloadType, String payload) {
+        this.eventId = eventId;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void claim(LocalDateTime until) {
+        this.claimedUntil = until;
+    }
+}
@@ -0,0 +1,25 @@
+package site.petful.communityservice.connectNotice.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.outbox")
+@Getter
+@Setter
+public class OutboxProps {
+    // 한 번에 읽어 발행할 이벤트 수 (confirm을 한 번에 기다리는 단위)
+    private int batchSize = 100;
+    // 커밋 트리거를 놓친 이벤트를 다시 훑는 주기
+    private long pollIntervalMs = 5000;
+    // 배치 하나의 publisher confirm 대기 시간
+    private long confirmTimeoutMs = 5000;
+    // 발행 전용 연결의 채널 캐시 크기
+    private int channelCacheSize = 4;
+    // 발행 완료된 이벤트 보관 기간
+    private int retentionHours = 72;
+    // 가져간 이벤트를 다른 인스턴스가 건드리지 않는 시간 (발행 실패 시 다음 시도까지의 간격이기도 하다)
+    private long claimLeaseMs = 60000;
+    // 이 횟수만큼 실패하면 더 이상 보내지 않고 failed_at을 찍어 둔다
+    private int maxAttempts = 10;
+}
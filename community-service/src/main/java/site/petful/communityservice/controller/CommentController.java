@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 import site.petful.communityservice.common.ApiResponse;
 import site.petful.communityservice.common.ApiResponseGenerator;
 import site.petful.communityservice.common.ErrorCode;
+import site.petful.communityservice.common.SliceResponse;
 import site.petful.communityservice.dto.CommentCreateRequest;
 import site.petful.communityservice.dto.CommentUpdateRequest;
 import site.petful.communityservice.dto.CommentPageDto;
@@ -74,6 +75,46 @@ public class CommentController {
     }
 
 
+    // 커서 기반 댓글 목록 (무한 스크롤용, COUNT 없음)
+    @GetMapping("/{postId}/feed")
+    public ResponseEntity<ApiResponse<SliceResponse<CommentView>>> getCommentFeed(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size
+    ) {
+        log.info("💬 [CommentController] 댓글 커서 조회: postId={}, cursor={}, size={}", postId, cursor, size);
+
+        if (postId == null || postId <= 0) {
+            log.warn("⚠️ [CommentController] 유효하지 않은 게시글 ID: {}", postId);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseGenerator.fail(ErrorCode.INVALID_POST_ID, (SliceResponse<CommentView>) null));
+        }
+
+        if (size <= 0 || size > 100) {
+            log.warn("⚠️ [CommentController] 유효하지 않은 페이지 크기: {}", size);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseGenerator.fail(ErrorCode.INVALID_REQUEST, (SliceResponse<CommentView>) null));
+        }
+
+        try {
+            SliceResponse<CommentView> result = commentService.listCommentFeed(postId, cursor, size);
+            log.info("✅ [CommentController] 댓글 커서 조회 성공: postId={}, hasNext={}", postId, result.isHasNext());
+            return ResponseEntity.ok(ApiResponseGenerator.success(result));
+        } catch (IllegalArgumentException e) {
+            log.error("❌ [CommentController] 잘못된 파라미터: postId={}, error={}", postId, e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseGenerator.fail(ErrorCode.INVALID_REQUEST, (SliceResponse<CommentView>) null));
+        } catch (RuntimeException e) {
+            log.error("❌ [CommentController] 댓글 커서 조회 실패: postId={}, error={}", postId, e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponseGenerator.fail(ErrorCode.OPERATION_FAILED, (SliceResponse<CommentView>) null));
+        } catch (Exception e) {
+            log.error("❌ [CommentController] 예상치 못한 오류: postId={}, error={}", postId, e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponseGenerator.fail(ErrorCode.SYSTEM_ERROR, (SliceResponse<CommentView>) null));
+        }
+    }
+
     @PostMapping("/insert")
     public ResponseEntity<ApiResponse<CommentView>> create(
             @AuthenticationPrincipal Long userNo,
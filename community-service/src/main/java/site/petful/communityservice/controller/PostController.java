@@ -14,6 +14,7 @@ import site.petful.communityservice.common.ApiResponse;
 import site.petful.communityservice.common.ApiResponseGenerator;
 import site.petful.communityservice.common.ErrorCode;
 import site.petful.communityservice.common.PageResponse;
+import site.petful.communityservice.common.SliceResponse;
 import site.petful.communityservice.dto.PostItem;
 import site.petful.communityservice.dto.PostCreateRequest;
 import site.petful.communityservice.dto.PostUpdateRequest;
@@ -141,6 +142,40 @@ public class PostController {
                     .body(ApiResponseGenerator.fail(ErrorCode.SYSTEM_ERROR, (PageResponse<PostItem>) null));
         }
     }
+    //전체 게시글 커서 조회 (무한 스크롤용, COUNT 없음)
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<SliceResponse<PostItem>>> getPostFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(required = false) PostType type
+    ) {
+        log.info("📋 [PostController] 게시글 커서 조회: cursor={}, size={}, type={}", cursor, size, type);
+
+        if (size <= 0 || size > 100) {
+            log.warn("⚠️ [PostController] 유효하지 않은 페이지 크기: {}", size);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseGenerator.fail(ErrorCode.INVALID_REQUEST, (SliceResponse<PostItem>) null));
+        }
+
+        try {
+            SliceResponse<PostItem> result = postService.getPostFeed(cursor, size, type);
+            log.info("✅ [PostController] 게시글 커서 조회 성공: count={}, hasNext={}",
+                    result.getContent().size(), result.isHasNext());
+            return ResponseEntity.ok(ApiResponseGenerator.success(result));
+        } catch (IllegalArgumentException e) {
+            log.error("❌ [PostController] 잘못된 파라미터: cursor={}, error={}", cursor, e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseGenerator.fail(ErrorCode.INVALID_REQUEST, (SliceResponse<PostItem>) null));
+        } catch (RuntimeException e) {
+            log.error("❌ [PostController] 게시글 커서 조회 실패: error={}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponseGenerator.fail(ErrorCode.OPERATION_FAILED, (SliceResponse<PostItem>) null));
+        } catch (Exception e) {
+            log.error("❌ [PostController] 예상치 못한 오류: error={}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponseGenerator.fail(ErrorCode.SYSTEM_ERROR, (SliceResponse<PostItem>) null));
+        }
+    }
     // 게시글 조회
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<PageResponse<PostItem>>> getMyPosts(
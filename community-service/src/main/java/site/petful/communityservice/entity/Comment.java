@@ -7,7 +7,10 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 @Entity
-@Table(name = "Comment")
+// 게시글별 댓글 목록 (created_at, comment_no) 키셋 조회 / 대댓글 조회용 인덱스
+@Table(name = "Comment", indexes = {
+        @Index(name = "idx_comment_post_parent_created", columnList = "post_no, parent_no, created_at, comment_no")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
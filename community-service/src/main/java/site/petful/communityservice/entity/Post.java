@@ -6,12 +6,18 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 @Entity
-@Table(name="Post")
+// 피드 정렬 (created_at, post_no) 키셋 조회용 인덱스
+@Table(name="Post", indexes = {
+        @Index(name = "idx_post_status_created", columnList = "post_status, created_at, post_no"),
+        @Index(name = "idx_post_status_type_created", columnList = "post_status, type, created_at, post_no"),
+        @Index(name = "idx_post_user_status_created", columnList = "user_no, post_status, created_at, post_no")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -41,6 +47,12 @@ public class Post {
     @Enumerated(EnumType.STRING)
     @Column(name="post_status", nullable = false)
     private PostStatus status = PostStatus.PUBLISHED;
+
+    // 댓글 수 (Comment 행 수). 댓글 작성/삭제 시 UPDATE로 증감, 어긋나면 CommentCountBackfill로 다시 센다
+    @ColumnDefault("0")
+    @Column(name="comment_count", nullable = false)
+    private int commentCount = 0;
+
     public Post(Long userId, String title, String content, PostType type) {
         this.userId = userId;
         this.title = title;
@@ -2,11 +2,15 @@ package site.petful.communityservice.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import site.petful.communityservice.entity.Comment;
 import site.petful.communityservice.entity.CommentStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -17,6 +21,18 @@ public interface CommentRepository extends JpaRepository<Comment,Long> {
 
     Page<Comment> findByPostIdAndParentIdIsNull(Long postId, Pageable pageable);
 
+    // 커서 목록: 게시글의 최상위 댓글을 (created_at, comment_no) 내림차순으로, COUNT 없이
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId IS NULL " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Comment> findRootSlice(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId IS NULL " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Comment> findRootSliceAfter(@Param("postId") Long postId,
+                                      @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                      Pageable pageable);
+
     List<Comment> findByPostIdAndParentIdIn(Long postId, List<Long> rootIds);
 
 
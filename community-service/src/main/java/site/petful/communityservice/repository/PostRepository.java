@@ -2,7 +2,9 @@ package site.petful.communityservice.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -10,6 +12,10 @@ import site.petful.communityservice.entity.Post;
 import site.petful.communityservice.entity.PostStatus;
 import site.petful.communityservice.entity.PostType;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post,Long> {
 
@@ -20,7 +26,45 @@ public interface PostRepository extends JpaRepository<Post,Long> {
     Page<Post> findByUserIdAndStatusAndType(Long userNo, PostStatus postStatus, Pageable pageable, PostType type);
 
     Page<Post> findByStatus(PostStatus postStatus, Pageable pageable);
+
+    // 커서 피드: (created_at, post_no) 내림차순, COUNT 없이 size + 1개만 읽어 다음 페이지 여부를 판단
+    @Query("SELECT p FROM Post p WHERE p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeed(@Param("status") PostStatus status, Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.status = :status " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedAfter(@Param("status") PostStatus status,
+                              @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                              Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.status = :status AND p.type = :type ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedByType(@Param("status") PostStatus status, @Param("type") PostType type, Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.status = :status AND p.type = :type " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedByTypeAfter(@Param("status") PostStatus status, @Param("type") PostType type,
+                                    @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                    Pageable pageable);
     
     @Query("SELECT p.userId FROM Post p WHERE p.id = :postId")
     Long findUserIdByPostId(@Param("postId") Long postId);
+
+    // 댓글 수 증감은 읽지 않고 DB에서 바로 더한다 (동시 작성/삭제에도 안전)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount + :delta < 0 THEN 0 ELSE p.commentCount + :delta END " +
+            "WHERE p.id = :postId")
+    int adjustCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 백필용: 실제 댓글 수와 다른 게시글만 한 문장으로 고친다 (읽고-쓰기 사이에 끼어드는 증감이 없음)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.postId = p.id) " +
+            "WHERE p.id IN :postIds " +
+            "AND p.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.postId = p.id)")
+    int recountCommentCounts(@Param("postIds") Collection<Long> postIds);
+
+    // 백필용: id 순서로 post_no
+    @Query("SELECT p.id FROM Post p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
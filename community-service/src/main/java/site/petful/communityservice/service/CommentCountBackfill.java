@@ -0,0 +1,87 @@
+package site.petful.communityservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.petful.communityservice.repository.PostRepository;
+
+import java.util.List;
+
+/**
+ * Post.commentCount 백필.
+ * 게시글 id를 순서대로 chunk 단위로 읽고, chunk마다 UPDATE 한 문장(상관 서브쿼리 COUNT)으로 어긋난 게시글만 고친다.
+ * 읽은 값을 다시 쓰지 않으므로 동시에 일어나는 댓글 수 증감(adjustCommentCount)을 덮어쓰지 않는다.
+ * (컬럼 추가 직후 / 카운트가 어긋났을 때 app.community.comment-count.backfill-on-startup=true로 한 번 실행)
+ */
+@Slf4j
+@Component
+public class CommentCountBackfill {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.community.comment-count.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @Value("${app.community.comment-count.backfill-chunk-size:500}")
+    private int chunkSize;
+
+    public CommentCountBackfill(PostRepository postRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.error("❌ [CommentCountBackfill] 댓글 수 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 댓글 수를 고친 게시글 수
+     */
+    public int backfill() {
+        long afterId = 0L;
+        int scanned = 0;
+        int corrected = 0;
+        while (true) {
+            long from = afterId;
+            ChunkResult result = transactionTemplate.execute(status -> backfillChunk(from));
+            if (result == null || result.scanned() == 0) {
+                break;
+            }
+            scanned += result.scanned();
+            corrected += result.corrected();
+            afterId = result.lastId();
+            if (result.scanned() < chunkSize) {
+                break;
+            }
+        }
+        log.info("🔧 [CommentCountBackfill] 댓글 수 백필 완료: 확인 {}개, 수정 {}개", scanned, corrected);
+        return corrected;
+    }
+
+    private record ChunkResult(int scanned, int corrected, long lastId) {
+    }
+
+    private ChunkResult backfillChunk(long afterId) {
+        List<Long> postIds = postRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+        if (postIds.isEmpty()) {
+            return new ChunkResult(0, 0, afterId);
+        }
+        int corrected = postRepository.recountCommentCounts(postIds);
+        return new ChunkResult(postIds.size(), corrected, postIds.get(postIds.size() - 1));
+    }
+}
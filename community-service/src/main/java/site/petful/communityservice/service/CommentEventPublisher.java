@@ -1,10 +1,10 @@
 package site.petful.communityservice.service;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import site.petful.communityservice.connectNotice.dto.EventMessage;
+import site.petful.communityservice.connectNotice.outbox.OutboxPublisher;
 import site.petful.communityservice.entity.Comment;
 import site.petful.communityservice.entity.Post;
 
@@ -17,30 +17,28 @@ import java.util.Map;
 public class CommentEventPublisher {
 
     @Autowired
-    private RabbitTemplate rabbitTemplate;
+    private OutboxPublisher outboxPublisher;
 
+    /**
+     * 댓글 작성 이벤트를 outbox에 적는다. 댓글 저장 트랜잭션 안에서 호출해야 하며,
+     * 브로커 발행은 커밋 후 OutboxRelay가 한다.
+     */
     public void publishCommentCreatedEvent(Comment comment, Post post) {
-        try {
-            // 자기 자신에게는 알림을 보내지 않음
-            if (comment.getUserId().equals(post.getUserId())) {
-                log.info("🚫 [CommentEventPublisher] 자기 자신의 게시물에 댓글 - 알림 발행 건너뜀: commentUserId={}, postUserId={}", 
-                    comment.getUserId(), post.getUserId());
-                return;
-            }
-
-            // EventMessage 생성
-            EventMessage eventMessage = createCommentEventMessage(comment, post);
-            
-            // RabbitMQ로 이벤트 발행
-            rabbitTemplate.convertAndSend("notif.events", "community.activity", eventMessage);
-            
-            log.info("📤 [CommentEventPublisher] 댓글 이벤트 발행 성공: eventId={}, commentId={}, postId={}, targetUserId={}", 
-                eventMessage.getEventId(), comment.getId(), post.getId(), post.getUserId());
-                
-        } catch (Exception e) {
-            log.error("❌ [CommentEventPublisher] 댓글 이벤트 발행 실패: commentId={}, postId={}, error={}", 
-                comment.getId(), post.getId(), e.getMessage(), e);
+        // 자기 자신에게는 알림을 보내지 않음
+        if (comment.getUserId().equals(post.getUserId())) {
+            log.info("🚫 [CommentEventPublisher] 자기 자신의 게시물에 댓글 - 알림 발행 건너뜀: commentUserId={}, postUserId={}", 
+                comment.getUserId(), post.getUserId());
+            return;
         }
+
+        // EventMessage 생성
+        EventMessage eventMessage = createCommentEventMessage(comment, post);
+
+        // 댓글과 같은 트랜잭션으로 outbox에 저장 (댓글이 롤백되면 이벤트도 사라진다)
+        outboxPublisher.append("notif.events", "community.activity", eventMessage.getEventId(), eventMessage);
+
+        log.info("📤 [CommentEventPublisher] 댓글 이벤트 적재: eventId={}, commentId={}, postId={}, targetUserId={}", 
+            eventMessage.getEventId(), comment.getId(), post.getId(), post.getUserId());
     }
 
     private EventMessage createCommentEventMessage(Comment comment, Post post) {
@@ -4,12 +4,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
-import site.petful.communityservice.client.UserClient;
+import site.petful.communityservice.client.UserProfileLookup;
+import site.petful.communityservice.common.FeedCursor;
+import site.petful.communityservice.common.SliceResponse;
 import site.petful.communityservice.dto.*;
 import site.petful.communityservice.entity.Comment;
 import site.petful.communityservice.entity.CommentStatus;
@@ -32,7 +37,7 @@ public class CommentService {
     private CommentEventPublisher eventPublisher;
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final UserClient userClient;
+    private final UserProfileLookup userProfileLookup;
 
     @Transactional
     public CommentView createComment(Long userNo, CommentCreateRequest request) {
@@ -82,12 +87,11 @@ public class CommentService {
                         .commentStatus(CommentStatus.NORMAL)    // 필수: NULL 방지
                         .build()
         );
+        postRepository.adjustCommentCount(postId, 1);
 
         eventPublisher.publishCommentCreatedEvent(saved, postRepository.findById(request.getPostId()).get());
         // 작성자 정보 (없어도 저장은 되게, 표시용만 안전 처리)
-        SimpleProfileResponse u = null;
-        try {  var resp = userClient.getUserBrief(userNo); // ApiResponse<SimpleProfileResponse>
-            if (resp != null) u = resp.getData(); } catch (Exception ignored) {}
+        SimpleProfileResponse u = userProfileLookup.getProfile(userNo);
         String nickname = (u != null && u.getNickname() != null && !u.getNickname().isBlank()) ? u.getNickname() : "익명";
         String avatar   = (u != null && u.getProfileImageUrl() != null && !u.getProfileImageUrl().isBlank())
                 ? u.getProfileImageUrl()
@@ -142,22 +146,57 @@ public class CommentService {
 
         Long parentId = comment.getParentId();
         commentRepository.delete(comment);
+        int removed = 1;
         if (parentId != null) {
-            commentRepository.findById(parentId).ifPresent(parent -> {
-                if (parent.getCommentStatus() == CommentStatus.DELETED &&
-                        !commentRepository.existsByParentId(parent.getId())) {
-                    commentRepository.delete(parent);
-                }
-            });
+            Comment parent = commentRepository.findById(parentId).orElse(null);
+            if (parent != null && parent.getCommentStatus() == CommentStatus.DELETED &&
+                    !commentRepository.existsByParentId(parent.getId())) {
+                commentRepository.delete(parent);
+                removed++;
+            }
         }
+        postRepository.adjustCommentCount(comment.getPostId(), -removed);
         return true;
     }
 
     public CommentPageDto listComments(Long postId, Pageable pageable) {
         Page<Comment> roots = commentRepository.findByPostIdAndParentIdIsNull(postId, pageable);
+        List<CommentView> content = toViews(postId, roots.getContent());
+
+        return CommentPageDto.builder()
+                .content(content)
+                .page(roots.getNumber())
+                .size(roots.getSize())
+                .totalElements(roots.getTotalElements())
+                .last(roots.isLast())
+                .build();
+    }
 
+    /**
+     * 커서 기반 댓글 목록. 최상위 댓글을 (created_at, comment_no) 키셋으로 읽고 COUNT 쿼리는 없다.
+     *
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<CommentView> listCommentFeed(Long postId, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size);
+
+        Slice<Comment> roots = (after == null)
+                ? commentRepository.findRootSlice(postId, limit)
+                : commentRepository.findRootSliceAfter(postId, after.createdAt(), after.id(), limit);
+
+        List<Comment> rootList = roots.getContent();
+        FeedCursor last = rootList.isEmpty() ? null
+                : new FeedCursor(rootList.get(rootList.size() - 1).getCreatedAt(), rootList.get(rootList.size() - 1).getId());
+        List<CommentView> content = toViews(postId, rootList);
+        return SliceResponse.of(new SliceImpl<>(content, roots.getPageable(), roots.hasNext()), last);
+    }
+
+    // 최상위 댓글 + 대댓글(IN 한 번) + 작성자(배치 조회)로 화면용 트리를 만든다
+    private List<CommentView> toViews(Long postId, List<Comment> roots) {
         // 대댓글
-        List<Long> rootIds = roots.getContent().stream().map(Comment::getId).toList();
+        List<Long> rootIds = roots.stream().map(Comment::getId).toList();
         List<Comment> children = roots.isEmpty()
                 ? List.of()
                 : commentRepository.findByPostIdAndParentIdIn(postId, rootIds);
@@ -174,17 +213,9 @@ public class CommentService {
                 .collect(Collectors.groupingBy(Comment::getParentId));
 
         // DTO 변환
-        List<CommentView> content = roots.getContent().stream()
+        return roots.stream()
                 .map(root -> toView(root, childByParent.getOrDefault(root.getId(), List.of()), userMap))
                 .toList();
-
-        return CommentPageDto.builder()
-                .content(content)
-                .page(roots.getNumber())
-                .size(roots.getSize())
-                .totalElements(roots.getTotalElements())
-                .last(roots.isLast())
-                .build();
     }
 
     private CommentView toView(Comment c, List<Comment> kids, Map<Long, UserBriefDto> umap) {
@@ -227,24 +258,10 @@ public class CommentService {
 
     private Map<Long, UserBriefDto> fetchUsers(Set<Long> ids) {
         if (ids == null || ids.isEmpty()) return Map.of();
-        try {
-            List<Long> list = new ArrayList<>(ids);
-
-            // Feign 배치 호출
-            var resp = userClient.getUsersBrief(list);
-            List<SimpleProfileResponse> profiles =
-                    (resp != null && resp.getData() != null) ? resp.getData() : List.of();
-
-            // SimpleProfileResponse -> UserBriefDto 매핑
-            return profiles.stream()
-                    .filter(p -> p.getId() != null)
-                    .map(p -> new UserBriefDto(p.getId(), p.getNickname(), p.getProfileImageUrl()))
-                    .collect(Collectors.toMap(UserBriefDto::getId, u -> u, (a, b) -> a));
-
-        } catch (Exception e) {
-            log.warn("fetchUsers failed: {}", e.getMessage());
-            return Map.of(); // 실패 시 빈 맵 리턴
-        }
+        // SimpleProfileResponse -> UserBriefDto 매핑 (조회 실패한 사용자는 toAuthor에서 익명 처리)
+        return userProfileLookup.getProfiles(ids).values().stream()
+                .map(p -> new UserBriefDto(p.getId(), p.getNickname(), p.getProfileImageUrl()))
+                .collect(Collectors.toMap(UserBriefDto::getId, u -> u, (a, b) -> a));
     }
 
     /**
@@ -5,17 +5,18 @@ package site.petful.communityservice.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.server.ResponseStatusException;
-import site.petful.communityservice.client.UserClient;
+import site.petful.communityservice.client.UserProfileLookup;
+import site.petful.communityservice.common.FeedCursor;
+import site.petful.communityservice.common.SliceResponse;
 import site.petful.communityservice.dto.*;
 import site.petful.communityservice.entity.*;
-import site.petful.communityservice.repository.CommentRepository;
 import site.petful.communityservice.repository.PostRepository;
 
 import java.nio.file.AccessDeniedException;
@@ -30,8 +31,7 @@ import java.util.stream.Collectors;
 public class PostService {
 
     private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    private final UserClient userClient;
+    private final UserProfileLookup userProfileLookup;
 
     @Transactional
     public PostDto registNewPost(Long userNo, PostCreateRequest request) {
@@ -69,104 +69,66 @@ public class PostService {
                 ? postRepository.findByStatus(PostStatus.PUBLISHED, pageable)
                 : postRepository.findByStatusAndType(PostStatus.PUBLISHED, pageable, type);
 
-        List<Post> posts = page.getContent();
+        Map<Long, UserBriefDto> userMap = fetchAuthors(page.getContent());
+        return page.map(p -> toItem(p, userMap));
+    }
+
+    /**
+     * 커서 기반 전체 게시글 조회. (created_at, post_no) 키셋으로 다음 구간만 읽고 COUNT 쿼리는 없다.
+     *
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public SliceResponse<PostItem> getPostFeed(String cursor, int size, PostType type) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size);
+
+        Slice<Post> slice;
+        if (type == null) {
+            slice = (after == null)
+                    ? postRepository.findFeed(PostStatus.PUBLISHED, limit)
+                    : postRepository.findFeedAfter(PostStatus.PUBLISHED, after.createdAt(), after.id(), limit);
+        } else {
+            slice = (after == null)
+                    ? postRepository.findFeedByType(PostStatus.PUBLISHED, type, limit)
+                    : postRepository.findFeedByTypeAfter(PostStatus.PUBLISHED, type, after.createdAt(), after.id(), limit);
+        }
 
+        List<Post> posts = slice.getContent();
+        FeedCursor last = posts.isEmpty() ? null
+                : new FeedCursor(posts.get(posts.size() - 1).getCreatedAt(), posts.get(posts.size() - 1).getId());
+        Map<Long, UserBriefDto> userMap = fetchAuthors(posts);
+        return SliceResponse.of(slice.map(p -> toItem(p, userMap)), last);
+    }
+
+    // 로컬 캐시 → Redis → user-service 배치 호출 순서로 조회 (찾지 못한 사용자는 toItem에서 기본값)
+    private Map<Long, UserBriefDto> fetchAuthors(List<Post> posts) {
         Set<Long> userIds = posts.stream()
                 .map(Post::getUserId)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
 
         Map<Long, UserBriefDto> userMap = new HashMap<>();
-        if (!userIds.isEmpty()) {
-            try {
-                // ★ 현재 요청 컨텍스트 확인
-                var attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-                if (attrs != null) {
-                    var req = attrs.getRequest();
-                    String auth = req.getHeader("Authorization");
-                    String userNo = req.getHeader("X-User-No");
-                    log.info("Current request context - Authorization: {}, X-User-No: {}", 
-                            auth != null ? auth.substring(0, Math.min(20, auth.length())) + "..." : "null", userNo);
-                } else {
-                    log.warn("No request context available for FeignClient call");
-                }
-                
-                // ★ 배치 호출: ApiResponse<List<SimpleProfileResponse>>
-                log.info("Calling userClient.getUsersBrief with userIds: {}", userIds);
-                var resp = userClient.getUsersBrief(new ArrayList<>(userIds));
-                log.info("UserClient batch response: {}", resp);
-                
-                if (resp == null) {
-                    log.warn("UserClient batch response is null");
-                    throw new RuntimeException("UserClient response is null");
-                }
-                
-                List<SimpleProfileResponse> list =
-                        (resp.getData() != null) ? resp.getData() : List.of();
-                log.info("UserClient batch list size: {}", list.size());
-                
-                // 각 응답 항목 로깅
-                for (SimpleProfileResponse profile : list) {
-                    log.info("Batch profile: id={}, nickname={}, profileImageUrl={}, email={}, phone={}", 
-                            profile.getId(), profile.getNickname(), profile.getProfileImageUrl(), 
-                            profile.getEmail(), profile.getPhone());
-                }
-
-                userMap = list.stream()
-                        .map(this::toBrief)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toMap(UserBriefDto::getId, u -> u, (a, b) -> a));
-
-                log.info("Successfully fetched {} user profiles via batch call", userMap.size());
-
-            } catch (Exception batchFail) {
-                log.error("getUsersBrief batch failed: {}", batchFail.getMessage(), batchFail);
-                // 배치 호출 실패 시 단건 호출로 fallback
-                for (Long id : userIds) {
-                    try {
-                        // ★ 단건 호출: ApiResponse<SimpleProfileResponse>
-                        var single = userClient.getUserBrief(id);
-                        SimpleProfileResponse p = (single != null) ? single.getData() : null;
-                        UserBriefDto userBrief = toBrief(p);
-                        if (userBrief != null) {
-                            userMap.put(id, userBrief);
-                        } else {
-                            // 사용자 정보를 가져올 수 없는 경우 기본값 설정
-                            userMap.put(id, UserBriefDto.builder()
-                                    .id(id)
-                                    .nickname("익명")
-                                    .profileImageUrl(null)
-                                    .build());
-                        }
-                    } catch (Exception e) {
-                        log.warn("getUserBrief({}) failed: {}", id, e.getMessage());
-                        // 예외 발생 시에도 기본값 설정
-                        userMap.put(id, UserBriefDto.builder()
-                                .id(id)
-                                .nickname("익명")
-                                .profileImageUrl(null)
-                                .build());
-                    }
-                }
+        userProfileLookup.getProfiles(userIds).forEach((id, profile) -> {
+            UserBriefDto brief = toBrief(profile);
+            if (brief != null) {
+                userMap.put(id, brief);
             }
-        }
-
-        Map<Long, UserBriefDto> finalUserMap = userMap;
-
-        return page.map(p -> {
-            UserBriefDto u = finalUserMap.get(p.getUserId());
-            // userMap에 없는 경우 기본값 생성
-            if (u == null) {
-                log.warn("User not found in userMap for userId: {}, creating default user info", p.getUserId());
-                u = UserBriefDto.builder()
-                        .id(p.getUserId())
-                        .nickname("사용자" + p.getUserId()) // 기본값을 "익명" 대신 "사용자{ID}"로 변경
-                        .profileImageUrl(null)
-                        .build();
-            }
-            int cnt = commentRepository.countByPostId(p.getId());
-            return PostItem.from(p, cnt, u);
         });
+        return userMap;
+    }
+
+    private PostItem toItem(Post p, Map<Long, UserBriefDto> userMap) {
+        UserBriefDto u = userMap.get(p.getUserId());
+        // userMap에 없는 경우 기본값 생성
+        if (u == null) {
+            log.warn("User not found in userMap for userId: {}, creating default user info", p.getUserId());
+            u = UserBriefDto.builder()
+                    .id(p.getUserId())
+                    .nickname("사용자" + p.getUserId()) // 기본값을 "익명" 대신 "사용자{ID}"로 변경
+                    .profileImageUrl(null)
+                    .build();
+        }
+        return PostItem.from(p, p.getCommentCount(), u);
     }
 
 
@@ -203,13 +165,10 @@ public class PostService {
                 ? postRepository.findByUserIdAndStatus(userNo, PostStatus.PUBLISHED, pageable)
                 : postRepository.findByUserIdAndStatusAndType(userNo, PostStatus.PUBLISHED, pageable, type);
         UserBriefDto brief = null;
-        try {
-            var resp = userClient.getUserBrief(userNo);                 // ApiResponse<SimpleProfileResponse>
-            SimpleProfileResponse payload = (resp != null ? resp.getData() : null);
-            if (payload != null && payload.getId() != null) {
-                brief = new UserBriefDto(payload.getId(), payload.getNickname(), payload.getProfileImageUrl());
-            }
-        } catch (Exception ignored) { /* 로그 필요시 추가 */ }
+        SimpleProfileResponse payload = userProfileLookup.getProfile(userNo);
+        if (payload != null && payload.getId() != null) {
+            brief = new UserBriefDto(payload.getId(), payload.getNickname(), payload.getProfileImageUrl());
+        }
 
         if (brief == null || brief.getId() == null) {
             brief = UserBriefDto.builder()
@@ -219,10 +178,7 @@ public class PostService {
                     .build();
         }
         final UserBriefDto tmp = brief;
-        return page.map(p -> {
-            int cnt = commentRepository.countByPostId(p.getId());
-            return PostItem.from(p, cnt, tmp);
-        });
+        return page.map(p -> PostItem.from(p, p.getCommentCount(), tmp));
     }
 
     @Transactional(readOnly = true)
@@ -236,10 +192,7 @@ public class PostService {
         }
         UserBriefDto author = null;
         try {
-            var resp = userClient.getUserBrief(post.getUserId()); // ApiResponse<SimpleProfileResponse>
-            log.info("UserClient response for user {}: {}", post.getUserId(), resp);
-            SimpleProfileResponse payload = (resp != null ? resp.getData() : null);
-            log.info("UserClient payload for user {}: {}", post.getUserId(), payload);
+            SimpleProfileResponse payload = userProfileLookup.getProfile(post.getUserId());
             author = toBrief(payload);
         } catch (Exception e) {
             log.warn("Failed to get user brief for post {}: {}", postId, e.getMessage());
@@ -265,9 +218,7 @@ public class PostService {
         log.info("isMine calculation - currentUserId: {}, post.userId: {}, isMine: {}", 
                 currentUserId, post.getUserId(), isMine);
 
-        int commentCount = commentRepository.countByPostId(postId);
-
-        return PostDetailDto.from(post, commentCount, author, isMine);
+        return PostDetailDto.from(post, post.getCommentCount(), author, isMine);
     }
 
     private List<CommentNode> buildTree(List<Comment> comments) {
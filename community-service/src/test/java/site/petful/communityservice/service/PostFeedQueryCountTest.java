@@ -0,0 +1,168 @@
+package site.petful.communityservice.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import site.petful.communityservice.client.UserProfileLookup;
+import site.petful.communityservice.common.SliceResponse;
+import site.petful.communityservice.dto.PostItem;
+import site.petful.communityservice.entity.Comment;
+import site.petful.communityservice.entity.CommentStatus;
+import site.petful.communityservice.entity.Post;
+import site.petful.communityservice.entity.PostStatus;
+import site.petful.communityservice.entity.PostType;
+import site.petful.communityservice.repository.CommentRepository;
+import site.petful.communityservice.repository.PostRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 피드 한 페이지(20개)를 만들 때 나가는 쿼리 수 비교.
+ * - before: 게시글 페이지 조회 후 게시글마다 countByPostId (N+1)
+ * - after : Post.commentCount 컬럼을 같이 읽음
+ * 커서 피드는 COUNT 없이 페이지당 쿼리 1번으로 전체를 빠짐없이 훑는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({PostService.class, CommentCountBackfill.class})
+class PostFeedQueryCountTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int ROUNDS = 200;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private CommentCountBackfill commentCountBackfill;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private UserProfileLookup userProfileLookup;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        given(userProfileLookup.getProfiles(anyCollection())).willReturn(Map.of());
+
+        for (int i = 0; i < 50; i++) {
+            Post post = postRepository.save(new Post((long) (i % 7) + 1, "title " + i, "content " + i, PostType.INFORMATION));
+            for (int c = 0; c < i % 5; c++) {
+                commentRepository.save(Comment.builder()
+                        .userId(1L)
+                        .postId(post.getId())
+                        .content("comment " + c)
+                        .createdAt(LocalDateTime.now())
+                        .commentStatus(CommentStatus.NORMAL)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        commentCountBackfill.backfill();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void feedPageUsesStoredCommentCount() {
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        statistics.clear();
+        for (int round = 0; round < ROUNDS; round++) {
+            Page<Post> page = postRepository.findByStatus(PostStatus.PUBLISHED, pageable);
+            page.forEach(p -> commentRepository.countByPostId(p.getId()));
+            entityManager.clear();
+        }
+        long legacyQueries = statistics.getPrepareStatementCount() / ROUNDS;
+
+        statistics.clear();
+        Page<PostItem> items = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            items = postService.getPosts(pageable, null);
+            entityManager.clear();
+        }
+        long queries = statistics.getPrepareStatementCount() / ROUNDS;
+
+        assertThat(legacyQueries).isEqualTo(2 + PAGE_SIZE);   // page + count + N
+        assertThat(queries).isEqualTo(2);                      // page + count
+        assertThat(items.getContent()).allSatisfy(item ->
+                assertThat(item.getCommentCount()).isEqualTo(commentRepository.countByPostId(item.getPostId())));
+    }
+
+    @Test
+    void adjustAndBackfillKeepCountInSync() {
+        Post post = postRepository.findAll().get(0);
+        long postId = post.getId();
+        int before = commentRepository.countByPostId(postId);
+
+        postRepository.adjustCommentCount(postId, 3);
+        postRepository.adjustCommentCount(postId, -1);
+        entityManager.clear();
+        assertThat(postRepository.findById(postId).orElseThrow().getCommentCount()).isEqualTo(before + 2);
+
+        // 어긋난 값은 백필로 복구 (chunk마다 id 조회 1번 + UPDATE 1번)
+        statistics.clear();
+        assertThat(commentCountBackfill.backfill()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        entityManager.clear();
+        assertThat(postRepository.findById(postId).orElseThrow().getCommentCount()).isEqualTo(before);
+
+        postRepository.adjustCommentCount(postId, -(before + 10));
+        entityManager.clear();
+        assertThat(postRepository.findById(postId).orElseThrow().getCommentCount()).isZero();
+    }
+
+    @Test
+    void cursorFeedWalksAllPostsWithoutCount() {
+        // created_at이 같은 게시글이 있어도 post_no로 순서가 정해져야 한다
+        LocalDateTime tie = LocalDateTime.of(2025, 1, 1, 12, 0);
+        entityManager.createNativeQuery("UPDATE Post SET created_at = ?1 WHERE MOD(post_no, 3) = 0")
+                .setParameter(1, tie)
+                .executeUpdate();
+        entityManager.clear();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        statistics.clear();
+        do {
+            SliceResponse<PostItem> slice = postService.getPostFeed(cursor, 7, null);
+            slice.getContent().forEach(item -> seen.add(item.getPostId()));
+            cursor = slice.getNextCursor();
+            pages++;
+            entityManager.clear();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(50);
+        assertThat(new HashSet<>(seen)).hasSize(50);
+        assertThat(pages).isEqualTo(8);                                   // 7 * 7 + 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages); // 페이지당 SELECT 1번, COUNT 없음
+    }
+}
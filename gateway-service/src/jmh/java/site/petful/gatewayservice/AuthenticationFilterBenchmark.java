@@ -0,0 +1,135 @@
+package site.petful.gatewayservice;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import site.petful.gatewayservice.config.JwtConfig;
+import site.petful.gatewayservice.filter.PathWhitelist;
+import site.petful.gatewayservice.util.JwtClaims;
+import site.petful.gatewayservice.util.JwtUtil;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthenticationFilter 인증 경로 비교 벤치마크.
+ * - legacy: 요청마다 화이트리스트 stream/substring + 토큰 4회 파싱(매번 키 생성)
+ * - compiled: 컴파일된 화이트리스트 + 요청당 1회 검증(검증 결과 캐시)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AuthenticationFilterBenchmark {
+
+    private static final List<String> WHITELIST = List.of(
+            "/api/v1/user-service/auth/login",
+            "/api/v1/user-service/auth/signup",
+            "/api/v1/user-service/auth/email/send",
+            "/api/v1/user-service/auth/email/verify",
+            "/api/v1/user-service/auth/password/reset",
+            "/api/v1/user-service/auth/password/verify",
+            "/api/v1/user-service/auth/password/change",
+            "/api/v1/advertiser-service/advertiser/signup",
+            "/api/v1/advertiser-service/advertiser/signup/email/send",
+            "/api/v1/advertiser-service/advertiser/signup/email/verify",
+            "/api/v1/advertiser-service/advertiser/login",
+            "/api/v1/advertiser-service/advertiser/password/reset/request",
+            "/api/v1/advertiser-service/advertiser/password/reset/verify",
+            "/api/v1/advertiser-service/recommend/petStars",
+            "/api/v1/advertiser-service/pet/petstars",
+            "/api/v1/advertiser-service/pet/portfolio/**",
+            "/api/v1/advertiser-service/instagram/influencer/**",
+            "/api/v1/advertiser-service/internal/adStatus/grouped",
+            "/api/v1/advertiser-service/file/**",
+            "/api/v1/campaign-service/ad/adStatus",
+            "/api/v1/campaign-service/ad/image/**",
+            "/api/v1/campaign-service/ad/file/**"
+    );
+
+    private static final String PROTECTED_PATH = "/api/v1/community-service/posts/all";
+
+    @Param({"1", "1000"})
+    public int distinctTokens;
+
+    private String secret;
+    private String[] tokens;
+    private PathWhitelist compiledWhitelist;
+    private JwtUtil jwtUtil;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Jwts.SIG.HS256.key().build();
+        secret = Encoders.BASE64.encode(key.getEncoded());
+
+        tokens = new String[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            tokens[i] = Jwts.builder()
+                    .subject("user" + i + "@petful.site")
+                    .claim("userNo", (long) i)
+                    .claim("userType", "USER")
+                    .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                    .signWith(key)
+                    .compact();
+        }
+
+        JwtConfig config = new JwtConfig();
+        config.setSecret(secret);
+        jwtUtil = new JwtUtil(config);
+        compiledWhitelist = PathWhitelist.compile(WHITELIST);
+    }
+
+    private String nextToken() {
+        String token = tokens[cursor];
+        cursor = (cursor + 1) % tokens.length;
+        return token;
+    }
+
+    @Benchmark
+    public void legacyFilterPath(Blackhole bh) {
+        boolean whitelisted = WHITELIST.stream().anyMatch(pattern -> {
+            if (pattern.endsWith("**")) {
+                String prefix = pattern.substring(0, pattern.length() - 2);
+                return PROTECTED_PATH.startsWith(prefix);
+            }
+            return PROTECTED_PATH.equals(pattern);
+        });
+        bh.consume(whitelisted);
+
+        String token = nextToken();
+        Claims validated = legacyParse(token);
+        bh.consume(validated.getExpiration().after(new Date()));
+        bh.consume(legacyParse(token).get("userNo"));
+        bh.consume(legacyParse(token).get("userType", String.class));
+        bh.consume(legacyParse(token).get("advertiserNo"));
+    }
+
+    @Benchmark
+    public void compiledFilterPath(Blackhole bh) {
+        bh.consume(compiledWhitelist.matches(PROTECTED_PATH));
+
+        JwtClaims claims = jwtUtil.resolveClaims(nextToken());
+        bh.consume(claims.effectiveUserNo());
+        bh.consume(claims.userType());
+    }
+
+    private Claims legacyParse(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret.trim()));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+}
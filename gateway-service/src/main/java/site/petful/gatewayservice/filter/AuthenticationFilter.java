@@ -10,7 +10,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
+import site.petful.gatewayservice.util.JwtClaims;
 import site.petful.gatewayservice.util.JwtUtil;
+import site.petful.gatewayservice.util.RevokedSessionRegistry;
 
 @Slf4j
 @Component
@@ -54,34 +56,41 @@ public class AuthenticationFilter extends
 
     );
 
+    private static final PathWhitelist DEFAULT_PATH_WHITELIST = PathWhitelist.compile(DEFAULT_WHITELIST);
+
     private final JwtUtil jwtUtil;
+    private final RevokedSessionRegistry revokedSessions;
 
-    public AuthenticationFilter(JwtUtil jwtUtil) {
+    public AuthenticationFilter(JwtUtil jwtUtil, RevokedSessionRegistry revokedSessions) {
         super(Config.class);
         this.jwtUtil = jwtUtil;
+        this.revokedSessions = revokedSessions;
     }
 
     @Override
     public GatewayFilter apply(Config cfg) {
+        // 라우트 설정 화이트리스트는 필터 생성 시점에 한 번만 컴파일
+        PathWhitelist configWhitelist = PathWhitelist.compile(cfg.getWhitelist());
+
         return (exchange, chain) -> {
             ServerHttpRequest request = exchange.getRequest();
             String path = request.getPath().value();
 
-            log.info("Processing path: {}", path); // 디버깅 로그 추가
+            log.debug("Processing path: {}", path);
 
             // OPTIONS 요청은 통과
             if (request.getMethod() == HttpMethod.OPTIONS) {
-                log.info("OPTIONS request, skipping authentication");
+                log.debug("OPTIONS request, skipping authentication");
                 return chain.filter(exchange);
             }
 
             // 화이트리스트 경로는 통과
-            if (isWhitelisted(cfg.getWhitelist(), path)) {
-                log.info("Path {} is whitelisted, skipping authentication", path);
+            if (isWhitelisted(configWhitelist, path)) {
+                log.debug("Path {} is whitelisted, skipping authentication", path);
                 return chain.filter(exchange);
             }
 
-            log.info("Path {} requires authentication", path);
+            log.debug("Path {} requires authentication", path);
 
             // Authorization 헤더 검사
             String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
@@ -92,82 +101,68 @@ public class AuthenticationFilter extends
 
             String token = authHeader.substring(7).trim();
 
-            // 토큰 유효성 검사
-            if (!jwtUtil.validateToken(token)) {
+            // 토큰 검증은 요청당 한 번 (검증된 토큰은 캐시에서 재사용)
+            JwtClaims claims = jwtUtil.resolveClaims(token);
+            if (claims == null) {
                 log.debug("JWT validation failed for path {}", path);
                 return cfg.required ? unauthorized(exchange) : chain.filter(exchange);
             }
 
-            // userNo, userType 추출
-            String userNo = jwtUtil.getUserNoFromToken(token);
-            String userType = jwtUtil.getUserTypeFromToken(token);
+            // userNo, userType 추출 (advertiserNo가 있으면 userNo로 사용)
+            String userNo = claims.effectiveUserNo();
+            String userType = claims.userType();
 
             if (userNo == null || userType == null) {
                 log.warn("Missing userNo or userType in token for path: {}", path);
                 return cfg.required ? unauthorized(exchange) : chain.filter(exchange);
             }
 
-            // advertiserNo를 userNo로 사용하는 경우
-            String advertiserNo = jwtUtil.getAdvertiserNoFromToken(token);
-            if (advertiserNo != null && !advertiserNo.equals(userNo)) {
-                userNo = advertiserNo;
-                log.debug("Using advertiserNo as userNo: {}", userNo);
+            // 로그아웃/정지 등으로 폐기된 세션의 토큰 차단 (블룸 필터에 걸릴 때만 Redis 확인)
+            if (revokedSessions.mightBeRevoked(claims.sessionId())) {
+                return revokedSessions.isRevoked(claims.sessionId())
+                    .flatMap(revoked -> {
+                        if (revoked) {
+                            log.debug("Revoked session token for path {}", path);
+                            return cfg.required ? unauthorized(exchange) : chain.filter(exchange);
+                        }
+                        return chain.filter(exchange.mutate().request(authenticated(request, path, userNo, userType)).build());
+                    });
             }
 
-            // 헤더와 쿼리 파라미터 추가
-            String currentQuery = request.getURI().getQuery();
-            String userNoParam = "userNo=" + userNo;
-            String newQuery = currentQuery == null ? userNoParam : currentQuery + "&" + userNoParam;
-            
-            ServerHttpRequest finalRequest = request.mutate()
-                .header(HDR_USER_NO, userNo)
-                .header(HDR_USER_TYPE, userType)
-                .uri(request.getURI().resolve(path + "?" + newQuery))
-                .build();
-
-            log.debug("Authentication successful - userNo: {}, userType: {}, path: {}", userNo,
-                userType, path);
-
-            return chain.filter(exchange.mutate().request(finalRequest).build());
+            return chain.filter(exchange.mutate().request(authenticated(request, path, userNo, userType)).build());
         };
     }
 
-    private boolean isWhitelisted(List<String> whitelist, String path) {
-        // 기본 화이트리스트 확인 - 정확한 매칭 또는 startsWith 체크
-        boolean isDefaultWhitelisted = DEFAULT_WHITELIST.stream().anyMatch(pattern -> {
-            if (pattern.endsWith("**")) {
-                // ** 패턴인 경우 startsWith로 체크
-                String prefix = pattern.substring(0, pattern.length() - 2);
-                return path.startsWith(prefix);
-            } else {
-                // 정확한 매칭
-                return path.equals(pattern);
-            }
-        });
+    private ServerHttpRequest authenticated(ServerHttpRequest request, String path, String userNo, String userType) {
+        // 헤더와 쿼리 파라미터 추가
+        String currentQuery = request.getURI().getQuery();
+        String userNoParam = "userNo=" + userNo;
+        String newQuery = currentQuery == null ? userNoParam : currentQuery + "&" + userNoParam;
         
-        if (isDefaultWhitelisted) {
-            log.info("Path {} matched DEFAULT_WHITELIST", path);
+        ServerHttpRequest finalRequest = request.mutate()
+            .header(HDR_USER_NO, userNo)
+            .header(HDR_USER_TYPE, userType)
+            .uri(request.getURI().resolve(path + "?" + newQuery))
+            .build();
+
+        log.debug("Authentication successful - userNo: {}, userType: {}, path: {}", userNo,
+            userType, path);
+
+        return finalRequest;
+    }
+
+    private boolean isWhitelisted(PathWhitelist configWhitelist, String path) {
+        // 기본 화이트리스트 확인 - 정확한 매칭 또는 ** 접두사 매칭
+        if (DEFAULT_PATH_WHITELIST.matches(path)) {
+            log.debug("Path {} matched DEFAULT_WHITELIST", path);
             return true;
         }
 
         // 설정된 화이트리스트 확인
-        if (whitelist == null) {
-            return false;
-        }
-
-        boolean isConfigWhitelisted = whitelist.stream().anyMatch(pattern -> {
-            if (pattern.endsWith("**")) {
-                String prefix = pattern.substring(0, pattern.length() - 2);
-                return path.startsWith(prefix);
-            } else {
-                return path.equals(pattern);
-            }
-        });
-        
+        boolean isConfigWhitelisted = configWhitelist.matches(path);
         if (isConfigWhitelisted) {
-            log.info("Path {} matched config whitelist", path);
+            log.debug("Path {} matched config whitelist", path);
         }
-        
         return isConfigWhitelisted;
     }
 
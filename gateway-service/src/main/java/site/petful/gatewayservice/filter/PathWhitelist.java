@@ -0,0 +1,86 @@
+package site.petful.gatewayservice.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 화이트리스트 패턴을 한 번만 컴파일해 두고 요청마다 재사용하는 경로 매처.
+ * - 정확한 경로는 HashSet 조회 (O(1))
+ * - "/**" 로 끝나는 패턴은 접두사 배열로 보관 (짧은 접두사 우선 정렬)
+ */
+public final class PathWhitelist {
+
+    private static final String WILDCARD = "**";
+
+    private static final PathWhitelist EMPTY = new PathWhitelist(Set.of(), new String[0]);
+
+    private final Set<String> exactPaths;
+    private final String[] prefixes;
+
+    private PathWhitelist(Set<String> exactPaths, String[] prefixes) {
+        this.exactPaths = exactPaths;
+        this.prefixes = prefixes;
+    }
+
+    public static PathWhitelist compile(Collection<String> patterns) {
+        if (patterns == null || patterns.isEmpty()) {
+            return EMPTY;
+        }
+
+        Set<String> exact = new HashSet<>();
+        Set<String> prefixSet = new HashSet<>();
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isBlank()) {
+                continue;
+            }
+            String trimmed = pattern.trim();
+            if (trimmed.endsWith(WILDCARD)) {
+                prefixSet.add(trimmed.substring(0, trimmed.length() - WILDCARD.length()));
+            } else {
+                exact.add(trimmed);
+            }
+        }
+
+        // 다른 접두사로 이미 덮이는 접두사는 제거해 검사 횟수를 줄인다
+        String[] sorted = prefixSet.stream()
+                .sorted((a, b) -> Integer.compare(a.length(), b.length()))
+                .toArray(String[]::new);
+        List<String> reduced = new ArrayList<>(sorted.length);
+        for (String candidate : sorted) {
+            boolean covered = reduced.stream().anyMatch(candidate::startsWith);
+            if (!covered) {
+                reduced.add(candidate);
+            }
+        }
+
+        return new PathWhitelist(Set.copyOf(exact), reduced.toArray(new String[0]));
+    }
+
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return exactPaths.isEmpty() && prefixes.length == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "PathWhitelist{exact=" + exactPaths.size() + ", prefixes=" + Arrays.toString(prefixes) + "}";
+    }
+}
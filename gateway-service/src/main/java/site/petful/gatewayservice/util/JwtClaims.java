@@ -0,0 +1,29 @@
+package site.petful.gatewayservice.util;
+
+/**
+ * 서명 검증을 마친 토큰에서 게이트웨이가 필요로 하는 값만 추린 결과.
+ * 요청당 한 번만 파싱하고 이 레코드를 재사용한다.
+ */
+public record JwtClaims(
+        String userNo,
+        String userType,
+        String advertiserNo,
+        String sessionId,
+        long expiresAtMillis
+) {
+
+    /**
+     * 다운스트림에 전달할 사용자 번호.
+     * 광고주 토큰이면 advertiserNo를 우선 사용한다.
+     */
+    public String effectiveUserNo() {
+        if (advertiserNo != null && !advertiserNo.equals(userNo)) {
+            return advertiserNo;
+        }
+        return userNo;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -1,107 +1,182 @@
 package site.petful.gatewayservice.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import site.petful.gatewayservice.config.JwtConfig;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
 
     private static final String CLAIM_USER_NO = "userNo";
     private static final String CLAIM_USER_TYPE = "userType";
     private static final String CLAIM_ADVERTISER_NO = "advertiserNo";
+    private static final String CLAIM_SESSION_ID = "sid";
+
+    // 검증 완료 토큰 캐시 - 토큰 만료 시각과 최대 TTL 중 빠른 쪽에 맞춰 제거된다
+    private static final long CACHE_MAX_SIZE = 50_000;
+    private static final long CACHE_MAX_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
 
     private final JwtConfig jwtConfig;
+    private final Cache<String, JwtClaims> verifiedTokens;
 
-    public boolean validateToken(String token) {
-        try {
-            Claims claims = parseClaims(token);
-            return !isTokenExpired(claims);
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+    private volatile JwtParser parser;
+    private volatile String parserSecret;
+
+    public JwtUtil(JwtConfig jwtConfig) {
+        this.jwtConfig = jwtConfig;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(CACHE_MAX_SIZE)
+                .expireAfter(new ClaimsExpiry())
+                .build();
     }
 
-    private Claims parseClaims(String token) {
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtConfig.getSecret().trim()));
-            Jws<Claims> jws = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return jws.getPayload();
-        } catch (Exception e) {
-            log.error("Failed to parse token: {}", e.getMessage());
-            throw e;
+    /**
+     * 토큰을 한 번만 검증/파싱해 필요한 클레임을 돌려준다.
+     * 같은 토큰이 다시 들어오면 서명 검증 없이 캐시에서 꺼낸다.
+     *
+     * @return 유효한 토큰이면 클레임, 아니면 null
+     */
+    public JwtClaims resolveClaims(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
         }
-    }
 
-    private boolean isTokenExpired(Claims claims) {
-        Date exp = claims.getExpiration();
-        return exp == null || exp.before(new Date());
-    }
+        long now = System.currentTimeMillis();
+        String cacheKey = hash(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedTokens.invalidate(cacheKey);
+        }
 
-    public String getUserNoFromToken(String token) {
         try {
             Claims claims = parseClaims(token);
-            
-            // 먼저 userNo 클레임 확인
-            Object userNoObj = claims.get(CLAIM_USER_NO);
-            if (userNoObj != null) {
-                return userNoObj.toString();
-            }
-            
-            // userNo가 없으면 advertiserNo 클레임 확인
-            Object advertiserNoObj = claims.get(CLAIM_ADVERTISER_NO);
-            if (advertiserNoObj != null) {
-                log.debug("Using advertiserNo as userNo: {}", advertiserNoObj);
-                return advertiserNoObj.toString();
+            Date exp = claims.getExpiration();
+            if (exp == null || exp.getTime() <= now) {
+                return null;
             }
-            
-            return null;
+            JwtClaims resolved = toJwtClaims(claims, exp.getTime());
+            verifiedTokens.put(cacheKey, resolved);
+            return resolved;
         } catch (JwtException | IllegalArgumentException e) {
-            log.error("Error extracting userNo from token: {}", e.getMessage());
+            log.debug("Invalid JWT token: {}", e.getMessage());
             return null;
         }
     }
 
+    public boolean validateToken(String token) {
+        return resolveClaims(token) != null;
+    }
+
+    public String getUserNoFromToken(String token) {
+        JwtClaims claims = resolveClaims(token);
+        return claims == null ? null : claims.userNo();
+    }
+
     public String getUserTypeFromToken(String token) {
-        try {
-            Claims claims = parseClaims(token);
-            return claims.get(CLAIM_USER_TYPE, String.class);
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("Error extracting userType from token: {}", e.getMessage());
-            return null;
-        }
+        JwtClaims claims = resolveClaims(token);
+        return claims == null ? null : claims.userType();
     }
 
     /**
      * 토큰에서 advertiserNo를 직접 추출하는 메서드
      */
     public String getAdvertiserNoFromToken(String token) {
-        try {
-            Claims claims = parseClaims(token);
-            Object advertiserNoObj = claims.get(CLAIM_ADVERTISER_NO);
-            if (advertiserNoObj == null) {
-                return null;
+        JwtClaims claims = resolveClaims(token);
+        return claims == null ? null : claims.advertiserNo();
+    }
+
+    private Claims parseClaims(String token) {
+        return parser().parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 시크릿이 바뀌지 않는 한 키와 파서를 재사용한다.
+     * (설정 갱신으로 시크릿이 바뀌면 다시 만들고 캐시도 비운다)
+     */
+    private JwtParser parser() {
+        String secret = jwtConfig.getSecret().trim();
+        JwtParser current = parser;
+        if (current != null && secret.equals(parserSecret)) {
+            return current;
+        }
+        synchronized (this) {
+            if (parser == null || !secret.equals(parserSecret)) {
+                SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+                parser = Jwts.parser().verifyWith(key).build();
+                parserSecret = secret;
+                verifiedTokens.invalidateAll();
             }
-            return advertiserNoObj.toString();
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("Error extracting advertiserNo from token: {}", e.getMessage());
-            return null;
+            return parser;
+        }
+    }
+
+    private JwtClaims toJwtClaims(Claims claims, long expiresAtMillis) {
+        Object advertiserNoObj = claims.get(CLAIM_ADVERTISER_NO);
+        String advertiserNo = advertiserNoObj == null ? null : advertiserNoObj.toString();
+
+        // userNo 클레임이 없으면 advertiserNo 클레임을 사용
+        Object userNoObj = claims.get(CLAIM_USER_NO);
+        String userNo = userNoObj != null ? userNoObj.toString() : advertiserNo;
+
+        String userType = claims.get(CLAIM_USER_TYPE, String.class);
+        // 로그인 세션 ID (user-service 토큰에만 있음, 폐기 확인용)
+        String sessionId = claims.get(CLAIM_SESSION_ID, String.class);
+        return new JwtClaims(userNo, userType, advertiserNo, sessionId, expiresAtMillis);
+    }
+
+    /**
+     * 원본 토큰을 메모리에 보관하지 않도록 SHA-256 다이제스트를 캐시 키로 쓴다.
+     */
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class ClaimsExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims value, long currentTime) {
+            long untilExpiry = value.expiresAtMillis() - System.currentTimeMillis();
+            long ttl = Math.max(0, Math.min(untilExpiry, CACHE_MAX_TTL_MILLIS));
+            return TimeUnit.MILLISECONDS.toNanos(ttl);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+package site.petful.gatewayservice.util;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * user-service가 폐기한 로그인 세션(sid) 목록을 블룸 필터로 들고 있다가 Access 토큰을 거른다.
+ * - 스냅샷: Redis "auth:revoked-sessions"(sid → Access 토큰 만료 시각)에서 아직 유효한 항목만 읽어 주기적으로 새로 만든다
+ * - 실시간: "auth:session-revoked" 채널로 온 sid를 현재 필터에 바로 더한다
+ * 필터에 없으면 Redis를 거치지 않고 통과하고, 있을 때만 정렬 세트에서 정확히 확인한다 (거짓 양성 처리).
+ */
+@Slf4j
+@Component
+public class RevokedSessionRegistry {
+
+    static final String REVOKED_SESSIONS_KEY = "auth:revoked-sessions";
+    static final String REVOKED_CHANNEL = "auth:session-revoked";
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Duration snapshotInterval;
+    private final Disposable.Composite subscriptions = Disposables.composite();
+    // 스냅샷을 만드는 동안 채널로 들어온 sid가 새 필터에서 빠지지 않도록 잠깐 보관 (sid → 받은 시각)
+    private final Map<String, Long> recentlyRevoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter = BloomFilter.create(MIN_CAPACITY, FALSE_POSITIVE_RATE);
+
+    public RevokedSessionRegistry(ReactiveStringRedisTemplate redisTemplate,
+                                  @Value("${auth.revocation.enabled:true}") boolean enabled,
+                                  @Value("${auth.revocation.snapshot-interval-seconds:30}") long snapshotIntervalSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.snapshotInterval = Duration.ofSeconds(snapshotIntervalSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("[RevokedSessionRegistry] 세션 폐기 확인 비활성화");
+            return;
+        }
+        subscriptions.add(redisTemplate.listenToChannel(REVOKED_CHANNEL)
+                .doOnNext(message -> onRevoked(message.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("⚠️ [RevokedSessionRegistry] 채널 구독 재시도: {}",
+                                signal.failure().getMessage())))
+                .subscribe());
+        subscriptions.add(Flux.interval(Duration.ZERO, snapshotInterval)
+                .concatMap(tick -> reloadSnapshot()
+                        .onErrorResume(e -> {
+                            // 이전 필터를 그대로 쓰고 다음 주기에 다시 시도
+                            log.warn("⚠️ [RevokedSessionRegistry] 스냅샷 갱신 실패: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe());
+        log.info("✅ [RevokedSessionRegistry] 세션 폐기 스냅샷 구독 시작 (주기 {}초)", snapshotInterval.toSeconds());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.dispose();
+    }
+
+    /**
+     * 세션이 폐기됐는지 확인한다. 대부분은 블룸 필터에서 바로 false로 끝난다.
+     */
+    public Mono<Boolean> isRevoked(String sessionId) {
+        if (!enabled || sessionId == null || !filter.mightContain(sessionId)) {
+            return Mono.just(false);
+        }
+        long now = System.currentTimeMillis();
+        return redisTemplate.opsForZSet().score(REVOKED_SESSIONS_KEY, sessionId)
+                .map(until -> until > now)
+                .defaultIfEmpty(false)
+                // 필터에 걸린 토큰은 확인이 안 되면 폐기된 것으로 본다
+                .onErrorResume(e -> {
+                    log.warn("⚠️ [RevokedSessionRegistry] 폐기 여부 확인 실패, 거부 처리 - sid: {}, error: {}",
+                            sessionId, e.getMessage());
+                    return Mono.just(true);
+                });
+    }
+
+    /** 빠른 사전 확인 (필터에 없으면 확실히 폐기되지 않은 세션) */
+    public boolean mightBeRevoked(String sessionId) {
+        return enabled && sessionId != null && filter.mightContain(sessionId);
+    }
+
+    private void onRevoked(String message) {
+        long now = System.currentTimeMillis();
+        for (String sessionId : message.split(",")) {
+            if (sessionId.isBlank()) {
+                continue;
+            }
+            // 보관 먼저, 필터는 그 다음에 읽어야 스냅샷 교체와 겹쳐도 빠지지 않는다
+            recentlyRevoked.put(sessionId, now);
+            filter.add(sessionId);
+        }
+    }
+
+    private Mono<Void> reloadSnapshot() {
+        long startedAt = System.currentTimeMillis();
+        Range<Double> alive = Range.of(Range.Bound.exclusive((double) startedAt), Range.Bound.unbounded());
+        return redisTemplate.opsForZSet().rangeByScore(REVOKED_SESSIONS_KEY, alive)
+                .collectList()
+                .doOnNext(sessionIds -> swap(sessionIds, startedAt))
+                .then();
+    }
+
+    private void swap(List<String> sessionIds, long startedAt) {
+        BloomFilter next = BloomFilter.create(Math.max(MIN_CAPACITY, sessionIds.size() * 2), FALSE_POSITIVE_RATE);
+        sessionIds.forEach(next::add);
+        filter = next;
+        recentlyRevoked.keySet().forEach(next::add);
+        // 스냅샷 조회를 시작하기 전에 받은 것은 스냅샷에 들어 있다
+        recentlyRevoked.values().removeIf(receivedAt -> receivedAt < startedAt);
+        log.debug("[RevokedSessionRegistry] 스냅샷 갱신 - 폐기 세션 {}개, 필터 {}바이트", sessionIds.size(), next.sizeInBytes());
+    }
+}
@@ -0,0 +1,117 @@
+package site.petful.healthservice.medical.medication.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import site.petful.healthservice.medical.medication.dto.PrescriptionParsedDTO;
+import site.petful.healthservice.medical.medication.ocr.ClovaOcrClient;
+import site.petful.healthservice.medical.medication.ocr.StubClovaOcrServer;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 처방전 사진 업로드 N건의 OCR 처리 시간 (스텁 Clova, 호출당 200ms).
+ * - distinctImages = uploads: 모두 다른 사진 → 제한된 풀(4개)에서 Clova 호출
+ * - distinctImages < uploads: 같은 사진 재업로드 → 캐시/처리 중 결과 공유로 Clova 호출은 distinctImages번
+ * 반복마다 결과 캐시를 새로 만든다. clovaCalls = 스텁이 받은 요청 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrescriptionOcrBenchmark {
+
+    @Param({"40"})
+    public int uploads;
+
+    @Param({"40", "4"})
+    public int distinctImages;
+
+    private StubClovaOcrServer stub;
+    private ClovaOcrClient client;
+    private MedicationOCRService service;
+    private List<byte[]> images;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Calls {
+        public long clovaCalls;
+    }
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws Exception {
+        stub = new StubClovaOcrServer(0, 200);
+        client = new ClovaOcrClient();
+        set(client, "invokeUrl", stub.invokeUrl());
+        set(client, "secretKey", "bench");
+        set(client, "templateId", "1");
+        set(client, "connectTimeout", 5000);
+        set(client, "readTimeout", 10000);
+        client.init();
+
+        Random random = new Random(42);
+        images = new ArrayList<>(distinctImages);
+        for (int i = 0; i < distinctImages; i++) {
+            byte[] image = new byte[512 * 1024];
+            random.nextBytes(image);
+            images.add(image);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() throws Exception {
+        service = new MedicationOCRService(client, new MedicationFrequencyService(), new SimpleMeterRegistry());
+        set(service, "ocrWorkers", 4);
+        set(service, "ocrQueueCapacity", 1000);
+        set(service, "ocrTimeoutMs", 60000L);
+        set(service, "cacheMaxSize", 1000L);
+        set(service, "cacheTtlHours", 1L);
+        set(service, "maxFileSize", 10485760L);
+        service.init();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        service.shutdown();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        stub.close();
+    }
+
+    @Benchmark
+    public int uploadAll(Calls calls) {
+        long before = stub.received();
+        List<CompletableFuture<PrescriptionParsedDTO>> futures = new ArrayList<>(uploads);
+        for (int i = 0; i < uploads; i++) {
+            byte[] image = images.get(i % distinctImages);
+            futures.add(service.recognize(MedicationOCRService.contentHash(image), image, "prescription.jpg"));
+        }
+        int medications = 0;
+        for (CompletableFuture<PrescriptionParsedDTO> future : futures) {
+            medications += future.join().getMedications().size();
+        }
+        calls.clovaCalls += stub.received() - before;
+        return medications;
+    }
+
+    private static void set(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,159 @@
+package site.petful.healthservice.medical.schedule.recurrence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import site.petful.healthservice.medical.schedule.enums.RecurrenceType;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 2년치 매일 투약(하루 2회) 일정의 월간 캘린더 조회 시간 (H2 인메모리).
+ * - materializedRows: 발생일마다 행을 저장하고 월 구간을 start_date 범위로 조회
+ * - seriesExpansion: 시리즈 한 행을 구간 겹침으로 조회하고 RecurrenceRule로 발생을 펼친다
+ * 사용자는 매 호출마다 무작위로 고르고, 조회 월은 2년 중 가운데 달이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleMonthViewBenchmark {
+
+    private static final LocalDate SERIES_START = LocalDate.of(2025, 1, 1);
+    private static final int DAYS = 730;
+    private static final String TIMES = "08:00,20:00";
+
+    @Param({"200"})
+    public int users;
+
+    private Connection connection;
+    private PreparedStatement materializedQuery;
+    private PreparedStatement seriesQuery;
+    private LocalDate monthFrom;
+    private LocalDate monthTo;
+
+    private record Occurrence(long scheduleNo, LocalDate date, LocalTime time, String title) {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // jmh jar에서는 드라이버 서비스 파일이 MySQL 것으로 덮이므로 직접 등록
+        Class.forName("org.h2.Driver");
+        connection = DriverManager.getConnection("jdbc:h2:mem:month_view;DB_CLOSE_DELAY=-1");
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TABLE schedule_row (schedule_no BIGINT PRIMARY KEY, user_no BIGINT, deleted BOOLEAN,"
+                    + " title VARCHAR(255), start_date TIMESTAMP, times VARCHAR(255))");
+            st.execute("CREATE INDEX idx_row_user_start ON schedule_row (user_no, deleted, start_date)");
+            st.execute("CREATE TABLE schedule_series (schedule_no BIGINT PRIMARY KEY, user_no BIGINT, deleted BOOLEAN,"
+                    + " title VARCHAR(255), start_date TIMESTAMP, recurrence_type VARCHAR(20),"
+                    + " recurrence_interval INT, recurrence_end_date TIMESTAMP, times VARCHAR(255))");
+            st.execute("CREATE INDEX idx_series_user_start ON schedule_series (user_no, deleted, start_date)");
+        }
+
+        long id = 1;
+        try (PreparedStatement rows = connection.prepareStatement(
+                "INSERT INTO schedule_row VALUES (?, ?, FALSE, '아침저녁 투약', ?, '" + TIMES + "')");
+             PreparedStatement series = connection.prepareStatement(
+                     "INSERT INTO schedule_series VALUES (?, ?, FALSE, '아침저녁 투약', ?, 'DAILY', 1, ?, '" + TIMES + "')")) {
+            for (long user = 1; user <= users; user++) {
+                for (int day = 0; day < DAYS; day++) {
+                    rows.setLong(1, id++);
+                    rows.setLong(2, user);
+                    rows.setTimestamp(3, Timestamp.valueOf(SERIES_START.plusDays(day).atTime(8, 0)));
+                    rows.addBatch();
+                }
+                rows.executeBatch();
+                series.setLong(1, user);
+                series.setLong(2, user);
+                series.setTimestamp(3, Timestamp.valueOf(SERIES_START.atTime(8, 0)));
+                series.setTimestamp(4, Timestamp.valueOf(SERIES_START.plusDays(DAYS - 1).atTime(8, 0)));
+                series.executeUpdate();
+            }
+        }
+
+        materializedQuery = connection.prepareStatement(
+                "SELECT schedule_no, title, start_date, times FROM schedule_row"
+                        + " WHERE user_no = ? AND deleted = FALSE AND start_date >= ? AND start_date <= ?"
+                        + " ORDER BY start_date");
+        seriesQuery = connection.prepareStatement(
+                "SELECT schedule_no, title, start_date, recurrence_type, recurrence_interval, recurrence_end_date, times"
+                        + " FROM schedule_series WHERE user_no = ? AND deleted = FALSE AND start_date <= ?"
+                        + " AND (recurrence_end_date IS NULL OR recurrence_end_date >= ?) ORDER BY start_date");
+
+        monthFrom = SERIES_START.plusMonths(12);
+        monthTo = monthFrom.plusMonths(1).minusDays(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Benchmark
+    public void materializedRows(Blackhole bh) throws Exception {
+        materializedQuery.setLong(1, randomUser());
+        materializedQuery.setTimestamp(2, Timestamp.valueOf(monthFrom.atStartOfDay()));
+        materializedQuery.setTimestamp(3, Timestamp.valueOf(monthTo.atTime(LocalTime.MAX)));
+        List<Occurrence> result = new ArrayList<>();
+        try (ResultSet rs = materializedQuery.executeQuery()) {
+            while (rs.next()) {
+                long no = rs.getLong(1);
+                String title = rs.getString(2);
+                LocalDate date = rs.getTimestamp(3).toLocalDateTime().toLocalDate();
+                for (String time : rs.getString(4).split(",")) {
+                    result.add(new Occurrence(no, date, LocalTime.parse(time.trim()), title));
+                }
+            }
+        }
+        bh.consume(result);
+    }
+
+    @Benchmark
+    public void seriesExpansion(Blackhole bh) throws Exception {
+        seriesQuery.setLong(1, randomUser());
+        seriesQuery.setTimestamp(2, Timestamp.valueOf(monthTo.atTime(LocalTime.MAX)));
+        seriesQuery.setTimestamp(3, Timestamp.valueOf(monthFrom.atStartOfDay()));
+        List<Occurrence> result = new ArrayList<>();
+        try (ResultSet rs = seriesQuery.executeQuery()) {
+            while (rs.next()) {
+                long no = rs.getLong(1);
+                String title = rs.getString(2);
+                LocalDateTime start = rs.getTimestamp(3).toLocalDateTime();
+                Timestamp until = rs.getTimestamp(6);
+                List<LocalTime> times = Arrays.stream(rs.getString(7).split(","))
+                        .map(String::trim).map(LocalTime::parse).toList();
+                RecurrenceRule rule = RecurrenceRule.of(RecurrenceType.valueOf(rs.getString(4)), rs.getInt(5),
+                        start.toLocalDate(), until == null ? null : until.toLocalDateTime().toLocalDate(), times);
+                OccurrenceCursor cursor = rule.occurrences(monthFrom, monthTo);
+                while (cursor.next()) {
+                    result.add(new Occurrence(no, cursor.date(), cursor.time(), title));
+                }
+            }
+        }
+        bh.consume(result);
+    }
+
+    private long randomUser() {
+        return ThreadLocalRandom.current().nextLong(1, users + 1);
+    }
+}
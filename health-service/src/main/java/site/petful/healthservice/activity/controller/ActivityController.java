@@ -127,18 +127,20 @@ public class ActivityController {
     /**
      * 활동 데이터 차트 시각화 조회
      * startDate, endDate가 없으면 당일 데이터만 조회
+     * period: DAY(기본), WEEK, MONTH - 여러 달 추이는 WEEK/MONTH로 조회
      */
     @GetMapping("/chart")
     public ResponseEntity<ApiResponse<ActivityChartResponse>> getActivityChart(
             @AuthenticationPrincipal String userNo,
             @RequestParam("petNo") Long petNo,
             @RequestParam(value = "startDate", required = false) String startDate,
-            @RequestParam(value = "endDate", required = false) String endDate
+            @RequestParam(value = "endDate", required = false) String endDate,
+            @RequestParam(value = "period", required = false) String period
     ) {
         try {
-            log.info("활동 차트 데이터 조회 요청: userNo={}, petNo={}, startDate={}, endDate={}", userNo, petNo, startDate, endDate);
+            log.info("활동 차트 데이터 조회 요청: userNo={}, petNo={}, startDate={}, endDate={}, period={}", userNo, petNo, startDate, endDate, period);
             
-            ActivityChartResponse response = activityService.getActivityChartData(Long.valueOf(userNo), petNo, startDate, endDate);
+            ActivityChartResponse response = activityService.getActivityChartData(Long.valueOf(userNo), petNo, startDate, endDate, period);
             
             log.info("활동 차트 데이터 조회 성공: userNo={}, petNo={}, 데이터 개수={}", 
                     userNo, petNo, response.getChartData().size());
@@ -0,0 +1,94 @@
+package site.petful.healthservice.activity.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import site.petful.healthservice.activity.enums.RollupPeriod;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 반려동물별 일/주/월 활동 합계. 활동 등록/수정 시 같은 트랜잭션에서 증분으로 갱신한다.
+ * 평균은 합계 / days(기록한 날 수)로 계산한다.
+ */
+@Entity
+@Table(name = "activity_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_activity_rollup",
+                columnNames = {"pet_no", "period_type", "period_start"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_no")
+    private Long rollupNo;
+
+    @Column(name = "pet_no", nullable = false)
+    private Long petNo;
+
+    @Column(name = "user_no", nullable = false)
+    private Long userNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 10)
+    private RollupPeriod periodType;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "days", nullable = false)
+    private Integer days;
+
+    @Column(name = "walking_distance_km", nullable = false)
+    private Double walkingDistanceKm;
+
+    @Column(name = "calories_burned", nullable = false)
+    private Long caloriesBurned;
+
+    @Column(name = "recommended_calories_burned", nullable = false)
+    private Long recommendedCaloriesBurned;
+
+    @Column(name = "calories_intake", nullable = false)
+    private Long caloriesIntake;
+
+    @Column(name = "recommended_calories_intake", nullable = false)
+    private Long recommendedCaloriesIntake;
+
+    @Column(name = "weight_kg", nullable = false)
+    private Double weightKg;
+
+    @Column(name = "sleep_hours", nullable = false)
+    private Double sleepHours;
+
+    @Column(name = "poop_count", nullable = false)
+    private Long poopCount;
+
+    @Column(name = "pee_count", nullable = false)
+    private Long peeCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 활동 하루치를 더한다 (백필용. 등록/수정 시 갱신은 ActivityRollupRepository.upsertDelta/addDelta)
+    public void accumulate(double walkingDistanceKm, long caloriesBurned, long recommendedCaloriesBurned,
+                           long caloriesIntake, long recommendedCaloriesIntake,
+                           double weightKg, double sleepHours, long poopCount, long peeCount) {
+        this.days += 1;
+        this.walkingDistanceKm += walkingDistanceKm;
+        this.caloriesBurned += caloriesBurned;
+        this.recommendedCaloriesBurned += recommendedCaloriesBurned;
+        this.caloriesIntake += caloriesIntake;
+        this.recommendedCaloriesIntake += recommendedCaloriesIntake;
+        this.weightKg += weightKg;
+        this.sleepHours += sleepHours;
+        this.poopCount += poopCount;
+        this.peeCount += peeCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,30 @@
+package site.petful.healthservice.activity.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 활동 집계 단위. 구간 시작일은 일/주(월요일)/월(1일) 기준이다.
+ */
+public enum RollupPeriod {
+    DAY,
+    WEEK,
+    MONTH;
+
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate endOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> startOf(date).plusDays(6);
+            case MONTH -> date.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+}
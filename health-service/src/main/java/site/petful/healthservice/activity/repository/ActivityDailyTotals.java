@@ -0,0 +1,23 @@
+package site.petful.healthservice.activity.repository;
+
+import site.petful.healthservice.activity.enums.ActivityLevel;
+
+import java.time.LocalDate;
+
+/**
+ * 활동 하루치 값 + 식사 섭취 칼로리 합계(SQL SUM). 집계 재계산에 쓴다.
+ */
+public interface ActivityDailyTotals {
+    Long getPetNo();
+    Long getUserNo();
+    LocalDate getActivityDate();
+    Double getWalkingDistanceKm();
+    ActivityLevel getActivityLevel();
+    Integer getCaloriesBurned();
+    Integer getRecommendedCaloriesBurned();
+    Double getWeightKg();
+    Double getSleepHours();
+    Integer getPoopCount();
+    Integer getPeeCount();
+    Long getCaloriesIntake();
+}
@@ -1,12 +1,14 @@
 package site.petful.healthservice.activity.repository;
 
 import site.petful.healthservice.activity.entity.Activity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +32,26 @@ public interface ActivityRepository extends JpaRepository<Activity, Long> {
     
     // 특정 날짜의 활동 데이터 조회
     Optional<Activity> findByPetNoAndActivityDate(Long petNo, LocalDate activityDate);
+
+    // 캘린더 표시용: 기록이 있는 날짜만 조회
+    @Query("SELECT a.activityDate FROM Activity a " +
+           "WHERE a.petNo = :petNo AND a.userNo = :userNo AND a.activityDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY a.activityDate ASC")
+    List<LocalDate> findActivityDates(@Param("petNo") Long petNo,
+                                      @Param("userNo") Long userNo,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+
+    // 집계 재계산용: 활동 기록이 있는 반려동물 번호를 순서대로 페이지 단위 조회
+    @Query("SELECT DISTINCT a.petNo FROM Activity a WHERE a.petNo > :afterPetNo ORDER BY a.petNo ASC")
+    List<Long> findPetNosAfter(@Param("afterPetNo") Long afterPetNo, Pageable pageable);
+
+    // 집계 재계산용: 활동 값과 식사 섭취 칼로리 합계를 한 번에 조회
+    @Query("SELECT a.petNo AS petNo, a.userNo AS userNo, a.activityDate AS activityDate, " +
+           "a.walkingDistanceKm AS walkingDistanceKm, a.activityLevel AS activityLevel, " +
+           "a.caloriesBurned AS caloriesBurned, a.recommendedCaloriesBurned AS recommendedCaloriesBurned, " +
+           "a.weightKg AS weightKg, a.sleepHours AS sleepHours, a.poopCount AS poopCount, a.peeCount AS peeCount, " +
+           "(SELECT COALESCE(SUM(m.consumedCalories), 0) FROM ActivityMeal m WHERE m.activity = a) AS caloriesIntake " +
+           "FROM Activity a WHERE a.petNo IN :petNos ORDER BY a.petNo ASC, a.activityDate ASC")
+    List<ActivityDailyTotals> findDailyTotals(@Param("petNos") Collection<Long> petNos);
 }
@@ -0,0 +1,105 @@
+package site.petful.healthservice.activity.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import site.petful.healthservice.activity.entity.ActivityRollup;
+import site.petful.healthservice.activity.enums.RollupPeriod;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ActivityRollupRepository extends JpaRepository<ActivityRollup, Long> {
+
+    // 구간 합계에 증감분을 더한다. 대상 행이 없으면 0을 돌려준다 (차감용. 더할 때는 upsertDelta)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ActivityRollup r SET " +
+           "r.days = r.days + :days, " +
+           "r.walkingDistanceKm = r.walkingDistanceKm + :walkingDistanceKm, " +
+           "r.caloriesBurned = r.caloriesBurned + :caloriesBurned, " +
+           "r.recommendedCaloriesBurned = r.recommendedCaloriesBurned + :recommendedCaloriesBurned, " +
+           "r.caloriesIntake = r.caloriesIntake + :caloriesIntake, " +
+           "r.recommendedCaloriesIntake = r.recommendedCaloriesIntake + :recommendedCaloriesIntake, " +
+           "r.weightKg = r.weightKg + :weightKg, " +
+           "r.sleepHours = r.sleepHours + :sleepHours, " +
+           "r.poopCount = r.poopCount + :poopCount, " +
+           "r.peeCount = r.peeCount + :peeCount, " +
+           "r.updatedAt = :now " +
+           "WHERE r.petNo = :petNo AND r.periodType = :periodType AND r.periodStart = :periodStart")
+    int addDelta(@Param("petNo") Long petNo,
+                 @Param("periodType") RollupPeriod periodType,
+                 @Param("periodStart") LocalDate periodStart,
+                 @Param("days") int days,
+                 @Param("walkingDistanceKm") double walkingDistanceKm,
+                 @Param("caloriesBurned") long caloriesBurned,
+                 @Param("recommendedCaloriesBurned") long recommendedCaloriesBurned,
+                 @Param("caloriesIntake") long caloriesIntake,
+                 @Param("recommendedCaloriesIntake") long recommendedCaloriesIntake,
+                 @Param("weightKg") double weightKg,
+                 @Param("sleepHours") double sleepHours,
+                 @Param("poopCount") long poopCount,
+                 @Param("peeCount") long peeCount,
+                 @Param("now") LocalDateTime now);
+
+    // 구간 행이 없으면 만들고, 있으면 증감분을 더한다 (uk_activity_rollup 기준 MySQL upsert → 동시 첫 등록에도 중복 키 오류 없음)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO activity_rollup (pet_no, user_no, period_type, period_start, days, " +
+                   "walking_distance_km, calories_burned, recommended_calories_burned, calories_intake, " +
+                   "recommended_calories_intake, weight_kg, sleep_hours, poop_count, pee_count, updated_at) " +
+                   "VALUES (:petNo, :userNo, :periodType, :periodStart, :days, :walkingDistanceKm, :caloriesBurned, " +
+                   ":recommendedCaloriesBurned, :caloriesIntake, :recommendedCaloriesIntake, :weightKg, :sleepHours, " +
+                   ":poopCount, :peeCount, :now) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "days = days + :days, " +
+                   "walking_distance_km = walking_distance_km + :walkingDistanceKm, " +
+                   "calories_burned = calories_burned + :caloriesBurned, " +
+                   "recommended_calories_burned = recommended_calories_burned + :recommendedCaloriesBurned, " +
+                   "calories_intake = calories_intake + :caloriesIntake, " +
+                   "recommended_calories_intake = recommended_calories_intake + :recommendedCaloriesIntake, " +
+                   "weight_kg = weight_kg + :weightKg, " +
+                   "sleep_hours = sleep_hours + :sleepHours, " +
+                   "poop_count = poop_count + :poopCount, " +
+                   "pee_count = pee_count + :peeCount, " +
+                   "updated_at = :now",
+           nativeQuery = true)
+    int upsertDelta(@Param("petNo") Long petNo,
+                    @Param("userNo") Long userNo,
+                    @Param("periodType") String periodType,
+                    @Param("periodStart") LocalDate periodStart,
+                    @Param("days") int days,
+                    @Param("walkingDistanceKm") double walkingDistanceKm,
+                    @Param("caloriesBurned") long caloriesBurned,
+                    @Param("recommendedCaloriesBurned") long recommendedCaloriesBurned,
+                    @Param("caloriesIntake") long caloriesIntake,
+                    @Param("recommendedCaloriesIntake") long recommendedCaloriesIntake,
+                    @Param("weightKg") double weightKg,
+                    @Param("sleepHours") double sleepHours,
+                    @Param("poopCount") long poopCount,
+                    @Param("peeCount") long peeCount,
+                    @Param("now") LocalDateTime now);
+
+    // 백필: 반려동물 단위로 구간 행을 지우고 다시 만든다 (삭제로 잡은 행/갭 잠금이 동시 증분 갱신을 재계산 뒤로 미룬다)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ActivityRollup r WHERE r.petNo IN :petNos")
+    int deleteByPetNos(@Param("petNos") Collection<Long> petNos);
+
+    // 차트/요약 조회 (uk_activity_rollup 인덱스 범위 스캔)
+    @Query("SELECT r.periodStart AS periodStart, r.days AS days, r.walkingDistanceKm AS walkingDistanceKm, " +
+           "r.caloriesBurned AS caloriesBurned, r.recommendedCaloriesBurned AS recommendedCaloriesBurned, " +
+           "r.caloriesIntake AS caloriesIntake, r.recommendedCaloriesIntake AS recommendedCaloriesIntake, " +
+           "r.weightKg AS weightKg, r.sleepHours AS sleepHours, r.poopCount AS poopCount, r.peeCount AS peeCount " +
+           "FROM ActivityRollup r " +
+           "WHERE r.petNo = :petNo AND r.userNo = :userNo AND r.periodType = :periodType " +
+           "AND r.periodStart BETWEEN :from AND :to AND r.days > 0 " +
+           "ORDER BY r.periodStart ASC")
+    List<ActivityRollupView> findRollups(@Param("petNo") Long petNo,
+                                         @Param("userNo") Long userNo,
+                                         @Param("periodType") RollupPeriod periodType,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+}
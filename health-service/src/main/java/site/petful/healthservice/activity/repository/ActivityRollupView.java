@@ -0,0 +1,20 @@
+package site.petful.healthservice.activity.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 차트/요약 조회용 집계 행 (activity_rollup 프로젝션)
+ */
+public interface ActivityRollupView {
+    LocalDate getPeriodStart();
+    Integer getDays();
+    Double getWalkingDistanceKm();
+    Long getCaloriesBurned();
+    Long getRecommendedCaloriesBurned();
+    Long getCaloriesIntake();
+    Long getRecommendedCaloriesIntake();
+    Double getWeightKg();
+    Double getSleepHours();
+    Long getPoopCount();
+    Long getPeeCount();
+}
@@ -0,0 +1,96 @@
+package site.petful.healthservice.activity.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.petful.healthservice.activity.entity.ActivityRollup;
+import site.petful.healthservice.activity.repository.ActivityRepository;
+import site.petful.healthservice.activity.repository.ActivityRollupRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * activity_rollup 백필/재계산.
+ * 반려동물 번호 순으로 chunk 단위로 읽고, chunk마다 한 트랜잭션에서 구간 행을 지운 뒤 활동 데이터로 다시 만든다.
+ * 먼저 지우면서 잡은 잠금 때문에 동시에 들어온 활동 등록/수정의 증분 갱신은 재계산이 커밋된 뒤에 더해진다.
+ * 몇 번을 돌려도 결과가 같아서 중간에 끊긴 백필도 다시 돌리면 된다.
+ * (도입 직후 / 집계가 어긋났을 때 activity.rollup.backfill-on-startup=true로 한 번 실행)
+ */
+@Slf4j
+@Component
+public class ActivityRollupBackfill {
+
+    private final ActivityRepository activityRepository;
+    private final ActivityRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${activity.rollup.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @Value("${activity.rollup.backfill-chunk-size:200}")
+    private int chunkSize;
+
+    public ActivityRollupBackfill(ActivityRepository activityRepository,
+                                  ActivityRollupRepository rollupRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.activityRepository = activityRepository;
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.error("❌ [ActivityRollupBackfill] 활동 집계 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 다시 만든 집계 행 수
+     */
+    public int backfill() {
+        long afterPetNo = 0L;
+        int pets = 0;
+        int rollups = 0;
+        while (true) {
+            long from = afterPetNo;
+            ChunkResult result = transactionTemplate.execute(status -> backfillChunk(from));
+            if (result == null || result.pets() == 0) {
+                break;
+            }
+            pets += result.pets();
+            rollups += result.rollups();
+            afterPetNo = result.lastPetNo();
+            if (result.pets() < chunkSize) {
+                break;
+            }
+        }
+        log.info("✅ [ActivityRollupBackfill] 활동 집계 백필 완료: 반려동물 {}마리 → 집계 {}행", pets, rollups);
+        return rollups;
+    }
+
+    private record ChunkResult(int pets, int rollups, long lastPetNo) {
+    }
+
+    private ChunkResult backfillChunk(long afterPetNo) {
+        List<Long> petNos = activityRepository.findPetNosAfter(afterPetNo, PageRequest.of(0, chunkSize));
+        if (petNos.isEmpty()) {
+            return new ChunkResult(0, 0, afterPetNo);
+        }
+        rollupRepository.deleteByPetNos(petNos);
+        Collection<ActivityRollup> buckets = ActivityRollupService.buckets(activityRepository.findDailyTotals(petNos));
+        rollupRepository.saveAll(buckets);
+        return new ChunkResult(petNos.size(), buckets.size(), petNos.get(petNos.size() - 1));
+    }
+}
@@ -0,0 +1,160 @@
+package site.petful.healthservice.activity.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import site.petful.healthservice.activity.entity.Activity;
+import site.petful.healthservice.activity.entity.ActivityMeal;
+import site.petful.healthservice.activity.entity.ActivityRollup;
+import site.petful.healthservice.activity.enums.ActivityLevel;
+import site.petful.healthservice.activity.enums.RollupPeriod;
+import site.petful.healthservice.activity.repository.ActivityDailyTotals;
+import site.petful.healthservice.activity.repository.ActivityRollupRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * activity_rollup 갱신.
+ * 활동 한 건의 기여분(Contribution)을 일/주/월 구간에 더하거나 빼며, 호출한 쪽 트랜잭션 안에서 실행된다.
+ * 더할 때는 upsert라 같은 구간의 첫 등록이 동시에 와도 중복 키로 실패하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityRollupService {
+
+    private final ActivityRollupRepository rollupRepository;
+
+    /**
+     * 활동 한 건이 집계에 더하는 값
+     */
+    public record Contribution(Long petNo, Long userNo, LocalDate date,
+                               double walkingDistanceKm, long caloriesBurned, long recommendedCaloriesBurned,
+                               long caloriesIntake, long recommendedCaloriesIntake,
+                               double weightKg, double sleepHours, long poopCount, long peeCount) {
+
+        public static Contribution of(Activity activity) {
+            long intake = 0;
+            for (ActivityMeal meal : activity.getMeals()) {
+                intake += meal.getConsumedCalories() != null ? meal.getConsumedCalories() : 0;
+            }
+            return new Contribution(activity.getPetNo(), activity.getUserNo(), activity.getActivityDate(),
+                    nz(activity.getWalkingDistanceKm()), nz(activity.getCaloriesBurned()),
+                    nz(activity.getRecommendedCaloriesBurned()), intake,
+                    recommendedIntake(activity.getWeightKg(), activity.getActivityLevel()),
+                    nz(activity.getWeightKg()), nz(activity.getSleepHours()),
+                    nz(activity.getPoopCount()), nz(activity.getPeeCount()));
+        }
+
+        static Contribution of(ActivityDailyTotals row) {
+            return new Contribution(row.getPetNo(), row.getUserNo(), row.getActivityDate(),
+                    nz(row.getWalkingDistanceKm()), nz(row.getCaloriesBurned()),
+                    nz(row.getRecommendedCaloriesBurned()), row.getCaloriesIntake() != null ? row.getCaloriesIntake() : 0,
+                    recommendedIntake(row.getWeightKg(), row.getActivityLevel()),
+                    nz(row.getWeightKg()), nz(row.getSleepHours()),
+                    nz(row.getPoopCount()), nz(row.getPeeCount()));
+        }
+
+        // 권장 섭취 칼로리 = 무게(kg) × 활동계수 × 100 (ActivityService와 같은 식)
+        private static long recommendedIntake(Double weightKg, ActivityLevel level) {
+            if (weightKg == null || level == null) {
+                return 0;
+            }
+            return Math.round(weightKg * level.getValue() * 100);
+        }
+
+        private static double nz(Double value) {
+            return value != null ? value : 0.0;
+        }
+
+        private static long nz(Integer value) {
+            return value != null ? value : 0;
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Contribution contribution) {
+        apply(contribution, 1);
+    }
+
+    /**
+     * 수정: 수정 전 기여분을 빼고 수정 후 기여분을 더한다. (날짜가 바뀌면 다른 구간으로 옮겨진다)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replace(Contribution before, Contribution after) {
+        apply(before, -1);
+        apply(after, 1);
+    }
+
+    /**
+     * 활동 하루치 값들을 일/주/월 구간 행으로 모은다. (백필 재계산용)
+     */
+    static Collection<ActivityRollup> buckets(List<ActivityDailyTotals> rows) {
+        Map<String, ActivityRollup> buckets = new LinkedHashMap<>();
+        for (ActivityDailyTotals row : rows) {
+            Contribution c = Contribution.of(row);
+            for (RollupPeriod period : RollupPeriod.values()) {
+                LocalDate start = period.startOf(c.date());
+                accumulate(buckets.computeIfAbsent(c.petNo() + ":" + period + ":" + start,
+                        key -> emptyBucket(c.petNo(), c.userNo(), period, start)), c);
+            }
+        }
+        return buckets.values();
+    }
+
+    private void apply(Contribution c, int sign) {
+        LocalDateTime now = LocalDateTime.now();
+        for (RollupPeriod period : RollupPeriod.values()) {
+            LocalDate start = period.startOf(c.date());
+            if (sign > 0) {
+                rollupRepository.upsertDelta(c.petNo(), c.userNo(), period.name(), start, 1,
+                        c.walkingDistanceKm(), c.caloriesBurned(), c.recommendedCaloriesBurned(),
+                        c.caloriesIntake(), c.recommendedCaloriesIntake(),
+                        c.weightKg(), c.sleepHours(), c.poopCount(), c.peeCount(), now);
+                continue;
+            }
+            int updated = rollupRepository.addDelta(c.petNo(), period, start, -1,
+                    -c.walkingDistanceKm(), -c.caloriesBurned(), -c.recommendedCaloriesBurned(),
+                    -c.caloriesIntake(), -c.recommendedCaloriesIntake(),
+                    -c.weightKg(), -c.sleepHours(), -c.poopCount(), -c.peeCount(), now);
+            if (updated == 0) {
+                // 뺄 구간 행이 없다 = 집계가 이미 어긋났다. 차감은 건너뛰고 백필(ActivityRollupBackfill)로 다시 맞춘다
+                log.warn("⚠️ [ActivityRollupService] 차감할 집계 행 없음 (재계산 필요): petNo={}, period={}, start={}",
+                        c.petNo(), period, start);
+            }
+        }
+    }
+
+    private static ActivityRollup emptyBucket(Long petNo, Long userNo, RollupPeriod period, LocalDate start) {
+        return ActivityRollup.builder()
+                .petNo(petNo)
+                .userNo(userNo)
+                .periodType(period)
+                .periodStart(start)
+                .days(0)
+                .walkingDistanceKm(0.0)
+                .caloriesBurned(0L)
+                .recommendedCaloriesBurned(0L)
+                .caloriesIntake(0L)
+                .recommendedCaloriesIntake(0L)
+                .weightKg(0.0)
+                .sleepHours(0.0)
+                .poopCount(0L)
+                .peeCount(0L)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static void accumulate(ActivityRollup bucket, Contribution c) {
+        bucket.accumulate(c.walkingDistanceKm(), c.caloriesBurned(), c.recommendedCaloriesBurned(),
+                c.caloriesIntake(), c.recommendedCaloriesIntake(),
+                c.weightKg(), c.sleepHours(), c.poopCount(), c.peeCount());
+    }
+}
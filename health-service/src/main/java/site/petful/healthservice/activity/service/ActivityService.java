@@ -8,7 +8,11 @@ import site.petful.healthservice.activity.dto.ActivityChartResponse;
 import site.petful.healthservice.activity.entity.Activity;
 import site.petful.healthservice.activity.entity.ActivityMeal;
 import site.petful.healthservice.activity.enums.ActivityLevel;
+import site.petful.healthservice.activity.enums.RollupPeriod;
 import site.petful.healthservice.activity.repository.ActivityRepository;
+import site.petful.healthservice.activity.repository.ActivityRollupRepository;
+import site.petful.healthservice.activity.repository.ActivityRollupView;
+import site.petful.healthservice.activity.service.ActivityRollupService.Contribution;
 import site.petful.healthservice.common.exception.BusinessException;
 import site.petful.healthservice.common.response.ErrorCode;
 import org.springframework.stereotype.Service;
@@ -21,6 +25,8 @@ import site.petful.healthservice.activity.dto.ActivityUpdateResponse;
 
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
@@ -33,7 +39,14 @@ import java.util.Map;
 public class ActivityService {
     
     private final ActivityRepository activityRepository;
+    private final ActivityRollupRepository activityRollupRepository;
+    private final ActivityRollupService activityRollupService;
     private final PetServiceClient petServiceClient;
+
+    // 차트 조회 최대 구간 (집계 단위별)
+    private static final long MAX_CHART_DAYS = 92;
+    private static final long MAX_CHART_WEEKS = 53;
+    private static final long MAX_CHART_MONTHS = 60;
     
     @Transactional
     public Long createActivity(Long userNo, ActivityRequest request) {
@@ -83,6 +96,7 @@ public class ActivityService {
         });
         
         Activity savedActivity = activityRepository.save(activity);
+        activityRollupService.add(Contribution.of(savedActivity));
         
         return savedActivity.getActivityNo();
     }
@@ -148,6 +162,7 @@ public class ActivityService {
 
         // 수정 전 데이터 저장
         ActivityUpdateResponse.ActivityData beforeData = convertToActivityData(activity);
+        Contribution beforeContribution = Contribution.of(activity);
 
         // 기본 필드 부분 수정
         if (request.getActivityDate() != null) {
@@ -200,6 +215,7 @@ public class ActivityService {
 
         // 활동 데이터 저장
         Activity updatedActivity = activityRepository.save(activity);
+        activityRollupService.replace(beforeContribution, Contribution.of(updatedActivity));
         log.info("활동 데이터 부분 수정 완료: activityNo={}", activityNo);
 
         // 수정 후 데이터 생성
@@ -327,92 +343,150 @@ public class ActivityService {
         LocalDate startDate = LocalDate.of(year, month, 1);
         LocalDate endDate = startDate.plusMonths(1).minusDays(1);
         
-        List<Activity> activities = activityRepository.findByPetNoAndDateRange(petNo, startDate, endDate);
-        
-        // 사용자 권한 확인 및 날짜만 추출
-        return activities.stream()
-                .filter(activity -> activity.getUserNo().equals(userNo))
-                .map(activity -> activity.getActivityDate().toString())
-                .sorted()
+        // 날짜만 조회 (엔티티/식사 로딩 없음)
+        return activityRepository.findActivityDates(petNo, userNo, startDate, endDate).stream()
+                .map(LocalDate::toString)
                 .collect(Collectors.toList());
     }
     
     /**
      * 차트 데이터 조회
      * startDate, endDate가 없으면 당일 데이터만 조회
+     * period(DAY/WEEK/MONTH)별 activity_rollup을 한 번 조회해 차트와 요약 통계를 함께 만든다.
+     * WEEK/MONTH는 구간을 주(월요일 시작)/월 단위로 맞추고, 차트 값은 기록한 날 기준 하루 평균이다.
      */
-    public ActivityChartResponse getActivityChartData(Long userNo, Long petNo, String startDateStr, String endDateStr) {
+    public ActivityChartResponse getActivityChartData(Long userNo, Long petNo, String startDateStr, String endDateStr,
+                                                      String periodStr) {
+        RollupPeriod period;
         try {
-            LocalDate startDate;
-            LocalDate endDate;
-
-            // startDate, endDate가 제공되지 않은 경우 당일 데이터만 조회
-            if (startDateStr == null || endDateStr == null) {
-                LocalDate today = LocalDate.now();
-                startDate = today;
-                endDate = today;
-            } else {
+            period = (periodStr == null || periodStr.isBlank()) ? RollupPeriod.DAY : RollupPeriod.valueOf(periodStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.PERIOD_TYPE_INVALID, "유효하지 않은 기간 타입입니다: " + periodStr);
+        }
+
+        LocalDate startDate;
+        LocalDate endDate;
+
+        // startDate, endDate가 제공되지 않은 경우 당일 데이터만 조회
+        if (startDateStr == null || endDateStr == null) {
+            LocalDate today = LocalDate.now();
+            startDate = today;
+            endDate = today;
+        } else {
+            try {
                 startDate = LocalDate.parse(startDateStr);
                 endDate = LocalDate.parse(endDateStr);
-                
-                // 날짜 유효성 검증
-                if (startDate.isAfter(endDate)) {
-                    throw new BusinessException(ErrorCode.DATE_RANGE_INVALID, "시작일은 종료일보다 이전이어야 합니다.");
-                }
-                
-                // 최대 7일 제한
-                if (startDate.until(endDate).getDays() > 7) {
-                    throw new BusinessException(ErrorCode.DATE_RANGE_INVALID, "최대 7일까지 조회 가능합니다.");
-                }
+            } catch (DateTimeParseException e) {
+                throw new BusinessException(ErrorCode.DATE_RANGE_INVALID, "날짜 형식이 올바르지 않습니다.");
+            }
+
+            // 날짜 유효성 검증
+            if (startDate.isAfter(endDate)) {
+                throw new BusinessException(ErrorCode.DATE_RANGE_INVALID, "시작일은 종료일보다 이전이어야 합니다.");
             }
-            
-            List<Activity> activities = activityRepository.findByPetNoAndDateRange(petNo, startDate, endDate);
-            
-            // 사용자 권한 확인
-            activities = activities.stream()
-                    .filter(activity -> activity.getUserNo().equals(userNo))
-                    .collect(Collectors.toList());
-            
-            List<ActivityChartResponse.ChartData> chartDataList = activities.stream()
-                    .map(activity -> convertToChartData(activity))
-                    .sorted((a, b) -> a.getDate().compareTo(b.getDate()))
-                    .collect(Collectors.toList());
-            
-            // 요약 통계 계산
-            ActivityChartResponse.SummaryStats summaryStats = calculateSummaryStats(activities);
-            
-            return ActivityChartResponse.builder()
-                    .chartData(chartDataList)
-                    .summaryStats(summaryStats)
-                    .build();
-                    
-        } catch (BusinessException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("활동 차트 데이터 조회 중 오류 발생: userNo={}, petNo={}, startDate={}, endDate={}", 
-                     userNo, petNo, startDateStr, endDateStr, e);
-            throw new BusinessException(ErrorCode.SYSTEM_ERROR, "활동 차트 데이터 조회 중 오류가 발생했습니다.");
         }
+
+        LocalDate from = period.startOf(startDate);
+        LocalDate to = period.startOf(endDate);
+        validateChartRange(period, from, to);
+
+        List<ActivityRollupView> rows = activityRollupRepository.findRollups(petNo, userNo, period, from, to);
+
+        List<ActivityChartResponse.ChartData> chartDataList = new ArrayList<>(rows.size());
+        int totalDays = 0;
+        double totalWalkingDistance = 0;
+        long totalCaloriesBurned = 0;
+        long totalCaloriesIntake = 0;
+        double totalSleepHours = 0;
+        long totalPoopCount = 0;
+        long totalPeeCount = 0;
+        for (ActivityRollupView row : rows) {
+            chartDataList.add(convertToChartData(row, period));
+            totalDays += row.getDays();
+            totalWalkingDistance += row.getWalkingDistanceKm();
+            totalCaloriesBurned += row.getCaloriesBurned();
+            totalCaloriesIntake += row.getCaloriesIntake();
+            totalSleepHours += row.getSleepHours();
+            totalPoopCount += row.getPoopCount();
+            totalPeeCount += row.getPeeCount();
+        }
+
+        ActivityChartResponse.SummaryStats summaryStats = ActivityChartResponse.SummaryStats.builder()
+                .totalDays(totalDays)
+                .totalWalkingDistance(totalWalkingDistance)
+                .totalCaloriesBurned((int) totalCaloriesBurned)
+                .totalCaloriesIntake((int) totalCaloriesIntake)
+                .averageSleepHours(average(totalSleepHours, totalDays))
+                .totalPoopCount((int) totalPoopCount)
+                .totalPeeCount((int) totalPeeCount)
+                .averageWalkingDistance(average(totalWalkingDistance, totalDays))
+                .averageCaloriesBurned(average(totalCaloriesBurned, totalDays))
+                .averageCaloriesIntake(average(totalCaloriesIntake, totalDays))
+                .averagePoopCount(average(totalPoopCount, totalDays))
+                .averagePeeCount(average(totalPeeCount, totalDays))
+                .build();
+
+        return ActivityChartResponse.builder()
+                .chartData(chartDataList)
+                .summaryStats(summaryStats)
+                .build();
     }
-    
+
+    private void validateChartRange(RollupPeriod period, LocalDate from, LocalDate to) {
+        long span;
+        long max;
+        switch (period) {
+            case WEEK -> {
+                span = ChronoUnit.WEEKS.between(from, to);
+                max = MAX_CHART_WEEKS;
+            }
+            case MONTH -> {
+                span = ChronoUnit.MONTHS.between(from, to);
+                max = MAX_CHART_MONTHS;
+            }
+            default -> {
+                span = ChronoUnit.DAYS.between(from, to);
+                max = MAX_CHART_DAYS;
+            }
+        }
+        if (span > max) {
+            throw new BusinessException(ErrorCode.DATE_RANGE_INVALID, "조회 구간이 너무 깁니다. (최대 " + max + "개 구간)");
+        }
+    }
+
     /**
-     * Activity 엔티티를 ChartData DTO로 변환
+     * 집계 행을 ChartData DTO로 변환 (값은 기록한 날 기준 하루 평균, DAY는 그 날의 값 그대로)
      */
-    private ActivityChartResponse.ChartData convertToChartData(Activity activity) {
-        String displayDate = getDisplayDate(activity.getActivityDate());
-        
+    private ActivityChartResponse.ChartData convertToChartData(ActivityRollupView row, RollupPeriod period) {
+        int days = Math.max(1, row.getDays());
+        LocalDate start = row.getPeriodStart();
+        String date = period == RollupPeriod.MONTH ? start.toString().substring(0, 7) : start.toString();
+        String displayDate = switch (period) {
+            case DAY -> getDisplayDate(start);
+            case WEEK -> start.getMonthValue() + "/" + start.getDayOfMonth();
+            case MONTH -> start.getMonthValue() + "월";
+        };
+
         return ActivityChartResponse.ChartData.builder()
-                .date(activity.getActivityDate().toString())
+                .date(date)
                 .displayDate(displayDate)
-                .recommendedCaloriesBurned(activity.getRecommendedCaloriesBurned())
-                .actualCaloriesBurned(activity.getCaloriesBurned())
-                .recommendedCaloriesIntake(calculateRecommendedCaloriesIntake(activity.getWeightKg(), activity.getActivityLevel()))
-                .actualCaloriesIntake(calculateTotalConsumedCalories(activity))
-                .poopCount(activity.getPoopCount())
-                .peeCount(activity.getPeeCount())
-                .sleepHours(activity.getSleepHours())
+                .recommendedCaloriesBurned(perDay(row.getRecommendedCaloriesBurned(), days))
+                .actualCaloriesBurned(perDay(row.getCaloriesBurned(), days))
+                .recommendedCaloriesIntake(perDay(row.getRecommendedCaloriesIntake(), days))
+                .actualCaloriesIntake(perDay(row.getCaloriesIntake(), days))
+                .poopCount(perDay(row.getPoopCount(), days))
+                .peeCount(perDay(row.getPeeCount(), days))
+                .sleepHours(row.getSleepHours() / days)
                 .build();
     }
+
+    private static int perDay(long total, int days) {
+        return (int) Math.round((double) total / days);
+    }
+
+    private static double average(double total, int days) {
+        return days == 0 ? 0.0 : total / days;
+    }
     
     /**
      * 표시용 날짜 문자열 생성 (요일 표시)
@@ -422,90 +496,6 @@ public class ActivityService {
         return days[date.getDayOfWeek().getValue() - 1];
     }
     
-    /**
-     * 요약 통계 계산
-     */
-    private ActivityChartResponse.SummaryStats calculateSummaryStats(List<Activity> activities) {
-        int totalDays = activities.size();
-        
-        if (totalDays == 0) {
-            return ActivityChartResponse.SummaryStats.builder()
-                    .totalDays(0)
-                    .totalWalkingDistance(0.0)
-                    .totalCaloriesBurned(0)
-                    .totalCaloriesIntake(0)
-                    .averageSleepHours(0.0)
-                    .totalPoopCount(0)
-                    .totalPeeCount(0)
-                    .averageWalkingDistance(0.0)
-                    .averageCaloriesBurned(0.0)
-                    .averageCaloriesIntake(0.0)
-                    .averagePoopCount(0.0)
-                    .averagePeeCount(0.0)
-                    .build();
-        }
-        
-        // 총합 계산
-        double totalWalkingDistance = activities.stream()
-                .mapToDouble(activity -> activity.getWalkingDistanceKm() != null ? activity.getWalkingDistanceKm() : 0.0)
-                .sum();
-        
-        int totalCaloriesBurned = activities.stream()
-                .mapToInt(activity -> activity.getCaloriesBurned() != null ? activity.getCaloriesBurned() : 0)
-                .sum();
-        
-        int totalCaloriesIntake = activities.stream()
-                .mapToInt(this::calculateTotalConsumedCalories)
-                .sum();
-        
-        double totalSleepHours = activities.stream()
-                .mapToDouble(activity -> activity.getSleepHours() != null ? activity.getSleepHours() : 0.0)
-                .sum();
-        
-        int totalPoopCount = activities.stream()
-                .mapToInt(activity -> activity.getPoopCount() != null ? activity.getPoopCount() : 0)
-                .sum();
-        
-        int totalPeeCount = activities.stream()
-                .mapToInt(activity -> activity.getPeeCount() != null ? activity.getPeeCount() : 0)
-                .sum();
-        
-        // 평균 계산
-        double averageWalkingDistance = totalWalkingDistance / totalDays;
-        double averageCaloriesBurned = (double) totalCaloriesBurned / totalDays;
-        double averageCaloriesIntake = (double) totalCaloriesIntake / totalDays;
-        double averageSleepHours = totalSleepHours / totalDays;
-        double averagePoopCount = (double) totalPoopCount / totalDays;
-        double averagePeeCount = (double) totalPeeCount / totalDays;
-        
-        return ActivityChartResponse.SummaryStats.builder()
-                .totalDays(totalDays)
-                .totalWalkingDistance(totalWalkingDistance)
-                .totalCaloriesBurned(totalCaloriesBurned)
-                .totalCaloriesIntake(totalCaloriesIntake)
-                .averageSleepHours(averageSleepHours)
-                .totalPoopCount(totalPoopCount)
-                .totalPeeCount(totalPeeCount)
-                .averageWalkingDistance(averageWalkingDistance)
-                .averageCaloriesBurned(averageCaloriesBurned)
-                .averageCaloriesIntake(averageCaloriesIntake)
-                .averagePoopCount(averagePoopCount)
-                .averagePeeCount(averagePeeCount)
-                .build();
-    }
-    
-    /**
-     * 총 섭취 칼로리 계산
-     */
-    private Integer calculateTotalConsumedCalories(Activity activity) {
-        if (activity.getMeals() == null || activity.getMeals().isEmpty()) {
-            return 0;
-        }
-        return activity.getMeals().stream()
-                .mapToInt(meal -> meal.getConsumedCalories() != null ? meal.getConsumedCalories() : 0)
-                .sum();
-    }
-    
     /**
      * Activity 엔티티를 ActivityData DTO로 변환 (수정 전후 비교용)
      */
@@ -79,6 +79,8 @@ public enum ErrorCode {
     MEDICAL_SCHEDULE_UPDATE_FAILED("7043", "건강관리 일정 수정에 실패했습니다."),
     MEDICAL_SCHEDULE_DELETE_FAILED("7044", "건강관리 일정 삭제에 실패했습니다."),
     MEDICAL_ALARM_TOGGLE_FAILED("7045", "건강관리 일정 알림 토글에 실패했습니다."),
+    OCR_JOB_NOT_FOUND("7050", "OCR 작업을 찾을 수 없습니다."),
+    OCR_QUEUE_FULL("7051", "OCR 요청이 많아 잠시 후 다시 시도해주세요."),
 
     // 7100번대 : 활동 관리
     ACTIVITY_NOT_FOUND("7100", "활동 데이터를 찾을 수 없습니다."),
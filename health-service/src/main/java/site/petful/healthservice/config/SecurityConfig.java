@@ -1,5 +1,6 @@
 package site.petful.healthservice.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,6 +32,8 @@ public class SecurityConfig {
 
             .authorizeHttpRequests(auth ->
                 auth
+                    // SSE(OCR 작업 결과)는 인증된 원 요청의 비동기 디스패치로 응답을 마저 쓴다
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     .requestMatchers(HttpMethod.GET, "/swagger-ui/**", "/v3/api-docs/**",
                         "/swagger-resources/**").permitAll()
                     .requestMatchers("/health", "/actuator/**").permitAll()
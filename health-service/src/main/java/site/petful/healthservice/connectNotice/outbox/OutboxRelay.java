@@ -0,0 +1,267 @@
+package site.petful.healthservice.connectNotice.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 테이블의 미발행 이벤트를 브로커로 보낸다.
+ * - 커밋 직후 trigger()로 바로 깨우고, 놓친 이벤트는 poll-interval 주기로 다시 훑는다
+ * - 배치 단위로 보내고 publisher confirm을 한 번에 기다린 뒤 IN 업데이트로 발행 완료 처리
+ * - 발행 전용 연결(채널 캐시)을 따로 써서 컨슈머 채널과 섞이지 않는다
+ * - 배치는 FOR UPDATE SKIP LOCKED로 잠가 lease(claimed_until)를 찍고 가져가므로 인스턴스끼리 같은 이벤트를 나눠 보내지 않는다
+ * - 발행 실패한 이벤트는 lease가 끝난 뒤 다시 시도하고, maxAttempts 만큼 실패하면 failed_at을 찍고 멈춘다
+ * 발행 후 완료 표시 전에 죽으면 다시 보내므로 at-least-once. 수신 측은 eventId로 중복을 거른다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String METRIC_PREFIX = "outbox";
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProps props;
+    private final TransactionTemplate transactionTemplate;
+    private final CachingConnectionFactory confirmConnectionFactory;
+    private final RabbitTemplate confirmTemplate;
+    // 실행 중 1개 + 대기 1개. 그 이상 들어온 trigger는 대기 중인 drain이 함께 처리하므로 버린다
+    private final ThreadPoolExecutor worker;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+    private final Timer lagTimer;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxProps props,
+                       ConnectionFactory connectionFactory,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.props = props;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        if (!(connectionFactory instanceof CachingConnectionFactory caching)) {
+            throw new IllegalStateException("outbox 발행에는 CachingConnectionFactory가 필요합니다: " + connectionFactory.getClass());
+        }
+        this.confirmConnectionFactory = new CachingConnectionFactory(caching.getRabbitConnectionFactory());
+        confirmConnectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE);
+        confirmConnectionFactory.setChannelCacheSize(Math.max(1, props.getChannelCacheSize()));
+        confirmConnectionFactory.setConnectionNameStrategy(cf -> "outbox-relay");
+        this.confirmTemplate = new RabbitTemplate(confirmConnectionFactory);
+
+        this.worker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1),
+                r -> {
+                    Thread t = new Thread(r, "outbox-relay");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+
+        this.publishedCounter = Counter.builder(METRIC_PREFIX + ".published")
+                .description("브로커 confirm까지 받은 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".publish.failed")
+                .description("발행에 실패해 다시 시도할 이벤트 수")
+                .register(meterRegistry);
+        this.parkedCounter = Counter.builder(METRIC_PREFIX + ".parked")
+                .description("maxAttempts 만큼 실패해 발행을 멈춘 이벤트 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder(METRIC_PREFIX + ".lag")
+                .description("outbox 적재부터 브로커 confirm까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending", pending, AtomicLong::get)
+                .description("미발행 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".oldest.age.seconds", oldestAgeSeconds, AtomicLong::get)
+                .description("가장 오래된 미발행 이벤트의 대기 시간(초)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            worker.awaitTermination(props.getConfirmTimeoutMs() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        confirmConnectionFactory.destroy();
+    }
+
+    /**
+     * 발행을 예약한다. 호출 스레드는 기다리지 않는다.
+     */
+    public void trigger() {
+        worker.execute(this::drain);
+    }
+
+    // 커밋 트리거를 놓친 이벤트(발행 실패, 재시작 등)를 주기적으로 다시 보낸다
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        try {
+            pending.set(outboxEventRepository.countByPublishedAtIsNullAndFailedAtIsNull());
+            LocalDateTime oldest = outboxEventRepository.findOldestUnpublishedCreatedAt();
+            oldestAgeSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+            if (pending.get() > 0) {
+                trigger();
+            }
+        } catch (Exception e) {
+            log.error("❌ [OutboxRelay] 미발행 이벤트 조회 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void purgePublished() {
+        try {
+            int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(props.getRetentionHours()));
+            if (deleted > 0) {
+                log.info("🧹 [OutboxRelay] 발행 완료 이벤트 {}건 정리", deleted);
+            }
+        } catch (Exception e) {
+            log.error("❌ [OutboxRelay] 발행 완료 이벤트 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    void drain() {
+        int batchSize = Math.max(1, props.getBatchSize());
+        try {
+            while (true) {
+                List<OutboxEvent> batch = claimBatch(batchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                if (!publishBatch(batch) && !publishOneByOne(batch)) {
+                    // 전부 실패 (브로커 장애 등) → 다음 poll에서 다시 시도
+                    return;
+                }
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ [OutboxRelay] 이벤트 발행 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    // 짧은 트랜잭션 하나로 잠그고 lease를 찍는다. 커밋 후에는 다른 인스턴스가 lease 동안 건너뛴다
+    private List<OutboxEvent> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(props.getClaimLeaseMs()));
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> {
+            List<OutboxEvent> claimable = outboxEventRepository.findClaimable(now, PageRequest.of(0, batchSize));
+            claimable.forEach(event -> event.claim(leaseUntil));
+            return claimable;
+        });
+        return batch == null ? List.of() : batch;
+    }
+
+    // 배치 전체를 한 채널로 보내고 confirm을 한 번에 기다린다
+    private boolean publishBatch(List<OutboxEvent> batch) {
+        try {
+            confirmTemplate.invoke(ops -> {
+                for (OutboxEvent event : batch) {
+                    ops.send(event.getExchange(), event.getRoutingKey(), toMessage(event));
+                }
+                ops.waitForConfirmsOrDie(props.getConfirmTimeoutMs());
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("⚠️ [OutboxRelay] 배치 발행 실패, 건별로 재시도: size={}, error={}", batch.size(), e.getMessage());
+            return false;
+        }
+        markPublished(batch);
+        return true;
+    }
+
+    // 배치가 실패하면 건별로 보내 문제 있는 이벤트만 남긴다. 하나라도 성공하면 true
+    private boolean publishOneByOne(List<OutboxEvent> batch) {
+        List<OutboxEvent> published = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        for (OutboxEvent event : batch) {
+            try {
+                confirmTemplate.invoke(ops -> {
+                    ops.send(event.getExchange(), event.getRoutingKey(), toMessage(event));
+                    ops.waitForConfirmsOrDie(props.getConfirmTimeoutMs());
+                    return null;
+                });
+                published.add(event);
+            } catch (Exception e) {
+                log.error("❌ [OutboxRelay] 이벤트 발행 실패: eventId={}, attempts={}, error={}",
+                        event.getEventId(), event.getAttempts() + 1, e.getMessage());
+                failed.add(event);
+            }
+        }
+        if (!published.isEmpty()) {
+            markPublished(published);
+        }
+        if (!failed.isEmpty()) {
+            recordFailures(failed);
+        }
+        return !published.isEmpty();
+    }
+
+    // 실패한 이벤트는 lease가 끝날 때까지 쉬었다가 다시 시도되고, maxAttempts에 닿으면 멈춘다
+    private void recordFailures(List<OutboxEvent> failed) {
+        int maxAttempts = Math.max(1, props.getMaxAttempts());
+        outboxEventRepository.recordFailure(failed.stream().map(OutboxEvent::getId).toList(), maxAttempts, LocalDateTime.now());
+        failedCounter.increment(failed.size());
+
+        List<String> parked = failed.stream()
+                .filter(event -> event.getAttempts() + 1 >= maxAttempts)
+                .map(OutboxEvent::getEventId)
+                .toList();
+        if (!parked.isEmpty()) {
+            parkedCounter.increment(parked.size());
+            log.error("⛔ [OutboxRelay] {}회 실패한 이벤트 발행 중단 (failed_at 기록): eventIds={}", maxAttempts, parked);
+        }
+    }
+
+    private void markPublished(List<OutboxEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.markPublished(events.stream().map(OutboxEvent::getId).toList(), now);
+        publishedCounter.increment(events.size());
+        events.forEach(event -> lagTimer.record(Duration.between(event.getCreatedAt(), now)));
+        log.debug("📤 [OutboxRelay] 이벤트 {}건 발행 완료", events.size());
+    }
+
+    // Jackson2JsonMessageConverter가 만들던 메시지와 같은 형태 (content-type, __TypeId__)
+    private static Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setMessageId(event.getEventId());
+        properties.setHeader(TYPE_ID_HEADER, event.getPayloadType());
+        return new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
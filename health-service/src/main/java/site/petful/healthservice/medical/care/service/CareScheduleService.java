@@ -15,6 +15,7 @@ import site.petful.healthservice.medical.care.dto.CareDetailDTO;
 import site.petful.healthservice.medical.care.dto.CareUpdateRequestDTO;
 import site.petful.healthservice.medical.schedule.repository.ScheduleRepository;
 import site.petful.healthservice.medical.schedule.service.AbstractScheduleService;
+import site.petful.healthservice.medical.schedule.service.ScheduleBatchWriter;
 import site.petful.healthservice.medical.schedule.dto.ScheduleRequestDTO;
 import site.petful.healthservice.common.exception.BusinessException;
 import site.petful.healthservice.common.response.ErrorCode;
@@ -28,25 +29,31 @@ import java.time.LocalTime;
 import java.time.Instant;
 import java.util.*;
 
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.annotation.Transactional;
 import site.petful.healthservice.connectNotice.dto.EventMessage;
+import site.petful.healthservice.connectNotice.outbox.OutboxPublisher;
 
 @Slf4j
 @Service
 public class CareScheduleService extends AbstractScheduleService {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxPublisher outboxPublisher;
+    private final ScheduleBatchWriter scheduleBatchWriter;
     private final ScheduleMedicationDetailRepository medicationDetailRepository;
 
     public CareScheduleService(ScheduleRepository scheduleRepository, 
-                             RabbitTemplate rabbitTemplate, ScheduleMedicationDetailRepository medicationDetailRepository) {
+                             OutboxPublisher outboxPublisher, ScheduleBatchWriter scheduleBatchWriter,
+                             ScheduleMedicationDetailRepository medicationDetailRepository) {
         super(scheduleRepository);
-        this.rabbitTemplate = rabbitTemplate;
+        this.outboxPublisher = outboxPublisher;
+        this.scheduleBatchWriter = scheduleBatchWriter;
         this.medicationDetailRepository = medicationDetailRepository;
     }
 
     // ==================== 돌봄 일정 생성 ====================
     
+    // 일정 저장과 이벤트 outbox 적재를 한 트랜잭션으로 묶는다
+    @Transactional
     public Long createCareSchedule(Long userNo, @Valid CareRequestDTO request) {
         // careFrequency 처리
         CareFrequency careFreq = request.getCareFrequency() != null ? request.getCareFrequency() : CareFrequency.DAILY;
@@ -84,84 +91,60 @@ public class CareScheduleService extends AbstractScheduleService {
     }
 
     /**
-     * 주기별 일정 생성
+     * 주기별 일정 생성.
+     * 발생일을 먼저 계산해 엔티티를 메모리에서 만들고, 한 번의 JDBC 배치로 저장한 뒤
+     * 일정 묶음 전체에 대해 이벤트를 하나만 적재한다.
      */
     private List<Schedule> createRecurringSchedules(Long userNo, ScheduleRequestDTO request, ScheduleMainType mainType, CareFrequency frequency) {
-        List<Schedule> schedules = new ArrayList<>();
-        LocalDate startDate = request.getStartDate();
-        LocalDate endDate = request.getEndDate();
-        
+        List<LocalDate> dates = occurrenceDates(frequency, request.getStartDate(), request.getEndDate());
+        List<Schedule> schedules = scheduleBatchWriter.insertAll(
+                createScheduleEntities(userNo, request, mainType, dates));
+
+        // 이벤트 발행 (발생일마다가 아니라 묶음당 한 번)
+        if (!schedules.isEmpty()) {
+            publishScheduleSeriesCreatedEvent(schedules, frequency);
+        }
+        return schedules;
+    }
+
+    /**
+     * 빈도별 발생일 계산
+     */
+    static List<LocalDate> occurrenceDates(CareFrequency frequency, LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> dates = new ArrayList<>();
         switch (frequency) {
             case DAILY:
                 // 매일: 시작일부터 종료일까지 모든 날에 일정 생성
-                LocalDate current = startDate;
-                while (!current.isAfter(endDate)) {
-                    schedules.add(createScheduleForDate(userNo, request, mainType, current));
-                    current = current.plusDays(1);
+                for (LocalDate current = startDate; !current.isAfter(endDate); current = current.plusDays(1)) {
+                    dates.add(current);
                 }
                 break;
-                
+
             case WEEKLY:
                 // 매주: 시작일부터 종료일까지 7일마다 일정 생성
-                current = startDate;
-                while (!current.isAfter(endDate)) {
-                    schedules.add(createScheduleForDate(userNo, request, mainType, current));
-                    current = current.plusWeeks(1);
+                for (LocalDate current = startDate; !current.isAfter(endDate); current = current.plusWeeks(1)) {
+                    dates.add(current);
                 }
                 break;
-                
+
             case MONTHLY:
                 // 매월: 시작일과 종료월의 같은 날짜에 일정 생성
                 // 예: 9월 3일 시작, 10월 종료 -> 9월 3일, 10월 3일에 일정 생성
-                current = startDate;
                 int endMonth = endDate.getMonthValue();
                 int endYear = endDate.getYear();
-                
-                while (current.getYear() < endYear || 
-                       (current.getYear() == endYear && current.getMonthValue() <= endMonth)) {
-                    schedules.add(createScheduleForDate(userNo, request, mainType, current));
-                    current = current.plusMonths(1);
+                for (LocalDate current = startDate;
+                     current.getYear() < endYear || (current.getYear() == endYear && current.getMonthValue() <= endMonth);
+                     current = current.plusMonths(1)) {
+                    dates.add(current);
                 }
                 break;
-                
+
             case SINGLE_DAY:
                 // 당일: 시작일과 종료일이 동일한 하루만 일정 생성
-                schedules.add(createScheduleForDate(userNo, request, mainType, startDate));
+                dates.add(startDate);
                 break;
         }
-        
-        // 이벤트 발행
-        for (Schedule schedule : schedules) {
-            publishScheduleCreatedEvent(schedule);
-        }
-        
-        return schedules;
-    }
-    
-    /**
-     * 특정 날짜에 일정 생성
-     */
-    private Schedule createScheduleForDate(Long userNo, ScheduleRequestDTO request, ScheduleMainType mainType, LocalDate date) {
-        // 날짜를 수정한 새로운 DTO 생성
-        ScheduleRequestDTO dateRequest = ScheduleRequestDTO.builder()
-                .petNo(request.getPetNo())
-                .title(request.getTitle())
-                .startDate(date)
-                .endDate(date) // 시작일과 종료일을 동일하게 설정
-                .subType(request.getSubType())
-                .times(request.getTimes())
-                .frequency(request.getFrequency())
-                .recurrenceInterval(request.getRecurrenceInterval())
-                .recurrenceEndDate(request.getRecurrenceEndDate())
-                .reminderDaysBefore(request.getReminderDaysBefore())
-                .frequencyText(request.getFrequencyText())
-                .build();
-        
-        Schedule entity = createScheduleEntity(userNo, dateRequest, mainType);
-        Long scheduleNo = saveSchedule(entity);
-        
-        // 원본 엔티티를 그대로 반환 (ID는 필요시 조회해서 사용)
-        return entity;
+        return dates;
     }
 
     // ==================== 돌봄 일정 조회 ====================
@@ -630,51 +613,52 @@ public class CareScheduleService extends AbstractScheduleService {
     // ==================== 이벤트 발행 ====================
     
     /**
-     * 스케줄 생성 이벤트 발행
+     * 일정 묶음 생성 이벤트 발행 (발생일이 몇 개든 하나)
+     * 수신 측은 health.schedule과 같은 방식으로 등록 알림을 한 번 만든다.
      */
-    private void publishScheduleCreatedEvent(Schedule schedule) {
-        try {
-            EventMessage event = new EventMessage();
-            event.setEventId(UUID.randomUUID().toString());
-            event.setType("health.schedule");
-            event.setOccurredAt(Instant.now());
-            event.setActor(new EventMessage.Actor(schedule.getUserNo(), "User"));
-            event.setTarget(new EventMessage.Target(
-                schedule.getUserNo().toString(),
-                schedule.getScheduleNo(),
-                "SCHEDULE"));
-            
-            Map<String, Object> attributes = new HashMap<>();
-            attributes.put("scheduleNo", schedule.getScheduleNo());
-            attributes.put("title", schedule.getTitle());
-            attributes.put("mainType", schedule.getMainType().name());
-            attributes.put("subType", schedule.getSubType().name());
-            attributes.put("startDate", schedule.getStartDate());
-            attributes.put("reminderDaysBefore", schedule.getReminderDaysBefore());
-            
-            // times 데이터 추가 (돌봄/접종은 durationDays 개념 없음)
-            List<String> timesList = null;
-            
-            // times를 List<String> 형태로 변환
-            if (schedule.getTimes() != null && !schedule.getTimes().isEmpty()) {
-                timesList = schedule.getTimesAsList().stream()
-                    .map(LocalTime::toString)
-                    .toList();
-            }
-            
-            attributes.put("times", timesList);
-            event.setAttributes(attributes);
-            event.setSchemaVersion(1);
-            
-            // notif.events로 메시지 발행
-            rabbitTemplate.convertAndSend("notif.events", "health.schedule", event);
-            
-            log.info("스케줄 생성 이벤트 발행 완료: scheduleNo={}, title={}, times={}", 
-                    schedule.getScheduleNo(), schedule.getTitle(), timesList);
-        } catch (Exception e) {
-            log.error("스케줄 생성 이벤트 발행 실패: scheduleNo={}, error={}", 
-                    schedule.getScheduleNo(), e.getMessage(), e);
+    private void publishScheduleSeriesCreatedEvent(List<Schedule> schedules, CareFrequency frequency) {
+        Schedule first = schedules.get(0);
+        Schedule last = schedules.get(schedules.size() - 1);
+
+        EventMessage event = new EventMessage();
+        event.setEventId(UUID.randomUUID().toString());
+        event.setType("health.schedule.series");
+        event.setOccurredAt(Instant.now());
+        event.setActor(new EventMessage.Actor(first.getUserNo(), "User"));
+        event.setTarget(new EventMessage.Target(
+            first.getUserNo().toString(),
+            first.getScheduleNo(),
+            "SCHEDULE"));
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("scheduleNo", first.getScheduleNo());
+        attributes.put("scheduleNos", schedules.stream().map(Schedule::getScheduleNo).toList());
+        attributes.put("occurrences", schedules.size());
+        attributes.put("frequency", frequency.name());
+        attributes.put("title", first.getTitle());
+        attributes.put("mainType", first.getMainType().name());
+        attributes.put("subType", first.getSubType().name());
+        attributes.put("startDate", first.getStartDate());
+        attributes.put("endDate", last.getStartDate());
+        attributes.put("reminderDaysBefore", first.getReminderDaysBefore());
+
+        // times 데이터 추가 (돌봄/접종은 durationDays 개념 없음)
+        List<String> timesList = null;
+        if (first.getTimes() != null && !first.getTimes().isEmpty()) {
+            timesList = first.getTimesAsList().stream()
+                .map(LocalTime::toString)
+                .toList();
         }
+
+        attributes.put("times", timesList);
+        event.setAttributes(attributes);
+        event.setSchemaVersion(1);
+
+        // 일정과 같은 트랜잭션으로 outbox에 적재 (브로커 발행은 커밋 후 OutboxRelay)
+        outboxPublisher.append("notif.events", "health.schedule", event.getEventId(), event);
+
+        log.info("일정 묶음 생성 이벤트 적재 완료: firstScheduleNo={}, title={}, occurrences={}, times={}",
+                first.getScheduleNo(), first.getTitle(), schedules.size(), timesList);
     }
 }
 
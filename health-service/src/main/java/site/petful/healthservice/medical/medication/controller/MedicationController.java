@@ -2,15 +2,18 @@ package site.petful.healthservice.medical.medication.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import site.petful.healthservice.common.response.ApiResponse;
 import site.petful.healthservice.common.response.ApiResponseGenerator;
 import site.petful.healthservice.medical.medication.dto.*;
 import site.petful.healthservice.medical.medication.service.MedicationScheduleService;
 import site.petful.healthservice.medical.medication.service.MedicationOCRService;
+import site.petful.healthservice.medical.medication.service.OcrJobService;
 import site.petful.healthservice.medical.medication.repository.ScheduleMedicationDetailRepository;
 import site.petful.healthservice.medical.medication.entity.ScheduleMedDetail;
 
@@ -34,6 +37,7 @@ public class MedicationController {
 
     private final MedicationScheduleService medicationScheduleService;
     private final MedicationOCRService medicationOCRService;
+    private final OcrJobService ocrJobService;
     private final ScheduleMedicationDetailRepository medicationDetailRepository;
 
     
@@ -233,6 +237,9 @@ public class MedicationController {
             
             return ResponseEntity.ok(apiResponse);
             
+        } catch (BusinessException e) {
+            // 대기열 초과 / 시간 초과 / 파일 검증 등은 원래 에러 코드 그대로 응답
+            throw e;
         } catch (Exception e) {
             log.error("OCR 처리 중 오류 발생: ", e);
             log.error("오류 타입: {}", e.getClass().getSimpleName());
@@ -243,4 +250,40 @@ public class MedicationController {
             throw new BusinessException(ErrorCode.OCR_PROCESSING_FAILED, "OCR 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
+
+    /**
+     * 처방전 OCR 작업 등록 (비동기). jobId로 결과를 조회하거나 SSE로 받는다.
+     */
+    @PostMapping(value = "/ocr/jobs", consumes = "multipart/form-data")
+    public ResponseEntity<ApiResponse<OcrJobResponseDTO>> submitOcrJob(
+            @AuthenticationPrincipal String userNo,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("petNo") Long petNo
+    ) {
+        OcrJobResponseDTO job = ocrJobService.submit(Long.valueOf(userNo), petNo, file);
+        return ResponseEntity.ok(ApiResponseGenerator.success(job));
+    }
+
+    /**
+     * 처방전 OCR 작업 조회
+     */
+    @GetMapping("/ocr/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<OcrJobResponseDTO>> getOcrJob(
+            @AuthenticationPrincipal String userNo,
+            @PathVariable("jobId") String jobId
+    ) {
+        OcrJobResponseDTO job = ocrJobService.getJob(Long.valueOf(userNo), jobId);
+        return ResponseEntity.ok(ApiResponseGenerator.success(job));
+    }
+
+    /**
+     * 처방전 OCR 작업 결과 스트림 (완료 시 result 이벤트 1회)
+     */
+    @GetMapping(value = "/ocr/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOcrJob(
+            @AuthenticationPrincipal String userNo,
+            @PathVariable("jobId") String jobId
+    ) {
+        return ocrJobService.subscribe(Long.valueOf(userNo), jobId);
+    }
 }
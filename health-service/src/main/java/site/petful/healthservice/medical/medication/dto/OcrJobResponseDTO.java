@@ -0,0 +1,24 @@
+package site.petful.healthservice.medical.medication.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OcrJobResponseDTO {
+    private String jobId;
+    private String status;                  // PENDING, DONE, FAILED
+    private Boolean cached;                 // 같은 이미지의 OCR 결과를 재사용했는지
+    private PrescriptionParsedDTO result;   // DONE일 때 파싱 결과
+    private List<Long> scheduleNo;          // DONE일 때 생성된 일정 번호
+    private String errorMessage;            // FAILED일 때 사유
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -3,7 +3,7 @@ package site.petful.healthservice.medical.medication.ocr;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -21,7 +21,6 @@ import jakarta.annotation.PostConstruct;
 import site.petful.healthservice.common.exception.BusinessException;
 import site.petful.healthservice.common.response.ErrorCode;
 
-import java.io.File;
 import java.util.HashMap;
 import java.io.IOException;
 import java.util.List;
@@ -47,6 +46,8 @@ public class ClovaOcrClient {
 	@Value("${clova.ocr.read-timeout:10000}")
 	private int readTimeout;
 
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
 	private RestTemplate restTemplate;
 
 	@PostConstruct
@@ -57,7 +58,10 @@ public class ClovaOcrClient {
 		this.restTemplate = new RestTemplate(factory);
 	}
 
-	public String extractTextFromImage(File imageFile) throws IOException {
+	/**
+	 * 업로드된 이미지 바이트를 그대로 multipart 본문에 실어 보낸다. (임시 파일 없음)
+	 */
+	public String extractTextFromImage(byte[] image, String filename) throws IOException {
 		// OCR API 설정 검증
 		if (invokeUrl == null || invokeUrl.trim().isEmpty() ||
 			secretKey == null || secretKey.trim().isEmpty() ||
@@ -67,14 +71,20 @@ public class ClovaOcrClient {
 		}
 		
 		// 실제 OCR API 호출
-		log.info("=== 실제 Clova OCR API 호출 ===");
+		log.debug("Clova OCR 호출: name={}, size={} bytes", filename, image.length);
 		HttpHeaders headers = new HttpHeaders();
 		headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 		headers.setAccept(List.of(MediaType.APPLICATION_JSON));
 		headers.set("X-OCR-SECRET", secretKey);
 
 		MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-		body.add("file", new FileSystemResource(imageFile));
+		String name = (filename == null || filename.isBlank()) ? "prescription.jpg" : filename;
+		body.add("file", new ByteArrayResource(image) {
+			@Override
+			public String getFilename() {
+				return name;
+			}
+		});
 
 		// Build OCR message JSON
 		Map<String, Object> requestJsonMap = new HashMap<>();
@@ -83,7 +93,6 @@ public class ClovaOcrClient {
 		requestJsonMap.put("timestamp", System.currentTimeMillis());
 		requestJsonMap.put("lang", "ko");
 		// format은 파일 확장자 기준으로 설정
-		String name = imageFile.getName();
 		String format = "jpg";
 		int dot = name.lastIndexOf('.');
 		if (dot > -1 && dot < name.length() - 1) {
@@ -94,7 +103,7 @@ public class ClovaOcrClient {
 		if (templateId != null && !templateId.isBlank()) {
 			requestJsonMap.put("templateIds", List.of(templateId));
 		}
-		String requestJson = new ObjectMapper().writeValueAsString(requestJsonMap);
+		String requestJson = OBJECT_MAPPER.writeValueAsString(requestJsonMap);
 
 		// Add message part explicitly as application/json per gateway spec
 		HttpHeaders jsonPartHeaders = new HttpHeaders();
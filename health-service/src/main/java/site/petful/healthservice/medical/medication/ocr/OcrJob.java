@@ -0,0 +1,101 @@
+package site.petful.healthservice.medical.medication.ocr;
+
+import lombok.Getter;
+import site.petful.healthservice.medical.medication.dto.OcrJobResponseDTO;
+import site.petful.healthservice.medical.medication.dto.PrescriptionParsedDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 메모리에 보관하는 OCR 작업 상태. 완료되면 기다리던 구독자(SSE)에게 한 번 알린다.
+ */
+@Getter
+public class OcrJob {
+
+    private final String jobId;
+    private final Long userNo;
+    private final Long petNo;
+    private final boolean cached;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private OcrJobStatus status = OcrJobStatus.PENDING;
+    private PrescriptionParsedDTO result;
+    private List<Long> scheduleNos;
+    private String errorMessage;
+    private LocalDateTime completedAt;
+
+    private final List<Consumer<OcrJobResponseDTO>> listeners = new ArrayList<>();
+
+    public OcrJob(String jobId, Long userNo, Long petNo, boolean cached) {
+        this.jobId = jobId;
+        this.userNo = userNo;
+        this.petNo = petNo;
+        this.cached = cached;
+    }
+
+    public void complete(PrescriptionParsedDTO result, List<Long> scheduleNos) {
+        List<Consumer<OcrJobResponseDTO>> toNotify;
+        synchronized (this) {
+            this.result = result;
+            this.scheduleNos = scheduleNos;
+            this.status = OcrJobStatus.DONE;
+            this.completedAt = LocalDateTime.now();
+            toNotify = drainListeners();
+        }
+        notify(toNotify);
+    }
+
+    public void fail(String errorMessage) {
+        List<Consumer<OcrJobResponseDTO>> toNotify;
+        synchronized (this) {
+            this.errorMessage = errorMessage;
+            this.status = OcrJobStatus.FAILED;
+            this.completedAt = LocalDateTime.now();
+            toNotify = drainListeners();
+        }
+        notify(toNotify);
+    }
+
+    /**
+     * 완료 시 호출될 리스너를 등록한다. 이미 끝난 작업이면 바로 호출한다.
+     */
+    public void onFinished(Consumer<OcrJobResponseDTO> listener) {
+        synchronized (this) {
+            if (status == OcrJobStatus.PENDING) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.accept(toResponse());
+    }
+
+    public synchronized OcrJobResponseDTO toResponse() {
+        return OcrJobResponseDTO.builder()
+                .jobId(jobId)
+                .status(status.name())
+                .cached(cached)
+                .result(result)
+                .scheduleNo(scheduleNos)
+                .errorMessage(errorMessage)
+                .createdAt(createdAt)
+                .completedAt(completedAt)
+                .build();
+    }
+
+    private List<Consumer<OcrJobResponseDTO>> drainListeners() {
+        List<Consumer<OcrJobResponseDTO>> drained = new ArrayList<>(listeners);
+        listeners.clear();
+        return drained;
+    }
+
+    private void notify(List<Consumer<OcrJobResponseDTO>> toNotify) {
+        if (toNotify.isEmpty()) {
+            return;
+        }
+        OcrJobResponseDTO response = toResponse();
+        toNotify.forEach(listener -> listener.accept(response));
+    }
+}
@@ -0,0 +1,7 @@
+package site.petful.healthservice.medical.medication.ocr;
+
+public enum OcrJobStatus {
+    PENDING,   // OCR 대기/처리 중
+    DONE,      // 파싱 및 일정 등록 완료
+    FAILED     // 실패 (errorMessage 참고)
+}
@@ -1,6 +1,13 @@
 package site.petful.healthservice.medical.medication.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,11 +21,23 @@ import site.petful.healthservice.medical.medication.ocr.ClovaOcrClient;
 import site.petful.healthservice.medical.medication.service.MedicationFrequencyService.FrequencyInfo;
 import site.petful.healthservice.medical.schedule.enums.RecurrenceType;
 
-import java.io.File;
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -30,7 +49,27 @@ public class MedicationOCRService {
     
     private final ClovaOcrClient clovaOcrClient;
     private final MedicationFrequencyService frequencyService;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 이미지 SHA-256 → 파싱 결과
+    private AsyncCache<String, PrescriptionParsedDTO> resultCache;
+    private ThreadPoolExecutor ocrExecutor;
+
+    @Value("${medication.ocr.workers:4}")
+    private int ocrWorkers;
+
+    @Value("${medication.ocr.queue-capacity:50}")
+    private int ocrQueueCapacity;
+
+    @Value("${medication.ocr.timeout-ms:30000}")
+    private long ocrTimeoutMs;
+
+    @Value("${medication.ocr.cache-max-size:1000}")
+    private long cacheMaxSize;
+
+    @Value("${medication.ocr.cache-ttl-hours:24}")
+    private long cacheTtlHours;
     
     @Value("${medication.file.max-size:10485760}")
     private long maxFileSize;
@@ -44,47 +83,119 @@ public class MedicationOCRService {
     @Value("${medication.default-times.three-times:08:00,12:00,20:00}")
     private List<String> threeTimes;
     
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNo = new AtomicInteger();
+        this.ocrExecutor = new ThreadPoolExecutor(
+                ocrWorkers, ocrWorkers,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, ocrQueueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "medication-ocr-" + threadNo.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                // Clova 호출 수를 제한하기 위해 대기열이 차면 바로 거절한다
+                new ThreadPoolExecutor.AbortPolicy());
+        this.resultCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofHours(cacheTtlHours))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, resultCache, "medication.ocr.result");
+        Gauge.builder("medication.ocr.queue", ocrExecutor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("medication.ocr.active", ocrExecutor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ocrExecutor.shutdown();
+    }
+
     /**
-     * 처방전 이미지를 OCR로 분석하고 파싱된 정보를 반환합니다.
+     * 처방전 이미지를 OCR로 분석하고 파싱된 정보를 반환합니다. (결과가 나올 때까지 대기)
      */
     public PrescriptionParsedDTO processPrescription(MultipartFile file) {
-        log.info("=== OCR 처방전 처리 시작 ===");
-        log.info("파일명: {}", file.getOriginalFilename());
-        log.info("파일 크기: {} bytes", file.getSize());
-        log.info("파일 타입: {}", file.getContentType());
-        
-        // 파일 검증
+        byte[] image = readImage(file);
+        CompletableFuture<PrescriptionParsedDTO> future = recognize(contentHash(image), image, file.getOriginalFilename());
+        try {
+            return future.get(ocrTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.OCR_PROCESSING_FAILED, "처방전 처리가 중단되었습니다.");
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.MEDICATION_PARSING_TIMEOUT, "처방전 처리 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            throw toBusinessException(e.getCause());
+        }
+    }
+
+    /**
+     * 업로드 파일을 검증하고 바이트로 읽는다. (요청 스레드에서 호출해야 한다)
+     */
+    public byte[] readImage(MultipartFile file) {
         validateFile(file);
-        
-        // 임시 파일 생성 및 OCR 처리
-        File temp = null;
         try {
-            String original = file.getOriginalFilename();
-            if (original == null) {
-                original = "unknown";
-            }
-            String ext = original.contains(".") ? original.substring(original.lastIndexOf('.')) : "";
-            temp = File.createTempFile("prescription_", ext);
-            file.transferTo(temp);
-            log.info("임시 파일 생성 완료: {}", temp.getAbsolutePath());
-            
-            // 1단계: Clova OCR로 텍스트 추출
-            log.info("Clova OCR 호출 시작...");
-            String ocrResponseJson = clovaOcrClient.extractTextFromImage(temp);
-            log.info("Clova OCR 응답 수신 완료");
-            
-            // 2단계: OCR 응답 JSON 파싱
-            log.info("=== OCR 응답 JSON ===");
-            log.info("OCR Response: {}", ocrResponseJson);
+            return file.getBytes();
+        } catch (IOException e) {
+            log.error("처방전 파일 읽기 실패", e);
+            throw new BusinessException(ErrorCode.OCR_PROCESSING_FAILED, "처방전 파일 처리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 이미지 내용의 SHA-256 (hex). 같은 사진을 다시 올리면 같은 값이 나온다.
+     */
+    public static String contentHash(byte[] image) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(image));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public boolean isCached(String contentHash) {
+        CompletableFuture<PrescriptionParsedDTO> cached = resultCache.getIfPresent(contentHash);
+        return cached != null && cached.isDone() && !cached.isCompletedExceptionally();
+    }
+
+    /**
+     * OCR + 파싱 결과를 비동기로 돌려준다.
+     * 같은 이미지는 캐시된 결과를 쓰고, 처리 중인 같은 이미지가 있으면 그 결과를 같이 기다린다. (실패한 결과는 캐시에 남지 않음)
+     */
+    public CompletableFuture<PrescriptionParsedDTO> recognize(String contentHash, byte[] image, String filename) {
+        try {
+            return resultCache.get(contentHash, (hash, ignored) ->
+                    CompletableFuture.supplyAsync(() -> extractAndParse(image, filename), ocrExecutor));
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ [MedicationOCRService] OCR 대기열 초과: queue={}", ocrExecutor.getQueue().size());
+            throw new BusinessException(ErrorCode.OCR_QUEUE_FULL, "OCR 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public static BusinessException toBusinessException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof BusinessException be) {
+            return be;
+        }
+        return new BusinessException(ErrorCode.OCR_PROCESSING_FAILED, "처방전 처리 중 오류가 발생했습니다: " + cause.getMessage());
+    }
+
+    private PrescriptionParsedDTO extractAndParse(byte[] image, String filename) {
+        try {
+            long started = System.nanoTime();
+            String ocrResponseJson = clovaOcrClient.extractTextFromImage(image, filename);
+            log.info("✅ [MedicationOCRService] Clova OCR 응답 수신: size={} bytes, {}ms",
+                    ocrResponseJson != null ? ocrResponseJson.length() : 0,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            log.debug("OCR Response: {}", ocrResponseJson);
             return parsePrescription(ocrResponseJson);
         } catch (IOException e) {
             log.error("처방전 처리 중 IO 예외 발생", e);
             throw new BusinessException(ErrorCode.OCR_PROCESSING_FAILED, "처방전 파일 처리 중 오류가 발생했습니다: " + e.getMessage());
-        } finally {
-            if (temp != null && temp.exists()) temp.delete();
         }
     }
-    
+
     /**
      * OCR 응답 JSON을 파싱하여 처방전 정보를 추출합니다.
      */
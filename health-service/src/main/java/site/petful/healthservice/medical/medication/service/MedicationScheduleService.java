@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import site.petful.healthservice.medical.medication.entity.ScheduleMedDetail;
 import site.petful.healthservice.medical.schedule.entity.Schedule;
 import site.petful.healthservice.medical.schedule.enums.ScheduleMainType;
@@ -66,6 +67,7 @@ public class MedicationScheduleService extends AbstractScheduleService {
     /**
      * 복용약/영양제 일정 생성 (캘린더 기반)
      */
+    @Transactional
     public Long createMedication(Long userNo, @Valid MedicationRequestDTO request) {
         // 시작날짜 검증
         if (request.getStartDate().isBefore(LocalDate.now())) {
@@ -151,6 +153,7 @@ public class MedicationScheduleService extends AbstractScheduleService {
     /**
      * 파싱된 처방전 정보를 기반으로 투약 일정을 생성/저장합니다.
      */
+    @Transactional
     public List<Schedule> registerMedicationSchedules(PrescriptionParsedDTO parsed, Long userNo, Long petNo, LocalDate baseDate) {
         return registerMedicationSchedules(parsed, userNo, petNo, baseDate, ScheduleSubType.PILL);
     }
@@ -158,6 +161,7 @@ public class MedicationScheduleService extends AbstractScheduleService {
     /**
      * 서브타입을 지정하여 일정을 생성/저장합니다.
      */
+    @Transactional
     public List<Schedule> registerMedicationSchedules(PrescriptionParsedDTO parsed, Long userNo, Long petNo, LocalDate baseDate, ScheduleSubType subType) {
 
         List<Schedule> created = new ArrayList<>();
@@ -0,0 +1,163 @@
+package site.petful.healthservice.medical.medication.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import site.petful.healthservice.common.exception.BusinessException;
+import site.petful.healthservice.common.response.ErrorCode;
+import site.petful.healthservice.medical.medication.dto.OcrJobResponseDTO;
+import site.petful.healthservice.medical.medication.dto.PrescriptionParsedDTO;
+import site.petful.healthservice.medical.medication.ocr.OcrJob;
+import site.petful.healthservice.medical.schedule.entity.Schedule;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 처방전 OCR 작업 API.
+ * 업로드를 받으면 jobId를 바로 돌려주고, OCR/파싱은 MedicationOCRService의 제한된 풀에서,
+ * 일정 등록(DB 트랜잭션)은 별도 스레드(medication-ocr-register)에서 처리해 OCR 워커가 DB 쓰기를 기다리지 않게 한다. 결과는 조회(poll) 또는 SSE로 받는다.
+ * 작업 상태는 인스턴스 메모리에만 두며 jobTtl이 지나면 사라진다.
+ */
+@Slf4j
+@Service
+public class OcrJobService {
+
+    private static final String METRIC = "medication.ocr.jobs";
+
+    private final MedicationOCRService medicationOCRService;
+    private final MedicationScheduleService medicationScheduleService;
+    private final Cache<String, OcrJob> jobs;
+    private final long sseTimeoutMs;
+    private final ExecutorService registerExecutor;
+
+    private final Counter submitted;
+    private final Counter cachedHits;
+    private final Counter failed;
+
+    public OcrJobService(MedicationOCRService medicationOCRService,
+                         MedicationScheduleService medicationScheduleService,
+                         MeterRegistry meterRegistry,
+                         @Value("${medication.ocr.job-ttl-minutes:30}") long jobTtlMinutes,
+                         @Value("${medication.ocr.job-max-size:10000}") long jobMaxSize,
+                         @Value("${medication.ocr.sse-timeout-ms:60000}") long sseTimeoutMs,
+                         @Value("${medication.ocr.register-workers:2}") int registerWorkers) {
+        this.medicationOCRService = medicationOCRService;
+        this.medicationScheduleService = medicationScheduleService;
+        this.sseTimeoutMs = sseTimeoutMs;
+        AtomicInteger threadNo = new AtomicInteger();
+        this.registerExecutor = Executors.newFixedThreadPool(Math.max(1, registerWorkers), r -> {
+            Thread t = new Thread(r, "medication-ocr-register-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(jobTtlMinutes))
+                .maximumSize(jobMaxSize)
+                .build();
+
+        this.submitted = Counter.builder(METRIC).tag("result", "submitted").register(meterRegistry);
+        this.cachedHits = Counter.builder(METRIC).tag("result", "cached").register(meterRegistry);
+        this.failed = Counter.builder(METRIC).tag("result", "failed").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        registerExecutor.shutdown();
+    }
+
+    /**
+     * OCR 작업 등록. 같은 이미지를 이미 처리했다면 Clova를 호출하지 않고 캐시된 파싱 결과로 바로 일정을 등록한다.
+     */
+    public OcrJobResponseDTO submit(Long userNo, Long petNo, MultipartFile file) {
+        byte[] image = medicationOCRService.readImage(file);
+        String hash = MedicationOCRService.contentHash(image);
+        boolean cached = medicationOCRService.isCached(hash);
+
+        OcrJob job = new OcrJob(UUID.randomUUID().toString(), userNo, petNo, cached);
+        jobs.put(job.getJobId(), job);
+        submitted.increment();
+        if (cached) {
+            cachedHits.increment();
+        }
+
+        medicationOCRService.recognize(hash, image, file.getOriginalFilename())
+                .whenCompleteAsync((parsed, error) -> finish(job, parsed, error), registerExecutor);
+
+        log.info("✅ [OcrJobService] OCR 작업 등록: jobId={}, userNo={}, petNo={}, cached={}",
+                job.getJobId(), userNo, petNo, cached);
+        return job.toResponse();
+    }
+
+    public OcrJobResponseDTO getJob(Long userNo, String jobId) {
+        return findJob(userNo, jobId).toResponse();
+    }
+
+    /**
+     * 작업이 끝나면 "result" 이벤트 하나를 보내고 스트림을 닫는다.
+     */
+    public SseEmitter subscribe(Long userNo, String jobId) {
+        OcrJob job = findJob(userNo, jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        emitter.onTimeout(() -> {
+            // 결과는 조회 API로 다시 받을 수 있다
+            log.debug("[OcrJobService] SSE 대기 시간 초과: jobId={}", jobId);
+            emitter.complete();
+        });
+        emitter.onError(e -> log.debug("[OcrJobService] SSE 연결 오류: jobId={}, error={}", jobId, e.getMessage()));
+        job.onFinished(response -> {
+            try {
+                emitter.send(SseEmitter.event().name("result").data(response));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 먼저 끊은 경우. 결과는 조회 API로 다시 받을 수 있다
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    private OcrJob findJob(Long userNo, String jobId) {
+        OcrJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.OCR_JOB_NOT_FOUND, "OCR 작업을 찾을 수 없습니다.");
+        }
+        if (!job.getUserNo().equals(userNo)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "해당 OCR 작업에 대한 권한이 없습니다.");
+        }
+        return job;
+    }
+
+    private void finish(OcrJob job, PrescriptionParsedDTO parsed, Throwable error) {
+        if (error != null) {
+            BusinessException be = MedicationOCRService.toBusinessException(error);
+            failed.increment();
+            log.error("❌ [OcrJobService] OCR 실패: jobId={}, error={}", job.getJobId(), be.getMessage());
+            job.fail(be.getMessage());
+            return;
+        }
+        try {
+            List<Schedule> saved = medicationScheduleService.registerMedicationSchedules(
+                    parsed, job.getUserNo(), job.getPetNo(), LocalDate.now());
+            job.complete(parsed, saved.stream().map(Schedule::getScheduleNo).toList());
+            log.info("✅ [OcrJobService] OCR 작업 완료: jobId={}, 일정 {}건", job.getJobId(), saved.size());
+        } catch (Exception e) {
+            failed.increment();
+            log.error("❌ [OcrJobService] 일정 등록 실패: jobId={}, error={}", job.getJobId(), e.getMessage(), e);
+            job.fail(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package site.petful.healthservice.medical.schedule.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import site.petful.healthservice.common.response.ApiResponse;
+import site.petful.healthservice.common.response.ApiResponseGenerator;
+import site.petful.healthservice.medical.schedule.dto.OccurrenceDTO;
+import site.petful.healthservice.medical.schedule.dto.OccurrenceUpdateRequestDTO;
+import site.petful.healthservice.medical.schedule.service.ScheduleCalendarService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/medical/schedule")
+@RequiredArgsConstructor
+public class ScheduleCalendarController {
+
+    private final ScheduleCalendarService scheduleCalendarService;
+
+    /**
+     * 캘린더 조회 (돌봄 + 투약, 반복 일정은 구간 안의 발생으로 펼쳐서 반환)
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<List<OccurrenceDTO>>> getCalendar(
+            @AuthenticationPrincipal String userNo,
+            @RequestParam(value = "petNo", required = false) Long petNo,
+            @RequestParam("from") String from,
+            @RequestParam("to") String to
+    ) {
+        List<OccurrenceDTO> result = scheduleCalendarService.listOccurrences(Long.valueOf(userNo), petNo, from, to);
+        return ResponseEntity.ok(ApiResponseGenerator.success(result));
+    }
+
+    /**
+     * 반복 일정의 발생 하나를 완료/건너뜀/수정 처리
+     */
+    @PatchMapping("/{calNo}/occurrence")
+    public ResponseEntity<ApiResponse<OccurrenceDTO>> updateOccurrence(
+            @AuthenticationPrincipal String userNo,
+            @PathVariable("calNo") Long calNo,
+            @Valid @RequestBody OccurrenceUpdateRequestDTO request
+    ) {
+        OccurrenceDTO dto = scheduleCalendarService.updateOccurrence(Long.valueOf(userNo), calNo, request);
+        return ResponseEntity.ok(ApiResponseGenerator.success(dto));
+    }
+}
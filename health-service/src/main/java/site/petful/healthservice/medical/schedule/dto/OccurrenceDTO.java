@@ -0,0 +1,25 @@
+package site.petful.healthservice.medical.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OccurrenceDTO {
+    private Long scheduleNo;
+    private Long petNo;
+    private LocalDate date;
+    private LocalTime time;             // 표시 시간 (수정된 경우 변경된 시간)
+    private LocalTime originalTime;     // 규칙상 원래 시간 (예외 수정 시 키로 사용)
+    private String title;
+    private String mainType;
+    private String subType;
+    private String status;              // PLANNED, DONE, SKIPPED, EDITED
+}
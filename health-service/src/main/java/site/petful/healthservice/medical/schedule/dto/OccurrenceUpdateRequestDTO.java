@@ -0,0 +1,28 @@
+package site.petful.healthservice.medical.schedule.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import site.petful.healthservice.medical.schedule.enums.OccurrenceStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccurrenceUpdateRequestDTO {
+
+    @NotNull(message = "발생 날짜는 필수입니다.")
+    private LocalDate date;
+
+    @NotNull(message = "발생 시간은 필수입니다.")
+    private LocalTime time;
+
+    @NotNull(message = "상태는 필수입니다.")
+    private OccurrenceStatus status;   // PLANNED이면 예외를 지운다
+
+    private String title;              // EDITED일 때 변경할 제목
+    private LocalTime newTime;         // EDITED일 때 변경할 시간
+}
@@ -16,15 +16,24 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "schedule")
+@Table(name = "schedule", indexes = {
+        @Index(name = "idx_schedule_user_start", columnList = "user_no, deleted, start_date")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Schedule {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼진다.
+    // id_generator 테이블에서 ALLOCATION_SIZE개씩 미리 받아 두고 배치 INSERT (시작값은 ScheduleIdGeneratorInitializer가 맞춘다)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_id")
+    @TableGenerator(name = "schedule_id", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "schedule", allocationSize = Schedule.ID_ALLOCATION_SIZE)
     @Column(name = "schedule_no")
     private Long scheduleNo;
 
@@ -0,0 +1,64 @@
+package site.petful.healthservice.medical.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import site.petful.healthservice.medical.schedule.enums.OccurrenceStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 반복 일정의 발생 하나에 대한 예외(완료/건너뜀/수정).
+ * 발생 자체는 저장하지 않고 규칙으로 계산하며, 상태가 바뀐 발생만 이 테이블에 남는다.
+ * (schedule_no, occurrence_date, occurrence_time)은 규칙이 만든 원래 발생 시점이다.
+ */
+@Entity
+@Table(name = "schedule_occurrence_override",
+        uniqueConstraints = @UniqueConstraint(name = "uk_occurrence_override",
+                columnNames = {"schedule_no", "occurrence_date", "occurrence_time"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleOccurrenceOverride {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "override_no")
+    private Long overrideNo;
+
+    @Column(name = "schedule_no", nullable = false)
+    private Long scheduleNo;
+
+    @Column(name = "occurrence_date", nullable = false)
+    private LocalDate occurrenceDate;
+
+    @Column(name = "occurrence_time", nullable = false)
+    private LocalTime occurrenceTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OccurrenceStatus status;
+
+    // EDITED일 때만 사용
+    @Column(name = "override_title", length = 255)
+    private String overrideTitle;
+
+    @Column(name = "override_time")
+    private LocalTime overrideTime;
+
+    @Column(name = "updated_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public void update(OccurrenceStatus status, String overrideTitle, LocalTime overrideTime) {
+        this.status = status;
+        this.overrideTitle = overrideTitle;
+        this.overrideTime = overrideTime;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
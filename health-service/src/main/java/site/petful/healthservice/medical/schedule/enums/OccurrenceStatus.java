@@ -0,0 +1,8 @@
+package site.petful.healthservice.medical.schedule.enums;
+
+public enum OccurrenceStatus {
+    PLANNED,   // 예외 없음 (저장하지 않음)
+    DONE,      // 완료
+    SKIPPED,   // 건너뜀
+    EDITED     // 제목/시간 변경
+}
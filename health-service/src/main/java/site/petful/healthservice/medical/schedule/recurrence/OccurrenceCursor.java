@@ -0,0 +1,54 @@
+package site.petful.healthservice.medical.schedule.recurrence;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * RecurrenceRule의 발생을 (날짜, 시각) 순으로 하나씩 넘긴다.
+ * <pre>
+ * OccurrenceCursor cursor = rule.occurrences(from, to);
+ * while (cursor.next()) {
+ *     cursor.date(); cursor.time();
+ * }
+ * </pre>
+ * 날짜가 바뀔 때만 LocalDate를 새로 얻고, 시각은 규칙의 배열을 그대로 돌려준다.
+ */
+public final class OccurrenceCursor {
+
+    private final RecurrenceRule rule;
+    private final LocalDate last;
+    private long index;
+    private LocalDate date;
+    private int timeIndex = -1;
+
+    OccurrenceCursor(RecurrenceRule rule, long index, LocalDate first, LocalDate last) {
+        this.rule = rule;
+        this.index = index;
+        this.date = first;
+        this.last = last;
+    }
+
+    public boolean next() {
+        if (date == null) {
+            return false;
+        }
+        if (++timeIndex < rule.timesPerDay()) {
+            return true;
+        }
+        timeIndex = 0;
+        date = rule.nth(++index);
+        if (date == null || date.isAfter(last)) {
+            date = null;
+            return false;
+        }
+        return true;
+    }
+
+    public LocalDate date() {
+        return date;
+    }
+
+    public LocalTime time() {
+        return rule.time(timeIndex);
+    }
+}
@@ -0,0 +1,123 @@
+package site.petful.healthservice.medical.schedule.recurrence;
+
+import site.petful.healthservice.medical.schedule.entity.Schedule;
+import site.petful.healthservice.medical.schedule.enums.RecurrenceType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 일정 한 건(시리즈)의 반복 규칙.
+ * 발생일은 시작일 + k * 간격(일/주/월/년)이고, 발생일마다 times의 모든 시각에 한 번씩 발생한다.
+ * 조회 구간의 첫 발생일은 계산으로 바로 찾으므로 확장 비용은 구간 안의 발생 수에만 비례한다.
+ */
+public final class RecurrenceRule {
+
+    private final RecurrenceType type;
+    private final int interval;
+    private final LocalDate start;
+    private final LocalDate until;      // 포함. null이면 끝 없음
+    private final LocalTime[] times;    // 정렬, 중복 없음, 최소 1개
+
+    private RecurrenceRule(RecurrenceType type, int interval, LocalDate start, LocalDate until, LocalTime[] times) {
+        this.type = type == null ? RecurrenceType.NONE : type;
+        this.interval = Math.max(1, interval);
+        this.start = start;
+        this.until = this.type == RecurrenceType.NONE ? start : until;
+        this.times = times;
+    }
+
+    public static RecurrenceRule of(RecurrenceType type, Integer interval, LocalDate start, LocalDate until,
+                                    List<LocalTime> times) {
+        if (start == null) {
+            throw new IllegalArgumentException("반복 시작일이 없습니다.");
+        }
+        LocalTime[] slots = (times == null || times.isEmpty())
+                ? new LocalTime[]{LocalTime.MIDNIGHT}
+                : times.stream().distinct().sorted().toArray(LocalTime[]::new);
+        return new RecurrenceRule(type, interval == null ? 1 : interval, start, until, slots);
+    }
+
+    public static RecurrenceRule of(Schedule schedule) {
+        LocalDate until = schedule.getRecurrenceEndDate() != null
+                ? schedule.getRecurrenceEndDate().toLocalDate()
+                : (schedule.getEndDate() != null ? schedule.getEndDate().toLocalDate() : null);
+        List<LocalTime> times = schedule.getTimesAsList();
+        if (times.isEmpty()) {
+            times = List.of(schedule.getStartDate().toLocalTime());
+        }
+        return of(schedule.getRecurrenceType(), schedule.getRecurrenceInterval(),
+                schedule.getStartDate().toLocalDate(), until, times);
+    }
+
+    /**
+     * [from, to] 구간(양 끝 포함)의 발생을 시간순으로 훑는 커서. 발생마다 객체를 만들지 않는다.
+     */
+    public OccurrenceCursor occurrences(LocalDate from, LocalDate to) {
+        LocalDate last = (until != null && until.isBefore(to)) ? until : to;
+        if (last.isBefore(start) || last.isBefore(from)) {
+            return new OccurrenceCursor(this, 0, null, last);
+        }
+        long k = firstIndexOnOrAfter(from.isAfter(start) ? from : start);
+        LocalDate first = nth(k);
+        return new OccurrenceCursor(this, k, (first == null || first.isAfter(last)) ? null : first, last);
+    }
+
+    public boolean occursOn(LocalDate date) {
+        if (date.isBefore(start) || (until != null && date.isAfter(until))) {
+            return false;
+        }
+        return date.equals(nth(firstIndexOnOrAfter(date)));
+    }
+
+    public boolean occursAt(LocalDate date, LocalTime time) {
+        return occursOn(date) && Arrays.binarySearch(times, time) >= 0;
+    }
+
+    public int timesPerDay() {
+        return times.length;
+    }
+
+    LocalTime time(int index) {
+        return times[index];
+    }
+
+    // k번째 발생일 (0부터). NONE은 시작일 하나뿐
+    LocalDate nth(long k) {
+        return switch (type) {
+            case NONE -> k == 0 ? start : null;
+            case DAILY -> start.plusDays(k * interval);
+            case WEEKLY -> start.plusWeeks(k * interval);
+            case MONTHLY -> start.plusMonths(k * interval);
+            case YEARLY -> start.plusYears(k * interval);
+        };
+    }
+
+    // date 이후(포함) 첫 발생의 k. date는 시작일 이후여야 한다
+    private long firstIndexOnOrAfter(LocalDate date) {
+        if (!date.isAfter(start)) {
+            return 0;
+        }
+        long k = switch (type) {
+            case NONE -> 1;
+            case DAILY -> ceilDiv(ChronoUnit.DAYS.between(start, date), interval);
+            case WEEKLY -> ceilDiv(ChronoUnit.DAYS.between(start, date), 7L * interval);
+            // 월말 보정(1/31 → 2/28) 때문에 내림으로 잡고 앞으로 한두 칸만 이동
+            case MONTHLY -> ChronoUnit.MONTHS.between(start, date) / interval;
+            case YEARLY -> ChronoUnit.YEARS.between(start, date) / interval;
+        };
+        if (type == RecurrenceType.MONTHLY || type == RecurrenceType.YEARLY) {
+            while (nth(k).isBefore(date)) {
+                k++;
+            }
+        }
+        return k;
+    }
+
+    private static long ceilDiv(long a, long b) {
+        return -Math.floorDiv(-a, b);
+    }
+}
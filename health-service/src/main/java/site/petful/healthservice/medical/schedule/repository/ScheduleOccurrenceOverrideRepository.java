@@ -0,0 +1,23 @@
+package site.petful.healthservice.medical.schedule.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import site.petful.healthservice.medical.schedule.entity.ScheduleOccurrenceOverride;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScheduleOccurrenceOverrideRepository extends JpaRepository<ScheduleOccurrenceOverride, Long> {
+
+    // 조회 구간의 예외를 시리즈 전체에 대해 한 번에 가져온다 (uk_occurrence_override 인덱스 사용)
+    List<ScheduleOccurrenceOverride> findByScheduleNoInAndOccurrenceDateBetween(Collection<Long> scheduleNos,
+                                                                               LocalDate from, LocalDate to);
+
+    Optional<ScheduleOccurrenceOverride> findByScheduleNoAndOccurrenceDateAndOccurrenceTime(Long scheduleNo,
+                                                                                           LocalDate occurrenceDate,
+                                                                                           LocalTime occurrenceTime);
+}
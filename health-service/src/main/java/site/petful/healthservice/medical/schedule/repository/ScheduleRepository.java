@@ -51,4 +51,15 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     List<Schedule> findSchedulesWithMedicationDetails(@Param("userNo") Long userNo,
                                                       @Param("startDate") LocalDateTime startDate,
                                                       @Param("endDate") LocalDateTime endDate);
+
+    // 조회 구간과 겹치는 일정(시리즈) 조회. 반복 일정은 한 행이고 발생은 RecurrenceRule로 펼친다
+    @Query("SELECT s FROM Schedule s " +
+           "WHERE s.userNo = :userNo " +
+           "AND s.deleted = false " +
+           "AND s.startDate <= :to " +
+           "AND (s.recurrenceEndDate IS NULL OR s.recurrenceEndDate >= :from) " +
+           "ORDER BY s.startDate ASC")
+    List<Schedule> findSeriesOverlapping(@Param("userNo") Long userNo,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
 }
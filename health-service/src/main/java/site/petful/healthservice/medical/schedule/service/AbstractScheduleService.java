@@ -11,6 +11,7 @@ import site.petful.healthservice.medical.schedule.dto.ScheduleRequestDTO;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,6 +30,14 @@ public abstract class AbstractScheduleService {
     protected Schedule createScheduleEntity(Long userNo, ScheduleRequestDTO request, ScheduleMainType mainType) {
         LocalDate start = request.getStartDate();
         LocalDate end = request.getEndDate() != null ? request.getEndDate() : start;
+        return createScheduleEntity(userNo, request, mainType, start, end);
+    }
+
+    /**
+     * 시작일/종료일을 지정해 스케줄 엔티티 생성 (나머지 필드는 request에서)
+     */
+    protected Schedule createScheduleEntity(Long userNo, ScheduleRequestDTO request, ScheduleMainType mainType,
+                                            LocalDate start, LocalDate end) {
         LocalTime time = request.getTimes().get(0);
         
         LocalDateTime startDt = LocalDateTime.of(start, time);
@@ -63,6 +72,18 @@ public abstract class AbstractScheduleService {
         return entity;
     }
 
+    /**
+     * 반복 일정의 발생일별 엔티티를 메모리에서 한 번에 만든다. (시작일 = 종료일 = 발생일)
+     */
+    protected List<Schedule> createScheduleEntities(Long userNo, ScheduleRequestDTO request, ScheduleMainType mainType,
+                                                    List<LocalDate> dates) {
+        List<Schedule> entities = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            entities.add(createScheduleEntity(userNo, request, mainType, date, date));
+        }
+        return entities;
+    }
+
     /**
      * 공통 스케줄 엔티티 저장
      */
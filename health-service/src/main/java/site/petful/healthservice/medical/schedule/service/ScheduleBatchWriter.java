@@ -0,0 +1,46 @@
+package site.petful.healthservice.medical.schedule.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import site.petful.healthservice.medical.schedule.entity.Schedule;
+
+import java.util.List;
+
+/**
+ * 여러 일정을 한 번에 INSERT한다.
+ * 키는 id_generator에서 미리 받아 두므로 flush 한 번에 batch-size 단위 JDBC 배치로 나간다.
+ * (MySQL은 rewriteBatchedStatements=true일 때 다중 VALUES 한 문장으로 합쳐진다)
+ */
+@Component
+public class ScheduleBatchWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.schedule.insert-batch-size:100}")
+    private int batchSize;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Schedule> insertAll(List<Schedule> schedules) {
+        if (schedules.isEmpty()) {
+            return schedules;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        Integer previous = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(Math.max(1, batchSize));
+        try {
+            for (Schedule schedule : schedules) {
+                entityManager.persist(schedule);
+            }
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(previous);
+        }
+        return schedules;
+    }
+}
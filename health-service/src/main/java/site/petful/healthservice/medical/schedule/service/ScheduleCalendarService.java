@@ -0,0 +1,153 @@
+package site.petful.healthservice.medical.schedule.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import site.petful.healthservice.common.exception.BusinessException;
+import site.petful.healthservice.common.response.ErrorCode;
+import site.petful.healthservice.medical.schedule.dto.OccurrenceDTO;
+import site.petful.healthservice.medical.schedule.dto.OccurrenceUpdateRequestDTO;
+import site.petful.healthservice.medical.schedule.entity.Schedule;
+import site.petful.healthservice.medical.schedule.entity.ScheduleOccurrenceOverride;
+import site.petful.healthservice.medical.schedule.enums.OccurrenceStatus;
+import site.petful.healthservice.medical.schedule.recurrence.OccurrenceCursor;
+import site.petful.healthservice.medical.schedule.recurrence.RecurrenceRule;
+import site.petful.healthservice.medical.schedule.repository.ScheduleOccurrenceOverrideRepository;
+import site.petful.healthservice.medical.schedule.repository.ScheduleRepository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캘린더 조회용 서비스.
+ * 일정은 시리즈 한 행으로 두고, 조회 구간 안의 발생만 RecurrenceRule로 펼친 뒤 예외 테이블을 덧씌운다.
+ * 쿼리는 시리즈 조회 1번 + 예외 조회 1번이며, 행 수는 발생 수가 아니라 시리즈 수에 비례한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScheduleCalendarService {
+
+    // 한 번에 펼칠 수 있는 최대 구간 (월/주 보기용)
+    private static final long MAX_RANGE_DAYS = 62;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleOccurrenceOverrideRepository overrideRepository;
+
+    public List<OccurrenceDTO> listOccurrences(Long userNo, Long petNo, String from, String to) {
+        LocalDate start;
+        LocalDate end;
+        try {
+            start = LocalDate.parse(from);
+            end = LocalDate.parse(to);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.MEDICAL_DATE_FORMAT_ERROR, "건강관리 일정의 날짜 형식이 올바르지 않습니다.");
+        }
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) > MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.MEDICAL_DATE_RANGE_ERROR, "건강관리 일정의 날짜 범위가 올바르지 않습니다.");
+        }
+
+        List<Schedule> series = scheduleRepository.findSeriesOverlapping(
+                userNo, start.atStartOfDay(), end.atTime(LocalTime.MAX)).stream()
+                .filter(s -> petNo == null || petNo.equals(s.getPetNo()))
+                .toList();
+        if (series.isEmpty()) {
+            return List.of();
+        }
+
+        Map<OccurrenceKey, ScheduleOccurrenceOverride> overrides = new HashMap<>();
+        for (ScheduleOccurrenceOverride o : overrideRepository.findByScheduleNoInAndOccurrenceDateBetween(
+                series.stream().map(Schedule::getScheduleNo).toList(), start, end)) {
+            overrides.put(new OccurrenceKey(o.getScheduleNo(), o.getOccurrenceDate(), o.getOccurrenceTime()), o);
+        }
+
+        List<OccurrenceDTO> result = new ArrayList<>();
+        for (Schedule schedule : series) {
+            OccurrenceCursor cursor = RecurrenceRule.of(schedule).occurrences(start, end);
+            while (cursor.next()) {
+                ScheduleOccurrenceOverride override = overrides.isEmpty() ? null
+                        : overrides.get(new OccurrenceKey(schedule.getScheduleNo(), cursor.date(), cursor.time()));
+                result.add(toDTO(schedule, cursor.date(), cursor.time(), override));
+            }
+        }
+        result.sort(Comparator.comparing(OccurrenceDTO::getDate).thenComparing(OccurrenceDTO::getTime));
+        return result;
+    }
+
+    /**
+     * 발생 하나의 상태를 바꾼다. PLANNED로 바꾸면 예외를 지워 규칙대로 되돌린다.
+     */
+    @Transactional
+    public OccurrenceDTO updateOccurrence(Long userNo, Long scheduleNo, OccurrenceUpdateRequestDTO request) {
+        Schedule schedule = scheduleRepository.findById(scheduleNo)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND, "스케줄 일정이 존재하지 않습니다."));
+        if (!schedule.getUserNo().equals(userNo)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "해당 일정에 대한 권한이 없습니다.");
+        }
+        if (Boolean.TRUE.equals(schedule.getDeleted())) {
+            throw new BusinessException(ErrorCode.SCHEDULE_ALREADY_DELETED, "삭제된 일정입니다.");
+        }
+        if (!RecurrenceRule.of(schedule).occursAt(request.getDate(), request.getTime())) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "해당 날짜/시간에 발생하는 일정이 아닙니다.");
+        }
+
+        var existing = overrideRepository.findByScheduleNoAndOccurrenceDateAndOccurrenceTime(
+                scheduleNo, request.getDate(), request.getTime());
+        if (request.getStatus() == OccurrenceStatus.PLANNED) {
+            existing.ifPresent(overrideRepository::delete);
+            return toDTO(schedule, request.getDate(), request.getTime(), null);
+        }
+
+        String title = request.getStatus() == OccurrenceStatus.EDITED ? request.getTitle() : null;
+        LocalTime newTime = request.getStatus() == OccurrenceStatus.EDITED ? request.getNewTime() : null;
+        ScheduleOccurrenceOverride override = existing.orElseGet(() -> ScheduleOccurrenceOverride.builder()
+                .scheduleNo(scheduleNo)
+                .occurrenceDate(request.getDate())
+                .occurrenceTime(request.getTime())
+                .build());
+        override.update(request.getStatus(), title, newTime);
+        overrideRepository.save(override);
+
+        log.info("✅ [ScheduleCalendarService] 발생 예외 저장: scheduleNo={}, date={}, time={}, status={}",
+                scheduleNo, request.getDate(), request.getTime(), request.getStatus());
+        return toDTO(schedule, request.getDate(), request.getTime(), override);
+    }
+
+    private OccurrenceDTO toDTO(Schedule schedule, LocalDate date, LocalTime time, ScheduleOccurrenceOverride override) {
+        String title = schedule.getTitle();
+        LocalTime displayTime = time;
+        OccurrenceStatus status = OccurrenceStatus.PLANNED;
+        if (override != null) {
+            status = override.getStatus();
+            if (override.getOverrideTitle() != null) {
+                title = override.getOverrideTitle();
+            }
+            if (override.getOverrideTime() != null) {
+                displayTime = override.getOverrideTime();
+            }
+        }
+        return OccurrenceDTO.builder()
+                .scheduleNo(schedule.getScheduleNo())
+                .petNo(schedule.getPetNo())
+                .date(date)
+                .time(displayTime)
+                .originalTime(time)
+                .title(title)
+                .mainType(schedule.getMainType() != null ? schedule.getMainType().name() : null)
+                .subType(schedule.getSubType() != null ? schedule.getSubType().name() : null)
+                .status(status.name())
+                .build();
+    }
+
+    private record OccurrenceKey(Long scheduleNo, LocalDate date, LocalTime time) {
+    }
+}
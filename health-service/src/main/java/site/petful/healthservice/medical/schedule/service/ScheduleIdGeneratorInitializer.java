@@ -0,0 +1,52 @@
+package site.petful.healthservice.medical.schedule.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import site.petful.healthservice.medical.schedule.entity.Schedule;
+
+/**
+ * schedule_no를 IDENTITY에서 id_generator 테이블 방식으로 바꾸면서,
+ * 생성기가 이미 있는 schedule_no와 겹치지 않도록 시작값을 MAX(schedule_no) 뒤로 올려 둔다.
+ * 값은 올리기만 하므로 여러 인스턴스가 동시에 떠도 안전하다.
+ */
+@Slf4j
+@Component
+// EntityManagerFactory가 먼저 떠야 스키마(id_generator 포함)가 준비된다
+@DependsOn("entityManagerFactory")
+public class ScheduleIdGeneratorInitializer {
+
+    static final String GENERATOR_TABLE = "id_generator";
+    static final String SEQUENCE_NAME = "schedule";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ScheduleIdGeneratorInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignWithExistingRows() {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(schedule_no), 0) FROM schedule", Long.class);
+        // pooled 최적화기는 [next_val - allocationSize + 1, next_val] 구간을 쓰므로 한 블록만큼 더 띄운다
+        long floor = (max == null ? 0 : max) + Schedule.ID_ALLOCATION_SIZE + 1;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE " + GENERATOR_TABLE + " SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                floor, SEQUENCE_NAME, floor);
+        if (updated > 0) {
+            log.info("✅ [ScheduleIdGeneratorInitializer] schedule_no 생성기 시작값 조정: next_val={}", floor);
+            return;
+        }
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + GENERATOR_TABLE + " WHERE sequence_name = ?", Integer.class, SEQUENCE_NAME);
+        if (rows == null || rows == 0) {
+            jdbcTemplate.update("INSERT INTO " + GENERATOR_TABLE + " (sequence_name, next_val) VALUES (?, ?)",
+                    SEQUENCE_NAME, floor);
+            log.info("✅ [ScheduleIdGeneratorInitializer] schedule_no 생성기 초기화: next_val={}", floor);
+        }
+    }
+}
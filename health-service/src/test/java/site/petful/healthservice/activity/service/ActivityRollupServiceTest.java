@@ -0,0 +1,163 @@
+package site.petful.healthservice.activity.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.petful.healthservice.activity.entity.Activity;
+import site.petful.healthservice.activity.entity.ActivityMeal;
+import site.petful.healthservice.activity.entity.ActivityRollup;
+import site.petful.healthservice.activity.enums.ActivityLevel;
+import site.petful.healthservice.activity.enums.RollupPeriod;
+import site.petful.healthservice.activity.repository.ActivityDailyTotals;
+import site.petful.healthservice.activity.repository.ActivityRollupRepository;
+import site.petful.healthservice.activity.service.ActivityRollupService.Contribution;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityRollupServiceTest {
+
+    // 2025-09-10(수) → 주 시작 09-08(월), 월 시작 09-01
+    private static final LocalDate DATE = LocalDate.of(2025, 9, 10);
+
+    @Mock
+    private ActivityRollupRepository rollupRepository;
+
+    @InjectMocks
+    private ActivityRollupService activityRollupService;
+
+    @Test
+    void 기여분은_식사_섭취_칼로리를_합치고_권장_섭취량을_계산한다() {
+        Activity activity = activity(DATE, 10.0, ActivityLevel.MEDIUM_LOW);
+        activity.addMeal(ActivityMeal.builder().consumedCalories(200).build());
+        activity.addMeal(ActivityMeal.builder().consumedCalories(null).build());
+        activity.addMeal(ActivityMeal.builder().consumedCalories(150).build());
+
+        Contribution c = Contribution.of(activity);
+
+        assertThat(c.caloriesIntake()).isEqualTo(350);
+        assertThat(c.recommendedCaloriesIntake()).isEqualTo(1500); // 10kg × 1.5 × 100
+    }
+
+    @Test
+    void 등록은_일_주_월_구간에_upsert로_더한다() {
+        Contribution c = Contribution.of(activity(DATE, 10.0, ActivityLevel.MEDIUM_LOW));
+
+        activityRollupService.add(c);
+
+        verifyUpsert("DAY", DATE);
+        verifyUpsert("WEEK", LocalDate.of(2025, 9, 8));
+        verifyUpsert("MONTH", LocalDate.of(2025, 9, 1));
+        verify(rollupRepository, never()).addDelta(any(), any(), any(), anyInt(), anyDouble(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyDouble(), anyDouble(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void 수정은_이전_기여분을_빼고_새_기여분을_더한다() {
+        Contribution before = Contribution.of(activity(DATE, 10.0, ActivityLevel.MEDIUM_LOW));
+        LocalDate movedDate = LocalDate.of(2025, 9, 30);
+        Contribution after = Contribution.of(activity(movedDate, 12.0, ActivityLevel.HIGH));
+        when(rollupRepository.addDelta(any(), any(), any(), anyInt(), anyDouble(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyDouble(), anyDouble(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        activityRollupService.replace(before, after);
+
+        for (RollupPeriod period : RollupPeriod.values()) {
+            verify(rollupRepository).addDelta(eq(1L), eq(period), eq(period.startOf(DATE)), eq(-1),
+                    eq(-3.5), eq(-300L), eq(-400L), eq(0L), eq(-1500L),
+                    eq(-10.0), eq(-8.0), eq(-2L), eq(-3L), any());
+            verify(rollupRepository).upsertDelta(eq(1L), eq(7L), eq(period.name()), eq(period.startOf(movedDate)), eq(1),
+                    eq(3.5), eq(300L), eq(400L), eq(0L), eq(2280L),
+                    eq(12.0), eq(8.0), eq(2L), eq(3L), any());
+        }
+    }
+
+    @Test
+    void 뺄_구간_행이_없어도_수정은_실패하지_않는다() {
+        Contribution before = Contribution.of(activity(DATE, 10.0, ActivityLevel.MEDIUM_LOW));
+        when(rollupRepository.addDelta(any(), any(), any(), anyInt(), anyDouble(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyDouble(), anyDouble(), anyLong(), anyLong(), any())).thenReturn(0);
+
+        activityRollupService.replace(before, before);
+
+        verify(rollupRepository).upsertDelta(eq(1L), eq(7L), eq("DAY"), eq(DATE), eq(1), anyDouble(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyDouble(), anyDouble(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void 백필은_하루치_값을_구간별로_합친다() {
+        List<ActivityDailyTotals> rows = List.of(
+                totals(DATE, 2.0, 100, 8.0, ActivityLevel.LOW, 300L),
+                totals(DATE.plusDays(1), 3.0, 200, 9.0, ActivityLevel.LOW, 500L));
+
+        Map<String, ActivityRollup> buckets = ActivityRollupService.buckets(rows).stream()
+                .collect(Collectors.toMap(r -> r.getPeriodType() + ":" + r.getPeriodStart(), Function.identity()));
+
+        assertThat(buckets).hasSize(4); // 일 2개 + 주 1개 + 월 1개
+        ActivityRollup week = buckets.get("WEEK:2025-09-08");
+        assertThat(week.getDays()).isEqualTo(2);
+        assertThat(week.getWalkingDistanceKm()).isEqualTo(5.0);
+        assertThat(week.getCaloriesBurned()).isEqualTo(300L);
+        assertThat(week.getCaloriesIntake()).isEqualTo(800L);
+        assertThat(week.getRecommendedCaloriesIntake()).isEqualTo(960L + 1080L); // 8kg/9kg × 1.2 × 100
+        assertThat(buckets.get("MONTH:2025-09-01").getDays()).isEqualTo(2);
+        assertThat(buckets.get("DAY:2025-09-11").getSleepHours()).isEqualTo(0.0);
+    }
+
+    private void verifyUpsert(String period, LocalDate start) {
+        verify(rollupRepository).upsertDelta(eq(1L), eq(7L), eq(period), eq(start), eq(1),
+                eq(3.5), eq(300L), eq(400L), eq(0L), eq(1500L),
+                eq(10.0), eq(8.0), eq(2L), eq(3L), any());
+    }
+
+    private static Activity activity(LocalDate date, double weightKg, ActivityLevel level) {
+        return Activity.builder()
+                .petNo(1L)
+                .userNo(7L)
+                .activityDate(date)
+                .walkingDistanceKm(3.5)
+                .activityLevel(level)
+                .caloriesBurned(300)
+                .recommendedCaloriesBurned(400)
+                .weightKg(weightKg)
+                .sleepHours(8.0)
+                .poopCount(2)
+                .peeCount(3)
+                .build();
+    }
+
+    private static ActivityDailyTotals totals(LocalDate date, double walkingKm, int caloriesBurned,
+                                              double weightKg, ActivityLevel level, long caloriesIntake) {
+        return new ActivityDailyTotals() {
+            public Long getPetNo() { return 1L; }
+            public Long getUserNo() { return 7L; }
+            public LocalDate getActivityDate() { return date; }
+            public Double getWalkingDistanceKm() { return walkingKm; }
+            public ActivityLevel getActivityLevel() { return level; }
+            public Integer getCaloriesBurned() { return caloriesBurned; }
+            public Integer getRecommendedCaloriesBurned() { return null; }
+            public Double getWeightKg() { return weightKg; }
+            public Double getSleepHours() { return null; }
+            public Integer getPoopCount() { return 1; }
+            public Integer getPeeCount() { return 1; }
+            public Long getCaloriesIntake() { return caloriesIntake; }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package site.petful.healthservice.medical.medication.ocr;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 Clova OCR 스텁.
+ * 어떤 경로로 POST가 와도 multipart 본문을 끝까지 읽고, delayMs 뒤에 처방전 템플릿 응답(약 2종)을 돌려준다.
+ * X-OCR-SECRET 헤더가 없으면 401.
+ * MedicationOCRServiceTest와 PrescriptionOcrBenchmark가 함께 쓴다 (port 0이면 빈 포트).
+ */
+public class StubClovaOcrServer implements AutoCloseable {
+
+    static final String RESPONSE = """
+            {"version":"V2","requestId":"stub","timestamp":0,"images":[{"uid":"stub","name":"prescription",
+            "inferResult":"SUCCESS","message":"SUCCESS","matchedTemplate":{"id":1,"name":"처방전"},
+            "fields":[
+            {"name":"1번 성분명","inferText":"아목시실린"},
+            {"name":"1번 용량","inferText":"250mg"},
+            {"name":"1번 용법","inferText":"경구투여, 하루 2회"},
+            {"name":"1번 처방일수","inferText":"7일"},
+            {"name":"2번 성분명","inferText":"메트로니다졸"},
+            {"name":"2번 용량","inferText":"100mg"},
+            {"name":"2번 용법","inferText":"경구투여, 하루 3회"},
+            {"name":"2번 처방일수","inferText":"5일"}]}]}
+            """;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong received = new AtomicLong();
+
+    public StubClovaOcrServer(int port, long delayMs) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        this.executor = Executors.newCachedThreadPool();
+        byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        server.createContext("/", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) {
+                in.readAllBytes();
+            }
+            received.incrementAndGet();
+            if (exchange.getRequestHeaders().getFirst("X-OCR-SECRET") == null) {
+                exchange.sendResponseHeaders(401, -1);
+                exchange.close();
+                return;
+            }
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String invokeUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/ocr";
+    }
+
+    public long received() {
+        return received.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+}
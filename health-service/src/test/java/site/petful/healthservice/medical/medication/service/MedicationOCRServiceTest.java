@@ -0,0 +1,139 @@
+package site.petful.healthservice.medical.medication.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import site.petful.healthservice.common.exception.BusinessException;
+import site.petful.healthservice.common.response.ErrorCode;
+import site.petful.healthservice.medical.medication.dto.PrescriptionParsedDTO;
+import site.petful.healthservice.medical.medication.ocr.ClovaOcrClient;
+import site.petful.healthservice.medical.medication.ocr.StubClovaOcrServer;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 Clova 스텁을 상대로 한 MedicationOCRService.recognize 동작.
+ * - 같은 이미지는 캐시/처리 중인 결과를 같이 써서 Clova를 한 번만 부른다
+ * - 워커와 대기열이 차면 OCR_QUEUE_FULL로 바로 거절한다
+ * - 응답이 늦으면 시간 초과로 실패하고, 실패한 결과는 캐시에 남지 않는다
+ */
+class MedicationOCRServiceTest {
+
+    private StubClovaOcrServer stub;
+    private MedicationOCRService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    void 같은_이미지는_Clova를_한_번만_호출하고_캐시된_결과를_쓴다() {
+        setUp(100, 10_000, 2, 10, 30_000);
+        byte[] image = image(1);
+        String hash = MedicationOCRService.contentHash(image);
+
+        // 처리 중인 같은 이미지는 같은 결과를 기다린다
+        CompletableFuture<PrescriptionParsedDTO> first = service.recognize(hash, image, "prescription.jpg");
+        CompletableFuture<PrescriptionParsedDTO> inFlight = service.recognize(hash, image, "prescription.jpg");
+        PrescriptionParsedDTO parsed = first.join();
+
+        assertThat(inFlight.join()).isSameAs(parsed);
+        assertThat(parsed.getMedications()).hasSize(2);
+        assertThat(service.isCached(hash)).isTrue();
+
+        PrescriptionParsedDTO cached = service.recognize(hash, image, "prescription.jpg").join();
+        assertThat(cached).isSameAs(parsed);
+        assertThat(stub.received()).isEqualTo(1);
+    }
+
+    @Test
+    void 워커와_대기열이_가득_차면_OCR_QUEUE_FULL로_거절한다() {
+        setUp(500, 10_000, 1, 1, 30_000);
+
+        CompletableFuture<PrescriptionParsedDTO> running = recognize(image(1));
+        CompletableFuture<PrescriptionParsedDTO> queued = recognize(image(2));
+
+        assertThatThrownBy(() -> recognize(image(3)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.OCR_QUEUE_FULL);
+
+        // 먼저 받은 요청은 그대로 처리된다
+        assertThat(running.join().getMedications()).hasSize(2);
+        assertThat(queued.join().getMedications()).hasSize(2);
+        assertThat(stub.received()).isEqualTo(2);
+    }
+
+    @Test
+    void 결과를_기다리는_시간이_지나면_MEDICATION_PARSING_TIMEOUT() {
+        setUp(1_000, 10_000, 1, 10, 200);
+        MockMultipartFile file = new MockMultipartFile("file", "prescription.jpg", "image/jpeg", image(1));
+
+        assertThatThrownBy(() -> service.processPrescription(file))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.MEDICATION_PARSING_TIMEOUT);
+    }
+
+    @Test
+    void Clova_응답_시간_초과는_실패로_끝나고_캐시에_남지_않는다() {
+        setUp(1_000, 200, 1, 10, 30_000);
+        byte[] image = image(1);
+        String hash = MedicationOCRService.contentHash(image);
+
+        assertThatThrownBy(() -> service.recognize(hash, image, "prescription.jpg").join())
+                .isInstanceOf(CompletionException.class)
+                .satisfies(e -> assertThat(MedicationOCRService.toBusinessException(e).getErrorCode())
+                        .isEqualTo(ErrorCode.OCR_PROCESSING_FAILED));
+        assertThat(service.isCached(hash)).isFalse();
+    }
+
+    private void setUp(long stubDelayMs, int readTimeoutMs, int workers, int queueCapacity, long ocrTimeoutMs) {
+        try {
+            stub = new StubClovaOcrServer(0, stubDelayMs);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        ClovaOcrClient client = new ClovaOcrClient();
+        ReflectionTestUtils.setField(client, "invokeUrl", stub.invokeUrl());
+        ReflectionTestUtils.setField(client, "secretKey", "test");
+        ReflectionTestUtils.setField(client, "templateId", "1");
+        ReflectionTestUtils.setField(client, "connectTimeout", 1_000);
+        ReflectionTestUtils.setField(client, "readTimeout", readTimeoutMs);
+        client.init();
+
+        service = new MedicationOCRService(client, new MedicationFrequencyService(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "ocrWorkers", workers);
+        ReflectionTestUtils.setField(service, "ocrQueueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(service, "ocrTimeoutMs", ocrTimeoutMs);
+        ReflectionTestUtils.setField(service, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(service, "cacheTtlHours", 1L);
+        ReflectionTestUtils.setField(service, "maxFileSize", 10_485_760L);
+        service.init();
+    }
+
+    private CompletableFuture<PrescriptionParsedDTO> recognize(byte[] image) {
+        return service.recognize(MedicationOCRService.contentHash(image), image, "prescription.jpg");
+    }
+
+    private static byte[] image(int seed) {
+        byte[] image = new byte[1024];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) (seed * 31 + i);
+        }
+        return image;
+    }
+}
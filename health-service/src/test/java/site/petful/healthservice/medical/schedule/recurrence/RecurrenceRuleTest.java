@@ -0,0 +1,148 @@
+package site.petful.healthservice.medical.schedule.recurrence;
+
+import org.junit.jupiter.api.Test;
+import site.petful.healthservice.medical.schedule.enums.RecurrenceType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurrenceRuleTest {
+
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+
+    @Test
+    void 매월_31일_시작은_짧은_달에서_말일로_맞추고_다음_달에_31일로_돌아온다() {
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceType.MONTHLY, 1,
+                LocalDate.of(2025, 1, 31), null, List.of(NINE));
+
+        assertThat(dates(rule, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 5, 31))).containsExactly(
+                LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 31),
+                LocalDate.of(2025, 4, 30), LocalDate.of(2025, 5, 31));
+        // 구간 시작이 보정된 발생일(2/28) 다음이면 내림으로 잡은 k에서 한 칸 앞으로 간다
+        assertThat(dates(rule, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)))
+                .containsExactly(LocalDate.of(2025, 3, 31));
+        assertThat(rule.occursOn(LocalDate.of(2025, 2, 28))).isTrue();
+        assertThat(rule.occursOn(LocalDate.of(2025, 3, 30))).isFalse();
+    }
+
+    @Test
+    void 격월_31일_시작은_간격만큼만_건너뛴다() {
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceType.MONTHLY, 2,
+                LocalDate.of(2025, 8, 31), null, List.of(NINE));
+
+        assertThat(dates(rule, LocalDate.of(2025, 9, 1), LocalDate.of(2026, 3, 31))).containsExactly(
+                LocalDate.of(2025, 10, 31), LocalDate.of(2025, 12, 31),
+                LocalDate.of(2026, 2, 28));
+    }
+
+    @Test
+    void 매년_2월_29일_시작은_평년에_2월_28일로_맞춘다() {
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceType.YEARLY, 1,
+                LocalDate.of(2024, 2, 29), null, List.of(NINE));
+
+        assertThat(dates(rule, LocalDate.of(2025, 1, 1), LocalDate.of(2028, 12, 31))).containsExactly(
+                LocalDate.of(2025, 2, 28), LocalDate.of(2026, 2, 28),
+                LocalDate.of(2027, 2, 28), LocalDate.of(2028, 2, 29));
+        assertThat(dates(rule, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 12, 31))).isEmpty();
+        assertThat(rule.occursOn(LocalDate.of(2025, 3, 1))).isFalse();
+    }
+
+    @Test
+    void 구간_안의_첫_발생은_올림_나눗셈으로_바로_찾는다() {
+        // 3일 간격: 9/1, 9/4, 9/7, 9/10, 9/13
+        RecurrenceRule daily = RecurrenceRule.of(RecurrenceType.DAILY, 3,
+                LocalDate.of(2025, 9, 1), null, List.of(NINE));
+
+        assertThat(dates(daily, LocalDate.of(2025, 9, 5), LocalDate.of(2025, 9, 12)))
+                .containsExactly(LocalDate.of(2025, 9, 7), LocalDate.of(2025, 9, 10));
+        // 구간 시작이 발생일과 겹치면 그날부터
+        assertThat(dates(daily, LocalDate.of(2025, 9, 4), LocalDate.of(2025, 9, 4)))
+                .containsExactly(LocalDate.of(2025, 9, 4));
+
+        // 2주 간격: 9/1, 9/15, 9/29
+        RecurrenceRule weekly = RecurrenceRule.of(RecurrenceType.WEEKLY, 2,
+                LocalDate.of(2025, 9, 1), null, List.of(NINE));
+
+        assertThat(dates(weekly, LocalDate.of(2025, 9, 2), LocalDate.of(2025, 9, 30)))
+                .containsExactly(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 29));
+        assertThat(weekly.occursOn(LocalDate.of(2025, 9, 8))).isFalse();
+        assertThat(weekly.occursOn(LocalDate.of(2025, 9, 15))).isTrue();
+    }
+
+    @Test
+    void 반복_없음은_종료일과_간격을_무시하고_시작일_하루만_발생한다() {
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceType.NONE, 3,
+                LocalDate.of(2025, 9, 10), LocalDate.of(2025, 12, 31), List.of(NINE));
+
+        assertThat(dates(rule, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 10, 31)))
+                .containsExactly(LocalDate.of(2025, 9, 10));
+        assertThat(dates(rule, LocalDate.of(2025, 9, 11), LocalDate.of(2025, 10, 31))).isEmpty();
+        assertThat(rule.occursOn(LocalDate.of(2025, 9, 10))).isTrue();
+        assertThat(rule.occursOn(LocalDate.of(2025, 9, 13))).isFalse();
+    }
+
+    @Test
+    void 종료일이_구간_시작보다_앞이면_발생이_없다() {
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceType.DAILY, 1,
+                LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 10), List.of(NINE));
+
+        OccurrenceCursor cursor = rule.occurrences(LocalDate.of(2025, 9, 11), LocalDate.of(2025, 9, 20));
+
+        assertThat(cursor.next()).isFalse();
+        assertThat(cursor.next()).isFalse();
+        // 구간 중간에 끝나면 종료일(포함)까지만
+        assertThat(dates(rule, LocalDate.of(2025, 9, 9), LocalDate.of(2025, 9, 20)))
+                .containsExactly(LocalDate.of(2025, 9, 9), LocalDate.of(2025, 9, 10));
+        assertThat(rule.occursOn(LocalDate.of(2025, 9, 11))).isFalse();
+    }
+
+    @Test
+    void 시작일보다_앞선_구간은_발생이_없다() {
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceType.DAILY, 1,
+                LocalDate.of(2025, 9, 1), null, List.of(NINE));
+
+        assertThat(dates(rule, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31))).isEmpty();
+        assertThat(rule.occursOn(LocalDate.of(2025, 8, 31))).isFalse();
+    }
+
+    @Test
+    void 하루_여러_시각은_정렬_중복제거_후_날짜마다_시각순으로_나온다() {
+        LocalTime evening = LocalTime.of(18, 0);
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceType.DAILY, 1,
+                LocalDate.of(2025, 9, 1), null, List.of(evening, NINE, NINE));
+
+        List<String> occurrences = new ArrayList<>();
+        OccurrenceCursor cursor = rule.occurrences(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 2));
+        while (cursor.next()) {
+            occurrences.add(cursor.date() + "T" + cursor.time());
+        }
+
+        assertThat(rule.timesPerDay()).isEqualTo(2);
+        assertThat(occurrences).containsExactly(
+                "2025-09-01T09:00", "2025-09-01T18:00", "2025-09-02T09:00", "2025-09-02T18:00");
+        assertThat(rule.occursAt(LocalDate.of(2025, 9, 2), evening)).isTrue();
+        assertThat(rule.occursAt(LocalDate.of(2025, 9, 2), LocalTime.NOON)).isFalse();
+    }
+
+    @Test
+    void 시각이_없으면_자정_한_번으로_본다() {
+        RecurrenceRule rule = RecurrenceRule.of(RecurrenceType.DAILY, null,
+                LocalDate.of(2025, 9, 1), null, List.of());
+
+        assertThat(rule.timesPerDay()).isEqualTo(1);
+        assertThat(rule.occursAt(LocalDate.of(2025, 9, 3), LocalTime.MIDNIGHT)).isTrue();
+    }
+
+    private static List<LocalDate> dates(RecurrenceRule rule, LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        OccurrenceCursor cursor = rule.occurrences(from, to);
+        while (cursor.next()) {
+            dates.add(cursor.date());
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,173 @@
+package site.petful.healthservice.medical.schedule.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.petful.healthservice.common.exception.BusinessException;
+import site.petful.healthservice.common.response.ErrorCode;
+import site.petful.healthservice.medical.schedule.dto.OccurrenceDTO;
+import site.petful.healthservice.medical.schedule.dto.OccurrenceUpdateRequestDTO;
+import site.petful.healthservice.medical.schedule.entity.Schedule;
+import site.petful.healthservice.medical.schedule.entity.ScheduleOccurrenceOverride;
+import site.petful.healthservice.medical.schedule.enums.OccurrenceStatus;
+import site.petful.healthservice.medical.schedule.enums.RecurrenceType;
+import site.petful.healthservice.medical.schedule.repository.ScheduleOccurrenceOverrideRepository;
+import site.petful.healthservice.medical.schedule.repository.ScheduleRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleCalendarServiceTest {
+
+    private static final Long USER_NO = 1L;
+    private static final Long SCHEDULE_NO = 10L;
+    private static final LocalTime MORNING = LocalTime.of(8, 0);
+    private static final LocalTime EVENING = LocalTime.of(20, 0);
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+    @Mock
+    private ScheduleOccurrenceOverrideRepository overrideRepository;
+
+    @InjectMocks
+    private ScheduleCalendarService scheduleCalendarService;
+
+    @Test
+    void 조회_구간은_62일까지_허용한다() {
+        when(scheduleRepository.findSeriesOverlapping(eq(USER_NO), any(), any())).thenReturn(List.of());
+
+        List<OccurrenceDTO> result = scheduleCalendarService.listOccurrences(USER_NO, null, "2025-09-01", "2025-11-02");
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void 조회_구간이_62일을_넘으면_범위_오류() {
+        assertThatThrownBy(() -> scheduleCalendarService.listOccurrences(USER_NO, null, "2025-09-01", "2025-11-03"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.MEDICAL_DATE_RANGE_ERROR);
+        verify(scheduleRepository, never()).findSeriesOverlapping(any(), any(), any());
+    }
+
+    @Test
+    void 조회는_구간_안의_발생만_펼치고_예외를_덧씌운다() {
+        Schedule schedule = dailySchedule(USER_NO);
+        when(scheduleRepository.findSeriesOverlapping(eq(USER_NO), any(), any())).thenReturn(List.of(schedule));
+        ScheduleOccurrenceOverride skipped = ScheduleOccurrenceOverride.builder()
+                .scheduleNo(SCHEDULE_NO)
+                .occurrenceDate(LocalDate.of(2025, 9, 2))
+                .occurrenceTime(EVENING)
+                .status(OccurrenceStatus.SKIPPED)
+                .build();
+        when(overrideRepository.findByScheduleNoInAndOccurrenceDateBetween(anyCollection(), any(), any()))
+                .thenReturn(List.of(skipped));
+
+        List<OccurrenceDTO> result = scheduleCalendarService.listOccurrences(USER_NO, null, "2025-09-02", "2025-09-03");
+
+        assertThat(result).extracting(o -> o.getDate() + "T" + o.getTime() + " " + o.getStatus()).containsExactly(
+                "2025-09-02T08:00 PLANNED", "2025-09-02T20:00 SKIPPED",
+                "2025-09-03T08:00 PLANNED", "2025-09-03T20:00 PLANNED");
+    }
+
+    @Test
+    void 발생_수정은_예외를_저장하고_바뀐_제목과_시간을_돌려준다() {
+        when(scheduleRepository.findById(SCHEDULE_NO)).thenReturn(Optional.of(dailySchedule(USER_NO)));
+        LocalDate date = LocalDate.of(2025, 9, 5);
+        when(overrideRepository.findByScheduleNoAndOccurrenceDateAndOccurrenceTime(SCHEDULE_NO, date, EVENING))
+                .thenReturn(Optional.empty());
+
+        OccurrenceDTO result = scheduleCalendarService.updateOccurrence(USER_NO, SCHEDULE_NO,
+                new OccurrenceUpdateRequestDTO(date, EVENING, OccurrenceStatus.EDITED, "저녁 약 늦게", LocalTime.of(21, 30)));
+
+        ArgumentCaptor<ScheduleOccurrenceOverride> saved = ArgumentCaptor.forClass(ScheduleOccurrenceOverride.class);
+        verify(overrideRepository).save(saved.capture());
+        assertThat(saved.getValue().getOccurrenceDate()).isEqualTo(date);
+        assertThat(saved.getValue().getOccurrenceTime()).isEqualTo(EVENING);
+        assertThat(saved.getValue().getStatus()).isEqualTo(OccurrenceStatus.EDITED);
+        assertThat(result.getTitle()).isEqualTo("저녁 약 늦게");
+        assertThat(result.getTime()).isEqualTo(LocalTime.of(21, 30));
+        assertThat(result.getOriginalTime()).isEqualTo(EVENING);
+        assertThat(result.getStatus()).isEqualTo("EDITED");
+    }
+
+    @Test
+    void 발생을_PLANNED로_되돌리면_예외를_지운다() {
+        when(scheduleRepository.findById(SCHEDULE_NO)).thenReturn(Optional.of(dailySchedule(USER_NO)));
+        LocalDate date = LocalDate.of(2025, 9, 5);
+        ScheduleOccurrenceOverride existing = ScheduleOccurrenceOverride.builder()
+                .scheduleNo(SCHEDULE_NO)
+                .occurrenceDate(date)
+                .occurrenceTime(MORNING)
+                .status(OccurrenceStatus.DONE)
+                .build();
+        when(overrideRepository.findByScheduleNoAndOccurrenceDateAndOccurrenceTime(SCHEDULE_NO, date, MORNING))
+                .thenReturn(Optional.of(existing));
+
+        OccurrenceDTO result = scheduleCalendarService.updateOccurrence(USER_NO, SCHEDULE_NO,
+                new OccurrenceUpdateRequestDTO(date, MORNING, OccurrenceStatus.PLANNED, null, null));
+
+        verify(overrideRepository).delete(existing);
+        verify(overrideRepository, never()).save(any());
+        assertThat(result.getStatus()).isEqualTo("PLANNED");
+        assertThat(result.getTime()).isEqualTo(MORNING);
+    }
+
+    @Test
+    void 규칙에_없는_날짜나_시각의_발생은_수정할_수_없다() {
+        when(scheduleRepository.findById(SCHEDULE_NO)).thenReturn(Optional.of(dailySchedule(USER_NO)));
+
+        // 시작일 전
+        assertThatThrownBy(() -> scheduleCalendarService.updateOccurrence(USER_NO, SCHEDULE_NO,
+                new OccurrenceUpdateRequestDTO(LocalDate.of(2025, 8, 31), MORNING, OccurrenceStatus.DONE, null, null)))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+        // 규칙에 없는 시각
+        assertThatThrownBy(() -> scheduleCalendarService.updateOccurrence(USER_NO, SCHEDULE_NO,
+                new OccurrenceUpdateRequestDTO(LocalDate.of(2025, 9, 5), LocalTime.NOON, OccurrenceStatus.DONE, null, null)))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+        verify(overrideRepository, never()).save(any());
+    }
+
+    @Test
+    void 다른_사용자의_일정_발생은_수정할_수_없다() {
+        when(scheduleRepository.findById(SCHEDULE_NO)).thenReturn(Optional.of(dailySchedule(2L)));
+
+        assertThatThrownBy(() -> scheduleCalendarService.updateOccurrence(USER_NO, SCHEDULE_NO,
+                new OccurrenceUpdateRequestDTO(LocalDate.of(2025, 9, 5), MORNING, OccurrenceStatus.DONE, null, null)))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FORBIDDEN);
+        verify(overrideRepository, never()).findByScheduleNoAndOccurrenceDateAndOccurrenceTime(any(), any(), any());
+    }
+
+    // 2025-09-01부터 매일 08:00, 20:00 (종료일 없음)
+    private static Schedule dailySchedule(Long userNo) {
+        return Schedule.builder()
+                .scheduleNo(SCHEDULE_NO)
+                .userNo(userNo)
+                .petNo(100L)
+                .title("심장약")
+                .startDate(LocalDateTime.of(2025, 9, 1, 8, 0))
+                .recurrenceType(RecurrenceType.DAILY)
+                .recurrenceInterval(1)
+                .times("08:00,20:00")
+                .build();
+    }
+}
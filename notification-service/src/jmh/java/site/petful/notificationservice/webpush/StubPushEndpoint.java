@@ -0,0 +1,59 @@
+package site.petful.notificationservice.webpush;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 로컬 push 서비스 스텁.
+ * 어떤 경로로 POST가 와도 본문을 읽고 201 Created를 돌려준다. (/gone/** 은 410)
+ *
+ * 단독 실행: java -cp <jmh jar> site.petful.notificationservice.webpush.StubPushEndpoint 8089
+ */
+public class StubPushEndpoint implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong received = new AtomicLong();
+
+    public StubPushEndpoint(int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        this.executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        server.createContext("/", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                body.readAllBytes();
+            }
+            received.incrementAndGet();
+            int status = exchange.getRequestURI().getPath().startsWith("/gone/") ? 410 : 201;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String endpoint(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/" + path;
+    }
+
+    public long received() {
+        return received.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        StubPushEndpoint stub = new StubPushEndpoint(port);
+        System.out.println("stub push endpoint: " + stub.endpoint("push/{id}"));
+    }
+}
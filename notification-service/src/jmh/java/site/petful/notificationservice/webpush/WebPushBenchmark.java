@@ -0,0 +1,156 @@
+package site.petful.notificationservice.webpush;
+
+import nl.martijndwars.webpush.PushService;
+import nl.martijndwars.webpush.Subscription;
+import nl.martijndwars.webpush.Utils;
+import org.bouncycastle.jce.ECNamedCurveTable;
+import org.bouncycastle.jce.interfaces.ECPrivateKey;
+import org.bouncycastle.jce.interfaces.ECPublicKey;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import site.petful.notificationservice.entity.WebPushSubscription;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구독 N개에 같은 알림 하나를 보내는 시간 (로컬 스텁 push 서비스 대상).
+ * - legacyPushServicePerSubscription: 변경 전 방식 (구독마다 PushService 생성/키 파싱/JWT 서명, 10 스레드에서 동기 전송)
+ * - sharedSender: VapidSigner + WebPushSender (서명 캐시, 공유 비동기 HttpClient)
+ * pushes/s = subscriptions / 측정 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WebPushBenchmark {
+
+    private static final byte[] PAYLOAD = ("{\"title\":\"건강 알림\",\"body\":\"약 먹을 시간입니다.\","
+            + "\"icon\":\"/icons/notification-icon.svg\",\"data\":{\"notificationId\":1,\"linkUrl\":\"/schedules/1\"}}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"10000"})
+    public int subscriptions;
+
+    private StubPushEndpoint stub;
+    private VapidProps vapidProps;
+    private WebPushSender sender;
+    private List<WebPushSubscription> targets;
+    private ExecutorService legacyExecutor;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Delivered {
+        public long delivered;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+        stub = new StubPushEndpoint(0);
+
+        KeyPair vapid = generateKeyPair();
+        vapidProps = new VapidProps();
+        vapidProps.setPublicKey(encode(Utils.encode((ECPublicKey) vapid.getPublic())));
+        vapidProps.setPrivateKey(encode(Utils.encode((ECPrivateKey) vapid.getPrivate())));
+        vapidProps.setSubject("mailto:bench@petful.site");
+
+        sender = new WebPushSender(new VapidSigner(vapidProps), 256, 60, 10_000);
+        legacyExecutor = Executors.newFixedThreadPool(10);
+
+        SecureRandom random = new SecureRandom();
+        targets = new ArrayList<>(subscriptions);
+        for (int i = 0; i < subscriptions; i++) {
+            KeyPair client = generateKeyPair();
+            byte[] auth = new byte[16];
+            random.nextBytes(auth);
+
+            WebPushSubscription subscription = new WebPushSubscription();
+            subscription.setId((long) i);
+            subscription.setUserId((long) i);
+            subscription.setEndpoint(stub.endpoint("push/" + i));
+            subscription.setP256dhKey(encode(Utils.encode((ECPublicKey) client.getPublic())));
+            subscription.setAuthKey(encode(auth));
+            subscription.setIsActive(true);
+            targets.add(subscription);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sender.shutdown();
+        legacyExecutor.shutdown();
+        stub.close();
+    }
+
+    @Benchmark
+    public long legacyPushServicePerSubscription(Delivered delivered) {
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(targets.size());
+        for (WebPushSubscription target : targets) {
+            futures.add(CompletableFuture.supplyAsync(() -> legacySend(target), legacyExecutor));
+        }
+        long ok = futures.stream().filter(CompletableFuture::join).count();
+        delivered.delivered += ok;
+        return ok;
+    }
+
+    @Benchmark
+    public long sharedSender(Delivered delivered) {
+        List<CompletableFuture<PushResult>> futures = new ArrayList<>(targets.size());
+        for (WebPushSubscription target : targets) {
+            futures.add(sender.send(target, PAYLOAD));
+        }
+        long ok = futures.stream().map(CompletableFuture::join).filter(PushResult::success).count();
+        delivered.delivered += ok;
+        return ok;
+    }
+
+    // 변경 전 WebPushService.sendPushToSubscription과 같은 순서
+    private boolean legacySend(WebPushSubscription target) {
+        try {
+            PushService pushService = new PushService();
+            pushService.setPrivateKey(vapidProps.getPrivateKey());
+            pushService.setPublicKey(vapidProps.getPublicKey());
+            pushService.setSubject(vapidProps.getSubject());
+
+            Subscription subscription = new Subscription(target.getEndpoint(),
+                    new Subscription.Keys(target.getP256dhKey(), target.getAuthKey()));
+            nl.martijndwars.webpush.Notification notification =
+                    new nl.martijndwars.webpush.Notification(subscription, new String(PAYLOAD, StandardCharsets.UTF_8));
+            return pushService.send(notification).getStatusLine().getStatusCode() < 300;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("ECDH", BouncyCastleProvider.PROVIDER_NAME);
+        generator.initialize(ECNamedCurveTable.getParameterSpec("prime256v1"));
+        return generator.generateKeyPair();
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,297 @@
+package site.petful.notificationservice.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import site.petful.notificationservice.dto.SimpleProfileResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작성자 표시용 사용자 프로필 조회 (user-service /auth/profile/simple).
+ *
+ * - near: 인스턴스 로컬 Caffeine 캐시 (짧은 TTL)
+ * - far : Redis "user:profile:simple:{userNo}" (서비스 간 공유, id/nickname/profileImageUrl만 저장)
+ * - 둘 다 없으면 getUsersBrief 배치 호출. 같은 id를 동시에 찾는 요청은 먼저 온 호출 하나의 결과를 같이 기다린다
+ * - user-service가 닉네임/프로필 이미지를 바꾸면 Redis 키를 지우고 "user:profile-changed" 채널로 userNo를 보내며,
+ *   여기서는 그 메시지를 받아 near 캐시를 비운다
+ *
+ * 서비스마다 독립 빌드라 공유 모듈이 없어 community-service에 같은 클래스가 복사되어 있다.
+ * 키 형식/채널/직렬화가 어긋나면 캐시를 서로 못 읽으므로 수정할 때는 양쪽을 같이 바꾼다 (package, DTO import만 다름).
+ */
+@Slf4j
+@Component
+public class UserProfileLookup implements MessageListener {
+
+    public static final String KEY_PREFIX = "user:profile:simple:";
+    public static final String CHANGED_CHANNEL = "user:profile-changed";
+
+    private static final String METRIC = "user.profile.lookup";
+
+    private final UserClient userClient;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, SimpleProfileResponse> nearCache;
+    private final Duration farTtl;
+    private final long waitTimeoutMs;
+    private final Map<Long, CompletableFuture<SimpleProfileResponse>> inFlight = new ConcurrentHashMap<>();
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Counter nearHits;
+    private final Counter farHits;
+    private final Counter remoteLoads;
+    private final Counter misses;
+    private final Counter remoteCalls;
+
+    public UserProfileLookup(UserClient userClient,
+                             StringRedisTemplate redisTemplate,
+                             RedisConnectionFactory connectionFactory,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.profile-cache.near-ttl-seconds:60}") long nearTtlSeconds,
+                             @Value("${app.profile-cache.near-max-size:10000}") long nearMaxSize,
+                             @Value("${app.profile-cache.far-ttl-seconds:600}") long farTtlSeconds,
+                             @Value("${app.profile-cache.wait-timeout-ms:3000}") long waitTimeoutMs) {
+        this.userClient = userClient;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.farTtl = Duration.ofSeconds(farTtlSeconds);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.nearCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(nearTtlSeconds))
+                .maximumSize(nearMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "user.profile.near");
+
+        this.nearHits = Counter.builder(METRIC).tag("result", "near").register(meterRegistry);
+        this.farHits = Counter.builder(METRIC).tag("result", "far").register(meterRegistry);
+        this.remoteLoads = Counter.builder(METRIC).tag("result", "remote").register(meterRegistry);
+        this.misses = Counter.builder(METRIC).tag("result", "miss").register(meterRegistry);
+        this.remoteCalls = Counter.builder(METRIC + ".remote.calls").register(meterRegistry);
+
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    /**
+     * 단건 조회. 찾지 못하면 null.
+     */
+    public SimpleProfileResponse getProfile(Long userNo) {
+        if (userNo == null) {
+            return null;
+        }
+        return getProfiles(List.of(userNo)).get(userNo);
+    }
+
+    /**
+     * 여러 사용자 조회. 찾은 사용자만 담아 돌려준다.
+     */
+    public Map<Long, SimpleProfileResponse> getProfiles(Collection<Long> userNos) {
+        Map<Long, SimpleProfileResponse> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long userNo : new LinkedHashSet<>(userNos)) {
+            if (userNo == null) {
+                continue;
+            }
+            SimpleProfileResponse cached = nearCache.getIfPresent(userNo);
+            if (cached != null) {
+                result.put(userNo, cached);
+            } else {
+                missing.add(userNo);
+            }
+        }
+        nearHits.increment(result.size());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        missing = readFar(missing, result);
+        if (!missing.isEmpty()) {
+            loadRemote(missing, result);
+        }
+        return result;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "").trim();
+        try {
+            Long userNo = Long.valueOf(body);
+            nearCache.invalidate(userNo);
+            log.debug("🔄 [UserProfileLookup] 프로필 변경으로 캐시 삭제: userNo={}", userNo);
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ [UserProfileLookup] 알 수 없는 프로필 변경 메시지: {}", body);
+        }
+    }
+
+    // Redis에서 찾은 것은 result/near 캐시에 넣고, 못 찾은 id를 돌려준다
+    private List<Long> readFar(List<Long> userNos, Map<Long, SimpleProfileResponse> result) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(userNos.stream().map(UserProfileLookup::key).toList());
+            if (values == null) {
+                return userNos;
+            }
+            List<Long> remaining = new ArrayList<>();
+            for (int i = 0; i < userNos.size(); i++) {
+                SimpleProfileResponse profile = values.get(i) == null ? null : deserialize(values.get(i));
+                if (profile != null) {
+                    nearCache.put(userNos.get(i), profile);
+                    result.put(userNos.get(i), profile);
+                } else {
+                    remaining.add(userNos.get(i));
+                }
+            }
+            farHits.increment(userNos.size() - remaining.size());
+            return remaining;
+        } catch (Exception e) {
+            log.warn("⚠️ [UserProfileLookup] Redis 조회 실패: {}", e.getMessage());
+            return userNos;
+        }
+    }
+
+    private void loadRemote(List<Long> userNos, Map<Long, SimpleProfileResponse> result) {
+        // 이미 다른 요청이 불러오는 중인 id는 그 결과를 기다리고, 나머지만 직접 부른다
+        Map<Long, CompletableFuture<SimpleProfileResponse>> owned = new LinkedHashMap<>();
+        Map<Long, CompletableFuture<SimpleProfileResponse>> waiting = new HashMap<>();
+        for (Long userNo : userNos) {
+            CompletableFuture<SimpleProfileResponse> future = new CompletableFuture<>();
+            CompletableFuture<SimpleProfileResponse> existing = inFlight.putIfAbsent(userNo, future);
+            if (existing == null) {
+                owned.put(userNo, future);
+            } else {
+                waiting.put(userNo, existing);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            Map<Long, SimpleProfileResponse> loaded = fetch(new ArrayList<>(owned.keySet()));
+            owned.forEach((userNo, future) -> {
+                SimpleProfileResponse profile = loaded.get(userNo);
+                if (profile != null) {
+                    nearCache.put(userNo, profile);
+                    result.put(userNo, profile);
+                }
+                inFlight.remove(userNo, future);
+                future.complete(profile);
+            });
+            writeFar(loaded.values());
+        }
+
+        for (Map.Entry<Long, CompletableFuture<SimpleProfileResponse>> entry : waiting.entrySet()) {
+            try {
+                SimpleProfileResponse profile = entry.getValue().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+                if (profile != null) {
+                    result.put(entry.getKey(), profile);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("⚠️ [UserProfileLookup] 프로필 대기 실패: userNo={}, error={}", entry.getKey(), e.getMessage());
+            }
+        }
+
+        long found = userNos.stream().filter(result::containsKey).count();
+        remoteLoads.increment(found);
+        misses.increment(userNos.size() - found);
+    }
+
+    private Map<Long, SimpleProfileResponse> fetch(List<Long> userNos) {
+        remoteCalls.increment();
+        try {
+            var resp = userClient.getUsersBrief(userNos);
+            List<SimpleProfileResponse> profiles = (resp != null && resp.getData() != null) ? resp.getData() : List.of();
+            Map<Long, SimpleProfileResponse> loaded = new HashMap<>();
+            profiles.stream()
+                    .filter(Objects::nonNull)
+                    .filter(p -> p.getId() != null)
+                    .forEach(p -> loaded.putIfAbsent(p.getId(), p));
+            return loaded;
+        } catch (Exception e) {
+            log.warn("⚠️ [UserProfileLookup] getUsersBrief 실패: userNos={}, error={}", userNos, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void writeFar(Collection<SimpleProfileResponse> profiles) {
+        if (profiles.isEmpty()) {
+            return;
+        }
+        try {
+            Map<byte[], byte[]> values = new HashMap<>();
+            for (SimpleProfileResponse profile : profiles) {
+                values.put(key(profile.getId()).getBytes(StandardCharsets.UTF_8), serialize(profile));
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                values.forEach((key, value) ->
+                        connection.stringCommands().set(key, value, Expiration.from(farTtl), SetOption.upsert()));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("⚠️ [UserProfileLookup] Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 서비스마다 DTO 필드가 달라서 공통 필드만 저장한다
+    private byte[] serialize(SimpleProfileResponse profile) throws Exception {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("id", profile.getId());
+        value.put("nickname", profile.getNickname());
+        value.put("profileImageUrl", profile.getProfileImageUrl());
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    private SimpleProfileResponse deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, SimpleProfileResponse.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String key(Long userNo) {
+        return KEY_PREFIX + userNo;
+    }
+}
@@ -0,0 +1,20 @@
+package site.petful.notificationservice.dispatch;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.notification.dispatch")
+@Getter
+@Setter
+public class DispatchProps {
+    private int chunkSize = 200;            // 한 번에 가져갈(claim) 예약 알림 수
+    private long windowMs = 30_000;         // 다음 구간으로 미리 가져올 범위 (= claim 주기)
+    private long tickMs = 1_000;            // 타임휠 한 칸 (발송 시각 정밀도)
+    private int workers = 8;                // 발송 스레드 수
+    private int queueCapacity = 1_000;      // 발송 대기열 크기 (가득 차면 tick 스레드가 직접 발송)
+    private int maxPending = 10_000;        // 타임휠에 올려둘 최대 건수
+    private long claimTimeoutMs = 300_000;  // 이 시간 동안 처리되지 않은 claim은 다시 풀어준다
+}
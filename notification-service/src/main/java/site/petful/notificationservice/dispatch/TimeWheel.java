@@ -0,0 +1,77 @@
+package site.petful.notificationservice.dispatch;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 해시드 타임휠. tick 단위 칸에 항목을 넣어 두고 advance(now)로 시각이 된 항목만 꺼낸다.
+ * 휠 한 바퀴보다 먼 항목도 넣을 수 있다 (해당 칸을 지날 때 due tick으로 다시 확인).
+ */
+public class TimeWheel<T> {
+
+    private record Entry<T>(long dueTick, T item) {
+    }
+
+    private final long tickMillis;
+    private final ArrayDeque<Entry<T>>[] buckets;
+    private long lastTick = -1;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimeWheel(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis와 wheelSize는 0보다 커야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * 항목을 dueAtMillis 시각 칸에 넣는다. 이미 지난 시각이면 다음 advance에서 바로 나온다.
+     */
+    public synchronized void schedule(T item, long dueAtMillis) {
+        long dueTick = Math.max(dueAtMillis / tickMillis, lastTick + 1);
+        buckets[(int) (dueTick % buckets.length)].add(new Entry<>(dueTick, item));
+        size++;
+    }
+
+    /**
+     * 마지막 호출 이후 지나간 칸들을 훑어 시각이 된 항목을 예약 시각 순서대로 꺼낸다.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        if (lastTick < 0) {
+            lastTick = nowTick - buckets.length;
+        }
+        if (nowTick <= lastTick || size == 0) {
+            lastTick = Math.max(lastTick, nowTick);
+            return List.of();
+        }
+
+        List<T> due = new ArrayList<>();
+        // 한 바퀴 넘게 밀렸으면 모든 칸을 한 번씩만 본다
+        long from = Math.max(lastTick + 1, nowTick - buckets.length + 1);
+        for (long tick = from; tick <= nowTick; tick++) {
+            Iterator<Entry<T>> it = buckets[(int) (tick % buckets.length)].iterator();
+            while (it.hasNext()) {
+                Entry<T> entry = it.next();
+                if (entry.dueTick() <= nowTick) {
+                    due.add(entry.item());
+                    it.remove();
+                    size--;
+                }
+            }
+        }
+        lastTick = nowTick;
+        return due;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,9 @@
+package site.petful.notificationservice.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 이벤트에서 만들어진 예약 알림 한 건 (알림 내용 메시지 + 발송 시간)
+ */
+public record ScheduledReminder(EventMessage message, LocalDateTime scheduledAt) {
+}
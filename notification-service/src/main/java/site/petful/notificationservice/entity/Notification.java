@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 @Entity
-@Table(name="Notifications")
+@Table(name="Notifications",
+        indexes = @Index(name = "idx_notifications_status_scheduled_at", columnList = "status, scheduled_at"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -62,6 +63,12 @@ public class Notification {
     @Column(name = "status", nullable = false)
     private NotificationStatus status = NotificationStatus.PENDING;  // 알림 상태
 
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;          // 예약 발송을 가져간 디스패처 토큰
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;    // 가져간 시간 (오래되면 다시 풀어준다)
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
@@ -86,6 +93,11 @@ public class Notification {
         this.sentAt = LocalDateTime.now();
     }
 
+    public void claim(String token, LocalDateTime now) {
+        this.claimToken = token;
+        this.claimedAt = now;
+    }
+
     public void markAsFailed() {
         this.status = NotificationStatus.FAILED;
     }
@@ -97,20 +109,11 @@ public class Notification {
     }
 
     public static Notification of(Long userId, String type, String title, String content, String linkUrl) {
-        return new Notification(null, userId, type, title, content, linkUrl, false, null, false, null, LocalDateTime.now(ZoneId.of("Asia/Seoul")), null, null, NotificationStatus.PENDING);
+        return new Notification(null, userId, type, title, content, linkUrl, false, null, false, null, LocalDateTime.now(ZoneId.of("Asia/Seoul")), null, null, NotificationStatus.PENDING, null, null);
     }
 
     public static Notification scheduled(Long userId, String type, String title, String content, String linkUrl, LocalDateTime scheduledAt) {
-        System.out.println("🔍 [Notification.scheduled] scheduledAt 파라미터: " + scheduledAt);
-        System.out.println("🔍 [Notification.scheduled] scheduledAt 상세: year=" + scheduledAt.getYear() + 
-                ", month=" + scheduledAt.getMonth() + ", day=" + scheduledAt.getDayOfMonth() + 
-                ", hour=" + scheduledAt.getHour() + ", minute=" + scheduledAt.getMinute() + ", second=" + scheduledAt.getSecond());
-        
-        Notification notification = new Notification(null, userId, type, title, content, linkUrl, false, null, false, null, LocalDateTime.now(ZoneId.of("Asia/Seoul")), scheduledAt, null, NotificationStatus.SCHEDULED);
-        
-        System.out.println("🔍 [Notification.scheduled] 생성된 엔티티의 scheduledAt: " + notification.getScheduledAt());
-        
-        return notification;
+        return new Notification(null, userId, type, title, content, linkUrl, false, null, false, null, LocalDateTime.now(ZoneId.of("Asia/Seoul")), scheduledAt, null, NotificationStatus.SCHEDULED, null, null);
     }
 
     public enum NotificationStatus {
@@ -1,16 +1,25 @@
 package site.petful.notificationservice.messaging;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 import site.petful.notificationservice.dto.EventMessage;
+import site.petful.notificationservice.dto.ScheduledReminder;
 import site.petful.notificationservice.entity.Notification;
 import site.petful.notificationservice.service.NotificationService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.List;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -18,8 +27,62 @@ import java.util.HashMap;
 public class DomainEventConsumer {
 
     private final NotificationService notificationService;
+    private final ProcessedEventStore processedEventStore;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * 메시지를 batchSize 만큼 모아서 받는다.
+     * 이미 처리한 메시지는 건너뛰고, 하나라도 실패하면 예외를 던져 배치 전체를 다시 받는다.
+     * (재전달 시 성공했던 메시지는 dedup 키로 걸러진다. eventId가 없는 메시지는 내용으로 키를 만든다)
+     */
     @RabbitListener(queues = "${app.messaging.queue}")
+    public void onMessages(List<EventMessage> messages) {
+        List<String> dedupKeys = messages.stream().map(this::dedupKey).toList();
+        Set<String> unprocessed = processedEventStore.filterUnprocessed(dedupKeys);
+
+        List<String> processed = new ArrayList<>();
+        RuntimeException failure = null;
+        for (int i = 0; i < messages.size(); i++) {
+            EventMessage message = messages.get(i);
+            String dedupKey = dedupKeys.get(i);
+            if (!unprocessed.remove(dedupKey)) {
+                log.info("🔁 [NotificationConsumer] 중복 메시지 건너뜀: key={}, type={}", dedupKey, message.getType());
+                continue;
+            }
+            try {
+                onMessage(message);
+                processed.add(dedupKey);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        processedEventStore.markProcessed(processed);
+        if (failure != null) {
+            throw failure; // 메시지 재처리를 위해 예외를 다시 던짐
+        }
+    }
+
+    /**
+     * eventId가 있으면 그대로, 없으면 메시지 내용(맵 키 정렬 JSON)의 SHA-256으로 dedup 키를 만든다.
+     * 내용이 완전히 같은 메시지는 dedup TTL 동안 한 번만 처리된다.
+     */
+    private String dedupKey(EventMessage message) {
+        if (message.getEventId() != null) {
+            return message.getEventId();
+        }
+        try {
+            byte[] canonical = objectMapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsBytes(message);
+            return "derived:" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("dedup 키 생성 실패: type=" + message.getType(), e);
+        }
+    }
+
     public void onMessage(EventMessage message) {
         log.info("📩 [NotificationConsumer] 받은 메시지: eventId={}, type={}, actor={}, target={}",
                 message.getEventId(),
@@ -30,7 +93,8 @@ public class DomainEventConsumer {
 
         try {
             // health.schedule 메시지인 경우 즉시 알림 + 예약 알림 생성
-            if ("health.schedule".equals(message.getType())) {
+            // (health.schedule.series는 반복 일정 묶음 전체에 대한 이벤트 하나 → 등록 알림도 한 번)
+            if ("health.schedule".equals(message.getType()) || "health.schedule.series".equals(message.getType())) {
                 // 1. 즉시 등록 알림 생성
                 EventMessage enrollMessage = createEnrollMessage(message);
                 Notification enrollNotification = notificationService.createImmediateNotification(enrollMessage);
@@ -92,13 +156,18 @@ public class DomainEventConsumer {
                 log.info("🔍 [NotificationConsumer] 알림 생성 로직: durationDays={}, reminderDaysBefore={}", 
                         durationDays, reminderDaysBefore);
                 
+                List<ScheduledReminder> reminders;
                 if (reminderDaysBefore == 0) {
                     // 당일 알림
-                    createSameDayNotifications(message, scheduleTitle, subType, startDate, durationDays, times);
-                        } else {
+                    reminders = createSameDayNotifications(message, scheduleTitle, subType, startDate, durationDays, times);
+                } else {
                     // 사전 알림 (자정으로 설정)
-                    createAdvanceNotifications(message, scheduleTitle, subType, startDate, durationDays, times, reminderDaysBefore);
+                    reminders = createAdvanceNotifications(message, scheduleTitle, subType, startDate, durationDays, times, reminderDaysBefore);
                 }
+                
+                // 5. 예약 알림 일괄 저장
+                int saved = notificationService.createScheduledNotifications(reminders);
+                log.info("✅ [NotificationConsumer] 예약 알림 생성: eventId={}, 생성={}/{}", message.getEventId(), saved, reminders.size());
             } else if ("campaign.applicant.selected".equals(message.getType())) {
                 handleCampaignSelectionNotification(message);
                 
@@ -217,12 +286,13 @@ public class DomainEventConsumer {
     /**
      * 당일 알림 생성 (reminderDaysBefore = 0)
      */
-    private void createSameDayNotifications(EventMessage originalMessage, String scheduleTitle, String subType,
+    private List<ScheduledReminder> createSameDayNotifications(EventMessage originalMessage, String scheduleTitle, String subType,
                                           LocalDateTime startDate, Integer durationDays, List<String> times) {
         log.info("🔍 [NotificationConsumer] 당일 알림 생성 시작: startDate={}, durationDays={}, subType={}", startDate, durationDays, subType);
         
         LocalDateTime now = LocalDateTime.now();
-        log.info("🔍 [NotificationConsumer] 현재 시간: {}", now);
+        List<ScheduledReminder> reminders = new ArrayList<>(durationDays * times.size());
+        int skipped = 0;
         
         for (int day = 0; day < durationDays; day++) {
             LocalDateTime currentDate = startDate.plusDays(day);
@@ -232,7 +302,7 @@ public class DomainEventConsumer {
                 
                 // 현재 시간이 이미 지났는지 확인
                 if (scheduledTime.isBefore(now)) {
-                    log.info("⏰ [NotificationConsumer] 시간이 이미 지남 - 알림 생성 건너뜀: scheduledTime={}, now={}", scheduledTime, now);
+                    skipped++;
                     continue;
                 }
                 
@@ -240,18 +310,20 @@ public class DomainEventConsumer {
                 String message = createSameDayMessage(timeStr, scheduleTitle, subType);
                 
                 EventMessage reserveMessage = createReserveMessage(originalMessage, scheduleTitle, scheduledTime, message);
-                Notification reserveNotification = notificationService.createScheduledNotification(reserveMessage, scheduledTime);
-                
-                log.info("✅ [NotificationConsumer] 당일 알림 생성: notificationId={}, scheduledTime={}, message={}", 
-                        reserveNotification.getId(), scheduledTime, message);
+                reminders.add(new ScheduledReminder(reserveMessage, scheduledTime));
             }
         }
+        
+        if (skipped > 0) {
+            log.info("⏰ [NotificationConsumer] 시간이 이미 지난 알림 {}개 건너뜀: now={}", skipped, now);
+        }
+        return reminders;
     }
     
     /**
      * 사전 알림 생성 (reminderDaysBefore > 0) - 자정으로 설정
      */
-    private void createAdvanceNotifications(EventMessage originalMessage, String scheduleTitle, String subType,
+    private List<ScheduledReminder> createAdvanceNotifications(EventMessage originalMessage, String scheduleTitle, String subType,
                                           LocalDateTime startDate, Integer durationDays, List<String> times, Integer reminderDaysBefore) {
         log.info("🔍 [NotificationConsumer] 사전 알림 생성 시작: startDate={}, durationDays={}, reminderDaysBefore={}, subType={}", 
                 startDate, durationDays, reminderDaysBefore, subType);
@@ -262,6 +334,10 @@ public class DomainEventConsumer {
         
         log.info("🔍 [NotificationConsumer] 알림 기간: {} ~ {}", notificationStartDate, notificationEndDate);
         
+        // subType에 따른 사전 알림 메시지 생성 (실제 times 사용) - 모든 날짜에 같은 문구
+        String message = createAdvanceMessage(reminderDaysBefore, times, scheduleTitle, subType);
+        List<ScheduledReminder> reminders = new ArrayList<>(durationDays);
+        
         for (int day = 0; day < durationDays; day++) {
             LocalDateTime currentDate = startDate.plusDays(day);
             LocalDateTime notificationDate = currentDate.plusDays(reminderDaysBefore);
@@ -274,15 +350,10 @@ public class DomainEventConsumer {
             // 사전 알림은 자정(00:00)으로 설정
             LocalDateTime scheduledTime = notificationDate.withHour(0).withMinute(0).withSecond(0);
             
-            // subType에 따른 사전 알림 메시지 생성 (실제 times 사용)
-            String message = createAdvanceMessage(reminderDaysBefore, times, scheduleTitle, subType);
-            
             EventMessage reserveMessage = createReserveMessage(originalMessage, scheduleTitle, scheduledTime, message);
-            Notification reserveNotification = notificationService.createScheduledNotification(reserveMessage, scheduledTime);
-            
-            log.info("✅ [NotificationConsumer] 사전 알림 생성 (자정): notificationId={}, scheduledTime={}, message={}", 
-                    reserveNotification.getId(), scheduledTime, message);
+            reminders.add(new ScheduledReminder(reserveMessage, scheduledTime));
         }
+        return reminders;
     }
     
     /**
@@ -1,4 +1,3 @@
-// MessagingProps.java
 package site.petful.notificationservice.messaging;
 
 import lombok.Getter;
@@ -15,4 +14,15 @@ public class MessagingProps {
     private String exchange;
     private String queue;
     private List<String> keys = new ArrayList<>();
+
+    // 리스너 컨테이너 설정
+    private int prefetch = 100;             // 컨슈머당 미리 받아 둘 메시지 수 (batchSize 이상)
+    private int concurrency = 2;            // 기본 컨슈머 수
+    private int maxConcurrency = 8;         // 최대 컨슈머 수
+    private int batchSize = 50;             // 리스너 한 번에 넘길 메시지 수
+    private long receiveTimeoutMs = 1000;   // 배치가 덜 찼을 때 기다리는 최대 시간
+
+    // 중복 이벤트 제거
+    private int dedupCacheSize = 10000;     // 로컬에 기억할 최근 eventId 수
+    private long dedupTtlHours = 24;        // 처리한 eventId를 기억하는 시간
 }
@@ -0,0 +1,99 @@
+package site.petful.notificationservice.messaging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 처리한 eventId 저장소 (재전달된 메시지 중복 처리 방지).
+ * - 최근 eventId는 크기 제한이 있는 로컬 캐시에서 먼저 확인
+ * - 인스턴스 간 공유는 Redis 키(TTL)로, 배치 단위로 한 번에 조회/기록
+ * Redis 장애 시에는 로컬 캐시만으로 판단한다.
+ */
+@Slf4j
+@Component
+public class ProcessedEventStore {
+
+    private static final String KEY_PREFIX = "notification:event:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, Boolean> recent;
+    private final Duration ttl;
+
+    public ProcessedEventStore(StringRedisTemplate redisTemplate, MessagingProps props) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(props.getDedupTtlHours());
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(props.getDedupCacheSize())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 아직 처리하지 않은 eventId만 돌려준다. 같은 배치 안의 중복도 하나만 남긴다.
+     */
+    public Set<String> filterUnprocessed(Collection<String> eventIds) {
+        Set<String> candidates = new HashSet<>();
+        for (String eventId : eventIds) {
+            if (eventId != null && recent.getIfPresent(eventId) == null) {
+                candidates.add(eventId);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<String> ids = new ArrayList<>(candidates);
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(ProcessedEventStore::key).toList());
+            if (values != null) {
+                for (int i = 0; i < ids.size(); i++) {
+                    if (values.get(i) != null) {
+                        recent.put(ids.get(i), Boolean.TRUE);
+                        candidates.remove(ids.get(i));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ [ProcessedEventStore] eventId 조회 실패, 로컬 기록만 사용: {}", e.getMessage());
+        }
+        return candidates;
+    }
+
+    public void markProcessed(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        eventIds.forEach(eventId -> recent.put(eventId, Boolean.TRUE));
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                var commands = connection.stringCommands();
+                for (String eventId : eventIds) {
+                    commands.set(key(eventId).getBytes(StandardCharsets.UTF_8), new byte[]{'1'},
+                            Expiration.from(ttl),
+                            SetOption.upsert());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("⚠️ [ProcessedEventStore] eventId 기록 실패: count={}, error={}", eventIds.size(), e.getMessage());
+        }
+    }
+
+    private static String key(String eventId) {
+        return KEY_PREFIX + eventId;
+    }
+}
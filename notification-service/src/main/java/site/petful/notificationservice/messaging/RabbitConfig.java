@@ -81,8 +81,14 @@ public class RabbitConfig {
         SimpleRabbitListenerContainerFactory f = new SimpleRabbitListenerContainerFactory();
         f.setConnectionFactory(cf);
         f.setMessageConverter(conv);
-        f.setConcurrentConsumers(2);
-        f.setMaxConcurrentConsumers(8);
+        f.setPrefetchCount(Math.max(props.getPrefetch(), props.getBatchSize()));
+        f.setConcurrentConsumers(props.getConcurrency());
+        f.setMaxConcurrentConsumers(Math.max(props.getConcurrency(), props.getMaxConcurrency()));
+        // 메시지를 batchSize 만큼 모아 List로 리스너에 넘긴다
+        f.setBatchListener(true);
+        f.setConsumerBatchEnabled(true);
+        f.setBatchSize(props.getBatchSize());
+        f.setReceiveTimeout(props.getReceiveTimeoutMs());
         f.setMissingQueuesFatal(false);
         return f;
     }
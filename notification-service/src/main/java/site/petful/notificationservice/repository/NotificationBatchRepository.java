@@ -0,0 +1,74 @@
+package site.petful.notificationservice.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import site.petful.notificationservice.entity.Notification;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 알림 대량 저장용 JDBC 저장소.
+ *
+ * Notification의 ID가 IDENTITY라 Hibernate는 INSERT를 묶어 보내지 못한다.
+ * 예약 알림처럼 저장 후 ID가 필요 없는 경우에는 다중 VALUES INSERT 한 문장으로 chunk 단위 저장한다.
+ */
+@Repository
+public class NotificationBatchRepository {
+
+    private static final String COLUMNS = "(user_no, type, title, content, link_url, is_hidden, is_read, "
+            + "created_at, scheduled_at, status)";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String tableName;
+
+    public NotificationBatchRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 물리 테이블 이름은 naming strategy를 거친 값을 그대로 쓴다
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.tableName = ((AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(Notification.class)).getTableName();
+    }
+
+    /**
+     * 알림을 한 번에 저장한다. (ID는 채워지지 않는다)
+     *
+     * @return 저장된 행 수
+     */
+    public int insertAll(List<Notification> notifications) {
+        int inserted = 0;
+        for (int from = 0; from < notifications.size(); from += CHUNK_SIZE) {
+            List<Notification> chunk = notifications.subList(from, Math.min(from + CHUNK_SIZE, notifications.size()));
+            String sql = "INSERT INTO " + tableName + " " + COLUMNS + " VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), ROW));
+
+            List<Object> args = new ArrayList<>(chunk.size() * 10);
+            for (Notification notification : chunk) {
+                args.add(notification.getUserId());
+                args.add(notification.getType());
+                args.add(notification.getTitle());
+                args.add(notification.getContent());
+                args.add(notification.getLinkUrl());
+                args.add(Boolean.TRUE.equals(notification.getHidden()));
+                args.add(Boolean.TRUE.equals(notification.getIsRead()));
+                args.add(toTimestamp(notification.getCreatedAt()));
+                args.add(toTimestamp(notification.getScheduledAt()));
+                args.add(notification.getStatus().name());
+            }
+            inserted += jdbcTemplate.update(sql, args.toArray());
+        }
+        return inserted;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
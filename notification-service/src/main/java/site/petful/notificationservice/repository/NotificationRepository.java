@@ -4,12 +4,18 @@ import org.springframework.data.domain.Slice;
 import site.petful.notificationservice.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +31,49 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 읽지 않은 알림 개수 조회 (SENT 상태만)
     long countByUserIdAndStatusAndIsReadFalseAndHiddenFalse(Long userId, Notification.NotificationStatus status);
 
+    // 사용자별 읽지 않은 알림 개수 (미읽음 카운터 보정용) - [userId, count]
+    @Query("select n.userId, count(n) from Notification n " +
+            "where n.userId in :userIds and n.status = :status and n.isRead = false and n.hidden = false " +
+            "group by n.userId")
+    List<Object[]> countUnreadGroupByUserId(@Param("userIds") Collection<Long> userIds,
+                                            @Param("status") Notification.NotificationStatus status);
+
+    // 발송 시각이 된 예약 알림을 잠그고 가져온다 (다른 인스턴스가 잡은 행은 건너뜀: FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select n from Notification n " +
+            "where n.status = :status and n.claimToken is null and n.scheduledAt <= :until " +
+            "order by n.scheduledAt asc")
+    List<Notification> findDueForClaim(@Param("status") Notification.NotificationStatus status,
+                                       @Param("until") LocalDateTime until,
+                                       Pageable pageable);
+
+    // 발송 결과 일괄 반영
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Notification n set n.status = :status, n.sentAt = :sentAt, n.claimToken = null " +
+            "where n.id in :ids")
+    int updateDispatchResult(@Param("ids") Collection<Long> ids,
+                             @Param("status") Notification.NotificationStatus status,
+                             @Param("sentAt") LocalDateTime sentAt);
+
+    // 아직 처리 중인 claim의 시각을 갱신 (releaseStaleClaims 대상에서 빠지게)
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.claimedAt = :now " +
+            "where n.id in :ids and n.status = :status and n.claimToken is not null")
+    int renewClaims(@Param("ids") Collection<Long> ids,
+                    @Param("status") Notification.NotificationStatus status,
+                    @Param("now") LocalDateTime now);
+
+    // 가져간 뒤 오래 처리되지 않은 예약 알림(인스턴스 종료 등)을 다시 풀어준다
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.claimToken = null, n.claimedAt = null " +
+            "where n.status = :status and n.claimToken is not null and n.claimedAt < :before")
+    int releaseStaleClaims(@Param("status") Notification.NotificationStatus status,
+                           @Param("before") LocalDateTime before);
+
     // 예약된 알림 조회 (스케줄러용)
     List<Notification> findByStatusAndScheduledAtBefore(Notification.NotificationStatus status, LocalDateTime scheduledAt);
 
@@ -1,11 +1,14 @@
 package site.petful.notificationservice.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import site.petful.notificationservice.entity.WebPushSubscription;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -74,4 +77,26 @@ public interface WebPushSubscriptionRepository extends JpaRepository<WebPushSubs
      */
     @Query("SELECT s FROM WebPushSubscription s WHERE s.isActive = false AND s.updatedAt < :cutoffDate")
     List<WebPushSubscription> findOldInactiveSubscriptions(@Param("cutoffDate") java.time.LocalDateTime cutoffDate);
+
+    /**
+     * 여러 구독의 마지막 푸시 발송 시간을 한 번에 갱신 (발송 성공 기록 일괄 반영용)
+     *
+     * @param ids 구독 ID 목록
+     * @param pushedAt 발송 시간
+     * @return 갱신된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WebPushSubscription s SET s.lastPushAt = :pushedAt WHERE s.id IN :ids")
+    int updateLastPushAt(@Param("ids") Collection<Long> ids, @Param("pushedAt") LocalDateTime pushedAt);
+
+    /**
+     * 여러 구독을 한 번에 비활성화 (만료된 엔드포인트 정리용)
+     *
+     * @param ids 구독 ID 목록
+     * @param now 비활성화 시간
+     * @return 비활성화된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WebPushSubscription s SET s.isActive = false, s.updatedAt = :now WHERE s.id IN :ids AND s.isActive = true")
+    int deactivateAllByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
@@ -19,6 +19,7 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class NotificationReadService {
     private final NotificationRepository notificationRepository;
+    private final UnreadCountCache unreadCountCache;
 
     public Slice<NotificationDto> listVisible(Long userId, int page, int size){
         int capped = Math.min(Math.max(size,1),30);
@@ -43,6 +44,11 @@ public class NotificationReadService {
         if (Boolean.TRUE.equals(upadated.getHidden())) {
             return; // 멱등 처리: 이미 숨김이면 그냥 종료
         }
+        boolean countedAsUnread = upadated.getStatus() == Notification.NotificationStatus.SENT
+                && !Boolean.TRUE.equals(upadated.getIsRead());
         upadated.hide();
+        if (countedAsUnread) {
+            unreadCountCache.decrement(userId);
+        }
     }
 }
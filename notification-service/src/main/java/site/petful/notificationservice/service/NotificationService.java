@@ -8,18 +8,22 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import site.petful.notificationservice.client.UserClient;
-import site.petful.notificationservice.common.ApiResponse;
+import site.petful.notificationservice.client.UserProfileLookup;
 import site.petful.notificationservice.dto.EventMessage;
+import site.petful.notificationservice.dto.ScheduledReminder;
 import site.petful.notificationservice.dto.SimpleProfileResponse;
 import site.petful.notificationservice.entity.Notification;
 import site.petful.notificationservice.entity.WebPushSubscription;
+import site.petful.notificationservice.repository.NotificationBatchRepository;
 import site.petful.notificationservice.repository.NotificationRepository;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -28,10 +32,12 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
     private final NotificationDeliveryService notificationDeliveryService;
     private final WebPushSubscriptionService webPushSubscriptionService;
+    private final UnreadCountCache unreadCountCache;
 
-    private final UserClient userClient;
+    private final UserProfileLookup userProfileLookup;
     /**
      * 사용자별 알림 목록 조회 (최신순 정렬) - SENT 상태만 표시
      */
@@ -71,8 +77,16 @@ public class NotificationService {
             throw new IllegalArgumentException("사용자 ID가 null입니다.");
         }
 
+        // Redis 카운터가 있으면 그대로 반환 (O(1))
+        Long cached = unreadCountCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            return notificationRepository.countByUserIdAndStatusAndIsReadFalseAndHiddenFalse(userId, Notification.NotificationStatus.SENT);
+            long count = notificationRepository.countByUserIdAndStatusAndIsReadFalseAndHiddenFalse(userId, Notification.NotificationStatus.SENT);
+            unreadCountCache.set(userId, count);
+            return count;
         } catch (Exception e) {
             log.error("❌ [NotificationService] 읽지 않은 알림 개수 조회 실패: userId={}, error={}", userId, e.getMessage(), e);
             throw new RuntimeException("알림 개수 조회 중 오류가 발생했습니다.", e);
@@ -99,8 +113,12 @@ public class NotificationService {
         log.info("🙈 [NotificationService] 알림 숨김: notificationId={}, userId={}", notificationId, userId);
 
         Notification notification = getNotification(notificationId, userId);
+        boolean countedAsUnread = isCountedAsUnread(notification);
         notification.hide();
         notificationRepository.save(notification);
+        if (countedAsUnread) {
+            unreadCountCache.decrement(userId);
+        }
 
         log.info("✅ [NotificationService] 알림 숨김 완료: notificationId={}", notificationId);
     }
@@ -112,8 +130,12 @@ public class NotificationService {
         log.info("👁️ [NotificationService] 알림 읽음 처리: notificationId={}, userId={}", notificationId, userId);
 
         Notification notification = getNotification(notificationId, userId);
+        boolean countedAsUnread = isCountedAsUnread(notification);
         notification.markAsRead();
         notificationRepository.save(notification);
+        if (countedAsUnread) {
+            unreadCountCache.decrement(userId);
+        }
 
         log.info("✅ [NotificationService] 알림 읽음 처리 완료: notificationId={}", notificationId);
     }
@@ -134,6 +156,12 @@ public class NotificationService {
             }
 
             notificationRepository.saveAll(unreadNotifications.getContent());
+            // 한 번에 처리하지 못한 알림이 남아 있으면 다음 조회 때 DB에서 다시 센다
+            if (unreadNotifications.hasNext()) {
+                unreadCountCache.evict(userId);
+            } else {
+                unreadCountCache.reset(userId);
+            }
             log.info("✅ [NotificationService] {}개의 알림을 읽음 처리 완료", unreadNotifications.getContent().size());
 
         } catch (Exception e) {
@@ -189,6 +217,7 @@ public class NotificationService {
             if (sent) {
                 savedNotification.markAsSent();
                 notificationRepository.save(savedNotification);
+                unreadCountCache.increment(savedNotification.getUserId());
                 log.info("✅ [NotificationService] 즉시 알림 발송 성공: notificationId={}", savedNotification.getId());
             } else {
                 savedNotification.markAsFailed();
@@ -333,6 +362,49 @@ public class NotificationService {
         return savedNotification;
     }
 
+    /**
+     * 예약 알림 여러 건을 한 번에 생성합니다.
+     * 구독 확인은 사용자별로 한 번만 하고, 저장은 다중 INSERT로 묶어서 처리합니다.
+     *
+     * @return 저장된 예약 알림 수
+     */
+    public int createScheduledNotifications(List<ScheduledReminder> reminders) {
+        Map<Long, Boolean> subscribed = new HashMap<>();
+        List<Notification> notifications = new ArrayList<>(reminders.size());
+
+        for (ScheduledReminder reminder : reminders) {
+            EventMessage eventMessage = reminder.message();
+            if (eventMessage.getTarget() == null || eventMessage.getTarget().isEmpty()) {
+                throw new IllegalArgumentException("EventMessage의 Target이 null이거나 비어있습니다.");
+            }
+            Long userId = Long.valueOf(eventMessage.getTarget().get(0).getUserId());
+
+            // 웹푸시 구독 상태 확인 - 구독이 없으면 알림 생성하지 않음
+            if (!subscribed.computeIfAbsent(userId, this::hasActiveWebPushSubscription)) {
+                continue;
+            }
+
+            NotificationContent content = createNotificationContent(eventMessage);
+            notifications.add(Notification.scheduled(
+                    userId,
+                    eventMessage.getType(),
+                    content.getTitle(),
+                    content.getContent(),
+                    content.getLinkUrl(),
+                    reminder.scheduledAt()
+            ));
+        }
+
+        if (notifications.isEmpty()) {
+            log.info("📱 [NotificationService] 웹푸시 구독이 없어 예약 알림 생성 건너뜀: users={}", subscribed.keySet());
+            return 0;
+        }
+
+        int saved = notificationBatchRepository.insertAll(notifications);
+        log.info("✅ [NotificationService] 예약 알림 일괄 생성 완료: count={}, users={}", saved, subscribed.keySet());
+        return saved;
+    }
+
     /**
      * 이벤트 타입에 따른 알림 내용을 생성합니다.
      */
@@ -357,8 +429,7 @@ public class NotificationService {
                 try {
                     // actor.id를 통해 nickname 조회
                     if (eventMessage.getActor() != null && eventMessage.getActor().getId() != null) {
-                        ApiResponse<SimpleProfileResponse> response = userClient.getUserBrief(eventMessage.getActor().getId());
-                        String nickName = response.getData().getNickname();
+                        String nickName = findNickname(eventMessage.getActor().getId());
                         return new NotificationContent(
                             "새로운 댓글",
                             nickName + "님이 댓글을 작성했습니다.",
@@ -386,8 +457,7 @@ public class NotificationService {
                 try {
                     // actor.id를 통해 nickname 조회
                     if (eventMessage.getActor() != null && eventMessage.getActor().getId() != null) {
-                        ApiResponse<SimpleProfileResponse> response = userClient.getUserBrief(eventMessage.getActor().getId());
-                        String nickName = response.getData().getNickname();
+                        String nickName = findNickname(eventMessage.getActor().getId());
                         return new NotificationContent(
                             "좋아요",
                             nickName + "님이 게시글을 좋아합니다.",
@@ -425,8 +495,7 @@ public class NotificationService {
                     for(EventMessage.Target target : eventMessage.getTarget() ) {
                         String userId = target.getUserId();
                         Long id = Long.parseLong(userId.trim());
-                        ApiResponse<SimpleProfileResponse> response = userClient.getUserBrief(id);
-                        String nickName = response.getData().getNickname();
+                        String nickName = findNickname(id);
                         return new NotificationContent(
                                 "체험단 선정",
                                 "축하합니다." + nickName + " 님이 " + actorName + "체험단에 선정되었습니다.",
@@ -469,6 +538,15 @@ public class NotificationService {
 
 
 
+    // 닉네임 조회 (캐시 → Redis → user-service). 찾지 못하면 예외로 기본 문구를 쓰게 한다
+    private String findNickname(Long userNo) {
+        SimpleProfileResponse profile = userProfileLookup.getProfile(userNo);
+        if (profile == null || profile.getNickname() == null) {
+            throw new IllegalStateException("사용자 프로필을 찾을 수 없습니다: userNo=" + userNo);
+        }
+        return profile.getNickname();
+    }
+
     /**
      * 알림 내용을 담는 내부 클래스
      */
@@ -488,6 +566,13 @@ public class NotificationService {
         public String getLinkUrl() { return linkUrl; }
     }
 
+    // 미읽음 카운터에 포함된 알림인지 (SENT, 안 읽음, 숨김 아님)
+    private static boolean isCountedAsUnread(Notification notification) {
+        return notification.getStatus() == Notification.NotificationStatus.SENT
+                && !Boolean.TRUE.equals(notification.getIsRead())
+                && !Boolean.TRUE.equals(notification.getHidden());
+    }
+
     /**
      * 사용자의 활성화된 웹푸시 구독이 있는지 확인합니다.
      * 
@@ -1,86 +1,299 @@
 package site.petful.notificationservice.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.petful.notificationservice.dispatch.DispatchProps;
+import site.petful.notificationservice.dispatch.TimeWheel;
 import site.petful.notificationservice.entity.Notification;
 import site.petful.notificationservice.repository.NotificationRepository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 예약 알림 디스패처.
+ * - window 주기마다 다음 구간(now + window)까지의 예약 알림을 chunk 단위로 claim (FOR UPDATE SKIP LOCKED + claim token)
+ *   → 여러 인스턴스가 떠 있어도 같은 알림을 두 번 보내지 않는다
+ * - claim한 알림은 타임휠에 올려 두고 tick마다 예약 시각이 된 것만 발송 (분 단위가 아닌 tick 단위 정밀도)
+ * - 발송은 제한된 스레드 풀에서, 결과는 모아서 IN 업데이트로 한 번에 반영
+ * - 결과가 DB에 반영될 때까지 claim을 window마다 갱신해, 대기가 길어져도 다른 인스턴스가 다시 가져가지 않는다
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional
 public class ScheduledNotificationService {
 
+    private static final String METRIC_PREFIX = "notification.scheduled";
+
     private final NotificationRepository notificationRepository;
     private final NotificationDeliveryService notificationDeliveryService;
+    private final UnreadCountCache unreadCountCache;
+    private final DispatchProps props;
+    private final TransactionTemplate transactionTemplate;
+
+    private final TimeWheel<Notification> timeWheel;
+    private final Queue<DispatchResult> results = new ConcurrentLinkedQueue<>();
+    // claim한 뒤 결과가 아직 DB에 반영되지 않은 알림 (타임휠 대기, 발송 중, 결과 반영 대기)
+    private final Set<Long> held = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor deliveryExecutor;
+    private final ScheduledExecutorService ticker;
+
+    private final Timer lagTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter claimedCounter;
+
+    private record DispatchResult(Long id, Long userId, boolean sent) {
+    }
+
+    public ScheduledNotificationService(NotificationRepository notificationRepository,
+                                        NotificationDeliveryService notificationDeliveryService,
+                                        UnreadCountCache unreadCountCache,
+                                        DispatchProps props,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.notificationDeliveryService = notificationDeliveryService;
+        this.unreadCountCache = unreadCountCache;
+        this.props = props;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 휠 한 바퀴가 claim 구간(window)보다 조금 길도록 잡는다
+        int wheelSize = (int) Math.max(1, props.getWindowMs() / props.getTickMs() * 2);
+        this.timeWheel = new TimeWheel<>(props.getTickMs(), wheelSize);
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.deliveryExecutor = new ThreadPoolExecutor(
+                props.getWorkers(), props.getWorkers(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, props.getQueueCapacity())),
+                r -> {
+                    Thread t = new Thread(r, "notification-dispatch-" + threadNo.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                // 대기열이 차면 tick 스레드가 직접 보내 속도를 맞춘다
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "notification-time-wheel");
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.lagTimer = Timer.builder(METRIC_PREFIX + ".lag")
+                .description("예약 시각 대비 실제 발송 지연 (now - scheduledAt)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder(METRIC_PREFIX + ".dispatched").tag("result", "sent").register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".dispatched").tag("result", "failed").register(meterRegistry);
+        this.claimedCounter = Counter.builder(METRIC_PREFIX + ".claimed").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending", timeWheel, TimeWheel::size).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue", deliveryExecutor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker.scheduleAtFixedRate(this::tick, props.getTickMs(), props.getTickMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdown();
+        deliveryExecutor.shutdown();
+        try {
+            deliveryExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushResults();
+        // 타임휠에 남은 알림은 claimTimeout 이후 다른 인스턴스가 다시 가져간다
+    }
 
     /**
-     * 1분마다 예약된 알림을 체크하고 처리합니다.
+     * window 주기마다 다음 구간까지 발송할 예약 알림을 가져와 타임휠에 올린다.
      */
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    @Scheduled(fixedDelayString = "${app.notification.dispatch.window-ms:30000}")
     public void processScheduledNotifications() {
-        log.info("⏰ [ScheduledNotificationService] 예약된 알림 처리 시작");
-        
         try {
-            // 현재 시간에 발송해야 할 예약 알림들을 조회
-            List<Notification> scheduledNotifications = notificationRepository
-                    .findByStatusAndScheduledAtBefore(Notification.NotificationStatus.SCHEDULED, LocalDateTime.now());
-            
-            log.info("📅 [ScheduledNotificationService] 발송할 예약 알림 {}개 발견", scheduledNotifications.size());
-            
-            for (Notification notification : scheduledNotifications) {
-                try {
-                    // 알림 발송
-                    boolean sent = notificationDeliveryService.sendNotification(notification);
-                    
-                    if (sent) {
-                        notification.markAsSent();
-                        log.info("✅ [ScheduledNotificationService] 예약 알림 발송 성공: notificationId={}, userId={}", 
-                                notification.getId(), notification.getUserId());
-                    } else {
-                        notification.markAsFailed();
-                        log.error("❌ [ScheduledNotificationService] 예약 알림 발송 실패: notificationId={}, userId={}", 
-                                notification.getId(), notification.getUserId());
-                    }
-                    
-                    // 상태 업데이트
-                    notificationRepository.save(notification);
-                    
-                } catch (Exception e) {
-                    log.error("❌ [ScheduledNotificationService] 예약 알림 처리 중 오류: notificationId={}, error={}", 
-                            notification.getId(), e.getMessage(), e);
-                    
-                    notification.markAsFailed();
-                    notificationRepository.save(notification);
+            LocalDateTime now = LocalDateTime.now();
+            // 이 인스턴스가 들고 있는 알림은 먼저 claim을 갱신해 아래 해제 대상에서 빠지게 한다
+            renewHeldClaims(now);
+            int released = notificationRepository.releaseStaleClaims(
+                    Notification.NotificationStatus.SCHEDULED, now.minus(Duration.ofMillis(props.getClaimTimeoutMs())));
+            if (released > 0) {
+                log.warn("⚠️ [ScheduledNotificationService] 처리되지 않은 예약 알림 {}개를 다시 대기 상태로 전환", released);
+            }
+
+            LocalDateTime until = now.plus(Duration.ofMillis(props.getWindowMs()));
+            int claimed = 0;
+            while (timeWheel.size() < props.getMaxPending()) {
+                List<Notification> chunk = claimChunk(now, until);
+                for (Notification notification : chunk) {
+                    held.add(notification.getId());
+                    timeWheel.schedule(notification, toEpochMillis(notification.getScheduledAt()));
+                }
+                claimed += chunk.size();
+                if (chunk.size() < props.getChunkSize()) {
+                    break;
                 }
             }
-            
+
+            if (claimed > 0) {
+                claimedCounter.increment(claimed);
+                log.info("📅 [ScheduledNotificationService] 예약 알림 {}개 claim (~{}), 대기 {}개",
+                        claimed, until, timeWheel.size());
+            }
         } catch (Exception e) {
-            log.error("❌ [ScheduledNotificationService] 예약 알림 처리 중 전체 오류: {}", e.getMessage(), e);
+            log.error("❌ [ScheduledNotificationService] 예약 알림 claim 중 오류: {}", e.getMessage(), e);
         }
-        
-        log.info("⏰ [ScheduledNotificationService] 예약된 알림 처리 완료");
     }
 
     /**
      * 특정 시간에 예약 알림을 생성합니다.
      */
-    public Notification scheduleNotification(Long userId, String type, String title, String content, 
+    @Transactional
+    public Notification scheduleNotification(Long userId, String type, String title, String content,
                                          String linkUrl, LocalDateTime scheduledAt) {
-        log.info("📅 [ScheduledNotificationService] 예약 알림 생성: userId={}, type={}, scheduledAt={}", 
+        log.info("📅 [ScheduledNotificationService] 예약 알림 생성: userId={}, type={}, scheduledAt={}",
                 userId, type, scheduledAt);
-        
+
         Notification notification = Notification.scheduled(userId, type, title, content, linkUrl, scheduledAt);
         Notification savedNotification = notificationRepository.save(notification);
-        
+
         log.info("✅ [ScheduledNotificationService] 예약 알림 생성 완료: notificationId={}", savedNotification.getId());
-        
+
         return savedNotification;
     }
+
+    // 짧은 트랜잭션 하나로 잠그고 claim token을 찍는다
+    private List<Notification> claimChunk(LocalDateTime now, LocalDateTime until) {
+        String token = UUID.randomUUID().toString();
+        List<Notification> chunk = transactionTemplate.execute(status -> {
+            List<Notification> due = notificationRepository.findDueForClaim(
+                    Notification.NotificationStatus.SCHEDULED, until, PageRequest.of(0, props.getChunkSize()));
+            due.forEach(notification -> notification.claim(token, now));
+            return due;
+        });
+        return chunk == null ? List.of() : chunk;
+    }
+
+    private void renewHeldClaims(LocalDateTime now) {
+        List<Long> ids = new ArrayList<>(held);
+        int chunkSize = Math.max(1, props.getChunkSize());
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            notificationRepository.renewClaims(ids.subList(from, Math.min(from + chunkSize, ids.size())),
+                    Notification.NotificationStatus.SCHEDULED, now);
+        }
+    }
+
+    private void tick() {
+        try {
+            for (Notification notification : timeWheel.advance(System.currentTimeMillis())) {
+                deliveryExecutor.execute(() -> deliver(notification));
+            }
+            flushResults();
+        } catch (Exception e) {
+            // 예외가 나가면 scheduleAtFixedRate가 멈추므로 여기서 막는다
+            log.error("❌ [ScheduledNotificationService] 타임휠 처리 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    // 발송 요청만 걸고 결과는 콜백에서 모은다 (발송 스레드가 HTTP 응답을 기다리지 않음)
+    private void deliver(Notification notification) {
+        CompletableFuture<Boolean> future;
+        try {
+            future = notificationDeliveryService.sendNotificationAsync(notification);
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((sent, error) -> recordResult(notification, error == null && Boolean.TRUE.equals(sent), error));
+    }
+
+    private void recordResult(Notification notification, boolean sent, Throwable error) {
+        if (error != null) {
+            log.error("❌ [ScheduledNotificationService] 예약 알림 처리 중 오류: notificationId={}, error={}",
+                    notification.getId(), error.getMessage(), error);
+        }
+        if (notification.getScheduledAt() != null) {
+            lagTimer.record(Duration.between(notification.getScheduledAt(), LocalDateTime.now()));
+        }
+        if (sent) {
+            sentCounter.increment();
+        } else {
+            failedCounter.increment();
+            log.error("❌ [ScheduledNotificationService] 예약 알림 발송 실패: notificationId={}, userId={}",
+                    notification.getId(), notification.getUserId());
+        }
+        results.add(new DispatchResult(notification.getId(), notification.getUserId(), sent));
+    }
+
+    // 모인 발송 결과를 상태별 IN 업데이트로 반영
+    private synchronized void flushResults() {
+        if (results.isEmpty()) {
+            return;
+        }
+        List<DispatchResult> sent = new ArrayList<>();
+        List<DispatchResult> failed = new ArrayList<>();
+
+        DispatchResult result;
+        while ((result = results.poll()) != null) {
+            (result.sent() ? sent : failed).add(result);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        updateInChunks(sent, Notification.NotificationStatus.SENT, now);
+        updateInChunks(failed, Notification.NotificationStatus.FAILED, null);
+    }
+
+    private void updateInChunks(List<DispatchResult> dispatched, Notification.NotificationStatus status,
+                                LocalDateTime sentAt) {
+        int chunkSize = Math.max(1, props.getChunkSize());
+        for (int from = 0; from < dispatched.size(); from += chunkSize) {
+            List<DispatchResult> chunk = dispatched.subList(from, Math.min(from + chunkSize, dispatched.size()));
+            List<Long> ids = chunk.stream().map(DispatchResult::id).toList();
+            try {
+                notificationRepository.updateDispatchResult(ids, status, sentAt);
+            } catch (Exception e) {
+                // 이미 발송한 알림이므로 다시 보내지 않도록 결과를 남겨 두고 다음 flush에서 재시도 (claim은 계속 갱신됨)
+                log.error("❌ [ScheduledNotificationService] 발송 결과 반영 실패, 다음 주기에 재시도: status={}, ids={}, error={}",
+                        status, ids, e.getMessage(), e);
+                results.addAll(chunk);
+                continue;
+            }
+            ids.forEach(held::remove);
+            // 읽지 않은 개수는 SENT 반영이 커밋된 알림만 올린다
+            if (status == Notification.NotificationStatus.SENT) {
+                chunk.forEach(sentResult -> unreadCountCache.increment(sentResult.userId()));
+            }
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
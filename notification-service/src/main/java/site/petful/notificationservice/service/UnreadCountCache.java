@@ -0,0 +1,164 @@
+package site.petful.notificationservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 Redis 카운터.
+ * - 키가 없을 때는 증감하지 않는다 (조회 시 DB 값으로 채움) → 콜드 키가 틀린 값으로 시작하지 않음
+ * - 증감은 트랜잭션 커밋 이후에 반영해 롤백된 변경이 카운터에 남지 않게 한다
+ * - Redis 오류는 로그만 남기고 DB 조회로 대체한다
+ */
+@Slf4j
+@Component
+public class UnreadCountCache {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    // 키가 있을 때만 더하고 0 아래로 내려가지 않게 한다
+    private static final RedisScript<Long> ADJUST_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+            "local v = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "if v < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') v = 0 end " +
+            "return v",
+            Long.class);
+
+    // 키가 있을 때만 값을 바꾸고 남은 TTL은 그대로 둔다 (SET XX에 만료를 주면 TTL이 다시 시작됨)
+    private static final RedisScript<Long> OVERWRITE_IF_PRESENT = new DefaultRedisScript<>(
+            "return redis.call('SET', KEYS[1], ARGV[1], 'XX', 'KEEPTTL') and 1 or 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public UnreadCountCache(StringRedisTemplate redisTemplate,
+                            @Value("${app.notification.unread.ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 캐시된 개수. 없거나 Redis 오류면 null.
+     */
+    public Long get(Long userId) {
+        try {
+            String value = redisTemplate.opsForValue().get(key(userId));
+            return value == null ? null : Long.parseLong(value);
+        } catch (Exception e) {
+            log.warn("⚠️ [UnreadCountCache] 카운터 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void set(Long userId, long count) {
+        try {
+            redisTemplate.opsForValue().set(key(userId), Long.toString(Math.max(count, 0)), ttl);
+        } catch (Exception e) {
+            log.warn("⚠️ [UnreadCountCache] 카운터 저장 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    public void increment(Long userId) {
+        afterCommit(() -> adjust(userId, 1));
+    }
+
+    public void decrement(Long userId) {
+        afterCommit(() -> adjust(userId, -1));
+    }
+
+    public void reset(Long userId) {
+        afterCommit(() -> set(userId, 0));
+    }
+
+    // 다음 조회에서 DB 값으로 다시 채운다
+    public void evict(Long userId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.delete(key(userId));
+            } catch (Exception e) {
+                log.warn("⚠️ [UnreadCountCache] 카운터 삭제 실패: userId={}, error={}", userId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 현재 캐시된 사용자 ID를 batchSize 단위로 넘긴다 (정합성 보정용).
+     */
+    public void scanUserIds(int batchSize, Consumer<List<Long>> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(batchSize).build();
+        List<Long> batch = new ArrayList<>(batchSize);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                try {
+                    batch.add(Long.parseLong(key.substring(KEY_PREFIX.length())));
+                } catch (NumberFormatException ignored) {
+                    continue;
+                }
+                if (batch.size() >= batchSize) {
+                    consumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+
+    /**
+     * DB에서 다시 센 값으로 덮어쓴다. 키가 있을 때만 덮어쓰고 기존 TTL은 유지한다.
+     * @return 값이 달라 보정된 사용자 수
+     */
+    public int overwrite(List<Long> userIds, Map<Long, Long> counts) {
+        int corrected = 0;
+        for (Long userId : userIds) {
+            long actual = counts.getOrDefault(userId, 0L);
+            Long cached = get(userId);
+            if (cached != null && cached != actual) {
+                redisTemplate.execute(OVERWRITE_IF_PRESENT, List.of(key(userId)), Long.toString(actual));
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private void adjust(Long userId, long delta) {
+        try {
+            redisTemplate.execute(ADJUST_IF_PRESENT, List.of(key(userId)), Long.toString(delta));
+        } catch (Exception e) {
+            log.warn("⚠️ [UnreadCountCache] 카운터 증감 실패: userId={}, delta={}, error={}", userId, delta, e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,56 @@
+package site.petful.notificationservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.petful.notificationservice.entity.Notification;
+import site.petful.notificationservice.repository.NotificationRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 미읽음 카운터와 DB 값의 차이를 주기적으로 보정한다.
+ * 캐시된 사용자만 묶음 단위로 GROUP BY 한 번씩 다시 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountReconciler {
+
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationRepository notificationRepository;
+
+    @Value("${app.notification.unread.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${app.notification.unread.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${app.notification.unread.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        AtomicInteger checked = new AtomicInteger();
+        AtomicInteger corrected = new AtomicInteger();
+        try {
+            unreadCountCache.scanUserIds(batchSize, userIds -> {
+                Map<Long, Long> counts = new HashMap<>();
+                for (Object[] row : notificationRepository.countUnreadGroupByUserId(
+                        userIds, Notification.NotificationStatus.SENT)) {
+                    counts.put((Long) row[0], (Long) row[1]);
+                }
+                checked.addAndGet(userIds.size());
+                corrected.addAndGet(unreadCountCache.overwrite(userIds, counts));
+            });
+        } catch (Exception e) {
+            log.error("❌ [UnreadCountReconciler] 미읽음 카운터 보정 실패: {}", e.getMessage(), e);
+            return;
+        }
+
+        if (corrected.get() > 0) {
+            log.info("🔧 [UnreadCountReconciler] 미읽음 카운터 보정: 확인 {}명, 보정 {}명", checked.get(), corrected.get());
+        } else {
+            log.debug("🔧 [UnreadCountReconciler] 미읽음 카운터 확인 {}명, 보정 없음", checked.get());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package site.petful.notificationservice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 웹푸시 구독 정리 작업.
+ * - 짧은 주기: 모아 둔 발송 시간(lastPushAt)과 만료 엔드포인트 비활성화를 일괄 반영
+ * - 긴 주기: 오래 전에 비활성화된 구독 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebPushSubscriptionReaper {
+
+    private final WebPushSubscriptionService subscriptionService;
+
+    @Value("${app.notification.webpush.flush-batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.notification.webpush.purge-inactive-after-days:30}")
+    private int purgeAfterDays;
+
+    @Scheduled(fixedDelayString = "${app.notification.webpush.flush-interval-ms:10000}")
+    public void flush() {
+        try {
+            int[] result = subscriptionService.flushPendingWrites(batchSize);
+            if (result[1] > 0) {
+                log.info("🗑️ [WebPushSubscriptionReaper] 만료된 구독 {}개 비활성화", result[1]);
+            }
+            log.debug("🕐 [WebPushSubscriptionReaper] 푸시 발송 시간 {}건 반영", result[0]);
+        } catch (Exception e) {
+            // 반영하지 못한 항목은 서비스가 대기열에 되돌려 두었으므로 다음 주기에 다시 시도된다
+            log.error("❌ [WebPushSubscriptionReaper] 구독 상태 일괄 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.notification.webpush.purge-initial-delay-ms:300000}",
+            fixedDelayString = "${app.notification.webpush.purge-interval-ms:21600000}")
+    public void purge() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusDays(purgeAfterDays);
+            int purged = subscriptionService.purgeInactiveSubscriptions(cutoff);
+            if (purged > 0) {
+                log.info("🗑️ [WebPushSubscriptionReaper] {}일 이상 비활성 구독 {}개 삭제", purgeAfterDays, purged);
+            }
+        } catch (Exception e) {
+            log.error("❌ [WebPushSubscriptionReaper] 비활성 구독 삭제 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
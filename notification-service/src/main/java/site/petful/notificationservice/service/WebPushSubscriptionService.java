@@ -1,28 +1,71 @@
 package site.petful.notificationservice.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import site.petful.notificationservice.entity.WebPushSubscription;
 import site.petful.notificationservice.repository.WebPushSubscriptionRepository;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 웹푸시 구독 정보를 관리하는 서비스
  * 
  * 사용자의 구독 정보를 저장, 조회, 관리하는 비즈니스 로직을 담당합니다.
+ *
+ * 발송 경로 최적화:
+ * - 사용자별 활성 구독 목록은 Caffeine 캐시에서 조회 (구독/해지 시 커밋 후 무효화)
+ * - 발송 성공 시간(lastPushAt)은 모아 두었다가 WebPushSubscriptionReaper가 주기적으로 일괄 반영
+ * - 410/404 응답을 받은 엔드포인트는 즉시 발송 대상에서 빼고, 비활성화는 일괄로 처리
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class WebPushSubscriptionService {
 
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
     private final WebPushSubscriptionRepository subscriptionRepository;
 
+    // userId -> 활성 구독 목록 (읽기 전용으로만 사용)
+    private final Cache<Long, List<WebPushSubscription>> activeSubscriptionCache;
+    // 만료 응답을 받은 엔드포인트. DB 비활성화가 반영되기 전에도 발송하지 않도록 걸러낸다
+    private final Cache<String, Boolean> deadEndpoints;
+
+    // 아직 DB에 반영하지 않은 발송 성공 기록 / 비활성화 대상
+    private final Map<Long, LocalDateTime> pendingLastPush = new ConcurrentHashMap<>();
+    private final Set<Long> pendingDeactivations = ConcurrentHashMap.newKeySet();
+
+    public WebPushSubscriptionService(WebPushSubscriptionRepository subscriptionRepository,
+                                      @Value("${app.notification.webpush.subscription-cache.ttl-seconds:300}") long cacheTtlSeconds,
+                                      @Value("${app.notification.webpush.subscription-cache.max-size:100000}") long cacheMaxSize) {
+        this.subscriptionRepository = subscriptionRepository;
+        // 다른 인스턴스에서 구독/해지된 경우는 TTL 만큼만 늦게 반영된다
+        this.activeSubscriptionCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(cacheMaxSize)
+                .build();
+        this.deadEndpoints = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(Math.max(cacheTtlSeconds, 3600)))
+                .maximumSize(cacheMaxSize)
+                .build();
+    }
+
     /**
      * 새로운 구독 정보를 저장합니다.
      * 
@@ -48,12 +91,17 @@ public class WebPushSubscriptionService {
             subscription.activate();
             
             WebPushSubscription savedSubscription = subscriptionRepository.save(subscription);
+            pendingDeactivations.remove(savedSubscription.getId());
+            deadEndpoints.invalidate(endpoint);
+            invalidateAfterCommit(userId);
             log.info("✅ [WebPushSubscriptionService] 기존 구독 정보 업데이트: subscriptionId={}", savedSubscription.getId());
             return savedSubscription;
         } else {
             // 새로운 구독 정보 생성
             WebPushSubscription subscription = WebPushSubscription.of(userId, endpoint, p256dhKey, authKey, userAgent);
             WebPushSubscription savedSubscription = subscriptionRepository.save(subscription);
+            deadEndpoints.invalidate(endpoint);
+            invalidateAfterCommit(userId);
             log.info("✅ [WebPushSubscriptionService] 새로운 구독 정보 저장: subscriptionId={}", savedSubscription.getId());
             return savedSubscription;
         }
@@ -61,25 +109,23 @@ public class WebPushSubscriptionService {
 
     /**
      * 사용자의 활성화된 구독 정보들을 조회합니다.
+     * 캐시에서 먼저 찾고, 만료 응답을 받은 엔드포인트는 제외합니다.
      * 
      * @param userId 사용자 ID
      * @return 활성화된 구독 정보 목록
      */
     @Transactional(readOnly = true)
     public List<WebPushSubscription> getActiveSubscriptions(Long userId) {
-        log.info("📋 [WebPushSubscriptionService] 활성화된 구독 정보 조회: userId={}", userId);
-        
-        List<WebPushSubscription> subscriptions = subscriptionRepository.findByUserIdAndIsActiveTrue(userId);
-        log.info("✅ [WebPushSubscriptionService] 활성화된 구독 {}개 조회: userId={}", subscriptions.size(), userId);
-        
-        // 디버깅을 위해 각 구독의 상세 정보 로그
-        for (WebPushSubscription subscription : subscriptions) {
-            log.info("📋 [WebPushSubscriptionService] 활성 구독 상세: subscriptionId={}, endpoint={}, isActive={}, createdAt={}, updatedAt={}", 
-                    subscription.getId(), subscription.getEndpoint(), subscription.getIsActive(), 
-                    subscription.getCreatedAt(), subscription.getUpdatedAt());
+        List<WebPushSubscription> subscriptions = activeSubscriptionCache.get(userId, id -> {
+            List<WebPushSubscription> loaded = subscriptionRepository.findByUserIdAndIsActiveTrue(id);
+            log.debug("📋 [WebPushSubscriptionService] 활성화된 구독 {}개 조회: userId={}", loaded.size(), id);
+            return List.copyOf(loaded);
+        });
+
+        if (subscriptions.stream().noneMatch(this::isDead)) {
+            return subscriptions;
         }
-        
-        return subscriptions;
+        return subscriptions.stream().filter(subscription -> !isDead(subscription)).toList();
     }
 
     /**
@@ -126,6 +172,7 @@ public class WebPushSubscriptionService {
         
         subscription.deactivate();
         subscriptionRepository.save(subscription);
+        invalidateAfterCommit(userId);
         
         log.info("✅ [WebPushSubscriptionService] 구독 비활성화 완료: subscriptionId={}", subscriptionId);
         return true;
@@ -150,6 +197,7 @@ public class WebPushSubscriptionService {
         WebPushSubscription subscription = subscriptionOpt.get();
         subscription.deactivate();
         subscriptionRepository.save(subscription);
+        invalidateAfterCommit(subscription.getUserId());
         
         log.info("✅ [WebPushSubscriptionService] 엔드포인트로 구독 비활성화 완료: subscriptionId={}", subscription.getId());
         return true;
@@ -169,21 +217,92 @@ public class WebPushSubscriptionService {
     }
 
     /**
-     * 푸시 발송 시간을 업데이트합니다.
+     * 푸시 발송 시간을 기록합니다.
+     * DB에는 바로 쓰지 않고 모아 두었다가 flushPendingWrites()에서 일괄 반영합니다.
      * 
      * @param subscriptionId 구독 ID
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void updateLastPushTime(Long subscriptionId) {
-        Optional<WebPushSubscription> subscriptionOpt = subscriptionRepository.findById(subscriptionId);
-        
-        if (subscriptionOpt.isPresent()) {
-            WebPushSubscription subscription = subscriptionOpt.get();
-            subscription.updateLastPushTime();
-            subscriptionRepository.save(subscription);
-            log.debug("🕐 [WebPushSubscriptionService] 푸시 발송 시간 업데이트: subscriptionId={}", subscriptionId);
+        pendingLastPush.put(subscriptionId, LocalDateTime.now(ZONE));
+    }
+
+    /**
+     * 만료(410/404) 응답을 받은 구독을 발송 대상에서 즉시 제외합니다.
+     * DB 비활성화는 flushPendingWrites()에서 일괄 처리합니다.
+     *
+     * @param subscription 만료된 구독
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void markEndpointGone(WebPushSubscription subscription) {
+        deadEndpoints.put(subscription.getEndpoint(), Boolean.TRUE);
+        pendingDeactivations.add(subscription.getId());
+        pendingLastPush.remove(subscription.getId());
+        activeSubscriptionCache.invalidate(subscription.getUserId());
+    }
+
+    /**
+     * 모아 둔 발송 시간과 비활성화 대상을 chunk 단위 UPDATE로 반영합니다.
+     * 반영에 실패하면 트랜잭션 전체가 롤백되므로 꺼낸 항목을 다시 대기열에 넣고 예외를 그대로 던집니다.
+     *
+     * @param chunkSize IN 절 하나에 넣을 최대 ID 수
+     * @return [발송 시간 갱신 수, 비활성화 수]
+     */
+    public int[] flushPendingWrites(int chunkSize) {
+        List<Long> deactivateIds = drain(pendingDeactivations);
+        Map<Long, LocalDateTime> lastPushes = new HashMap<>();
+        for (Long id : new ArrayList<>(pendingLastPush.keySet())) {
+            LocalDateTime pushedAt = pendingLastPush.remove(id);
+            if (pushedAt != null) {
+                lastPushes.put(id, pushedAt);
+            }
+        }
+
+        try {
+            int deactivated = 0;
+            LocalDateTime now = LocalDateTime.now(ZONE);
+            for (List<Long> chunk : chunks(deactivateIds, chunkSize)) {
+                deactivated += subscriptionRepository.deactivateAllByIdIn(chunk, now);
+            }
+
+            // 같은 구독의 여러 발송은 마지막 시간 하나로 합쳐지고, 시간대별로 묶어 UPDATE 한다
+            Map<LocalDateTime, List<Long>> idsByPushedAt = new HashMap<>();
+            lastPushes.forEach((id, pushedAt) ->
+                    idsByPushedAt.computeIfAbsent(pushedAt.withNano(0), t -> new ArrayList<>()).add(id));
+            int touched = 0;
+            for (Map.Entry<LocalDateTime, List<Long>> entry : idsByPushedAt.entrySet()) {
+                for (List<Long> chunk : chunks(entry.getValue(), chunkSize)) {
+                    touched += subscriptionRepository.updateLastPushAt(chunk, entry.getKey());
+                }
+            }
+            return new int[]{touched, deactivated};
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 반영 (그 사이 만료된 구독의 발송 시간은 다시 넣지 않는다)
+            pendingDeactivations.addAll(deactivateIds);
+            lastPushes.forEach((id, pushedAt) -> {
+                if (!pendingDeactivations.contains(id)) {
+                    pendingLastPush.merge(id, pushedAt, (newer, older) -> newer.isAfter(older) ? newer : older);
+                }
+            });
+            throw e;
         }
     }
-    
+
+    /**
+     * 오래 전에 비활성화된 구독을 삭제합니다.
+     *
+     * @param cutoffDate 이 시간 이전에 비활성화된 구독이 대상
+     * @return 삭제된 구독 수
+     */
+    public int purgeInactiveSubscriptions(LocalDateTime cutoffDate) {
+        List<WebPushSubscription> expired = subscriptionRepository.findOldInactiveSubscriptions(cutoffDate);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        subscriptionRepository.deleteAllInBatch(expired);
+        return expired.size();
+    }
+
     /**
      * 사용자의 모든 구독을 강제로 비활성화합니다.
      * (긴급 상황용)
@@ -208,9 +327,46 @@ public class WebPushSubscriptionService {
             }
         }
         
+        invalidateAfterCommit(userId);
         log.warn("🚨 [WebPushSubscriptionService] 강제 비활성화 완료: userId={}, deactivatedCount={}", 
                 userId, deactivatedCount);
         
         return deactivatedCount;
     }
+
+    private boolean isDead(WebPushSubscription subscription) {
+        return deadEndpoints.getIfPresent(subscription.getEndpoint()) != null;
+    }
+
+    // 롤백되면 캐시는 그대로 두고, 커밋된 뒤에 비워서 다음 조회가 새 값을 읽게 한다
+    private void invalidateAfterCommit(Long userId) {
+        activeSubscriptionCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    activeSubscriptionCache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private static List<Long> drain(Set<Long> source) {
+        List<Long> drained = new ArrayList<>();
+        for (Long id : new ArrayList<>(source)) {
+            if (source.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids, int chunkSize) {
+        int size = Math.max(1, chunkSize);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += size) {
+            chunks.add(ids.subList(from, Math.min(from + size, ids.size())));
+        }
+        return chunks;
+    }
 }
@@ -0,0 +1,19 @@
+package site.petful.notificationservice.webpush;
+
+import site.petful.notificationservice.entity.WebPushSubscription;
+
+/**
+ * 구독 하나에 대한 푸시 발송 결과.
+ * statusCode가 0이면 HTTP 응답 전에 실패한 경우 (암호화/네트워크 오류).
+ */
+public record PushResult(WebPushSubscription subscription, int statusCode, String error) {
+
+    public boolean success() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    // 404/410: 구독이 만료되었거나 해지됨 → 비활성화 대상
+    public boolean gone() {
+        return statusCode == 404 || statusCode == 410;
+    }
+}
@@ -0,0 +1,103 @@
+package site.petful.notificationservice.webpush;
+
+import lombok.extern.slf4j.Slf4j;
+import nl.martijndwars.webpush.Utils;
+import org.bouncycastle.jce.interfaces.ECPublicKey;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.NumericDate;
+import org.jose4j.lang.JoseException;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Security;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * VAPID 서명기.
+ * 키는 기동 시 한 번만 파싱하고, Authorization 헤더(JWT)는 push 서비스 origin별로 캐시한다.
+ * 만료 1시간 전부터는 다음 요청에서 새로 서명한다 (refresh-ahead).
+ */
+@Slf4j
+@Component
+public class VapidSigner {
+
+    private static final long TOKEN_LIFETIME_SECONDS = 12 * 60 * 60;   // push 서비스 허용 최대 24시간
+    private static final long REFRESH_AHEAD_SECONDS = 60 * 60;
+
+    // BouncyCastle 프로바이더 등록 (정적 초기화)
+    static {
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+            log.info("🔐 [VapidSigner] BouncyCastle 프로바이더 등록 완료");
+        }
+    }
+
+    private record CachedHeader(String value, long refreshAtEpochSecond) {
+    }
+
+    private final PrivateKey privateKey;
+    private final String encodedPublicKey;
+    private final String subject;
+    private final Map<String, CachedHeader> headersByOrigin = new ConcurrentHashMap<>();
+
+    public VapidSigner(VapidProps vapidProps) throws GeneralSecurityException {
+        this.subject = vapidProps.getSubject();
+        if (vapidProps.getPrivateKey() == null || vapidProps.getPublicKey() == null) {
+            // 키가 없으면 기동은 하되 발송 시점에 실패시킨다 (기존 동작과 동일)
+            log.warn("⚠️ [VapidSigner] VAPID 키가 설정되지 않았습니다. 웹푸시 발송이 실패합니다.");
+            this.privateKey = null;
+            this.encodedPublicKey = null;
+            return;
+        }
+        this.privateKey = Utils.loadPrivateKey(vapidProps.getPrivateKey());
+        ECPublicKey publicKey = (ECPublicKey) Utils.loadPublicKey(vapidProps.getPublicKey());
+        this.encodedPublicKey = Base64.getUrlEncoder().withoutPadding().encodeToString(Utils.encode(publicKey));
+    }
+
+    /**
+     * origin(예: https://fcm.googleapis.com)에 보낼 "vapid t=..., k=..." 헤더 값.
+     */
+    public String authorizationHeader(String origin) {
+        if (privateKey == null) {
+            throw new IllegalStateException("VAPID 키가 설정되지 않았습니다.");
+        }
+        long now = System.currentTimeMillis() / 1000;
+        CachedHeader cached = headersByOrigin.get(origin);
+        if (cached != null && now < cached.refreshAtEpochSecond()) {
+            return cached.value();
+        }
+        CachedHeader signed = sign(origin, now);
+        headersByOrigin.put(origin, signed);
+        return signed.value();
+    }
+
+    private CachedHeader sign(String origin, long now) {
+        long expiresAt = now + TOKEN_LIFETIME_SECONDS;
+        JwtClaims claims = new JwtClaims();
+        claims.setAudience(origin);
+        claims.setExpirationTime(NumericDate.fromSeconds(expiresAt));
+        if (subject != null) {
+            claims.setSubject(subject);
+        }
+
+        JsonWebSignature jws = new JsonWebSignature();
+        jws.setHeader("typ", "JWT");
+        jws.setPayload(claims.toJson());
+        jws.setKey(privateKey);
+        jws.setAlgorithmHeaderValue(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256);
+
+        try {
+            String header = "vapid t=" + jws.getCompactSerialization() + ", k=" + encodedPublicKey;
+            log.debug("🔐 [VapidSigner] VAPID 토큰 서명: origin={}", origin);
+            return new CachedHeader(header, expiresAt - REFRESH_AHEAD_SECONDS);
+        } catch (JoseException e) {
+            throw new IllegalStateException("VAPID 토큰 서명 실패: " + e.getMessage(), e);
+        }
+    }
+}
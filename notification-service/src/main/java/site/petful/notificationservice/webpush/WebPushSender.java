@@ -0,0 +1,177 @@
+package site.petful.notificationservice.webpush;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import nl.martijndwars.webpush.AbstractPushService;
+import nl.martijndwars.webpush.Encoding;
+import nl.martijndwars.webpush.Encrypted;
+import nl.martijndwars.webpush.Notification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import site.petful.notificationservice.entity.WebPushSubscription;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 웹푸시 HTTP 발송기.
+ * - 모든 발송이 하나의 HttpClient(비동기, origin별 커넥션 재사용/HTTP2 멀티플렉싱)를 공유한다
+ * - 페이로드 암호화(구독별 ECDH)는 CPU 코어 수 만큼의 스레드에서 수행
+ * - origin별 동시 요청 수를 제한해 push 서비스 한 곳에 요청이 몰리지 않게 한다
+ *   (한도를 넘은 요청은 스레드를 막지 않고 origin별 대기열에서 차례를 기다린다)
+ * - 결과는 CompletableFuture로 돌려주고 호출 스레드를 막지 않는다
+ */
+@Slf4j
+@Component
+public class WebPushSender {
+
+    private final VapidSigner vapidSigner;
+    private final HttpClient httpClient;
+    private final ExecutorService encryptExecutor;
+    private final ExecutorService httpExecutor;
+    private final Map<String, OriginPermits> permitsByOrigin = new ConcurrentHashMap<>();
+    private final int maxConcurrencyPerOrigin;
+    private final int ttlSeconds;
+    private final Duration requestTimeout;
+
+    public WebPushSender(VapidSigner vapidSigner,
+                         @Value("${app.notification.webpush.max-concurrency-per-origin:64}") int maxConcurrencyPerOrigin,
+                         @Value("${app.notification.webpush.ttl-seconds:2419200}") int ttlSeconds,
+                         @Value("${app.notification.webpush.request-timeout-ms:10000}") long requestTimeoutMs) {
+        this.vapidSigner = vapidSigner;
+        this.maxConcurrencyPerOrigin = Math.max(1, maxConcurrencyPerOrigin);
+        this.ttlSeconds = ttlSeconds;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+
+        this.encryptExecutor = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), daemonThreads("webpush-encrypt-"));
+        this.httpExecutor = Executors.newCachedThreadPool(daemonThreads("webpush-http-"));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        encryptExecutor.shutdown();
+        httpExecutor.shutdown();
+    }
+
+    /**
+     * 이미 직렬화된 페이로드를 구독 하나에 보낸다. 예외 대신 PushResult로 실패를 돌려준다.
+     */
+    public CompletableFuture<PushResult> send(WebPushSubscription subscription, byte[] payload) {
+        return CompletableFuture.supplyAsync(() -> prepare(subscription, payload), encryptExecutor)
+                .thenCompose(prepared -> {
+                    OriginPermits permits = permitsFor(prepared.origin());
+                    return permits.acquire()
+                            .thenCompose(ignored -> httpClient.sendAsync(prepared.request(), HttpResponse.BodyHandlers.discarding())
+                                    .whenComplete((response, error) -> permits.release()))
+                            .thenApply(response -> new PushResult(subscription, response.statusCode(),
+                                    response.statusCode() < 300 ? null : "HTTP " + response.statusCode()));
+                })
+                .exceptionally(e -> {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    return new PushResult(subscription, 0, cause.getClass().getSimpleName() + ": " + cause.getMessage());
+                });
+    }
+
+    private record PreparedRequest(String origin, HttpRequest request) {
+    }
+
+    private PreparedRequest prepare(WebPushSubscription subscription, byte[] payload) {
+        try {
+            Notification target = new Notification(
+                    subscription.getEndpoint(), subscription.getP256dhKey(), subscription.getAuthKey(), payload);
+            Encrypted encrypted = AbstractPushService.encrypt(
+                    payload, target.getUserPublicKey(), target.getUserAuth(), Encoding.AES128GCM);
+
+            URI endpoint = URI.create(subscription.getEndpoint());
+            String origin = originOf(endpoint);
+
+            HttpRequest request = HttpRequest.newBuilder(endpoint)
+                    .timeout(requestTimeout)
+                    .header("TTL", Integer.toString(ttlSeconds))
+                    .header("Content-Type", "application/octet-stream")
+                    .header("Content-Encoding", "aes128gcm")
+                    .header("Authorization", vapidSigner.authorizationHeader(origin))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(encrypted.getCiphertext()))
+                    .build();
+            return new PreparedRequest(origin, request);
+        } catch (Exception e) {
+            throw new IllegalStateException("웹푸시 요청 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private OriginPermits permitsFor(String origin) {
+        return permitsByOrigin.computeIfAbsent(origin, o -> new OriginPermits(maxConcurrencyPerOrigin));
+    }
+
+    /**
+     * origin 하나의 동시 요청 한도. 자리가 없으면 블로킹하지 않고 대기 future를 돌려주고,
+     * release 시 가장 오래 기다린 요청을 이어서 보낸다.
+     */
+    static final class OriginPermits {
+
+        private final int limit;
+        private final ArrayDeque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+        private int inUse;
+
+        OriginPermits(int limit) {
+            this.limit = limit;
+        }
+
+        CompletableFuture<Void> acquire() {
+            synchronized (this) {
+                if (inUse < limit) {
+                    inUse++;
+                    return CompletableFuture.completedFuture(null);
+                }
+                CompletableFuture<Void> turn = new CompletableFuture<>();
+                waiting.add(turn);
+                return turn;
+            }
+        }
+
+        void release() {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    inUse--;
+                    return;
+                }
+            }
+            // 자리를 그대로 넘긴다 (락 밖에서 완료시켜 이어지는 발송이 락을 잡지 않게)
+            next.complete(null);
+        }
+    }
+
+    private static String originOf(URI uri) {
+        return uri.getPort() == -1
+                ? uri.getScheme() + "://" + uri.getHost()
+                : uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNo = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package site.petful.petservice;
+
+import org.apache.commons.net.ftp.FTP;
+import org.apache.commons.net.ftp.FTPClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import site.petful.petservice.common.ftp.EmbeddedFtpServer;
+import site.petful.petservice.common.ftp.FtpClientPool;
+import site.petful.petservice.common.ftp.FtpUploader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활동이력 다중 이미지 업로드 처리량 비교 (인프로세스 MINA FtpServer 대상).
+ * - perFileConnection: 기존 방식 (파일마다 접속/로그인/디렉토리 확인/종료)
+ * - pooledParallel: 커넥션 풀 + 디렉토리 캐시 + 병렬 업로드
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FtpUploadBenchmark {
+
+    private static final String FOLDER = "/3/pet/history";
+
+    @Param({"10"})
+    public int files;
+
+    @Param({"262144"})
+    public int fileSize;
+
+    private EmbeddedFtpServer server;
+    private FtpClientPool pool;
+    private FtpUploader uploader;
+    private List<MultipartFile> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = EmbeddedFtpServer.start();
+        pool = server.newPool(4);
+        uploader = new FtpUploader(pool);
+
+        batch = new ArrayList<>(files);
+        for (int i = 0; i < files; i++) {
+            byte[] content = new byte[fileSize];
+            ThreadLocalRandom.current().nextBytes(content);
+            batch.add(new MockMultipartFile("files", "img" + i + ".jpg", "image/jpeg", content));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        uploader.shutdown();
+        pool.close();
+        server.close();
+    }
+
+    @Benchmark
+    public int perFileConnection() throws IOException {
+        int uploaded = 0;
+        for (MultipartFile file : batch) {
+            if (legacyUpload(file)) {
+                uploaded++;
+            }
+        }
+        return uploaded;
+    }
+
+    @Benchmark
+    public int pooledParallel() {
+        return uploader.uploadAll(FOLDER, batch).size();
+    }
+
+    // 변경 전 FtpUploader.uploadFile과 같은 순서의 명령
+    private boolean legacyUpload(MultipartFile file) throws IOException {
+        FTPClient client = new FTPClient();
+        try (InputStream input = file.getInputStream()) {
+            client.connect("localhost", server.getPort());
+            if (!client.login(EmbeddedFtpServer.USERNAME, EmbeddedFtpServer.PASSWORD)) {
+                return false;
+            }
+            client.enterLocalPassiveMode();
+            client.setFileType(FTP.BINARY_FILE_TYPE);
+
+            String currentPath = "";
+            for (String part : FOLDER.split("/")) {
+                if (!part.isEmpty()) {
+                    currentPath += "/" + part;
+                    if (!client.changeWorkingDirectory(currentPath)) {
+                        client.makeDirectory(currentPath);
+                    }
+                }
+            }
+            client.changeWorkingDirectory(FOLDER);
+            boolean done = client.storeFile("file_" + System.nanoTime() + ".jpg", input);
+            client.logout();
+            return done;
+        } finally {
+            if (client.isConnected()) {
+                client.disconnect();
+            }
+        }
+    }
+}
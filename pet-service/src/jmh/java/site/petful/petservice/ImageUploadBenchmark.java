@@ -0,0 +1,159 @@
+package site.petful.petservice;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import site.petful.petservice.common.ftp.EmbeddedFtpServer;
+import site.petful.petservice.common.ftp.FtpClientPool;
+import site.petful.petservice.common.ftp.FtpUploader;
+import site.petful.petservice.common.image.ImageUploadPipeline;
+import site.petful.petservice.common.image.ImageVariantGenerator;
+import site.petful.petservice.common.image.ImageVariantGenerator.Variant;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활동이력 이미지 10장(각 약 5MB JPEG) 업로드 (인프로세스 MINA FtpServer 대상).
+ * - originalsOnly: 변경 전. 원본만 풀 커넥션으로 병렬 업로드
+ * - pipeline: 원본 + 웹용(1280px)/썸네일(320px) 생성 후 함께 업로드 (파일 단위 병렬)
+ * 변형 생성 한 장 (-prof gc로 할당량 비교)
+ * - variantsFullDecode: 원본 해상도 전체를 BufferedImage로 디코딩한 뒤 축소
+ * - variantsSubsampled: ImageVariantGenerator (디코딩 단계 서브샘플링)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImageUploadBenchmark {
+
+    private static final String FOLDER = "/3/pet/history";
+
+    @Param({"10"})
+    public int files;
+
+    @Param({"4"})
+    public int poolSize;
+
+    private EmbeddedFtpServer server;
+    private FtpClientPool pool;
+    private FtpUploader uploader;
+    private ImageVariantGenerator generator;
+    private ImageUploadPipeline pipeline;
+    private List<MultipartFile> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = EmbeddedFtpServer.start();
+        pool = server.newPool(poolSize);
+        uploader = new FtpUploader(pool);
+        generator = new ImageVariantGenerator(1280, 0.82f, 320, 0.75f);
+        pipeline = new ImageUploadPipeline(uploader, generator, pool, 0);
+
+        batch = new ArrayList<>(files);
+        for (int i = 0; i < files; i++) {
+            batch.add(new MockMultipartFile("files", "img" + i + ".jpg", "image/jpeg", photo(i)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pipeline.shutdown();
+        uploader.shutdown();
+        pool.close();
+        server.close();
+    }
+
+    @Benchmark
+    public int originalsOnly() {
+        return uploader.uploadAll(FOLDER, batch).size();
+    }
+
+    @Benchmark
+    public int pipeline() {
+        return pipeline.uploadAll(FOLDER, batch).size();
+    }
+
+    @Benchmark
+    public int variantsFullDecode() throws IOException {
+        BufferedImage full;
+        try (InputStream input = batch.get(0).getInputStream()) {
+            full = ImageIO.read(input);
+        }
+        BufferedImage web = resize(full, 1280);
+        BufferedImage thumbnail = resize(web, 320);
+        return jpeg(web, 0.82f).length + jpeg(thumbnail, 0.75f).length;
+    }
+
+    @Benchmark
+    public int variantsSubsampled() {
+        Map<Variant, byte[]> variants = generator.generate(batch.get(0));
+        return variants.get(Variant.WEB).length + variants.get(Variant.THUMBNAIL).length;
+    }
+
+    // 4000x3000 사진 비슷한 이미지 (그라디언트 + 잡음) → 약 5MB JPEG
+    private static byte[] photo(int seed) throws IOException {
+        int width = 4000;
+        int height = 3000;
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int r = (x * 255 / width + random.nextInt(48)) & 0xff;
+                int g = (y * 255 / height + random.nextInt(48)) & 0xff;
+                int b = ((x + y) * 255 / (width + height) + random.nextInt(48)) & 0xff;
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return jpeg(image, 0.85f);
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxSize) {
+        double ratio = (double) maxSize / Math.max(source.getWidth(), source.getHeight());
+        int width = (int) Math.round(source.getWidth() * ratio);
+        int height = (int) Math.round(source.getHeight() * ratio);
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return target;
+    }
+
+    private static byte[] jpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
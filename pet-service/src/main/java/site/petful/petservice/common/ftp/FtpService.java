@@ -1,25 +1,22 @@
 package site.petful.petservice.common.ftp;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import site.petful.petservice.common.image.ImageUploadPipeline;
+import site.petful.petservice.common.image.ImageUploadPipeline.UploadedImage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Service
+@RequiredArgsConstructor
 public class FtpService {
-    @Value("${ftp.host}")
-    private String host;
 
-    @Value("${ftp.port}")
-    private int port;
-
-    @Value("${ftp.username}")
-    private String username;
-
-    @Value("${ftp.password}")
-    private String password;
+    private final FtpUploader ftpUploader;
+    private final ImageUploadPipeline imageUploadPipeline;
 
     @Value("${ftp.base-folder}")
     private String baseFolder;
@@ -28,18 +25,19 @@ public class FtpService {
     private String viewUrl;
 
     public String upload(MultipartFile file) {
-        return FtpUploader.uploadFile(host, port, username, password, baseFolder, file);
+        return ftpUploader.upload(baseFolder, file);
     }
 
+    // 풀 커넥션 여러 개로 병렬 업로드 (업로드 순서 유지, 실패 항목 제외)
     public List<String> uploadMultiple(List<MultipartFile> files) {
-        List<String> filenames = new ArrayList<>();
-        for (MultipartFile file : files) {
-            String filename = upload(file);
-            if (filename != null) {
-                filenames.add(filename);
-            }
-        }
-        return filenames;
+        return ftpUploader.uploadAll(baseFolder, files).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 원본과 함께 썸네일/웹용 변형도 올린다 (업로드 순서 유지, 원본 업로드 실패 항목은 null)
+    public List<UploadedImage> uploadImages(List<MultipartFile> files) {
+        return imageUploadPipeline.uploadAll(baseFolder, files);
     }
 
     public String getFileUrl(String filename) {
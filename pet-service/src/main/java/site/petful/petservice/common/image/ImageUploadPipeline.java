@@ -0,0 +1,101 @@
+package site.petful.petservice.common.image;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import site.petful.petservice.common.ftp.FtpClientPool;
+import site.petful.petservice.common.ftp.FtpUploader;
+import site.petful.petservice.common.image.ImageVariantGenerator.Variant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 여러 장을 원본 + 웹용/썸네일 변형까지 함께 올린다.
+ * 파일 하나가 작업 하나(변형 생성 → 원본 업로드 → 변형 업로드)이고, workers개 스레드에서 병렬로 처리한다.
+ * workers 기본값은 FTP 풀 크기라서 각 작업이 커넥션을 기다리지 않고 바로 빌린다.
+ */
+@Slf4j
+@Component
+public class ImageUploadPipeline {
+
+    /** 업로드 결과 (파일명). 변형을 만들지 못했거나 올리지 못했으면 해당 값은 null */
+    public record UploadedImage(String originalName, String savedName, String thumbnailName, String webName) {
+    }
+
+    private final FtpUploader ftpUploader;
+    private final ImageVariantGenerator variantGenerator;
+    private final ExecutorService executor;
+
+    public ImageUploadPipeline(FtpUploader ftpUploader,
+                               ImageVariantGenerator variantGenerator,
+                               FtpClientPool ftpClientPool,
+                               @Value("${image.pipeline.workers:0}") int workers) {
+        this.ftpUploader = ftpUploader;
+        this.variantGenerator = variantGenerator;
+        int threads = workers > 0 ? workers : ftpClientPool.getMaxTotal();
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "image-upload-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 결과는 입력 순서를 따르며 원본 업로드에 실패한 항목은 null.
+     */
+    public List<UploadedImage> uploadAll(String folder, List<MultipartFile> files) {
+        List<CompletableFuture<UploadedImage>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> upload(folder, file), executor));
+        }
+
+        List<UploadedImage> result = new ArrayList<>(files.size());
+        for (CompletableFuture<UploadedImage> future : futures) {
+            result.add(future.join());
+        }
+        return result;
+    }
+
+    private UploadedImage upload(String folder, MultipartFile file) {
+        // 변형을 먼저 만들어 두면 디코딩한 이미지는 업로드 전에 이미 놓아진다
+        Map<Variant, byte[]> variants = variantGenerator.generate(file);
+
+        String savedName = ftpUploader.upload(folder, file);
+        if (savedName == null) {
+            return null;
+        }
+
+        String baseName = stripExtension(savedName);
+        String thumbnailName = uploadVariant(folder, baseName, Variant.THUMBNAIL, variants);
+        String webName = uploadVariant(folder, baseName, Variant.WEB, variants);
+        log.debug("이미지 업로드 완료 - saved: {}, thumbnail: {}, web: {}", savedName, thumbnailName, webName);
+        return new UploadedImage(file.getOriginalFilename(), savedName, thumbnailName, webName);
+    }
+
+    private String uploadVariant(String folder, String baseName, Variant variant, Map<Variant, byte[]> variants) {
+        byte[] content = variants.get(variant);
+        if (content == null) {
+            return null;
+        }
+        return ftpUploader.upload(folder, baseName + "_" + variant.getSuffix() + ".jpg", content);
+    }
+
+    private static String stripExtension(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
+}
@@ -0,0 +1,272 @@
+package site.petful.petservice.common.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 업로드된 원본 이미지로 웹용/썸네일 JPEG을 만든다.
+ * - 헤더만 먼저 읽어 크기를 알아낸 뒤, 디코더 단계에서 서브샘플링해 원본 해상도 전체를 메모리에 올리지 않는다
+ * - 입력은 앞으로만 읽으므로(seekForwardOnly) 디코딩한 만큼의 바이트는 버퍼에서 바로 빠진다
+ * - 웹용을 만든 뒤 디코딩 이미지를 놓고, 썸네일은 웹용에서 다시 줄인다
+ * - JPEG EXIF(APP1)의 Orientation 값대로 웹용을 회전/반전한다 (변형 파일에는 EXIF가 남지 않으므로)
+ * ImageIO가 읽지 못하는 형식(HEIC 등)이면 빈 결과를 돌려주고 원본만 쓴다.
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    public enum Variant {
+        WEB("web"),
+        THUMBNAIL("thumb");
+
+        private final String suffix;
+
+        Variant(String suffix) {
+            this.suffix = suffix;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+    }
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1 = 0xE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private final int webMaxSize;
+    private final float webQuality;
+    private final int thumbnailMaxSize;
+    private final float thumbnailQuality;
+
+    public ImageVariantGenerator(@Value("${image.variant.web.max-size:1280}") int webMaxSize,
+                                 @Value("${image.variant.web.quality:0.82}") float webQuality,
+                                 @Value("${image.variant.thumbnail.max-size:320}") int thumbnailMaxSize,
+                                 @Value("${image.variant.thumbnail.quality:0.75}") float thumbnailQuality) {
+        this.webMaxSize = webMaxSize;
+        this.webQuality = webQuality;
+        this.thumbnailMaxSize = thumbnailMaxSize;
+        this.thumbnailQuality = thumbnailQuality;
+    }
+
+    /**
+     * @return 변형별 JPEG 바이트. 이미지가 아니거나 읽지 못하면 빈 맵
+     */
+    public Map<Variant, byte[]> generate(InputStreamSource source) {
+        Map<Variant, byte[]> variants = new EnumMap<>(Variant.class);
+        try {
+            Decoded decoded = decode(source, webMaxSize);
+            if (decoded == null) {
+                return variants;
+            }
+            // 긴 변 기준으로 줄이므로 회전은 작은 웹용에만 적용하면 된다
+            BufferedImage web = orient(scaleToFit(decoded.image(), webMaxSize), decoded.orientation());
+            decoded = null; // 웹용보다 큰 디코딩 결과는 더 이상 들고 있지 않는다
+            variants.put(Variant.WEB, encodeJpeg(web, webQuality));
+
+            BufferedImage thumbnail = scaleToFit(web, thumbnailMaxSize);
+            web = null;
+            variants.put(Variant.THUMBNAIL, encodeJpeg(thumbnail, thumbnailQuality));
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 변형 생성 실패 - 원본만 사용: {}", e.getMessage());
+            variants.clear();
+        }
+        return variants;
+    }
+
+    private record Decoded(BufferedImage image, int orientation) {
+    }
+
+    /**
+     * 긴 변이 targetSize 이상으로 남는 가장 큰 정수 배율로 서브샘플링해 디코딩한다.
+     */
+    private static Decoded decode(InputStreamSource source, int targetSize) throws IOException {
+        try (InputStream input = source.getInputStream();
+             ImageInputStream imageInput = new MemoryCacheImageInputStream(input)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, false);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longest / targetSize);
+                int orientation = readOrientation(reader);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return new Decoded(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG 메타데이터의 APP1(Exif) 세그먼트에서 IFD0 Orientation(0x0112) 값을 읽는다. 없거나 읽지 못하면 1(그대로)
+     */
+    private static int readOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+                return 1;
+            }
+            Node root = metadata.getAsTree(JPEG_METADATA_FORMAT);
+            for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (!"markerSequence".equals(child.getNodeName())) {
+                    continue;
+                }
+                for (Node marker = child.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                    if (marker instanceof IIOMetadataNode node && "unknown".equals(node.getNodeName())
+                            && String.valueOf(APP1).equals(node.getAttribute("MarkerTag"))
+                            && node.getUserObject() instanceof byte[] data) {
+                        int orientation = exifOrientation(data);
+                        if (orientation > 0) {
+                            return orientation;
+                        }
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("EXIF 방향 읽기 실패 - 회전 없이 사용: {}", e.getMessage());
+        }
+        return 1;
+    }
+
+    // "Exif\0\0" + TIFF 헤더(바이트 순서, IFD0 위치) + IFD0 항목(12바이트씩)
+    private static int exifOrientation(byte[] app1) {
+        if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+            return 0;
+        }
+        int tiff = 6;
+        ByteBuffer buffer = ByteBuffer.wrap(app1);
+        if (app1[tiff] == 'I' && app1[tiff + 1] == 'I') {
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (app1[tiff] != 'M' || app1[tiff + 1] != 'M') {
+            return 0;
+        }
+        int ifd = tiff + buffer.getInt(tiff + 4);
+        if (ifd < tiff || ifd + 2 > app1.length) {
+            return 0;
+        }
+        int entries = buffer.getShort(ifd) & 0xffff;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > app1.length) {
+                break;
+            }
+            if ((buffer.getShort(entry) & 0xffff) == ORIENTATION_TAG) {
+                return buffer.getShort(entry + 8) & 0xffff;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * EXIF Orientation(1~8)대로 회전/반전한다. 5~8은 가로세로가 바뀐다.
+     */
+    private static BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return source;
+        }
+        int w = source.getWidth();
+        int h = source.getHeight();
+        // AffineTransform(m00, m10, m01, m11, m02, m12): x' = m00·x + m01·y + m02, y' = m10·x + m11·y + m12
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 대각 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 반대 대각 반전
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 8: 반시계 방향 90도
+        };
+        boolean swap = orientation >= 5;
+        BufferedImage target = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 긴 변이 maxSize가 되도록 줄인다 (RGB로 바꾸고 투명 영역은 흰색).
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄이다가 마지막에 맞춘다.
+     */
+    private static BufferedImage scaleToFit(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -12,6 +12,8 @@ import lombok.NoArgsConstructor;
 public class HistoryImageInfo {
     private Long id;              // 이미지 ID (DB의 id 컬럼)
     private String url;           // 이미지 URL (filePath)
+    private String thumbnailUrl;  // 썸네일 URL (없으면 원본)
+    private String webUrl;        // 웹용 축소본 URL (없으면 원본)
     private String originalName;  // 원본 파일명
     private String savedName;     // 저장된 파일명
     private Long historyNo;       // 활동 이력 번호
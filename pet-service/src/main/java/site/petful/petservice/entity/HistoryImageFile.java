@@ -33,6 +33,13 @@ public class HistoryImageFile {
     @Column(name = "file_path")
     private String filePath;
 
+    // 목록/포트폴리오용 축소본 (변형을 만들지 못한 이미지는 null)
+    @Column(name = "thumbnail_path")
+    private String thumbnailPath;
+
+    @Column(name = "web_path")
+    private String webPath;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
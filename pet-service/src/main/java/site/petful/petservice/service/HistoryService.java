@@ -5,9 +5,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import site.petful.petservice.common.ftp.FtpService;
+import site.petful.petservice.common.image.ImageUploadPipeline.UploadedImage;
 import site.petful.petservice.dto.HistoryRequest;
 import site.petful.petservice.dto.HistoryResponse;
 import site.petful.petservice.dto.MultipleFileUploadResponse;
@@ -181,7 +183,9 @@ public class HistoryService {
     }
 
     // 활동이력 이미지 업로드
-    @Transactional
+    // 이미지 변형 생성/FTP 업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+    // 소유권 확인 조회와 saveAll은 각각 리포지토리의 짧은 트랜잭션으로 처리된다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MultipleFileUploadResponse uploadHistoryImages(List<MultipartFile> files, Long petNo, Long historyNo, Long userNo) {
         try {
             // 활동이력 존재 여부 및 소유권 확인
@@ -199,24 +203,28 @@ public class HistoryService {
                 throw new IllegalArgumentException("해당 활동이력에 이미지를 업로드할 권한이 없습니다.");
             }
 
-            // 파일 업로드
-            List<String> uploadedUrls = ftpService.uploadMultiple(files);
-          
-            // 이미지 파일 정보를 데이터베이스에 저장
+            // 파일 업로드 (원본 + 썸네일/웹용 변형, 파일 단위 병렬)
+            List<UploadedImage> uploadedImages = ftpService.uploadImages(files);
+
+            // 이미지 파일 정보를 데이터베이스에 저장 (업로드에 실패한 파일은 건너뜀, saveAll 한 트랜잭션)
             List<HistoryImageFile> imageFiles = new ArrayList<>();
-            for (int i = 0; i < files.size(); i++) {
-                MultipartFile file = files.get(i);
-                String uploadedUrl = uploadedUrls.get(i);
-                
+            List<String> uploadedUrls = new ArrayList<>();
+            for (UploadedImage uploaded : uploadedImages) {
+                if (uploaded == null) {
+                    continue;
+                }
                 HistoryImageFile imageFile = HistoryImageFile.builder()
                         .historyNo(historyNo)
-                        .originalName(file.getOriginalFilename())
-                        .savedName(uploadedUrl.substring(uploadedUrl.lastIndexOf("/") + 1))
-                        .filePath(uploadedUrl)
+                        .originalName(uploaded.originalName())
+                        .savedName(uploaded.savedName())
+                        .filePath(uploaded.savedName())
+                        .thumbnailPath(uploaded.thumbnailName())
+                        .webPath(uploaded.webName())
                         .isDeleted(false)
                         .build();
-                
+
                 imageFiles.add(imageFile);
+                uploadedUrls.add(uploaded.savedName());
             }
             
             historyImageFileRepository.saveAll(imageFiles);
@@ -331,29 +339,31 @@ public class HistoryService {
                 .findByHistoryNoAndIsDeletedFalse(historyNo);
 
         return imageFiles.stream()
-                .map(imageFile -> HistoryImageInfo.builder()
-                        .id(imageFile.getId())
-                        .url(imageFile.getFilePath())
-                        .originalName(imageFile.getOriginalName())
-                        .savedName(imageFile.getSavedName())
-                        .historyNo(imageFile.getHistoryNo())
-                        .build())
+                .map(this::toImageInfo)
                 .collect(Collectors.toList());
     }
 
+    // 변형이 없는 이미지(도입 전 업로드, 변환 실패)는 원본 경로로 채운다
+    private HistoryImageInfo toImageInfo(HistoryImageFile imageFile) {
+        String url = imageFile.getFilePath();
+        return HistoryImageInfo.builder()
+                .id(imageFile.getId())
+                .url(url)
+                .thumbnailUrl(imageFile.getThumbnailPath() != null ? imageFile.getThumbnailPath() : url)
+                .webUrl(imageFile.getWebPath() != null ? imageFile.getWebPath() : url)
+                .originalName(imageFile.getOriginalName())
+                .savedName(imageFile.getSavedName())
+                .historyNo(imageFile.getHistoryNo())
+                .build();
+    }
+
     // DTO 변환 메서드
     private HistoryResponse toHistoryResponse(History history) {
         // 이미지 파일에서 상세 정보 가져오기
         List<HistoryImageInfo> images = historyImageFileRepository
                 .findByHistoryNoAndIsDeletedFalse(history.getHistoryNo())
                 .stream()
-                .map(imageFile -> HistoryImageInfo.builder()
-                        .id(imageFile.getId())
-                        .url(imageFile.getFilePath())
-                        .originalName(imageFile.getOriginalName())
-                        .savedName(imageFile.getSavedName())
-                        .historyNo(imageFile.getHistoryNo())
-                        .build())
+                .map(this::toImageInfo)
                 .collect(Collectors.toList());
 
         // 기존 호환성을 위한 imageUrls도 유지
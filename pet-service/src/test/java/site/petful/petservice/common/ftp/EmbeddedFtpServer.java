@@ -0,0 +1,95 @@
+package site.petful.petservice.common.ftp;
+
+import org.apache.ftpserver.FtpServer;
+import org.apache.ftpserver.FtpServerFactory;
+import org.apache.ftpserver.ftplet.Authority;
+import org.apache.ftpserver.ftplet.FtpException;
+import org.apache.ftpserver.ftplet.UserManager;
+import org.apache.ftpserver.impl.DefaultFtpServer;
+import org.apache.ftpserver.listener.Listener;
+import org.apache.ftpserver.listener.ListenerFactory;
+import org.apache.ftpserver.usermanager.PropertiesUserManagerFactory;
+import org.apache.ftpserver.usermanager.impl.BaseUser;
+import org.apache.ftpserver.usermanager.impl.WritePermission;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 테스트/벤치마크용 인프로세스 FTP 서버 (Apache MINA FtpServer).
+ * 임의 포트에 뜨고, 사용자 홈은 임시 디렉토리다.
+ */
+public class EmbeddedFtpServer implements AutoCloseable {
+
+    public static final String USERNAME = "petful";
+    public static final String PASSWORD = "petful";
+
+    private final Path home;
+    private final FtpServer server;
+    private final int port;
+
+    private EmbeddedFtpServer(Path home, FtpServer server, int port) {
+        this.home = home;
+        this.server = server;
+        this.port = port;
+    }
+
+    public static EmbeddedFtpServer start() throws IOException, FtpException {
+        return start(300);
+    }
+
+    public static EmbeddedFtpServer start(int idleTimeoutSeconds) throws IOException, FtpException {
+        Path home = Files.createTempDirectory("ftp-home");
+
+        ListenerFactory listenerFactory = new ListenerFactory();
+        listenerFactory.setPort(0);
+        listenerFactory.setIdleTimeout(idleTimeoutSeconds);
+
+        UserManager userManager = new PropertiesUserManagerFactory().createUserManager();
+        BaseUser user = new BaseUser();
+        user.setName(USERNAME);
+        user.setPassword(PASSWORD);
+        user.setHomeDirectory(home.toString());
+        user.setAuthorities(List.<Authority>of(new WritePermission()));
+        userManager.save(user);
+
+        FtpServerFactory serverFactory = new FtpServerFactory();
+        serverFactory.addListener("default", listenerFactory.createListener());
+        serverFactory.setUserManager(userManager);
+
+        FtpServer server = serverFactory.createServer();
+        server.start();
+
+        Listener listener = ((DefaultFtpServer) server).getListener("default");
+        return new EmbeddedFtpServer(home, server, listener.getPort());
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public Path getHome() {
+        return home;
+    }
+
+    public long getTotalConnections() {
+        return ((DefaultFtpServer) server).getServerContext().getFtpStatistics().getTotalConnectionNumber();
+    }
+
+    public FtpClientPool newPool(int maxTotal) {
+        return new FtpClientPool("localhost", port, USERNAME, PASSWORD,
+                maxTotal, 60_000, 30_000, 10_000, 65_536);
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.stop();
+        try (Stream<Path> paths = Files.walk(home)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package site.petful.petservice.common.ftp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FtpUploaderTest {
+
+    private EmbeddedFtpServer server;
+    private FtpClientPool pool;
+    private FtpUploader uploader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = EmbeddedFtpServer.start(1);
+        pool = server.newPool(3);
+        uploader = new FtpUploader(pool);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        uploader.shutdown();
+        pool.close();
+        server.close();
+    }
+
+    @Test
+    void uploadCreatesNestedDirectoriesAndStoresContent() throws Exception {
+        byte[] content = "hello petful".getBytes();
+
+        String filename = uploader.upload("3/pet/history", image("a.png", content));
+
+        assertThat(filename).startsWith("file_").endsWith(".png");
+        assertThat(Files.readAllBytes(server.getHome().resolve("3/pet/history").resolve(filename)))
+                .isEqualTo(content);
+    }
+
+    @Test
+    void uploadAllKeepsOrderAndReusesPooledConnections() throws Exception {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            files.add(image("img" + i + ".jpg", ("image-" + i).getBytes()));
+        }
+
+        List<String> filenames = uploader.uploadAll("3/pet", files);
+
+        assertThat(filenames).hasSize(12).doesNotContainNull().doesNotHaveDuplicates();
+        Path folder = server.getHome().resolve("3/pet");
+        for (int i = 0; i < filenames.size(); i++) {
+            assertThat(Files.readString(folder.resolve(filenames.get(i)))).isEqualTo("image-" + i);
+        }
+        // 파일 수와 상관없이 풀 크기만큼만 접속한다
+        assertThat(server.getTotalConnections()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void uploadRecoversWhenServerClosedIdleConnection() throws Exception {
+        assertThat(uploader.upload("3/pet", image("first.jpg", new byte[]{1}))).isNotNull();
+
+        // 서버 idle timeout(1초)으로 풀에 있던 커넥션이 끊긴다
+        Thread.sleep(2_500);
+
+        String filename = uploader.upload("3/pet", image("second.jpg", new byte[]{2}));
+
+        assertThat(filename).isNotNull();
+        assertThat(Files.readAllBytes(server.getHome().resolve("3/pet").resolve(filename)))
+                .containsExactly(2);
+    }
+
+    private static MockMultipartFile image(String name, byte[] content) {
+        return new MockMultipartFile("files", name, "image/jpeg", content);
+    }
+}
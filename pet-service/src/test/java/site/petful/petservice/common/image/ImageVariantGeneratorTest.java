@@ -0,0 +1,144 @@
+package site.petful.petservice.common.image;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import site.petful.petservice.common.image.ImageVariantGenerator.Variant;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantGeneratorTest {
+
+    private final ImageVariantGenerator generator = new ImageVariantGenerator(1280, 0.82f, 320, 0.75f);
+
+    @Test
+    void variantsKeepAspectRatioWithinMaxSize() throws Exception {
+        Map<Variant, byte[]> variants = generator.generate(file("photo.jpg", encode(solid(4000, 3000, Color.GRAY), "jpg")));
+
+        assertSize(variants.get(Variant.WEB), 1280, 960);
+        assertSize(variants.get(Variant.THUMBNAIL), 320, 240);
+    }
+
+    @Test
+    void smallImagesAreNotUpscaled() throws Exception {
+        Map<Variant, byte[]> variants = generator.generate(file("small.png", encode(solid(200, 100, Color.GRAY), "png")));
+
+        assertSize(variants.get(Variant.WEB), 200, 100);
+        assertSize(variants.get(Variant.THUMBNAIL), 200, 100);
+    }
+
+    @Test
+    void undecodableInputReturnsNoVariants() {
+        byte[] heic = new byte[64];
+        System.arraycopy("\0\0\0\u0018ftypheic".getBytes(StandardCharsets.ISO_8859_1), 0, heic, 0, 12);
+
+        assertThat(generator.generate(file("photo.heic", heic))).isEmpty();
+        assertThat(generator.generate(file("notes.txt", "not an image".getBytes()))).isEmpty();
+    }
+
+    @Test
+    void transparentPixelsBecomeWhite() throws Exception {
+        BufferedImage transparent = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage web = read(generator.generate(file("logo.png", encode(transparent, "png"))).get(Variant.WEB));
+
+        Color center = new Color(web.getRGB(200, 200));
+        assertThat(center.getRed()).isGreaterThan(245);
+        assertThat(center.getGreen()).isGreaterThan(245);
+        assertThat(center.getBlue()).isGreaterThan(245);
+    }
+
+    @Test
+    void exifOrientation6RotatesClockwise() throws Exception {
+        BufferedImage web = read(generator.generate(file("rotated.jpg", withOrientation(leftRedRightBlue(), 6))).get(Variant.WEB));
+
+        // 가로 400x200 → 세로 200x400, 왼쪽(빨강)이 위로
+        assertThat(web.getWidth()).isEqualTo(200);
+        assertThat(web.getHeight()).isEqualTo(400);
+        assertThat(isRed(web.getRGB(100, 50))).isTrue();
+        assertThat(isRed(web.getRGB(100, 350))).isFalse();
+    }
+
+    @Test
+    void exifOrientation8RotatesCounterClockwise() throws Exception {
+        BufferedImage web = read(generator.generate(file("rotated.jpg", withOrientation(leftRedRightBlue(), 8))).get(Variant.WEB));
+
+        // 왼쪽(빨강)이 아래로
+        assertThat(web.getWidth()).isEqualTo(200);
+        assertThat(web.getHeight()).isEqualTo(400);
+        assertThat(isRed(web.getRGB(100, 350))).isTrue();
+        assertThat(isRed(web.getRGB(100, 50))).isFalse();
+    }
+
+    private static void assertSize(byte[] jpeg, int width, int height) throws IOException {
+        BufferedImage image = read(jpeg);
+        assertThat(image.getWidth()).isEqualTo(width);
+        assertThat(image.getHeight()).isEqualTo(height);
+    }
+
+    private static boolean isRed(int rgb) {
+        Color color = new Color(rgb);
+        return color.getRed() > 200 && color.getBlue() < 60;
+    }
+
+    private static BufferedImage leftRedRightBlue() {
+        BufferedImage image = solid(400, 200, Color.BLUE);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 200, 200);
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage solid(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return image;
+    }
+
+    // JFIF APP0 바로 뒤에 Orientation 하나만 있는 APP1(Exif, 빅엔디안) 세그먼트를 끼워 넣는다
+    private static byte[] withOrientation(BufferedImage image, int orientation) throws IOException {
+        byte[] jpeg = encode(image, "jpg");
+        ByteBuffer app1 = ByteBuffer.allocate(2 + 2 + 6 + 8 + 2 + 12 + 4);
+        app1.put((byte) 0xFF).put((byte) 0xE1).putShort((short) (app1.capacity() - 2));
+        app1.put("Exif\0\0".getBytes(StandardCharsets.ISO_8859_1));
+        app1.put("MM".getBytes(StandardCharsets.ISO_8859_1)).putShort((short) 0x2A).putInt(8);
+        app1.putShort((short) 1);
+        app1.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        app1.putInt(0);
+
+        int app0End = 4 + (((jpeg[4] & 0xff) << 8) | (jpeg[5] & 0xff));
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length + app1.capacity());
+        out.write(jpeg, 0, app0End);
+        out.write(app1.array());
+        out.write(jpeg, app0End, jpeg.length - app0End);
+        return out.toByteArray();
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, format, bytes);
+        return bytes.toByteArray();
+    }
+
+    private static BufferedImage read(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    private static MockMultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("files", name, "application/octet-stream", content);
+    }
+}
@@ -24,6 +24,9 @@ class AdResponse(BaseModel):
     adNo: int
     content: str
 
+class EmbedRequest(BaseModel):
+    texts: list[str]
+
 tokenizer = AutoTokenizer.from_pretrained(settings.MODEL_NAME, trust_remote_code=True)
 model = AutoModel.from_pretrained(settings.MODEL_NAME, trust_remote_code=True)
 
@@ -61,6 +64,17 @@ async def fetch_pet_media(client, sns_id, token):
         print(f"Error fetching media for {sns_id}: {e}")
         return []
 
+@app.post("/embed")
+async def embed(req: EmbedRequest):
+    # 텍스트 목록을 L2 정규화된 임베딩으로 변환 (순위 계산은 advertiser-service에서 수행)
+    # 입력 순서와 출력 순서가 1:1로 대응해야 하므로 필터링하지 않는다
+    texts = req.texts
+    if not texts:
+        return {"dimension": model.config.hidden_size, "embeddings": []}
+    embeddings = await asyncio.to_thread(get_sentence_embeddings, texts)
+    return {"dimension": model.config.hidden_size, "embeddings": embeddings.tolist()}
+
+
 @app.post("/hello")
 async def hello(ad: AdResponse, request: Request):
     token = request.headers.get("Authorization")
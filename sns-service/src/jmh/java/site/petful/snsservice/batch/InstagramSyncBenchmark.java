@@ -0,0 +1,245 @@
+package site.petful.snsservice.batch;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.jayway.jsonpath.JsonPath;
+import feign.Feign;
+import feign.Util;
+import feign.codec.Decoder;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import site.petful.snsservice.batch.partition.InstagramUserRangePartitioner;
+import site.petful.snsservice.instagram.client.GraphApiRateLimiter;
+import site.petful.snsservice.instagram.client.InstagramApiClient;
+import site.petful.snsservice.instagram.client.dto.InstagramApiMediaResponseDto;
+import site.petful.snsservice.instagram.media.dto.InstagramMediaDto;
+import site.petful.snsservice.util.AesEncryptService;
+
+/**
+ * 인스타그램 계정 N개를 로컬 Graph API 스텁(호출당 latencyMs)으로 동기화하는 시간.
+ * 실제 InstagramApiClient(Feign + SpringMvcContract)와 AesEncryptService로 서비스와 같은 순서의 호출을 보내고, DB 저장은 뺐다.
+ * - serialSteps: 변경 전 방식 (프로필/미디어/인사이트/댓글 4단계를 사용자 전체에 대해 차례로, 단계마다 토큰 복호화,
+ *   댓글은 공용 ForkJoinPool에서 미디어별 병렬)
+ * - partitioned: InstagramUserRangePartitioner로 나눈 구간을 workers개 풀에서 처리, 사용자당 한 번에 전체 동기화,
+ *   모든 호출은 GraphApiRateLimiter(permitsPerSecond)를 거친다
+ * accounts/s = accounts / 측정 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InstagramSyncBenchmark {
+
+    private static final String APP_ID = "bench-app";
+    private static final String PROFILE_FIELDS = "username,name,profile_picture_url,biography,followers_count,follows_count,media_count,website";
+    private static final String MEDIA_FIELDS = "id,caption,media_type,media_url,thumbnail_url,permalink,timestamp,is_comment_enabled,like_count,comments_count";
+    private static final String COMMENT_FIELDS = "id,username,like_count,text,timestamp,replies";
+    private static final String INSIGHT_METRICS = "shares,likes,comments,views,reach";
+    private static final int MONTHS_TO_SYNC = 1;
+
+    @Param({"10000"})
+    public int accounts;
+
+    @Param({"2"})
+    public long latencyMs;
+
+    @Param({"32"})
+    public int gridSize;
+
+    @Param({"8"})
+    public int workers;
+
+    @Param({"5000"})
+    public double permitsPerSecond;
+
+    private StubGraphApiServer stub;
+    private AesEncryptService aes;
+    private InstagramApiClient legacyClient;
+    private InstagramApiClient limitedClient;
+    private List<Long> userNos;
+    private List<String> encryptedTokens;
+    private ExecutorService workerPool;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Calls {
+
+        public long graphCalls;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        stub = new StubGraphApiServer(0, latencyMs, 3);
+        aes = new AesEncryptService(Base64.getEncoder().encodeToString(new byte[16]));
+
+        // jmh jar에는 모듈 ServiceLoader 등록이 빠져 있어 직접 추가한다
+        ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new ParameterNamesModule())
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+        Decoder decoder = (response, type) -> {
+            if (type == String.class) {
+                try (Reader reader = response.body().asReader(StandardCharsets.UTF_8)) {
+                    return Util.toString(reader);
+                }
+            }
+            return mapper.readValue(response.body().asInputStream(), mapper.constructType(type));
+        };
+        GraphApiRateLimiter rateLimiter = new GraphApiRateLimiter(permitsPerSecond,
+            (int) Math.max(1, permitsPerSecond / 10));
+
+        legacyClient = Feign.builder()
+            .contract(new SpringMvcContract())
+            .decoder(decoder)
+            .target(InstagramApiClient.class, stub.baseUrl());
+        limitedClient = Feign.builder()
+            .contract(new SpringMvcContract())
+            .decoder(decoder)
+            .requestInterceptor(template -> rateLimiter.acquire(APP_ID))
+            .target(InstagramApiClient.class, stub.baseUrl());
+
+        userNos = new ArrayList<>(accounts);
+        encryptedTokens = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            long userNo = 1_000 + i;
+            userNos.add(userNo);
+            encryptedTokens.add(aes.encrypt("token-" + userNo));
+        }
+        workerPool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "instagram-sync-bench");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workerPool.shutdownNow();
+        stub.close();
+    }
+
+    @Benchmark
+    public long serialSteps(Calls calls) {
+        long before = stub.received();
+        // 1. 프로필
+        for (int i = 0; i < accounts; i++) {
+            String token = token(i);
+            for (Long instagramId : accountIds(legacyClient, token)) {
+                legacyClient.fetchProfile(instagramId, token, PROFILE_FIELDS);
+            }
+        }
+        // 2. 미디어 (4단계에서는 DB에 저장된 미디어를 읽으므로 결과를 보관)
+        List<List<InstagramMediaDto>> savedMedias = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            String token = token(i);
+            savedMedias.add(fetchMedia(legacyClient, userNos.get(i), token));
+        }
+        // 3. 인사이트
+        for (int i = 0; i < accounts; i++) {
+            String token = token(i);
+            fetchInsights(legacyClient, userNos.get(i), token);
+        }
+        // 4. 댓글 (미디어별 CompletableFuture.runAsync)
+        for (int i = 0; i < accounts; i++) {
+            String token = token(i);
+            List<CompletableFuture<Void>> futures = savedMedias.get(i).stream()
+                .map(media -> CompletableFuture.runAsync(
+                    () -> legacyClient.fetchComments(media.id(), token, COMMENT_FIELDS, null, 25)))
+                .toList();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+        long sent = stub.received() - before;
+        calls.graphCalls += sent;
+        return sent;
+    }
+
+    @Benchmark
+    public long partitioned(Calls calls) throws Exception {
+        long before = stub.received();
+        AtomicLong synced = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+        for (ExecutionContext partition : new InstagramUserRangePartitioner(userNos).partition(gridSize)
+            .values()) {
+            long min = partition.getLong(InstagramUserRangePartitioner.MIN_USER_NO);
+            long max = partition.getLong(InstagramUserRangePartitioner.MAX_USER_NO);
+            futures.add(workerPool.submit(() -> {
+                for (int i = (int) (min - userNos.get(0)); i <= max - userNos.get(0); i++) {
+                    syncUser(i);
+                    synced.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        if (synced.get() != accounts) {
+            throw new IllegalStateException("synced " + synced.get() + " of " + accounts);
+        }
+        long sent = stub.received() - before;
+        calls.graphCalls += sent;
+        return sent;
+    }
+
+    // InstagramUserSyncService.syncUser와 같은 호출 순서
+    private void syncUser(int index) {
+        String token = token(index);
+        for (Long instagramId : accountIds(limitedClient, token)) {
+            limitedClient.fetchProfile(instagramId, token, PROFILE_FIELDS);
+            List<InstagramMediaDto> medias = fetchMedia(limitedClient, instagramId, token);
+            fetchInsights(limitedClient, instagramId, token);
+            for (InstagramMediaDto media : medias) {
+                limitedClient.fetchComments(media.id(), token, COMMENT_FIELDS, null, 25);
+            }
+        }
+    }
+
+    private String token(int index) {
+        return aes.decrypt(encryptedTokens.get(index));
+    }
+
+    private static List<Long> accountIds(InstagramApiClient client, String token) {
+        List<String> ids = JsonPath.read(client.fetchAccounts(token),
+            "$.data[*].instagram_business_account.id");
+        return ids.stream().map(Long::parseLong).toList();
+    }
+
+    private static List<InstagramMediaDto> fetchMedia(InstagramApiClient client, Long instagramId,
+        String token) {
+        InstagramApiMediaResponseDto response = client.fetchMedia(instagramId, token, MEDIA_FIELDS,
+            null, 25, null);
+        return response.getData();
+    }
+
+    private static void fetchInsights(InstagramApiClient client, Long instagramId, String token) {
+        for (int month = 0; month < MONTHS_TO_SYNC; month++) {
+            // 월 전반/후반 두 번
+            client.fetchInsights(instagramId, token, 0L, 0L, INSIGHT_METRICS);
+            client.fetchInsights(instagramId, token, 0L, 0L, INSIGHT_METRICS);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package site.petful.snsservice.batch;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 Graph API 스텁.
+ * delayMs 뒤에 InstagramApiClient가 쓰는 엔드포인트의 고정 응답을 돌려준다.
+ * - /me/accounts            : access_token(token-{userNo})마다 비즈니스 계정 1개 (id = userNo)
+ * - /{instagramId}          : 프로필
+ * - /{instagramId}/media    : 미디어 mediaPerAccount개 (한 페이지)
+ * - /{instagramId}/insights : shares/likes/comments/views/reach
+ * - /{mediaId}/comments     : 댓글 없음
+ *
+ * 단독 실행: java -cp <jmh jar> site.petful.snsservice.batch.StubGraphApiServer 8091 50
+ * → instagram.api.base-url=http://127.0.0.1:8091 로 두고 sns-service를 띄운다
+ */
+public class StubGraphApiServer implements AutoCloseable {
+
+    private static final String INSIGHTS = """
+            {"data":[{"name":"shares","total_value":{"value":3}},{"name":"likes","total_value":{"value":120}},
+            {"name":"comments","total_value":{"value":14}},{"name":"views","total_value":{"value":900}},
+            {"name":"reach","total_value":{"value":700}}]}""";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long delayMs;
+    private final int mediaPerAccount;
+    private final AtomicLong received = new AtomicLong();
+
+    public StubGraphApiServer(int port, long delayMs, int mediaPerAccount) throws IOException {
+        // 작은 응답이 Nagle + delayed ACK로 40ms씩 묶이지 않도록
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        this.executor = Executors.newCachedThreadPool();
+        this.delayMs = delayMs;
+        this.mediaPerAccount = mediaPerAccount;
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        received.incrementAndGet();
+        if (delayMs > 0) {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        String[] path = exchange.getRequestURI().getPath().substring(1).split("/");
+        String body;
+        if (path.length == 2 && path[0].equals("me")) {
+            String userNo = queryParam(exchange, "access_token").substring("token-".length());
+            body = "{\"data\":[{\"instagram_business_account\":{\"id\":\"" + userNo + "\"}}]}";
+        } else if (path.length == 1) {
+            body = "{\"id\":" + path[0] + ",\"username\":\"pet_" + path[0] + "\",\"name\":\"pet\","
+                + "\"followers_count\":1000,\"follows_count\":100,\"media_count\":" + mediaPerAccount + "}";
+        } else if (path[1].equals("media")) {
+            body = media(Long.parseLong(path[0]));
+        } else if (path[1].equals("insights")) {
+            body = INSIGHTS;
+        } else {
+            body = "{\"data\":[]}";
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String media(long instagramId) {
+        StringBuilder body = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < mediaPerAccount; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":").append(instagramId * 100 + i)
+                .append(",\"caption\":\"산책 #").append(i)
+                .append("\",\"timestamp\":\"2025-08-01T10:00:00+09:00\",\"likeCount\":10,\"commentsCount\":2}");
+        }
+        return body.append("]}").toString();
+    }
+
+    private static String queryParam(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long received() {
+        return received.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8091;
+        long delayMs = args.length > 1 ? Long.parseLong(args[1]) : 50;
+        StubGraphApiServer stub = new StubGraphApiServer(port, delayMs, 3);
+        System.out.println("stub graph api: " + stub.baseUrl());
+    }
+}
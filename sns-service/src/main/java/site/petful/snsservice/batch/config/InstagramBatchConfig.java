@@ -1,24 +1,37 @@
 package site.petful.snsservice.batch.config;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import site.petful.snsservice.batch.listener.InstagramBatchJobListener;
 import site.petful.snsservice.batch.listener.InstagramBatchStepListener;
-import site.petful.snsservice.batch.tasklet.InstagramCommentSyncTasklet;
-import site.petful.snsservice.batch.tasklet.InstagramInsightSyncTasklet;
-import site.petful.snsservice.batch.tasklet.InstagramMediaSyncTasklet;
-import site.petful.snsservice.batch.tasklet.InstagramProfileSyncTasklet;
+import site.petful.snsservice.batch.partition.InstagramUserRangePartitioner;
+import site.petful.snsservice.batch.partition.InstagramUserRangeReader;
+import site.petful.snsservice.batch.partition.InstagramUserSkipPolicy;
+import site.petful.snsservice.batch.partition.InstagramUserSyncProcessor;
+import site.petful.snsservice.batch.service.InstagramUserSyncService;
+import site.petful.snsservice.instagram.auth.service.InstagramTokenService;
 
+/**
+ * 인스타그램 동기화 배치
+ * - 사용자 번호 구간으로 파티션을 나누고, 제한된 워커 풀에서 파티션을 병렬 처리
+ * - 워커는 사용자 한 명씩 프로필/미디어/인사이트/댓글을 한 번에 동기화 (Graph API 호출 속도는 GraphApiRateLimiter가 제한)
+ * - 청크마다 마지막 사용자 번호를 저장하므로 실패한 실행을 같은 파라미터로 재시작하면 이어서 처리
+ * - 사용자 한 명의 데이터 오류는 그 사용자만 건너뛰고, 호출 한도 초과/전송 장애는 step을 실패시킨다 (InstagramUserSkipPolicy)
+ */
 @Configuration
 @EnableScheduling
 @RequiredArgsConstructor
@@ -26,55 +39,101 @@ import site.petful.snsservice.batch.tasklet.InstagramProfileSyncTasklet;
 public class InstagramBatchConfig {
 
     private final JobRepository jobRepository;
-    private final PlatformTransactionManager transactionManager;
     private final InstagramBatchJobListener jobListener;
     private final InstagramBatchStepListener stepListener;
-    private final InstagramProfileSyncTasklet profileSyncTasklet;
-    private final InstagramMediaSyncTasklet mediaSyncTasklet;
-    private final InstagramCommentSyncTasklet commentSyncTasklet;
-    private final InstagramInsightSyncTasklet insightSyncTasklet;
+    private final InstagramTokenService tokenService;
+    private final InstagramUserSyncService userSyncService;
+
+    @Value("${instagram.batch.grid-size:32}")
+    private int gridSize;
+
+    @Value("${instagram.batch.workers:8}")
+    private int workers;
+
+    @Value("${instagram.batch.chunk-size:10}")
+    private int chunkSize;
+
+    @Value("${instagram.batch.skip-limit:100}")
+    private int skipLimit;
 
     @Bean
     public Job instagramSyncJob() {
         return new JobBuilder("instagramSyncJob", jobRepository)
             .incrementer(new RunIdIncrementer())
             .listener(jobListener)
-            .start(profileSyncStep())
-            .next(mediaSyncStep())
-            .next(insightSyncStep())
-            .next(commentSyncStep())
+            .start(instagramSyncStep())
             .build();
     }
 
     @Bean
-    public Step profileSyncStep() {
-        return new StepBuilder("profileSyncStep", jobRepository)
-            .tasklet(profileSyncTasklet, transactionManager)
+    public Step instagramSyncStep() {
+        return new StepBuilder("instagramSyncStep", jobRepository)
+            .partitioner("instagramUserSyncStep", instagramUserRangePartitioner(null))
+            .step(instagramUserSyncStep())
+            .gridSize(gridSize)
+            .taskExecutor(instagramSyncTaskExecutor())
             .listener(stepListener)
             .build();
     }
 
+    /**
+     * 사용자별 동기화는 서비스 메서드마다 자기 트랜잭션으로 커밋하고,
+     * 청크 트랜잭션은 체크포인트(ExecutionContext) 저장에만 쓰도록 ResourcelessTransactionManager를 사용한다.
+     * (한 사용자의 실패가 청크 전체를 롤백시키지 않음)
+     */
     @Bean
-    public Step mediaSyncStep() {
-        return new StepBuilder("mediaSyncStep", jobRepository)
-            .tasklet(mediaSyncTasklet, transactionManager)
-            .listener(stepListener)
+    public Step instagramUserSyncStep() {
+        return new StepBuilder("instagramUserSyncStep", jobRepository)
+            .<Long, Long>chunk(chunkSize, new ResourcelessTransactionManager())
+            .reader(instagramUserRangeReader(null, null))
+            .processor(instagramUserSyncProcessor(null))
+            .writer(chunk -> {
+                // 동기화는 processor에서 사용자마다 끝난다. 청크 커밋은 체크포인트 저장용
+            })
+            .faultTolerant()
+            .skipPolicy(new InstagramUserSkipPolicy(skipLimit))
+            .processorNonTransactional()
             .build();
     }
 
     @Bean
-    public Step commentSyncStep() {
-        return new StepBuilder("commentSyncStep", jobRepository)
-            .tasklet(commentSyncTasklet, transactionManager)
-            .listener(stepListener)
-            .build();
+    @StepScope
+    public InstagramUserRangePartitioner instagramUserRangePartitioner(
+        @Value("#{jobParameters['userNo']}") Long userNo) {
+        if (userNo != null) {
+            log.info("특정 사용자({})에 대해 인스타그램 동기화 수행", userNo);
+            return new InstagramUserRangePartitioner(List.of(userNo));
+        }
+        return new InstagramUserRangePartitioner(tokenService.getAllUserIds());
     }
 
     @Bean
-    public Step insightSyncStep() {
-        return new StepBuilder("insightSyncStep", jobRepository)
-            .tasklet(insightSyncTasklet, transactionManager)
-            .listener(stepListener)
-            .build();
+    @StepScope
+    public InstagramUserRangeReader instagramUserRangeReader(
+        @Value("#{stepExecutionContext['minUserNo']}") Long minUserNo,
+        @Value("#{stepExecutionContext['maxUserNo']}") Long maxUserNo) {
+        return new InstagramUserRangeReader(tokenService, minUserNo, maxUserNo);
+    }
+
+    @Bean
+    @StepScope
+    public InstagramUserSyncProcessor instagramUserSyncProcessor(
+        @Value("#{jobParameters['monthsToSync']}") Long monthsToSync) {
+        return new InstagramUserSyncProcessor(userSyncService,
+            monthsToSync != null ? monthsToSync.intValue() : 1);
+    }
+
+    // 파티션을 처리하는 워커 풀. 대기열은 전체/사용자별 실행이 겹쳐도 파티션이 모두 들어갈 만큼만 둔다
+    @Bean
+    public ThreadPoolTaskExecutor instagramSyncTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(gridSize * 4);
+        executor.setDaemon(true);
+        executor.setThreadNamePrefix("instagram-sync-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
     }
 }
@@ -118,6 +118,25 @@ public class InstagramBatchController {
         }
     }
 
+    @PostMapping("/sync/restart/{jobExecutionId}")
+    public ResponseEntity<ApiResponse<?>> restartInstagramSyncBatch(
+        @PathVariable Long jobExecutionId) {
+        log.info("========== Instagram 동기화 배치 재시작 요청: executionId={} ==========", jobExecutionId);
+
+        instagramBatchService.restartInstagramSyncBatchAsync(jobExecutionId)
+            .thenAccept(response -> log.info("Instagram 동기화 배치 재시작 완료: {}", response));
+
+        Map<String, Object> response = Map.of(
+            "status", "success",
+            "message", "Instagram 동기화 배치 재시작이 비동기로 시작되었습니다.",
+            "executionTime",
+            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")),
+            "restartedFrom", jobExecutionId
+        );
+
+        return ResponseEntity.ok(ApiResponseGenerator.success(response));
+    }
+
     @GetMapping("/status")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getBatchStatus() {
         Map<String, Object> status = Map.of(
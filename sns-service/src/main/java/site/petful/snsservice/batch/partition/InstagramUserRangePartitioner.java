@@ -0,0 +1,46 @@
+package site.petful.snsservice.batch.partition;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 토큰이 있는 사용자 번호를 정렬한 뒤 비슷한 인원수의 연속 구간으로 나눈다.
+ * 각 파티션에는 구간 경계(minUserNo, maxUserNo)만 넣고, 실제 사용자 목록은 워커가 구간으로 다시 조회한다.
+ */
+@Slf4j
+public class InstagramUserRangePartitioner implements Partitioner {
+
+    public static final String MIN_USER_NO = "minUserNo";
+    public static final String MAX_USER_NO = "maxUserNo";
+
+    private final List<Long> sortedUserNos;
+
+    public InstagramUserRangePartitioner(List<Long> sortedUserNos) {
+        this.sortedUserNos = sortedUserNos;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        int total = sortedUserNos.size();
+        if (total == 0) {
+            return partitions;
+        }
+
+        int size = (total + gridSize - 1) / Math.max(1, gridSize);
+        for (int from = 0, index = 0; from < total; from += size, index++) {
+            int to = Math.min(from + size, total) - 1;
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_USER_NO, sortedUserNos.get(from));
+            context.putLong(MAX_USER_NO, sortedUserNos.get(to));
+            partitions.put("partition" + index, context);
+        }
+
+        log.info("인스타그램 동기화 대상 사용자 {}명을 {}개 구간으로 분할", total, partitions.size());
+        return partitions;
+    }
+}
@@ -0,0 +1,56 @@
+package site.petful.snsservice.batch.partition;
+
+import java.util.Iterator;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import site.petful.snsservice.instagram.auth.service.InstagramTokenService;
+
+/**
+ * 파티션 구간 [minUserNo, maxUserNo]의 사용자 번호를 오름차순으로 읽는다.
+ * 청크가 커밋될 때마다 마지막으로 처리한 사용자 번호를 step ExecutionContext에 남겨,
+ * 재시작하면 그 다음 사용자부터 이어서 처리한다.
+ */
+public class InstagramUserRangeReader implements ItemStreamReader<Long> {
+
+    public static final String LAST_USER_NO = "lastUserNo";
+
+    private final InstagramTokenService tokenService;
+    private final Long minUserNo;
+    private final Long maxUserNo;
+
+    private Iterator<Long> userNos;
+    private Long lastUserNo;
+
+    public InstagramUserRangeReader(InstagramTokenService tokenService, Long minUserNo,
+        Long maxUserNo) {
+        this.tokenService = tokenService;
+        this.minUserNo = minUserNo;
+        this.maxUserNo = maxUserNo;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        lastUserNo = executionContext.containsKey(LAST_USER_NO)
+            ? executionContext.getLong(LAST_USER_NO)
+            : minUserNo - 1;
+        userNos = tokenService.getUserIdsInRange(lastUserNo, maxUserNo).iterator();
+    }
+
+    @Override
+    public Long read() {
+        if (userNos == null || !userNos.hasNext()) {
+            return null;
+        }
+        lastUserNo = userNos.next();
+        return lastUserNo;
+    }
+
+    // 청크 커밋 직전에 호출된다 (이 시점에는 읽은 사용자가 모두 writer를 거친 상태)
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (lastUserNo != null) {
+            executionContext.putLong(LAST_USER_NO, lastUserNo);
+        }
+    }
+}
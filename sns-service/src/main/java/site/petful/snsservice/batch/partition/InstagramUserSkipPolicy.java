@@ -0,0 +1,74 @@
+package site.petful.snsservice.batch.partition;
+
+import feign.FeignException;
+import feign.RetryableException;
+import java.io.IOException;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+
+/**
+ * 사용자 단위 동기화 실패를 건너뛸지 정한다.
+ * - 호출 한도 초과(429, Graph API 한도 오류 코드)와 네트워크/서버(5xx)/DB 연결 장애는 건너뛰지 않는다
+ *   → step이 실패하고, 같은 파라미터로 재시작하면 마지막으로 커밋된 lastUserNo 다음 사용자부터 이어서 처리한다
+ * - 그 밖의 오류(토큰 없음, 만료된 토큰, 잘못된 응답 데이터 등)는 그 사용자만 건너뛴다 (skipLimit까지)
+ */
+public class InstagramUserSkipPolicy implements SkipPolicy {
+
+    // 4: 앱 호출 한도, 17: 사용자 호출 한도, 32: 페이지 호출 한도, 613: 호출 빈도 초과, 800xx: 비즈니스 사용 한도
+    private static final Set<Integer> RATE_LIMIT_CODES = Set.of(4, 17, 32, 613);
+    private static final Pattern ERROR_CODE = Pattern.compile("\"code\"\\s*:\\s*(\\d+)");
+
+    private final int skipLimit;
+
+    public InstagramUserSkipPolicy(int skipLimit) {
+        this.skipLimit = skipLimit;
+    }
+
+    @Override
+    public boolean shouldSkip(Throwable t, long skipCount) throws SkipLimitExceededException {
+        if (!(t instanceof Exception) || isUnavailable(t)) {
+            return false;
+        }
+        if (skipCount >= skipLimit) {
+            throw new SkipLimitExceededException(skipLimit, t);
+        }
+        return true;
+    }
+
+    /**
+     * 다음 사용자로 넘어가도 똑같이 실패할 오류인지 (호출 한도 초과 / 전송·서버 장애)
+     */
+    public static boolean isUnavailable(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetryableException || cause instanceof IOException
+                || cause instanceof TransientDataAccessException
+                || cause instanceof DataAccessResourceFailureException) {
+                return true;
+            }
+            if (cause instanceof FeignException feign && isRateLimitedOrServerError(feign)) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRateLimitedOrServerError(FeignException e) {
+        if (e.status() == 429 || e.status() >= 500) {
+            return true;
+        }
+        Matcher matcher = ERROR_CODE.matcher(e.contentUTF8());
+        if (!matcher.find()) {
+            return false;
+        }
+        int code = Integer.parseInt(matcher.group(1));
+        return RATE_LIMIT_CODES.contains(code) || (code >= 80000 && code < 80100);
+    }
+}
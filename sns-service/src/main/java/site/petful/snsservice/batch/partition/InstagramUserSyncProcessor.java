@@ -0,0 +1,36 @@
+package site.petful.snsservice.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.item.ItemProcessor;
+import site.petful.snsservice.batch.service.InstagramUserSyncService;
+
+/**
+ * 사용자마다 프로필 → 미디어 → 인사이트 → 댓글을 한 번에 동기화한다.
+ * 사용자 단위로 건너뛸 수 있도록 processor에서 동기화하고 (processorNonTransactional이라
+ * 실패한 사용자를 건너뛰고 청크를 다시 돌 때 이미 끝난 사용자는 다시 호출하지 않는다),
+ * 건너뛴 사용자는 여기서 로그로 남긴다.
+ */
+@Slf4j
+public class InstagramUserSyncProcessor implements ItemProcessor<Long, Long>,
+    SkipListener<Long, Long> {
+
+    private final InstagramUserSyncService userSyncService;
+    private final int monthsToSync;
+
+    public InstagramUserSyncProcessor(InstagramUserSyncService userSyncService, int monthsToSync) {
+        this.userSyncService = userSyncService;
+        this.monthsToSync = monthsToSync;
+    }
+
+    @Override
+    public Long process(Long userNo) {
+        userSyncService.syncUser(userNo, monthsToSync);
+        return userNo;
+    }
+
+    @Override
+    public void onSkipInProcess(Long userNo, Throwable t) {
+        log.warn("사용자 {} 인스타그램 동기화 건너뜀: {}", userNo, t.getMessage());
+    }
+}
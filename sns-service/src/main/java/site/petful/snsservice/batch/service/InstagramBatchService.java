@@ -6,10 +6,13 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
@@ -28,6 +31,7 @@ public class InstagramBatchService {
     private final JobLauncher jobLauncher;
     private final Job instagramSyncJob;
     private final Job instagramTokenCleanupJob;
+    private final JobExplorer jobExplorer;
 
     @Async
     public CompletableFuture<ApiResponse<?>> runInstagramSyncBatchAsync(Long monthsToSync) {
@@ -113,6 +117,39 @@ public class InstagramBatchService {
         }
     }
 
+    /**
+     * 실패/중단된 동기화 실행을 같은 파라미터로 다시 실행한다.
+     * 완료된 파티션은 건너뛰고, 나머지 파티션은 마지막으로 커밋된 사용자 다음부터 이어서 처리한다.
+     */
+    @Async
+    public CompletableFuture<ApiResponse<?>> restartInstagramSyncBatchAsync(Long jobExecutionId) {
+        JobExecution execution = jobExplorer.getJobExecution(jobExecutionId);
+        if (execution == null || !instagramSyncJob.getName().equals(execution.getJobInstance().getJobName())) {
+            log.error("재시작할 Instagram 동기화 실행을 찾을 수 없습니다: {}", jobExecutionId);
+            return CompletableFuture.completedFuture(ApiResponseGenerator.fail(ErrorCode.NOT_FOUND));
+        }
+        if (execution.getStatus() != BatchStatus.FAILED && execution.getStatus() != BatchStatus.STOPPED) {
+            log.error("재시작할 수 없는 상태입니다: executionId={}, status={}", jobExecutionId,
+                execution.getStatus());
+            return CompletableFuture.completedFuture(
+                ApiResponseGenerator.fail(ErrorCode.INVALID_REQUEST));
+        }
+
+        log.info("Instagram 동기화 배치 재시작: executionId={}", jobExecutionId);
+        try {
+            JobExecution restarted = jobLauncher.run(instagramSyncJob, execution.getJobParameters());
+            return CompletableFuture.completedFuture(ApiResponseGenerator.success(Map.of(
+                "status", restarted.getStatus().toString(),
+                "restartedFrom", jobExecutionId,
+                "jobExecutionId", restarted.getId()
+            )));
+        } catch (Exception e) {
+            log.error("Instagram 동기화 배치 재시작 실패: {}", e.getMessage(), e);
+            return CompletableFuture.completedFuture(
+                ApiResponseGenerator.fail(ErrorCode.INVALID_REQUEST));
+        }
+    }
+
     public void runInstagramTokenCleanupBatch() {
         log.info("========== Instagram Token Cleanup 배치 시작 ==========");
         try {
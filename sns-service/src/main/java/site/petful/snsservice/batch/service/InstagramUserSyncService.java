@@ -0,0 +1,107 @@
+package site.petful.snsservice.batch.service;
+
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import site.petful.snsservice.batch.partition.InstagramUserSkipPolicy;
+import site.petful.snsservice.instagram.auth.service.InstagramTokenService;
+import site.petful.snsservice.instagram.comment.service.InstagramBannedWordService;
+import site.petful.snsservice.instagram.comment.service.InstagramCommentService;
+import site.petful.snsservice.instagram.insight.service.InstagramInsightsService;
+import site.petful.snsservice.instagram.media.dto.InstagramMediaDto;
+import site.petful.snsservice.instagram.media.service.InstagramMediaService;
+import site.petful.snsservice.instagram.profile.dto.InstagramProfileDto;
+import site.petful.snsservice.instagram.profile.service.InstagramProfileService;
+
+/**
+ * 사용자 한 명의 인스타그램 데이터를 한 번에 동기화한다.
+ * 토큰은 한 번만 복호화하고, 프로필/미디어 동기화 결과를 다음 단계에서 그대로 이어 쓴다.
+ * 금지어는 프로필당 한 번만 읽고, 댓글이 없는 미디어는 댓글 조회를 건너뛴다.
+ * 단계별 데이터 오류는 해당 프로필/미디어만 건너뛰고 나머지는 계속 진행한다.
+ * 호출 한도 초과/전송 장애는 잡지 않고 그대로 던져 배치 step이 실패하게 한다 (재시작 시 lastUserNo부터 이어서 처리).
+ * 토큰을 못 읽으면 예외를 던지고, 그 사용자는 배치 skip 정책으로 건너뛴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InstagramUserSyncService {
+
+    private final InstagramTokenService tokenService;
+    private final InstagramProfileService profileService;
+    private final InstagramMediaService mediaService;
+    private final InstagramInsightsService insightService;
+    private final InstagramCommentService commentService;
+    private final InstagramBannedWordService bannedWordService;
+
+    public void syncUser(Long userNo, int monthsToSync) {
+        String accessToken = tokenService.getAccessToken(userNo);
+
+        for (InstagramProfileDto profile : syncProfiles(userNo, accessToken)) {
+            List<InstagramMediaDto> medias = syncMedias(profile, accessToken);
+
+            try {
+                insightService.syncInsights(profile.id(), accessToken, monthsToSync);
+            } catch (RuntimeException e) {
+                rethrowIfUnavailable(e);
+                log.error("프로필 {} 인사이트 동기화 실패: {}", profile.id(), e.getMessage());
+            }
+
+            syncComments(profile, medias, accessToken);
+        }
+
+        log.debug("사용자 {} 인스타그램 동기화 완료", userNo);
+    }
+
+    private void syncComments(InstagramProfileDto profile, List<InstagramMediaDto> medias,
+        String accessToken) {
+        Set<String> bannedWords;
+        try {
+            bannedWords = bannedWordService.getBannedWords(profile.id());
+        } catch (RuntimeException e) {
+            rethrowIfUnavailable(e);
+            log.error("프로필 {} 금지어 조회 실패: {}", profile.id(), e.getMessage());
+            return;
+        }
+
+        for (InstagramMediaDto media : medias) {
+            if (media.commentsCount() == 0) {
+                continue;
+            }
+            try {
+                commentService.syncInstagramCommentByMediaId(media.id(), accessToken, bannedWords);
+            } catch (RuntimeException e) {
+                rethrowIfUnavailable(e);
+                log.error("미디어 {} 댓글 동기화 실패: {}", media.id(), e.getMessage());
+            }
+        }
+    }
+
+    // 계정 목록을 못 가져오면 저장된 프로필로 나머지 단계를 진행한다
+    private List<InstagramProfileDto> syncProfiles(Long userNo, String accessToken) {
+        try {
+            return profileService.syncAllInstagramProfiles(userNo, accessToken);
+        } catch (RuntimeException e) {
+            rethrowIfUnavailable(e);
+            log.error("사용자 {} 프로필 동기화 실패: {}", userNo, e.getMessage());
+            return profileService.getProfiles(userNo);
+        }
+    }
+
+    private List<InstagramMediaDto> syncMedias(InstagramProfileDto profile, String accessToken) {
+        try {
+            return mediaService.syncInstagramMedia(profile.id(), accessToken);
+        } catch (RuntimeException e) {
+            rethrowIfUnavailable(e);
+            log.error("프로필 {} 미디어 동기화 실패: {}", profile.id(), e.getMessage());
+            return mediaService.getMedias(profile.id());
+        }
+    }
+
+    private static void rethrowIfUnavailable(RuntimeException e) {
+        if (InstagramUserSkipPolicy.isUnavailable(e)) {
+            throw e;
+        }
+    }
+}
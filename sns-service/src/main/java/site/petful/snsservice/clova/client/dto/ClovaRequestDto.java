@@ -13,6 +13,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class ClovaRequestDto {
 
+    public static final int DEFAULT_MAX_TOKENS = 256;
+
     private List<Message> messages;
     private double topP;
     private int topK;
@@ -26,11 +28,15 @@ public class ClovaRequestDto {
 
 
     public static ClovaRequestDto defaultRequest(List<Message> messages) {
+        return defaultRequest(messages, DEFAULT_MAX_TOKENS);
+    }
+
+    public static ClovaRequestDto defaultRequest(List<Message> messages, int maxTokens) {
         return ClovaRequestDto.builder()
             .messages(messages)
             .topP(0.6)
             .topK(0)
-            .maxTokens(256)
+            .maxTokens(maxTokens)
             .temperature(0.3)
             .repetitionPenalty(1.1)
             .stop(List.of("###"))
@@ -1,7 +1,21 @@
 package site.petful.snsservice.clova.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import site.petful.snsservice.clova.client.ClovaApiClient;
 import site.petful.snsservice.clova.client.dto.ClovaRequestDto;
@@ -10,53 +24,192 @@ import site.petful.snsservice.clova.client.dto.ClovaRequestDto.Message;
 import site.petful.snsservice.clova.client.dto.ClovaResponseDto;
 import site.petful.snsservice.instagram.comment.entity.Sentiment;
 
+/**
+ * Clova 감정 분석
+ * - 같은 문장은 내용 해시(SHA-256)로 캐시해 다시 묻지 않는다
+ * - 여러 문장은 번호를 붙여 요청 하나로 분류하고, 답에서 빠진 문장만 한 건씩 다시 묻는다
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ClovaApiService {
 
+    private static final String SINGLE_PROMPT = """
+            # 역할
+            당신은 댓글의 감정을 분석하는 시스템입니다. 당신의 유일한 임무는 문장을 읽고 '긍정', '부정', '중립' 세 가지 중 하나를 선택하는 것입니다.
+
+            # 규칙
+            1. 답변은 반드시 '긍정', '부정', '중립' 중 하나여야 합니다.
+            2. '혼합' 또는 다른 단어를 절대 사용하지 마세요.
+            3. 어떠한 설명도 추가하지 말고, 오직 하나의 단어만 출력하세요.
+            4. 아무 뜻이 없으면 중립으로 출력하세요.
+
+            # 예시
+            - 문장: "기분 진짜 좋다" -> 긍정
+            - 문장: "아오 진짜 짜증나게 하네" -> 부정
+            - 문장: "이걸로 보내드릴게요" -> 중립
+            - 문장: "asdfsafads" -> 중립
+            - 문장: "ㄹㅁㅎㅇㄴㅎ" -> 중립
+            # 지시
+            다음 문장의 감정을 위 규칙에 따라 분석하세요.
+        """;
+
+    private static final String BATCH_PROMPT = """
+            # 역할
+            당신은 댓글의 감정을 분석하는 시스템입니다. 번호가 붙은 여러 문장을 읽고 각각 '긍정', '부정', '중립' 중 하나를 선택합니다.
+
+            # 규칙
+            1. 문장마다 한 줄씩 '번호: 감정' 형식으로만 출력하세요. (예: 1: 긍정)
+            2. 감정은 반드시 '긍정', '부정', '중립' 중 하나여야 합니다.
+            3. 입력된 모든 번호에 대해 빠짐없이, 번호 순서대로 출력하세요.
+            4. 어떠한 설명도 추가하지 마세요. 아무 뜻이 없으면 중립으로 출력하세요.
+
+            # 예시
+            입력:
+            1: 기분 진짜 좋다
+            2: 아오 진짜 짜증나게 하네
+            3: ㄹㅁㅎㅇㄴㅎ
+            출력:
+            1: 긍정
+            2: 부정
+            3: 중립
+            # 지시
+            다음 문장들의 감정을 위 규칙에 따라 분석하세요.
+        """;
+
+    private static final Pattern BATCH_LINE = Pattern.compile("^\\s*(\\d+)\\s*[:.)]\\s*(긍정|부정|중립)");
+    // 한 줄 답("12: 중립")에 필요한 토큰을 넉넉히 잡은 값
+    private static final int TOKENS_PER_LINE = 8;
+
     private final ClovaApiClient clovaApiClient;
+    private final int batchSize;
+    private final Cache<String, Sentiment> sentimentCache;
+
+    public ClovaApiService(ClovaApiClient clovaApiClient,
+        @Value("${clova.sentiment.batch-size:20}") int batchSize,
+        @Value("${clova.sentiment.cache-max-size:50000}") long cacheMaxSize,
+        @Value("${clova.sentiment.cache-ttl-hours:24}") long cacheTtlHours) {
+        this.clovaApiClient = clovaApiClient;
+        this.batchSize = Math.max(1, batchSize);
+        this.sentimentCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(Duration.ofHours(cacheTtlHours))
+            .build();
+    }
 
     public Sentiment analyzeSentiment(String userText) {
-        String systemPrompt = """
-                # 역할
-                당신은 댓글의 감정을 분석하는 시스템입니다. 당신의 유일한 임무는 문장을 읽고 '긍정', '부정', '중립' 세 가지 중 하나를 선택하는 것입니다.
-            
-                # 규칙
-                1. 답변은 반드시 '긍정', '부정', '중립' 중 하나여야 합니다.
-                2. '혼합' 또는 다른 단어를 절대 사용하지 마세요.
-                3. 어떠한 설명도 추가하지 말고, 오직 하나의 단어만 출력하세요.
-                4. 아무 뜻이 없으면 중립으로 출력하세요.
-            
-                # 예시
-                - 문장: "기분 진짜 좋다" -> 긍정
-                - 문장: "아오 진짜 짜증나게 하네" -> 부정
-                - 문장: "이걸로 보내드릴게요" -> 중립
-                - 문장: "asdfsafads" -> 중립
-                - 문장: "ㄹㅁㅎㅇㄴㅎ" -> 중립
-                # 지시
-                다음 문장의 감정을 위 규칙에 따라 분석하세요.
-            """;
+        return sentimentCache.get(contentHash(userText), key -> requestSentiment(userText));
+    }
+
+    /**
+     * 여러 문장의 감정을 분류한다. 결과는 입력과 같은 순서로 돌려준다.
+     * 캐시에 없는 문장만 (중복 제거 후) batchSize개씩 묶어 요청한다.
+     */
+    public List<Sentiment> analyzeSentiments(List<String> texts) {
+        Map<String, Sentiment> resolved = new HashMap<>();
+        Map<String, String> pending = new LinkedHashMap<>();
+        for (String text : texts) {
+            String hash = contentHash(text);
+            if (resolved.containsKey(hash) || pending.containsKey(hash)) {
+                continue;
+            }
+            Sentiment cached = sentimentCache.getIfPresent(hash);
+            if (cached != null) {
+                resolved.put(hash, cached);
+            } else {
+                pending.put(hash, text);
+            }
+        }
+
+        List<String> hashes = new ArrayList<>(pending.keySet());
+        for (int from = 0; from < hashes.size(); from += batchSize) {
+            List<String> chunk = hashes.subList(from, Math.min(from + batchSize, hashes.size()));
+            List<Sentiment> sentiments = classifyBatch(chunk.stream().map(pending::get).toList());
+            for (int i = 0; i < chunk.size(); i++) {
+                resolved.put(chunk.get(i), sentiments.get(i));
+                sentimentCache.put(chunk.get(i), sentiments.get(i));
+            }
+        }
+
+        return texts.stream().map(text -> resolved.get(contentHash(text))).toList();
+    }
+
+    private List<Sentiment> classifyBatch(List<String> texts) {
+        if (texts.size() == 1) {
+            return List.of(requestSentiment(texts.get(0)));
+        }
+
+        StringBuilder userPrompt = new StringBuilder();
+        for (int i = 0; i < texts.size(); i++) {
+            // 한 문장이 한 줄에 들어가도록 줄바꿈은 공백으로 바꾼다
+            userPrompt.append(i + 1).append(": ")
+                .append(texts.get(i) == null ? "" : texts.get(i).replaceAll("\\s+", " "))
+                .append('\n');
+        }
+
+        Sentiment[] sentiments = new Sentiment[texts.size()];
+        String content = request(BATCH_PROMPT, userPrompt.toString(),
+            Math.max(ClovaRequestDto.DEFAULT_MAX_TOKENS, texts.size() * TOKENS_PER_LINE));
+        for (String line : content.split("\\R")) {
+            Matcher matcher = BATCH_LINE.matcher(line);
+            if (!matcher.find()) {
+                continue;
+            }
+            int index = Integer.parseInt(matcher.group(1)) - 1;
+            if (index >= 0 && index < sentiments.length && sentiments[index] == null) {
+                sentiments[index] = toSentiment(matcher.group(2));
+            }
+        }
+
+        List<Sentiment> result = new ArrayList<>(texts.size());
+        int missing = 0;
+        for (int i = 0; i < sentiments.length; i++) {
+            if (sentiments[i] == null) {
+                // 답에서 빠진 문장은 한 건씩 다시 묻는다
+                sentiments[i] = requestSentiment(texts.get(i));
+                missing++;
+            }
+            result.add(sentiments[i]);
+        }
+        if (missing > 0) {
+            log.warn("⚠️ [ClovaApiService] 일괄 감정 분석 응답에서 {}/{}건 누락, 개별 요청으로 보완", missing,
+                texts.size());
+        }
+        return result;
+    }
+
+    private Sentiment requestSentiment(String userText) {
+        return toSentiment(request(SINGLE_PROMPT, "문장: " + userText,
+            ClovaRequestDto.DEFAULT_MAX_TOKENS).trim());
+    }
+
+    private String request(String systemPrompt, String userPrompt, int maxTokens) {
         Message systemMessage = new Message("system",
             List.of(new ContentPart("text", systemPrompt)));
-
-        String userPrompt = "문장: " + userText;
         Message userMessage = new Message("user", List.of(new ContentPart("text", userPrompt)));
 
-        List<Message> messages = List.of(systemMessage, userMessage);
-
-        ClovaRequestDto request = ClovaRequestDto.defaultRequest(messages);
+        ClovaRequestDto request = ClovaRequestDto.defaultRequest(
+            List.of(systemMessage, userMessage), maxTokens);
 
         ClovaResponseDto response = clovaApiClient.getSentiment(request);
+        return response.getResult().getMessage().getContent();
+    }
 
-        // 5. 결과에서 필요한 텍스트만 추출하여 반환
-        // 실제 응답 구조에 따라 반환 로직은 달라질 수 있습니다.
-        String content = response.getResult().getMessage().getContent().trim();
+    private static Sentiment toSentiment(String content) {
         if (content.equals("긍정")) {
             return Sentiment.POSITIVE;
         } else if (content.equals("부정")) {
             return Sentiment.NEGATIVE;
         }
-
         return Sentiment.NEUTRAL;
     }
-}
\ No newline at end of file
+
+    static String contentHash(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest((text == null ? "" : text.strip()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import site.petful.snsservice.instagram.auth.entity.InstagramTokenEntity;
 
@@ -13,6 +14,11 @@ public interface InstagramTokenRepository extends JpaRepository<InstagramTokenEn
 
     int deleteByExpireAtBefore(LocalDateTime now);
 
-    @Query("SELECT i.userNo FROM InstagramTokenEntity i")
+    @Query("SELECT i.userNo FROM InstagramTokenEntity i ORDER BY i.userNo")
     List<Long> findAllUserNos();
+
+    @Query("SELECT i.userNo FROM InstagramTokenEntity i"
+        + " WHERE i.userNo > :afterUserNo AND i.userNo <= :maxUserNo ORDER BY i.userNo")
+    List<Long> findUserNosInRange(@Param("afterUserNo") Long afterUserNo,
+        @Param("maxUserNo") Long maxUserNo);
 }
@@ -45,4 +45,9 @@ public class InstagramTokenService {
         return instagramTokenRepository.findAllUserNos();
     }
 
+    // (afterUserNo, maxUserNo] 구간의 사용자 번호를 오름차순으로 조회
+    public List<Long> getUserIdsInRange(Long afterUserNo, Long maxUserNo) {
+        return instagramTokenRepository.findUserNosInRange(afterUserNo, maxUserNo);
+    }
+
 }
\ No newline at end of file
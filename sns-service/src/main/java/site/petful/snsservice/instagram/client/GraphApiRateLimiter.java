@@ -0,0 +1,29 @@
+package site.petful.snsservice.instagram.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Graph API 호출 속도 제한. 호출 한도는 앱 단위로 걸리므로 앱(client_id)마다 토큰 버킷을 하나씩 둔다.
+ * 배치 워커 수와 상관없이 앱 전체 호출량이 설정값을 넘지 않는다.
+ */
+@Component
+public class GraphApiRateLimiter {
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final double permitsPerSecond;
+    private final int burst;
+
+    public GraphApiRateLimiter(
+        @Value("${instagram.api.rate-limit.permits-per-second:50}") double permitsPerSecond,
+        @Value("${instagram.api.rate-limit.burst:50}") int burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    public void acquire(String appId) {
+        buckets.computeIfAbsent(appId, id -> new TokenBucket(permitsPerSecond, burst)).acquire();
+    }
+}
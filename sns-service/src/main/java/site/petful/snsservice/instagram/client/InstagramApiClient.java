@@ -5,6 +5,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import site.petful.snsservice.instagram.client.config.InstagramFeignConfiguration;
 import site.petful.snsservice.instagram.client.dto.InstagramApiCommentResponseDto;
 import site.petful.snsservice.instagram.client.dto.InstagramApiInsightsResponseDto;
 import site.petful.snsservice.instagram.client.dto.InstagramApiMediaResponseDto;
@@ -12,7 +13,11 @@ import site.petful.snsservice.instagram.client.dto.InstagramApiTokenResponseDto;
 import site.petful.snsservice.instagram.profile.dto.InstagramProfileDto;
 
 
-@FeignClient(name = "instagramApiClient", url = "https://graph.facebook.com/v23.0")
+@FeignClient(
+    name = "instagramApiClient",
+    url = "${instagram.api.base-url:https://graph.facebook.com/v23.0}",
+    configuration = InstagramFeignConfiguration.class
+)
 public interface InstagramApiClient {
 
     @GetMapping("/oauth/access_token?grant_type=fb_exchange_token")
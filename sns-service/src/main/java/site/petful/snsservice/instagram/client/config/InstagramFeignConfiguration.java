@@ -0,0 +1,19 @@
+package site.petful.snsservice.instagram.client.config;
+
+import feign.RequestInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import site.petful.snsservice.instagram.client.GraphApiRateLimiter;
+
+/**
+ * InstagramApiClient 전용 설정 (@Configuration을 붙이지 않아 다른 Feign 클라이언트에는 적용되지 않음)
+ */
+public class InstagramFeignConfiguration {
+
+    // 모든 Graph API 호출은 요청 전에 앱의 토큰 버킷에서 토큰을 하나 받아 간다
+    @Bean
+    public RequestInterceptor graphApiRateLimitInterceptor(GraphApiRateLimiter rateLimiter,
+        @Value("${instagram.api.client_id}") String clientId) {
+        return requestTemplate -> rateLimiter.acquire(clientId);
+    }
+}
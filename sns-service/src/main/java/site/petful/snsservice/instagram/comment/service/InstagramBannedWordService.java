@@ -50,7 +50,11 @@ public class InstagramBannedWordService {
     }
 
     public Set<String> getBannedWords(InstagramProfileEntity profile) {
-        return instagramBannedWordRepository.findById_InstagramId(profile.getId()).stream()
+        return getBannedWords(profile.getId());
+    }
+
+    public Set<String> getBannedWords(Long instagramId) {
+        return instagramBannedWordRepository.findById_InstagramId(instagramId).stream()
             .map(InstagramBannedWordEntity::getWord)
             .collect(Collectors.toSet());
     }
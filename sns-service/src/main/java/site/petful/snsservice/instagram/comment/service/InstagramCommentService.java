@@ -1,5 +1,6 @@
 package site.petful.snsservice.instagram.comment.service;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -46,37 +47,75 @@ public class InstagramCommentService {
         InstagramMediaEntity media = instagramMediaRepository.findById(mediaId)
             .orElseThrow(() -> new IllegalArgumentException("조회된 게시글이 없습니다."));
 
+        return syncComments(media, accessToken,
+            instagramBannedWordService.getBannedWords(media.getInstagramProfile()));
+    }
+
+    /**
+     * 금지어를 호출하는 쪽에서 프로필당 한 번만 읽어 넘길 때 사용 (배치 동기화)
+     */
+    @Transactional
+    public List<InstagramCommentResponseDto> syncInstagramCommentByMediaId(Long mediaId,
+        String accessToken, Set<String> bannedWords) {
+        InstagramMediaEntity media = instagramMediaRepository.findById(mediaId)
+            .orElseThrow(() -> new IllegalArgumentException("조회된 게시글이 없습니다."));
+
+        return syncComments(media, accessToken, bannedWords);
+    }
+
+    /**
+     * Graph API는 최신 댓글부터 돌려주므로, 이전 동기화 때 저장한 가장 최근 댓글 시각(commentSyncedAt)
+     * 이전의 댓글이 나온 페이지까지만 읽고 멈춘다. (그 뒤 페이지는 이미 저장된 댓글)
+     */
+    private List<InstagramCommentResponseDto> syncComments(InstagramMediaEntity media,
+        String accessToken, Set<String> bannedWords) {
+        OffsetDateTime highWaterMark = media.getCommentSyncedAt();
+        OffsetDateTime latestCommentAt = null;
+
         List<InstagramCommentEntity> finalSyncedEntities = new ArrayList<>();
         String after = null;
 
         do {
             InstagramApiCommentResponseDto response = instagramApiClient.fetchComments(
-                mediaId, accessToken, fields, after, 25);
+                media.getId(), accessToken, fields, after, 25);
 
             List<InstagramApiCommentDto> pagedCommentsDto = response.getData();
             if (pagedCommentsDto == null || pagedCommentsDto.isEmpty()) {
                 break;
             }
 
-            List<InstagramCommentEntity> savedEntitiesOnPage = processCommentsPage(
-                pagedCommentsDto, media, accessToken);
-            finalSyncedEntities.addAll(savedEntitiesOnPage);
+            finalSyncedEntities.addAll(
+                processCommentsPage(pagedCommentsDto, media, accessToken, bannedWords));
+
+            for (InstagramApiCommentDto dto : pagedCommentsDto) {
+                if (latestCommentAt == null || dto.timestamp().isAfter(latestCommentAt)) {
+                    latestCommentAt = dto.timestamp();
+                }
+            }
+            if (highWaterMark != null && pagedCommentsDto.stream()
+                .anyMatch(dto -> !dto.timestamp().isAfter(highWaterMark))) {
+                break;
+            }
 
             after =
                 response.getPaging() != null ? response.getPaging().getCursors().getAfter() : null;
         } while (after != null);
 
+        media.markCommentsSynced(latestCommentAt);
+
         return finalSyncedEntities.stream()
             .map(InstagramCommentResponseDto::fromEntity)
             .toList();
     }
 
+    // 페이지의 새 댓글은 감정 분석을 한 번에 요청한다
     private List<InstagramCommentEntity> processCommentsPage(List<InstagramApiCommentDto> dtos,
-        InstagramMediaEntity media, String accessToken) {
+        InstagramMediaEntity media, String accessToken, Set<String> bannedWords) {
 
         Map<Long, InstagramCommentEntity> existingCommentsMap = findExistingComments(dtos);
 
         List<InstagramCommentEntity> entitiesToSave = new ArrayList<>();
+        List<InstagramApiCommentDto> newComments = new ArrayList<>();
         for (InstagramApiCommentDto dto : dtos) {
             InstagramCommentEntity existingComment = existingCommentsMap.get(dto.id());
 
@@ -84,21 +123,26 @@ public class InstagramCommentService {
                 existingComment.update(dto);
                 entitiesToSave.add(existingComment);
             } else {
-                InstagramCommentEntity newComment = createNewCommentWithPolicy(dto, media,
-                    accessToken);
-                entitiesToSave.add(newComment);
+                newComments.add(dto);
+            }
+        }
+
+        if (!newComments.isEmpty()) {
+            List<Sentiment> sentiments = clovaApiService.analyzeSentiments(
+                newComments.stream().map(InstagramApiCommentDto::text).toList());
+            for (int i = 0; i < newComments.size(); i++) {
+                entitiesToSave.add(createNewCommentWithPolicy(newComments.get(i),
+                    sentiments.get(i), media, bannedWords, accessToken));
             }
         }
         return instagramCommentRepository.saveAll(entitiesToSave);
     }
 
     private InstagramCommentEntity createNewCommentWithPolicy(InstagramApiCommentDto dto,
-        InstagramMediaEntity media, String accessToken) {
+        Sentiment sentiment, InstagramMediaEntity media, Set<String> bannedWords,
+        String accessToken) {
 
         InstagramProfileEntity profile = media.getInstagramProfile();
-
-        Sentiment sentiment = clovaApiService.analyzeSentiment(dto.text());
-        Set<String> bannedWords = instagramBannedWordService.getBannedWords(profile);
         boolean isDeleted = false;
 
         boolean shouldDelete = profile.getAutoDelete()
@@ -1,8 +1,10 @@
 package site.petful.snsservice.instagram.media.controller;
 
 import jakarta.validation.constraints.NotNull;
+import java.time.OffsetDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,6 +17,7 @@ import site.petful.snsservice.common.ApiResponse;
 import site.petful.snsservice.common.ApiResponseGenerator;
 import site.petful.snsservice.instagram.auth.service.InstagramTokenService;
 import site.petful.snsservice.instagram.media.dto.InstagramAnalysisMediasResponseDto;
+import site.petful.snsservice.instagram.media.dto.InstagramCaptionDto;
 import site.petful.snsservice.instagram.media.dto.InstagramMediaDto;
 import site.petful.snsservice.instagram.media.service.InstagramMediaService;
 
@@ -47,6 +50,18 @@ public class InstagramMediaController {
         return ResponseEntity.ok(ApiResponseGenerator.success(mediasDto));
     }
 
+    @GetMapping("/captions")
+    public ResponseEntity<ApiResponse<List<InstagramCaptionDto>>> getCaptionsUpdatedAfter(
+        @RequestParam(name = "updated_after", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime updatedAfter,
+        @RequestParam(name = "after_id", required = false) Long afterId,
+        @RequestParam(name = "size", defaultValue = "500") int size) {
+
+        List<InstagramCaptionDto> captions = instagramMediaService.getCaptionsUpdatedAfter(
+            updatedAfter, afterId, Math.min(Math.max(size, 1), 1000));
+        return ResponseEntity.ok(ApiResponseGenerator.success(captions));
+    }
+
     @GetMapping("/{mediaId}")
     public ResponseEntity<ApiResponse<InstagramMediaDto>> getMedia(
         @NotNull @PathVariable Long mediaId) {
@@ -0,0 +1,8 @@
+package site.petful.snsservice.instagram.media.dto;
+
+import java.time.OffsetDateTime;
+
+public record InstagramCaptionDto(Long instagramId, Long mediaId, String caption,
+                                  OffsetDateTime captionUpdatedAt) {
+
+}
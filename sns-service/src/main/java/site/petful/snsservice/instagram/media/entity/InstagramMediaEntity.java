@@ -6,19 +6,24 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
+import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import site.petful.snsservice.instagram.media.dto.InstagramCaptionDto;
 import site.petful.snsservice.instagram.media.dto.InstagramMediaDto;
 import site.petful.snsservice.instagram.profile.entity.InstagramProfileEntity;
 
 
 @Entity
-@Table(name = "instagram_media")
+@Table(name = "instagram_media", indexes = {
+    @Index(name = "idx_instagram_media_caption_updated_at", columnList = "caption_updated_at, id")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -41,6 +46,12 @@ public class InstagramMediaEntity {
     private Long likeCount;
     @Column(nullable = false)
     private Long commentsCount;
+    // 캡션이 새로 들어오거나 바뀐 시각 (추천 임베딩 증분 갱신용)
+    @Column(name = "caption_updated_at")
+    private OffsetDateTime captionUpdatedAt;
+    // 지금까지 저장한 가장 최근 댓글 시각 (댓글 증분 동기화 기준점)
+    @Column(name = "comment_synced_at")
+    private OffsetDateTime commentSyncedAt;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "instagram_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
@@ -59,15 +70,23 @@ public class InstagramMediaEntity {
         this.likeCount = instagramMediaDto.likeCount();
         this.commentsCount = instagramMediaDto.commentsCount();
         this.instagramProfile = instagramProfile;
+        this.captionUpdatedAt = OffsetDateTime.now();
     }
 
 
+    public InstagramCaptionDto toCaptionDto() {
+        return new InstagramCaptionDto(instagramProfile.getId(), id, caption, captionUpdatedAt);
+    }
+
     public InstagramMediaDto toDto() {
         return new InstagramMediaDto(id, caption, mediaType, mediaUrl, permalink, timestamp,
             isCommentEnabled, likeCount, commentsCount);
     }
 
     public void update(InstagramMediaDto dto) {
+        if (!Objects.equals(this.caption, dto.caption())) {
+            this.captionUpdatedAt = OffsetDateTime.now();
+        }
         this.caption = dto.caption();
         this.mediaType = dto.mediaType();
         this.mediaUrl = dto.mediaUrl();
@@ -77,4 +96,11 @@ public class InstagramMediaEntity {
         this.likeCount = dto.likeCount();
         this.commentsCount = dto.commentsCount();
     }
+
+    public void markCommentsSynced(OffsetDateTime latestCommentAt) {
+        if (latestCommentAt != null
+            && (commentSyncedAt == null || latestCommentAt.isAfter(commentSyncedAt))) {
+            this.commentSyncedAt = latestCommentAt;
+        }
+    }
 }
\ No newline at end of file
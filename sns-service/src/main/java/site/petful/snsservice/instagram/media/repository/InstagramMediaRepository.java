@@ -2,7 +2,10 @@ package site.petful.snsservice.instagram.media.repository;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import site.petful.snsservice.instagram.media.entity.InstagramMediaEntity;
 import site.petful.snsservice.instagram.profile.entity.InstagramProfileEntity;
@@ -22,5 +25,13 @@ public interface InstagramMediaRepository extends JpaRepository<InstagramMediaEn
         OffsetDateTime start,
         OffsetDateTime end
     );
+
+    // (captionUpdatedAt, id) 커서 다음부터 오래된 순. 같은 시각의 행이 페이지 경계에 걸려도 id로 이어서 읽는다
+    @Query("SELECT m FROM InstagramMediaEntity m "
+        + "WHERE m.captionUpdatedAt > :updatedAfter "
+        + "OR (m.captionUpdatedAt = :updatedAfter AND m.id > :afterId) "
+        + "ORDER BY m.captionUpdatedAt ASC, m.id ASC")
+    List<InstagramMediaEntity> findCaptionsUpdatedAfter(@Param("updatedAfter") OffsetDateTime updatedAfter,
+        @Param("afterId") Long afterId, Pageable pageable);
 }
 
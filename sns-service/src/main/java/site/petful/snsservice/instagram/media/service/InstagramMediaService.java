@@ -3,16 +3,19 @@ package site.petful.snsservice.instagram.media.service;
 import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.NotFoundException;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import site.petful.snsservice.instagram.client.InstagramApiClient;
 import site.petful.snsservice.instagram.client.dto.InstagramApiMediaResponseDto;
 import site.petful.snsservice.instagram.media.dto.InstagramAnalysisMediasResponseDto;
+import site.petful.snsservice.instagram.media.dto.InstagramCaptionDto;
 import site.petful.snsservice.instagram.media.dto.InstagramMediaDto;
 import site.petful.snsservice.instagram.media.entity.InstagramMediaEntity;
 import site.petful.snsservice.instagram.media.repository.InstagramMediaRepository;
@@ -87,6 +90,24 @@ public class InstagramMediaService {
         return mediaEntities.stream().map(InstagramMediaEntity::toDto).toList();
     }
 
+    /**
+     * 커서 (updatedAfter, afterId) 다음부터 캡션이 바뀐 미디어를 (변경 시각, id) 오래된 순으로 최대 size건 조회
+     * afterId가 없으면 updatedAfter와 같은 시각의 행부터 포함한다.
+     * (추천 서비스가 펫스타 임베딩을 증분 갱신할 때 사용)
+     */
+    @Transactional(readOnly = true)
+    public List<InstagramCaptionDto> getCaptionsUpdatedAfter(OffsetDateTime updatedAfter,
+        Long afterId, int size) {
+        OffsetDateTime from = updatedAfter != null ? updatedAfter
+            : OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        return instagramMediaRepository
+            .findCaptionsUpdatedAfter(from, afterId != null ? afterId : Long.MIN_VALUE,
+                PageRequest.of(0, size))
+            .stream()
+            .map(InstagramMediaEntity::toCaptionDto)
+            .toList();
+    }
+
     public InstagramMediaDto getMedia(@NotNull Long mediaId) {
 
         InstagramMediaEntity mediaEntity = instagramMediaRepository.findById(mediaId)
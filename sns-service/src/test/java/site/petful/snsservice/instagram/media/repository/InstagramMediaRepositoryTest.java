@@ -0,0 +1,92 @@
+package site.petful.snsservice.instagram.media.repository;
+
+import jakarta.persistence.EntityManager;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import site.petful.snsservice.config.QueryDslConfig;
+import site.petful.snsservice.instagram.media.dto.InstagramMediaDto;
+import site.petful.snsservice.instagram.media.entity.InstagramMediaEntity;
+import site.petful.snsservice.instagram.profile.entity.InstagramProfileEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캡션 변경분 커서 (captionUpdatedAt, id): 같은 시각의 행이 페이지 경계에 걸려도 빠짐없이 한 번씩 읽는다.
+ */
+@DataJpaTest(properties = {
+    // 집계 테이블의 month 컬럼이 H2 예약어라 식별자로 허용
+    "spring.datasource.url=jdbc:h2:mem:sns;NON_KEYWORDS=MONTH"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(QueryDslConfig.class)
+class InstagramMediaRepositoryTest {
+
+    private static final OffsetDateTime TIED = OffsetDateTime.of(2025, 9, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private InstagramMediaRepository instagramMediaRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        InstagramProfileEntity profile = new InstagramProfileEntity(1L, 1L, "petstar", "petstar",
+            null, 0L, 0L, 0L, false);
+        entityManager.persist(profile);
+        persist(profile, 1L, TIED.minusMinutes(1));
+        for (long id = 2; id <= 6; id++) {
+            persist(profile, id, TIED);
+        }
+        persist(profile, 7L, TIED.plusMinutes(1));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 같은_시각의_행이_페이지_경계에_걸려도_id_커서로_빠짐없이_읽는다() {
+        List<Long> read = new ArrayList<>();
+        OffsetDateTime cursorAt = TIED.minusHours(1);
+        Long cursorId = Long.MIN_VALUE;
+        while (true) {
+            List<InstagramMediaEntity> page = instagramMediaRepository.findCaptionsUpdatedAfter(
+                cursorAt, cursorId, PageRequest.of(0, 2));
+            for (InstagramMediaEntity media : page) {
+                read.add(media.getId());
+                cursorAt = media.getCaptionUpdatedAt();
+                cursorId = media.getId();
+            }
+            if (page.size() < 2) {
+                break;
+            }
+        }
+
+        assertThat(read).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void id_없이_시각만_주면_같은_시각의_행부터_포함한다() {
+        List<InstagramMediaEntity> page = instagramMediaRepository.findCaptionsUpdatedAfter(
+            TIED, Long.MIN_VALUE, PageRequest.of(0, 10));
+
+        assertThat(page).extracting(InstagramMediaEntity::getId).containsExactly(2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    private void persist(InstagramProfileEntity profile, Long id, OffsetDateTime captionUpdatedAt) {
+        InstagramMediaEntity media = new InstagramMediaEntity(
+            new InstagramMediaDto(id, "caption " + id, "IMAGE", "https://cdn/" + id, "https://ig/" + id,
+                TIED, true, 0L, 0L), profile);
+        ReflectionTestUtils.setField(media, "captionUpdatedAt", captionUpdatedAt);
+        entityManager.persist(media);
+    }
+}
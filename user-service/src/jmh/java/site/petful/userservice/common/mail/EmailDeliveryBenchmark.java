@@ -0,0 +1,187 @@
+package site.petful.userservice.common.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인증 메일 발송 지연시간/처리량 (GreenMailHarness: 로컬 GreenMail + 응답마다 rttMs 지연 프록시).
+ * API 응답 시간
+ * - requestSyncSend: 변경 전 방식. 요청 스레드에서 JavaMailSender.send (메일마다 접속/EHLO/발송/QUIT)
+ * - requestEnqueue: 변경 후 방식. 템플릿 렌더링 + email_outbox INSERT (H2 TCP 서버, 쿼리마다 실제 왕복)
+ * 발송 처리량 (messages건을 모두 보내는 시간)
+ * - drainConnectionPerMessage: 메일마다 새 연결로 차례로 발송
+ * - drainPooledWorkers: MailDispatcher처럼 workers개 스레드가 SmtpBatchSender 연결 하나씩으로 batchSize개씩 발송
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmailDeliveryBenchmark {
+
+    private static final String FROM = "no-reply@petful.app";
+
+    @Param({"0", "10"})
+    public long rttMs;
+
+    @Param({"100"})
+    public int messages;
+
+    @Param({"2"})
+    public int workers;
+
+    @Param({"20"})
+    public int batchSize;
+
+    private GreenMailHarness harness;
+    private JavaMailSenderImpl mailSender;
+    private MailTemplateRenderer renderer;
+    private Server h2;
+    private Connection connection;
+    private PreparedStatement insert;
+    private ExecutorService workerPool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        harness = new GreenMailHarness(rttMs);
+        mailSender = harness.mailSender();
+        renderer = new MailTemplateRenderer();
+
+        // jmh jar에서는 드라이버 서비스 파일이 MySQL 것으로 덮이므로 직접 등록
+        Class.forName("org.h2.Driver");
+        h2 = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        connection = DriverManager.getConnection(
+                "jdbc:h2:tcp://localhost:" + h2.getPort() + "/mem:email_outbox;DB_CLOSE_DELAY=-1");
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TABLE email_outbox (email_no BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                    + " to_address VARCHAR(255) NOT NULL, subject VARCHAR(255) NOT NULL, body CLOB NOT NULL,"
+                    + " html BOOLEAN NOT NULL, created_at TIMESTAMP NOT NULL, next_attempt_at TIMESTAMP NOT NULL,"
+                    + " claim_token VARCHAR(36), lease_until TIMESTAMP, attempts INT DEFAULT 0 NOT NULL,"
+                    + " last_error VARCHAR(500), sent_at TIMESTAMP, failed_at TIMESTAMP)");
+            st.execute("CREATE INDEX idx_email_outbox_due ON email_outbox (sent_at, failed_at, next_attempt_at)");
+        }
+        insert = connection.prepareStatement("INSERT INTO email_outbox"
+                + " (to_address, subject, body, html, created_at, next_attempt_at) VALUES (?, ?, ?, ?, ?, ?)");
+
+        AtomicInteger threadNo = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "mail-dispatch-bench-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void purge() {
+        harness.purge();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        workerPool.shutdownNow();
+        insert.close();
+        connection.close();
+        h2.stop();
+        harness.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public void requestSyncSend() throws MessagingException {
+        mailSender.send(verificationMail("user@petful.site"));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int requestEnqueue() throws SQLException {
+        String body = renderer.render(MailTemplate.VERIFICATION_CODE, Map.of("code", code()));
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        insert.setString(1, "user@petful.site");
+        insert.setString(2, MailTemplate.VERIFICATION_CODE.getSubject());
+        insert.setString(3, body);
+        insert.setBoolean(4, true);
+        insert.setTimestamp(5, now);
+        insert.setTimestamp(6, now);
+        return insert.executeUpdate();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public int drainConnectionPerMessage() throws MessagingException {
+        for (int i = 0; i < messages; i++) {
+            mailSender.send(verificationMail("user" + i + "@petful.site"));
+        }
+        return messages;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public int drainPooledWorkers() throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            futures.add(workerPool.submit(() -> {
+                try (SmtpBatchSender sender = new SmtpBatchSender(mailSender, 30_000)) {
+                    int from;
+                    while ((from = next.getAndAdd(batchSize)) < messages) {
+                        List<MimeMessage> batch = new ArrayList<>(batchSize);
+                        for (int i = from; i < Math.min(from + batchSize, messages); i++) {
+                            batch.add(verificationMail("user" + i + "@petful.site"));
+                        }
+                        Map<Integer, Exception> failures = sender.send(batch);
+                        if (!failures.isEmpty()) {
+                            throw new IllegalStateException("발송 실패: " + failures);
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return messages;
+    }
+
+    private MimeMessage verificationMail(String to) throws MessagingException {
+        String body = renderer.render(MailTemplate.VERIFICATION_CODE, Map.of("code", code()));
+        MimeMessage mime = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mime, false, StandardCharsets.UTF_8.name());
+        helper.setFrom(FROM);
+        helper.setTo(to);
+        helper.setSubject(MailTemplate.VERIFICATION_CODE.getSubject());
+        helper.setText(body, true);
+        return mime;
+    }
+
+    private static String code() {
+        return String.format("%06d", ThreadLocalRandom.current().nextInt(100000, 1_000_000));
+    }
+}
@@ -0,0 +1,66 @@
+package site.petful.userservice.common.mail;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Properties;
+
+/**
+ * 로컬 GreenMail SMTP 서버 + 지연 프록시.
+ * mailSender()는 프록시를 거쳐 GreenMail로 보내도록 설정된 JavaMailSenderImpl을 돌려준다.
+ */
+public class GreenMailHarness implements AutoCloseable {
+
+    private final GreenMail greenMail;
+    private final SmtpLatencyProxy proxy;
+
+    public GreenMailHarness(long rttMs) throws IOException {
+        ServerSetup setup = new ServerSetup(freePort(), "127.0.0.1", ServerSetup.PROTOCOL_SMTP);
+        this.greenMail = new GreenMail(setup);
+        greenMail.start();
+        this.proxy = new SmtpLatencyProxy(setup.getPort(), rttMs);
+    }
+
+    public JavaMailSenderImpl mailSender() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("127.0.0.1");
+        sender.setPort(proxy.port());
+        sender.setProtocol("smtp");
+        Properties properties = new Properties();
+        properties.put("mail.smtp.auth", "false");
+        // EHLO 이름을 고정해 연결마다 로컬 호스트명 조회를 하지 않게 한다 (DNS 지연 제외)
+        properties.put("mail.smtp.localhost", "localhost");
+        properties.put("mail.smtp.connectiontimeout", "5000");
+        properties.put("mail.smtp.timeout", "5000");
+        sender.setJavaMailProperties(properties);
+        return sender;
+    }
+
+    public int receivedCount() {
+        return greenMail.getReceivedMessages().length;
+    }
+
+    public void purge() {
+        try {
+            greenMail.purgeEmailFromAllMailboxes();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        proxy.close();
+        greenMail.stop();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package site.petful.userservice.common.mail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 로컬 SMTP 서버 앞에 두는 TCP 프록시. 서버 응답을 rttMs만큼 늦게 전달해 원격 SMTP 서버의 왕복 지연을 흉내 낸다.
+ * (SMTP는 명령마다 응답을 기다리므로 응답 하나에 지연 한 번 = 왕복 한 번)
+ */
+public class SmtpLatencyProxy implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final int upstreamPort;
+    private final long rttMs;
+    private final ExecutorService pipes = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "smtp-latency-proxy");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SmtpLatencyProxy(int upstreamPort, long rttMs) throws IOException {
+        this.serverSocket = new ServerSocket(0, 100, InetAddress.getLoopbackAddress());
+        this.upstreamPort = upstreamPort;
+        this.rttMs = rttMs;
+        pipes.execute(this::acceptLoop);
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        pipes.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                client.setTcpNoDelay(true);
+                Socket upstream = new Socket(InetAddress.getLoopbackAddress(), upstreamPort);
+                upstream.setTcpNoDelay(true);
+                pipes.execute(() -> pipe(client, upstream, 0));
+                pipes.execute(() -> pipe(upstream, client, rttMs));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private static void pipe(Socket from, Socket to, long delayMs) {
+        byte[] buffer = new byte[8192];
+        try (from; to) {
+            InputStream in = from.getInputStream();
+            OutputStream out = to.getOutputStream();
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (delayMs > 0) {
+                    Thread.sleep(delayMs);
+                }
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // 한쪽이 닫히면 끝
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
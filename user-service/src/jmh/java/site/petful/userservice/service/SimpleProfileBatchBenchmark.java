@@ -0,0 +1,179 @@
+package site.petful.userservice.service;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import site.petful.userservice.dto.SimpleProfileResponse;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 간단 프로필 일괄 조회(/auth/profile/simple/batch) 시간 (H2 TCP 서버, 쿼리마다 실제 왕복).
+ * - perUser: 변경 전 방식. 사용자마다 users PK 조회 + user_profile 조회 (2N 쿼리)
+ * - batchJoin: users LEFT JOIN user_profile 를 IN 절로 한 번에 조회, CHUNK_SIZE개씩 나눔
+ * 요청 id의 10%는 없는 사용자, 사용자의 절반은 프로필이 없다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimpleProfileBatchBenchmark {
+
+    private static final int USERS = 20_000;
+    // user.profile.batch-chunk-size 기본값
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String USER_SQL =
+            "SELECT user_no, nickname, email, phone FROM users WHERE user_no = ?";
+    private static final String PROFILE_SQL =
+            "SELECT profile_image_url FROM user_profile WHERE user_no = ?";
+    private static final String BATCH_SQL =
+            "SELECT u.user_no, u.nickname, u.email, u.phone, p.profile_image_url"
+                    + " FROM users u LEFT JOIN user_profile p ON p.user_no = u.user_no"
+                    + " WHERE u.user_no IN (%s)";
+
+    @Param({"10", "100", "1000"})
+    public int ids;
+
+    private Server server;
+    private Connection connection;
+    private List<Long> requestIds;
+
+    private record Row(long userNo, String nickname, String email, String phone) {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // jmh jar에서는 드라이버 서비스 파일이 MySQL 것으로 덮이므로 직접 등록
+        Class.forName("org.h2.Driver");
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        connection = DriverManager.getConnection(
+                "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:simple_profile;DB_CLOSE_DELAY=-1");
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TABLE users (user_no BIGINT PRIMARY KEY, nickname VARCHAR(30),"
+                    + " email VARCHAR(255), phone VARCHAR(15))");
+            st.execute("CREATE TABLE user_profile (profile_no BIGINT PRIMARY KEY, user_no BIGINT NOT NULL UNIQUE,"
+                    + " profile_image_url VARCHAR(500))");
+        }
+        try (PreparedStatement users = connection.prepareStatement("INSERT INTO users VALUES (?, ?, ?, ?)");
+             PreparedStatement profiles = connection.prepareStatement("INSERT INTO user_profile VALUES (?, ?, ?)")) {
+            for (long userNo = 1; userNo <= USERS; userNo++) {
+                users.setLong(1, userNo);
+                users.setString(2, "user" + userNo);
+                users.setString(3, "user" + userNo + "@petful.site");
+                users.setString(4, "010" + (10_000_000 + userNo));
+                users.addBatch();
+                if (userNo % 2 == 0) {
+                    profiles.setLong(1, userNo);
+                    profiles.setLong(2, userNo);
+                    profiles.setString(3, "https://cdn.petful.site/profile/" + userNo + ".png");
+                    profiles.addBatch();
+                }
+            }
+            users.executeBatch();
+            profiles.executeBatch();
+        }
+
+        Random random = new Random(42);
+        requestIds = new ArrayList<>(ids);
+        for (int i = 0; i < ids; i++) {
+            requestIds.add(i % 10 == 0
+                    ? USERS + 1L + random.nextInt(USERS)
+                    : 1L + random.nextInt(USERS));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public List<SimpleProfileResponse> perUser() throws SQLException {
+        List<SimpleProfileResponse> profiles = new ArrayList<>();
+        try (PreparedStatement userQuery = connection.prepareStatement(USER_SQL);
+             PreparedStatement profileQuery = connection.prepareStatement(PROFILE_SQL)) {
+            for (Long userNo : requestIds) {
+                Row user = null;
+                userQuery.setLong(1, userNo);
+                try (ResultSet rs = userQuery.executeQuery()) {
+                    if (rs.next()) {
+                        user = new Row(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4));
+                    }
+                }
+                if (user == null) {
+                    continue;
+                }
+                String imageUrl = null;
+                profileQuery.setLong(1, userNo);
+                try (ResultSet rs = profileQuery.executeQuery()) {
+                    if (rs.next()) {
+                        imageUrl = rs.getString(1);
+                    }
+                }
+                profiles.add(toResponse(user, imageUrl));
+            }
+        }
+        return profiles;
+    }
+
+    @Benchmark
+    public List<SimpleProfileResponse> batchJoin() throws SQLException {
+        List<Long> distinct = requestIds.stream().distinct().toList();
+        Map<Long, SimpleProfileResponse> found = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size()));
+            String sql = String.format(BATCH_SQL, String.join(",", Collections.nCopies(chunk.size(), "?")));
+            try (PreparedStatement query = connection.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    query.setLong(i + 1, chunk.get(i));
+                }
+                try (ResultSet rs = query.executeQuery()) {
+                    while (rs.next()) {
+                        Row user = new Row(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4));
+                        found.put(user.userNo(), toResponse(user, rs.getString(5)));
+                    }
+                }
+            }
+        }
+
+        List<SimpleProfileResponse> profiles = new ArrayList<>(found.size());
+        for (Long userNo : distinct) {
+            SimpleProfileResponse profile = found.get(userNo);
+            if (profile != null) {
+                profiles.add(profile);
+            }
+        }
+        return profiles;
+    }
+
+    private static SimpleProfileResponse toResponse(Row user, String imageUrl) {
+        return SimpleProfileResponse.builder()
+                .id(user.userNo())
+                .nickname(user.nickname())
+                .profileImageUrl(imageUrl)
+                .email(user.email())
+                .phone(user.phone())
+                .build();
+    }
+}
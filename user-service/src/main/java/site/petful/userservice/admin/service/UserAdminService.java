@@ -24,6 +24,7 @@ import site.petful.userservice.entity.User;
 import site.petful.userservice.entity.UserProfile;
 import site.petful.userservice.repository.UserRepository;
 import site.petful.userservice.repository.UserProfileRepository;
+import site.petful.userservice.service.AuthService;
 
 import java.time.LocalDateTime;
 
@@ -37,6 +38,7 @@ public class UserAdminService {
     private final UserProfileRepository userProfileRepository;
     private final ReportLogRepository reportLogRepository;
     private final AdvertiserClient advertiserClient;
+    private final AuthService authService;
 
     public Page<ReportResponse> getAllReports(Long adminId, String adminType, ActorType targetType, ReportStatus status, Pageable pageable) {
         log.info("getAllReports 호출됨 - adminId: {}, adminType: {}, targetType: {}, status: {}", 
@@ -104,6 +106,8 @@ public class UserAdminService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다." + userId));
         user.suspend();
+        // 정지된 사용자의 로그인 세션과 발급된 토큰을 모두 무효화
+        authService.revokeAllSessions(userId);
     }
 
     @Transactional
@@ -0,0 +1,55 @@
+package site.petful.userservice.common.mail;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    @Query("SELECT e.id FROM EmailOutbox e"
+            + " WHERE e.sentAt IS NULL AND e.failedAt IS NULL AND e.nextAttemptAt <= :now"
+            + " AND (e.leaseUntil IS NULL OR e.leaseUntil < :now)"
+            + " ORDER BY e.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 아직 아무도 가져가지 않은 메일만 표시한다. 여러 워커/인스턴스가 같은 id를 골라도 한 쪽만 가져간다
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.claimToken = :claimToken, e.leaseUntil = :leaseUntil"
+            + " WHERE e.id IN :ids AND e.sentAt IS NULL AND e.failedAt IS NULL"
+            + " AND (e.leaseUntil IS NULL OR e.leaseUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken,
+              @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    List<EmailOutbox> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.sentAt = :sentAt, e.leaseUntil = NULL WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt,"
+            + " e.leaseUntil = NULL, e.lastError = :error WHERE e.id = :id")
+    int markRetry(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.attempts = e.attempts + 1, e.failedAt = :failedAt,"
+            + " e.leaseUntil = NULL, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("failedAt") LocalDateTime failedAt, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.sentAt < :before OR e.failedAt < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,12 @@
+package site.petful.userservice.common.mail;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 발송 완료 메일 정리(@Scheduled)를 위해 스케줄링을 켠다
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(MailProps.class)
+public class MailConfig {
+}
@@ -0,0 +1,235 @@
+package site.petful.userservice.common.mail;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * email_outbox 테이블의 메일을 SMTP로 보내는 워커 풀.
+ * - 워커 수만큼의 스레드가 각자 SMTP 연결 하나를 유지하며 batch-size개씩 가져가 같은 연결로 보낸다
+ * - 적재 직후 trigger()로 깨우고, 놓친 신호와 재시도 시각이 된 메일은 poll-interval 주기로 다시 훑는다
+ * - 실패하면 지수 백오프로 다시 시도하고 max-attempts번 실패하면 포기한다
+ * 보낸 뒤 완료 표시 전에 죽으면 lease가 끝난 뒤 다시 보내므로 at-least-once.
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSenderImpl mailSender;
+    private final MailProps props;
+    private final String fromAddress;
+    private final int workerCount;
+    private final ExecutorService workers;
+    // 대기 중인 워커를 깨우는 신호. 워커 수보다 많이 쌓아 두지 않는다
+    private final Semaphore wakeups = new Semaphore(0);
+
+    private volatile boolean running;
+
+    public MailDispatcher(EmailOutboxRepository emailOutboxRepository,
+                          JavaMailSender mailSender,
+                          MailProps props,
+                          @Value("${mail.from:no-reply@petful.app}") String fromAddress) {
+        if (!(mailSender instanceof JavaMailSenderImpl impl)) {
+            throw new IllegalStateException("메일 발송 워커에는 JavaMailSenderImpl이 필요합니다: " + mailSender.getClass());
+        }
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = impl;
+        this.props = props;
+        this.fromAddress = fromAddress;
+        this.workerCount = Math.max(1, props.getWorkers());
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread t = new Thread(r, "mail-dispatch-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // 애플리케이션이 요청을 받을 준비가 된 뒤 워커를 띄운다 (재시작 전에 쌓인 메일도 이때 처리)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+        log.info("✅ [MailDispatcher] 메일 발송 워커 {}개 시작", workerCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        wakeups.release(workerCount);
+        workers.shutdown();
+        try {
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 대기 중인 워커 하나를 깨운다. 호출 스레드는 기다리지 않는다.
+     */
+    public void trigger() {
+        if (wakeups.availablePermits() < workerCount) {
+            wakeups.release();
+        }
+    }
+
+    @Scheduled(fixedDelay = 60, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void purgeFinished() {
+        try {
+            int deleted = emailOutboxRepository.deleteFinishedBefore(LocalDateTime.now().minusHours(props.getRetentionHours()));
+            if (deleted > 0) {
+                log.info("🧹 [MailDispatcher] 발송 완료/실패 메일 {}건 정리", deleted);
+            }
+        } catch (Exception e) {
+            log.error("❌ [MailDispatcher] 발송 완료 메일 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void runWorker() {
+        int batchSize = Math.max(1, props.getBatchSize());
+        try (SmtpBatchSender sender = new SmtpBatchSender(mailSender, props.getConnectionIdleMs())) {
+            while (running) {
+                int picked = 0;
+                try {
+                    picked = dispatchBatch(sender, batchSize);
+                } catch (Exception e) {
+                    log.error("❌ [MailDispatcher] 메일 발송 중 오류: {}", e.getMessage(), e);
+                }
+                if (picked >= batchSize) {
+                    // 더 남아 있을 수 있으니 바로 다음 배치
+                    continue;
+                }
+                sender.closeIfIdle();
+                if (wakeups.tryAcquire(props.getPollIntervalMs(), TimeUnit.MILLISECONDS)) {
+                    // 같은 신호로 여러 번 깨어나지 않도록 쌓인 신호는 비운다
+                    wakeups.drainPermits();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 보낼 때가 된 메일을 가져가 보낸다.
+     *
+     * @return 고른 메일 수 (다른 워커가 먼저 가져간 것 포함)
+     */
+    int dispatchBatch(SmtpBatchSender sender, int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = emailOutboxRepository.findDueIds(now, PageRequest.of(0, batchSize));
+        if (dueIds.isEmpty()) {
+            return 0;
+        }
+
+        String claimToken = UUID.randomUUID().toString();
+        if (emailOutboxRepository.claim(dueIds, claimToken, now.plusSeconds(props.getLeaseSeconds()), now) == 0) {
+            return dueIds.size();
+        }
+        List<EmailOutbox> claimed = emailOutboxRepository.findByClaimTokenOrderByIdAsc(claimToken);
+
+        List<EmailOutbox> sendable = new ArrayList<>(claimed.size());
+        List<MimeMessage> messages = new ArrayList<>(claimed.size());
+        for (EmailOutbox email : claimed) {
+            try {
+                messages.add(toMimeMessage(email));
+                sendable.add(email);
+            } catch (MessagingException | RuntimeException e) {
+                // 주소 형식 오류 등은 다시 보내도 실패하므로 바로 포기한다
+                giveUp(email, e);
+            }
+        }
+
+        Map<Integer, Exception> failures = sender.send(messages);
+
+        List<Long> sentIds = new ArrayList<>(sendable.size());
+        for (int i = 0; i < sendable.size(); i++) {
+            Exception failure = failures.get(i);
+            if (failure == null) {
+                sentIds.add(sendable.get(i).getId());
+            } else {
+                retryOrGiveUp(sendable.get(i), failure);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            emailOutboxRepository.markSent(sentIds, LocalDateTime.now());
+            log.debug("📤 [MailDispatcher] 메일 {}건 발송 완료", sentIds.size());
+        }
+        return dueIds.size();
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox email) throws MessagingException {
+        MimeMessage mime = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mime, false, StandardCharsets.UTF_8.name());
+        helper.setFrom(fromAddress);
+        helper.setTo(email.getToAddress());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), email.isHtml());
+        return mime;
+    }
+
+    private void retryOrGiveUp(EmailOutbox email, Exception cause) {
+        int attempts = email.getAttempts() + 1;
+        if (attempts >= props.getMaxAttempts()) {
+            giveUp(email, cause);
+            return;
+        }
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusNanos(backoffMillis(attempts) * 1_000_000);
+        emailOutboxRepository.markRetry(email.getId(), nextAttemptAt, truncate(cause.getMessage()));
+        log.warn("⚠️ [MailDispatcher] 메일 발송 실패, 재시도 예약: emailNo={}, attempts={}, next={}, error={}",
+                email.getId(), attempts, nextAttemptAt, cause.getMessage());
+    }
+
+    private void giveUp(EmailOutbox email, Exception cause) {
+        emailOutboxRepository.markFailed(email.getId(), LocalDateTime.now(), truncate(cause.getMessage()));
+        log.error("❌ [MailDispatcher] 메일 발송 최종 실패: emailNo={}, to={}, attempts={}, error={}",
+                email.getId(), email.getToAddress(), email.getAttempts() + 1, cause.getMessage());
+    }
+
+    // initialBackoffMs * 2^(attempts - 1)에 ±20% 지터 (여러 메일이 같은 순간에 몰리지 않도록)
+    private long backoffMillis(int attempts) {
+        long base = props.getInitialBackoffMs() << Math.min(attempts - 1, 20);
+        long capped = Math.min(props.getMaxBackoffMs(), base);
+        return (long) (capped * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,28 @@
+package site.petful.userservice.common.mail;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.mail")
+@Getter
+@Setter
+public class MailProps {
+    // 발송 워커 수 (워커마다 SMTP 연결 하나를 유지)
+    private int workers = 2;
+    // 워커가 한 번에 가져가 같은 연결로 보낼 메일 수
+    private int batchSize = 20;
+    // 깨우는 신호를 놓쳤거나 재시도 시각이 된 메일을 다시 훑는 주기
+    private long pollIntervalMs = 5000;
+    // 가져간 메일을 다른 워커/인스턴스가 건드리지 않는 시간 (워커가 죽으면 이후 다시 발송)
+    private long leaseSeconds = 120;
+    // 이 횟수만큼 실패하면 더 보내지 않는다
+    private int maxAttempts = 5;
+    // 재시도 간격: initialBackoffMs * 2^(실패 횟수 - 1), 최대 maxBackoffMs
+    private long initialBackoffMs = 2000;
+    private long maxBackoffMs = 300_000;
+    // 이 시간 동안 쓰지 않은 SMTP 연결은 닫는다 (서버가 먼저 끊기 전에)
+    private long connectionIdleMs = 30_000;
+    // 발송 완료/최종 실패 메일 보관 기간
+    private int retentionHours = 24;
+}
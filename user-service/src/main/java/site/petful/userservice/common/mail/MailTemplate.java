@@ -0,0 +1,19 @@
+package site.petful.userservice.common.mail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메일 템플릿. 본문은 classpath의 path에 있고 {{name}} 자리에 값이 들어간다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MailTemplate {
+
+    VERIFICATION_CODE("Petful 이메일 인증 코드", "mail/verification-code.html", true),
+    PASSWORD_RESET_CODE("[Petful] 비밀번호 재설정 인증 코드", "mail/password-reset-code.txt", false);
+
+    private final String subject;
+    private final String path;
+    private final boolean html;
+}
@@ -0,0 +1,77 @@
+package site.petful.userservice.common.mail;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 메일 템플릿 렌더러.
+ * 기동 시 모든 템플릿을 읽어 고정 문자열/자리표시자 조각으로 나눠 두고, 렌더링은 조각을 이어 붙이기만 한다.
+ * (HTML 템플릿에 들어가는 값은 이스케이프)
+ */
+@Component
+public class MailTemplateRenderer {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*(\\w+)\\s*}}");
+
+    private final Map<MailTemplate, CompiledTemplate> templates = new EnumMap<>(MailTemplate.class);
+
+    public MailTemplateRenderer() {
+        for (MailTemplate template : MailTemplate.values()) {
+            templates.put(template, compile(load(template.getPath()), template.isHtml()));
+        }
+    }
+
+    public String render(MailTemplate template, Map<String, String> params) {
+        return templates.get(template).render(params);
+    }
+
+    private static String load(String path) {
+        try {
+            return new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("메일 템플릿을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    static CompiledTemplate compile(String source, boolean html) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(source.substring(last, matcher.start()));
+            names.add(matcher.group(1));
+            last = matcher.end();
+        }
+        literals.add(source.substring(last));
+        return new CompiledTemplate(literals.toArray(String[]::new), names.toArray(String[]::new), html,
+                source.length());
+    }
+
+    // literals.length == names.length + 1
+    record CompiledTemplate(String[] literals, String[] names, boolean html, int sizeHint) {
+
+        String render(Map<String, String> params) {
+            StringBuilder out = new StringBuilder(sizeHint + 32);
+            for (int i = 0; i < names.length; i++) {
+                out.append(literals[i]);
+                String value = params.get(names[i]);
+                if (value == null) {
+                    throw new IllegalArgumentException("메일 템플릿 값이 없습니다: " + names[i]);
+                }
+                out.append(html ? HtmlUtils.htmlEscape(value) : value);
+            }
+            return out.append(literals[names.length]).toString();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package site.petful.userservice.common.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SMTP 연결 하나를 유지하면서 메일을 보낸다. 워커 스레드 하나가 전용으로 쓴다. (스레드 안전하지 않음)
+ * - 처음 보낼 때 연결하고, 이후 메일은 같은 연결로 보낸다 (접속/EHLO/STARTTLS/AUTH를 메일마다 반복하지 않음)
+ * - idleTimeoutMillis 동안 쓰지 않은 연결은 서버가 먼저 끊기 전에 닫는다
+ * - 재사용하던 연결이 끊겨 실패하면 한 번 다시 연결해 같은 메일을 보낸다
+ */
+@Slf4j
+public class SmtpBatchSender implements AutoCloseable {
+
+    private static final String DEFAULT_PROTOCOL = "smtp";
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final JavaMailSenderImpl mailSender;
+    private final long idleTimeoutMillis;
+
+    private Transport transport;
+    private long lastUsedAt;
+
+    public SmtpBatchSender(JavaMailSenderImpl mailSender, long idleTimeoutMillis) {
+        this.mailSender = mailSender;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * 메일을 순서대로 보낸다.
+     *
+     * @return 실패한 메일의 인덱스와 원인 (모두 성공하면 비어 있음)
+     */
+    public Map<Integer, Exception> send(List<MimeMessage> messages) {
+        Map<Integer, Exception> failures = new LinkedHashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                sendOne(messages.get(i));
+            } catch (MessagingException | RuntimeException e) {
+                failures.put(i, e);
+            }
+        }
+        return failures;
+    }
+
+    public void closeIfIdle() {
+        if (transport != null && System.currentTimeMillis() - lastUsedAt >= idleTimeoutMillis) {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 중 오류: {}", e.getMessage());
+        }
+        transport = null;
+    }
+
+    private void sendOne(MimeMessage message) throws MessagingException {
+        prepare(message);
+        boolean reused = connect();
+        try {
+            transport.sendMessage(message, message.getAllRecipients());
+        } catch (MessagingException e) {
+            if (!reused || transport.isConnected()) {
+                throw e;
+            }
+            // 서버가 끊은 연결이었다면 새로 연결해 한 번만 다시 보낸다
+            log.debug("SMTP 연결이 끊겨 다시 연결: {}", e.getMessage());
+            close();
+            connect();
+            transport.sendMessage(message, message.getAllRecipients());
+        }
+        lastUsedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * @return 기존 연결을 재사용하면 true
+     */
+    private boolean connect() throws MessagingException {
+        closeIfIdle();
+        if (transport != null) {
+            return true;
+        }
+        Session session = mailSender.getSession();
+        String protocol = mailSender.getProtocol();
+        if (protocol == null) {
+            protocol = session.getProperty("mail.transport.protocol");
+            if (protocol == null) {
+                protocol = DEFAULT_PROTOCOL;
+            }
+        }
+        // JavaMailSenderImpl과 같이 빈 계정은 인증 없이 연결
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+        Transport connected = session.getTransport(protocol);
+        connected.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        transport = connected;
+        lastUsedAt = System.currentTimeMillis();
+        return false;
+    }
+
+    // JavaMailSenderImpl.doSend와 같은 준비 (보낸 시각, 지정한 Message-ID 유지)
+    private static void prepare(MimeMessage message) throws MessagingException {
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        String messageId = message.getMessageID();
+        message.saveChanges();
+        if (messageId != null) {
+            message.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+    }
+}
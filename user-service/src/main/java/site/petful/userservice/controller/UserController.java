@@ -23,6 +23,7 @@ import site.petful.userservice.dto.VerificationConfirmResponse;
 import site.petful.userservice.dto.FileUploadResponse;
 import site.petful.userservice.dto.ProfileResponse;
 import site.petful.userservice.dto.ProfileUpdateRequest;
+import site.petful.userservice.dto.SimpleProfileBatchResponse;
 import site.petful.userservice.dto.SimpleProfileResponse;
 import site.petful.userservice.dto.WithdrawRequest;
 import site.petful.userservice.dto.WithdrawResponse;
@@ -38,6 +39,7 @@ import jakarta.validation.Valid;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
@@ -45,6 +47,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserController {
 
+    // 일괄 프로필 조회에서 찾지 못한 회원 번호를 알려주는 응답 헤더
+    private static final String MISSING_USER_NOS_HEADER = "X-Missing-User-Nos";
+
     private final UserService userService;              // 회원가입/유저 관련
     private final AuthService authService;              // 토큰 발급/리프레시
     private final AuthenticationManager authenticationManager;
@@ -76,16 +81,16 @@ public class UserController {
         log.debug("로그인 사용자 정보 email={}, name={}, nickname={}, userNo={}",
                 user.getEmail(), user.getName(), user.getNickname(), user.getUserNo());
 
-        String access = authService.issueAccess(user);     // userNo/userType 포함
-        String refresh = authService.issueRefresh(username);
+        // 새 로그인 세션 생성 (Access에 userNo/userType/sid 포함)
+        AuthService.IssuedTokens tokens = authService.login(user);
 
         long now = System.currentTimeMillis();
         long accessExpiresAt = now + Duration.ofMinutes(authService.accessTtlMinutes()).toMillis();
         long refreshExpiresAt = now + Duration.ofDays(authService.refreshTtlDays()).toMillis();
         
         AuthResponse authResponse = AuthResponse.builder()
-                .accessToken(access)
-                .refreshToken(refresh)
+                .accessToken(tokens.accessToken())
+                .refreshToken(tokens.refreshToken())
                 .accessExpiresAt(accessExpiresAt)
                 .refreshExpiresAt(refreshExpiresAt)
                 .email(username)
@@ -105,16 +110,13 @@ public class UserController {
         try {
             long now = System.currentTimeMillis();
 
-            String newAccess = authService.refreshAccess(req.getRefreshToken());
-            // 필요 시에만 롤링. 정책상 롤링을 사용하지 않으려면 아래 한 줄을 제거/주석 처리하면 된다.
-            String newRefresh = authService.rotateRefresh(req.getRefreshToken());
-
-            // 새로운 액세스 토큰에서 userType 추출
-            String userType = jwtUtil.extractUserType(newAccess);
+            // 리프레시 토큰은 매번 회전된다 (쓰인 토큰은 바로 무효)
+            AuthService.IssuedTokens tokens = authService.refresh(req.getRefreshToken());
+            String userType = tokens.userType();
             
             AuthResponse authResponse = AuthResponse.builder()
-                    .accessToken(newAccess)
-                    .refreshToken(newRefresh)
+                    .accessToken(tokens.accessToken())
+                    .refreshToken(tokens.refreshToken())
                     .accessExpiresAt(now + Duration.ofMinutes(authService.accessTtlMinutes()).toMillis())
                     .refreshExpiresAt(now + Duration.ofDays(authService.refreshTtlDays()).toMillis())
                     .userType(userType)  // userType 설정
@@ -175,19 +177,17 @@ public class UserController {
                 if (refreshToken != null && !refreshToken.trim().isEmpty()) {
                     try {
                         // 새로운 토큰 발급
-                        String newAccess = authService.refreshAccess(refreshToken);
-                        String newRefresh = authService.rotateRefresh(refreshToken);
+                        AuthService.IssuedTokens tokens = authService.refresh(refreshToken);
                         
                         long now = System.currentTimeMillis();
                         long accessExpiresAt = now + Duration.ofMinutes(authService.accessTtlMinutes()).toMillis();
                         long refreshExpiresAt = now + Duration.ofDays(authService.refreshTtlDays()).toMillis();
                         
-                        // 새로운 액세스 토큰에서 userType 추출
-                        String userType = jwtUtil.extractUserType(newAccess);
+                        String userType = tokens.userType();
                         
                         TokenInfoResponse response = TokenInfoResponse.builder()
-                                .accessToken(newAccess)
-                                .refreshToken(newRefresh)
+                                .accessToken(tokens.accessToken())
+                                .refreshToken(tokens.refreshToken())
                                 .accessExpiresAt(LocalDateTime.now().plusMinutes(authService.accessTtlMinutes()))
                                 .refreshExpiresAt(LocalDateTime.now().plusDays(authService.refreshTtlDays()))
                                 .accessExpiresIn(authService.accessTtlMinutes() * 60)
@@ -279,10 +279,22 @@ public class UserController {
     }
 
 
+    /**
+     * 간단 프로필 일괄 조회 (요청 순서대로, 없는 사용자는 제외)
+     * 응답 본문은 기존과 같은 목록이고, 찾지 못한 사용자 번호는 X-Missing-User-Nos 헤더로 알려준다.
+     * POST /auth/profile/simple/batch
+     */
     @PostMapping("/profile/simple/batch")
     public ResponseEntity<ApiResponse<List<SimpleProfileResponse>>> getSimpleProfilesBatch(@RequestBody List<Long> userNos) {
-        List<SimpleProfileResponse> profiles = userService.getSimpleProfilesBatch(userNos);
-        return ResponseEntity.ok(ApiResponseGenerator.success(profiles));
+        SimpleProfileBatchResponse result = userService.getSimpleProfilesBatch(userNos);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!result.getMissingUserNos().isEmpty()) {
+            response.header(MISSING_USER_NOS_HEADER, result.getMissingUserNos().stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        }
+        return response.body(ApiResponseGenerator.success(result.getProfiles()));
     }
 
 
@@ -428,6 +440,29 @@ public class UserController {
         }
     }
 
+    /**
+     * 모든 기기에서 로그아웃
+     * POST /auth/logout-all
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<String>> logoutAll() {
+        // 헤더에서 사용자 번호를 먼저 시도
+        Long userNo = UserHeaderUtil.getCurrentUserNo();
+        
+        // 헤더가 없으면 기존 JWT 방식으로 fallback
+        if (userNo == null) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()) {
+                userNo = userService.findByEmail(authentication.getName()).getUserNo();
+            } else {
+                throw new IllegalStateException("인증 정보가 없습니다.");
+            }
+        }
+        
+        int revoked = authService.logoutAll(userNo);
+        return ResponseEntity.ok(ApiResponseGenerator.success("모든 기기에서 로그아웃되었습니다. (세션 " + revoked + "개)"));
+    }
+
     /**
      * 사용자 신고
      * POST /auth/reports
@@ -0,0 +1,17 @@
+package site.petful.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 간단 프로필 일괄 조회 결과
+ * profiles는 요청 순서(중복 제거)대로, 없는 사용자 번호는 missingUserNos에 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class SimpleProfileBatchResponse {
+    private List<SimpleProfileResponse> profiles;
+    private List<Long> missingUserNos;
+}
@@ -0,0 +1,17 @@
+package site.petful.userservice.repository;
+
+/**
+ * 간단 프로필 일괄 조회용 프로젝션 (users LEFT JOIN user_profile)
+ */
+public interface SimpleProfileView {
+
+    Long getUserNo();
+
+    String getNickname();
+
+    String getEmail();
+
+    String getPhone();
+
+    String getProfileImageUrl();
+}
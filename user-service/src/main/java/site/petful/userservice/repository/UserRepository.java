@@ -1,9 +1,13 @@
 package site.petful.userservice.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import site.petful.userservice.entity.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -18,4 +22,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String email);
 
+    /**
+     * 여러 사용자의 간단 프로필을 한 번에 조회 (프로필이 없는 사용자도 포함)
+     */
+    @Query("SELECT u.userNo AS userNo, u.nickname AS nickname, u.email AS email, u.phone AS phone,"
+            + " p.profileImageUrl AS profileImageUrl"
+            + " FROM User u LEFT JOIN UserProfile p ON p.user = u"
+            + " WHERE u.userNo IN :userNos")
+    List<SimpleProfileView> findSimpleProfiles(@Param("userNos") Collection<Long> userNos);
+
 }
@@ -2,6 +2,8 @@ package site.petful.userservice.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -25,29 +27,32 @@ public class JwtUtil {
     private static final String TYP_REFRESH = "refresh";
     private static final String CLAIM_USER_NO = "userNo";
     private static final String CLAIM_USER_TYPE = "userType";
+    private static final String CLAIM_SESSION_ID = "sid";
 
-    // application.yml
-    @Value("${jwt.access-secret}")
-    private String accessSecret;
-
-    @Value("${jwt.refresh-secret}")
-    private String refreshSecret;
-
-    @Value("${jwt.access-exp-min}")
-    private long accessExpMin;
-
-    @Value("${jwt.refresh-exp-days}")
-    private long refreshExpDays;
+    private final long accessExpMin;
+    private final long refreshExpDays;
 
     /* ======================
-     * Key helpers (jjwt 0.11.x)
+     * Keys (jjwt 0.11.x)
+     * 시크릿은 기동 시 한 번만 디코딩해 키와 파서를 만들어 두고 재사용한다
      * ====================== */
-    private Key accessKey()  {
+    private final Key accessKey;
+    private final Key refreshKey;
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
+
+    // application.yml
+    public JwtUtil(@Value("${jwt.access-secret}") String accessSecret,
+                   @Value("${jwt.refresh-secret}") String refreshSecret,
+                   @Value("${jwt.access-exp-min}") long accessExpMin,
+                   @Value("${jwt.refresh-exp-days}") long refreshExpDays) {
+        this.accessExpMin = accessExpMin;
+        this.refreshExpDays = refreshExpDays;
         // Base64 인코딩된 시크릿을 사용한다고 가정
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(accessSecret.trim()));
-    }
-    private Key refreshKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(refreshSecret.trim()));
+        this.accessKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(accessSecret.trim()));
+        this.refreshKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(refreshSecret.trim()));
+        this.accessParser = Jwts.parserBuilder().setSigningKey(accessKey).build();
+        this.refreshParser = Jwts.parserBuilder().setSigningKey(refreshKey).build();
     }
 
     /* ======================
@@ -56,15 +61,24 @@ public class JwtUtil {
 
     /** userNo와 userType을 포함한 Access 토큰 생성 */
     public String generateAccessToken(String subject, Long userNo, String userType) {
+        return generateAccessToken(subject, userNo, userType, null);
+    }
+
+    /** 로그인 세션 ID(sid)까지 포함한 Access 토큰 생성 (게이트웨이가 폐기된 세션의 토큰을 거른다) */
+    public String generateAccessToken(String subject, Long userNo, String userType, String sessionId) {
         long now = System.currentTimeMillis();
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(subject)
                 .claim(CLAIM_TYP, TYP_ACCESS)
                 .claim(CLAIM_USER_NO, userNo)
-                .claim(CLAIM_USER_TYPE, userType)
+                .claim(CLAIM_USER_TYPE, userType);
+        if (sessionId != null) {
+            builder.claim(CLAIM_SESSION_ID, sessionId);
+        }
+        return builder
                 .setIssuedAt(new Date(now))
                 .setExpiration(new Date(now + Duration.ofMinutes(accessExpMin).toMillis()))
-                .signWith(accessKey(), SignatureAlgorithm.HS256)
+                .signWith(accessKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -79,10 +93,7 @@ public class JwtUtil {
 
     /** Access 파싱 (+ typ 검증) */
     public Claims parseAccessClaims(String token) {
-        Jws<Claims> jws = Jwts.parserBuilder()
-                .setSigningKey(accessKey())
-                .build()
-                .parseClaimsJws(token);
+        Jws<Claims> jws = accessParser.parseClaimsJws(token);
         Claims claims = jws.getBody();
         if (!TYP_ACCESS.equals(claims.get(CLAIM_TYP))) {
             throw new IllegalArgumentException("Not an access token");
@@ -94,22 +105,32 @@ public class JwtUtil {
      * Refresh token (갱신용)
      * ====================== */
     public String generateRefreshToken(String subject) {
+        return generateRefreshToken(subject, null, null, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 세션 저장소와 맞물리는 Refresh 토큰 생성.
+     * sid는 로그인 세션(회전해도 유지), jti는 토큰 한 장마다 새로 부여한다.
+     */
+    public String generateRefreshToken(String subject, Long userNo, String sessionId, String tokenId) {
         long now = System.currentTimeMillis();
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(subject)
                 .claim(CLAIM_TYP, TYP_REFRESH)
-                .setId(UUID.randomUUID().toString()) // jti
+                .setId(tokenId); // jti
+        if (sessionId != null) {
+            builder.claim(CLAIM_SESSION_ID, sessionId)
+                    .claim(CLAIM_USER_NO, userNo);
+        }
+        return builder
                 .setIssuedAt(new Date(now))
                 .setExpiration(new Date(now + Duration.ofDays(refreshExpDays).toMillis()))
-                .signWith(refreshKey(), SignatureAlgorithm.HS512)
+                .signWith(refreshKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     public Claims parseRefreshClaims(String token) {
-        Jws<Claims> jws = Jwts.parserBuilder()
-                .setSigningKey(refreshKey())
-                .build()
-                .parseClaimsJws(token);
+        Jws<Claims> jws = refreshParser.parseClaimsJws(token);
         Claims c = jws.getBody();
         if (!TYP_REFRESH.equals(c.get(CLAIM_TYP))) {
             throw new IllegalArgumentException("Not a refresh token");
@@ -117,6 +138,19 @@ public class JwtUtil {
         return c;
     }
 
+    /** 토큰의 세션 ID(sid). 세션 저장소 도입 전에 발급된 토큰이면 null */
+    public String extractSessionId(Claims claims) {
+        return claims.get(CLAIM_SESSION_ID, String.class);
+    }
+
+    /** 클레임의 userNo (Number/String 모두 안전 변환) */
+    public Long extractUserNo(Claims claims) {
+        Object v = claims.get(CLAIM_USER_NO);
+        if (v == null) return null;
+        if (v instanceof Number) return ((Number) v).longValue();
+        return Long.parseLong(v.toString());
+    }
+
     /* ======================
      * 공통/호환 메서드들 (Access 기준)
      * ====================== */
@@ -130,12 +164,7 @@ public class JwtUtil {
 
     /** 토큰에서 userNo 추출 (Number/String 모두 안전 변환) */
     public Long extractUserNo(String token) {
-        return extractClaim(token, claims -> {
-            Object v = claims.get(CLAIM_USER_NO);
-            if (v == null) return null;
-            if (v instanceof Number) return ((Number) v).longValue();
-            return Long.parseLong(v.toString());
-        });
+        return extractClaim(token, this::extractUserNo);
     }
 
     /** 토큰에서 userType 추출 */
@@ -154,17 +183,13 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
     /** 사용자명 검증이 필요한 경우 */
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
             Claims c = parseAccessClaims(token);
             boolean typeOk = TYP_ACCESS.equals(c.get(CLAIM_TYP));
             String username = c.getSubject();
-            return typeOk && username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+            return typeOk && username.equals(userDetails.getUsername()) && !isExpired(c);
         } catch (Exception e) {
             return false;
         }
@@ -0,0 +1,182 @@
+package site.petful.userservice.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 리프레시 토큰 세션 저장소.
+ * - auth:session:{sid}          해시 {jti, userNo, prevJti, prevUntil}. 로그인 한 번 = 세션 하나, TTL은 리프레시 토큰 수명
+ * - auth:user-sessions:{userNo} 사용자의 sid 세트 (전체 로그아웃용)
+ * - auth:revoked-sessions       폐기된 sid → 그 세션의 Access 토큰이 모두 만료되는 시각 (게이트웨이가 스냅샷으로 읽는다)
+ * - auth:session-revoked        폐기된 sid를 게이트웨이에 바로 알리는 채널
+ * 회전은 Lua 스크립트 한 번으로 "저장된 jti와 같을 때만 새 jti로 교체"하고,
+ * 이미 회전된 jti가 유예 시간(jwt.refresh-reuse-grace-seconds)이 지나 다시 쓰이면 탈취로 보고 세션을 폐기한다.
+ */
+@Slf4j
+@Component
+public class RefreshSessionStore {
+
+    public static final String SESSION_KEY_PREFIX = "auth:session:";
+    public static final String USER_SESSIONS_KEY_PREFIX = "auth:user-sessions:";
+    public static final String REVOKED_SESSIONS_KEY = "auth:revoked-sessions";
+    public static final String REVOKED_CHANNEL = "auth:session-revoked";
+
+    private static final String FIELD_JTI = "jti";
+    private static final String FIELD_USER_NO = "userNo";
+
+    /*
+     * KEYS[1]=세션, KEYS[2]=사용자 세션 세트
+     * ARGV[1]=제시된 jti, ARGV[2]=새 jti, ARGV[3]=TTL(ms), ARGV[4]=현재 시각(ms), ARGV[5]=유예 시간(ms)
+     * 회전하면 직전 jti와 유예 만료 시각(prevJti, prevUntil)을 남긴다.
+     * 유예 시간 안에 직전 jti가 다시 오면(탭 여러 개의 동시 재발급, 응답을 못 받은 클라이언트의 재시도)
+     * 다시 회전하지 않고 현재 jti를 돌려준다. 그 밖의 옛 jti는 재사용으로 본다.
+     */
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local session = redis.call('HMGET', KEYS[1], 'jti', 'prevJti', 'prevUntil')
+            local current = session[1]
+            if not current then
+              return {'NOT_FOUND'}
+            end
+            if current == ARGV[1] then
+              redis.call('HSET', KEYS[1], 'jti', ARGV[2], 'prevJti', ARGV[1],
+                  'prevUntil', tostring(tonumber(ARGV[4]) + tonumber(ARGV[5])))
+              redis.call('PEXPIRE', KEYS[1], ARGV[3])
+              redis.call('PEXPIRE', KEYS[2], ARGV[3])
+              return {'ROTATED', ARGV[2]}
+            end
+            if session[2] == ARGV[1] and tonumber(session[3]) > tonumber(ARGV[4]) then
+              return {'GRACE', current}
+            end
+            return {'REUSED'}
+            """, List.class);
+
+    public enum RotateResult {
+        ROTATED,
+        /** 유예 시간 안에 직전 jti가 다시 쓰임. 현재 jti로 다시 발급한다 */
+        GRACE,
+        /** 만료됐거나 이미 폐기된 세션 */
+        NOT_FOUND,
+        /** 회전으로 무효가 된 리프레시 토큰이 다시 쓰임 */
+        REUSED
+    }
+
+    /**
+     * @param tokenId 새로 발급할 리프레시 토큰의 jti (ROTATED/GRACE일 때만 값이 있다)
+     */
+    public record Rotation(RotateResult result, String tokenId) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final long sessionTtlMillis;
+    private final long accessTtlMillis;
+    private final long reuseGraceMillis;
+
+    public RefreshSessionStore(StringRedisTemplate redisTemplate,
+                               @Value("${jwt.refresh-exp-days}") long refreshExpDays,
+                               @Value("${jwt.access-exp-min}") long accessExpMin,
+                               @Value("${jwt.refresh-reuse-grace-seconds:10}") long reuseGraceSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.sessionTtlMillis = Duration.ofDays(refreshExpDays).toMillis();
+        this.accessTtlMillis = Duration.ofMinutes(accessExpMin).toMillis();
+        this.reuseGraceMillis = Duration.ofSeconds(reuseGraceSeconds).toMillis();
+    }
+
+    /** 새 로그인 세션 저장 (한 번의 파이프라인) */
+    public void create(String sessionId, String tokenId, Long userNo) {
+        String sessionKey = SESSION_KEY_PREFIX + sessionId;
+        String userKey = USER_SESSIONS_KEY_PREFIX + userNo;
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.hMSet(sessionKey, Map.of(FIELD_JTI, tokenId, FIELD_USER_NO, String.valueOf(userNo)));
+            conn.pExpire(sessionKey, sessionTtlMillis);
+            conn.sAdd(userKey, sessionId);
+            conn.pExpire(userKey, sessionTtlMillis);
+            return null;
+        });
+    }
+
+    /** 제시된 jti가 세션의 현재 jti와 같으면 새 jti로 바꾼다 (원자적) */
+    public Rotation rotate(String sessionId, Long userNo, String presentedTokenId, String newTokenId) {
+        List<?> result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(SESSION_KEY_PREFIX + sessionId, USER_SESSIONS_KEY_PREFIX + userNo),
+                presentedTokenId, newTokenId, String.valueOf(sessionTtlMillis),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(reuseGraceMillis));
+        if (result == null || result.isEmpty()) {
+            return new Rotation(RotateResult.NOT_FOUND, null);
+        }
+        RotateResult rotateResult = RotateResult.valueOf(String.valueOf(result.get(0)));
+        return new Rotation(rotateResult, result.size() > 1 ? String.valueOf(result.get(1)) : null);
+    }
+
+    /**
+     * 세션 하나 폐기. 세션 키 삭제로 리프레시가 막히고, 폐기 목록/채널로 게이트웨이가 Access 토큰도 거른다.
+     *
+     * @return 살아 있던 세션을 폐기했으면 true
+     */
+    public boolean revoke(String sessionId, Long userNo) {
+        String sessionKey = SESSION_KEY_PREFIX + sessionId;
+        if (!Boolean.TRUE.equals(redisTemplate.delete(sessionKey))) {
+            return false;
+        }
+        if (userNo != null) {
+            redisTemplate.opsForSet().remove(USER_SESSIONS_KEY_PREFIX + userNo, sessionId);
+        }
+        markRevoked(List.of(sessionId));
+        return true;
+    }
+
+    /**
+     * 사용자의 모든 세션 폐기 (전체 로그아웃/정지/탈퇴/비밀번호 변경)
+     *
+     * @return 폐기한 세션 수
+     */
+    public int revokeAll(Long userNo) {
+        String userKey = USER_SESSIONS_KEY_PREFIX + userNo;
+        Set<String> sessionIds = redisTemplate.opsForSet().members(userKey);
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            return 0;
+        }
+        List<String> keys = new ArrayList<>(sessionIds.size() + 1);
+        for (String sessionId : sessionIds) {
+            keys.add(SESSION_KEY_PREFIX + sessionId);
+        }
+        keys.add(userKey);
+        redisTemplate.delete(keys);
+        markRevoked(sessionIds);
+        return sessionIds.size();
+    }
+
+    /**
+     * 폐기 목록에 올리고 채널로 알린다.
+     * 그 세션의 마지막 Access 토큰이 만료될 시각까지만 목록에 두면 되므로 지난 항목은 함께 지운다.
+     */
+    private void markRevoked(Collection<String> sessionIds) {
+        long now = System.currentTimeMillis();
+        double until = now + accessTtlMillis;
+        String message = String.join(",", sessionIds);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String sessionId : sessionIds) {
+                conn.zAdd(REVOKED_SESSIONS_KEY, until, sessionId);
+            }
+            conn.zRemRangeByScore(REVOKED_SESSIONS_KEY, Double.NEGATIVE_INFINITY, now);
+            conn.pExpire(REVOKED_SESSIONS_KEY, accessTtlMillis);
+            conn.publish(REVOKED_CHANNEL, message);
+            return null;
+        });
+        log.info("🔒 [RefreshSessionStore] 세션 폐기: {}", message);
+    }
+}
@@ -0,0 +1,85 @@
+package site.petful.userservice.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import site.petful.userservice.entity.Role;
+import site.petful.userservice.entity.User;
+import site.petful.userservice.repository.UserRepository;
+
+import java.time.Duration;
+
+/**
+ * 토큰 재발급에 필요한 사용자 상태(활성 여부/권한/이메일)만 Redis에 짧게 캐시한다.
+ * 재발급마다 users를 통째로 읽지 않기 위함이고, 정지/탈퇴 시 evict 한다.
+ * 값 형식: "{active 1|0}|{userType}|{email}"
+ */
+@Slf4j
+@Component
+public class UserStatusCache {
+
+    public static final String KEY_PREFIX = "auth:user-status:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserRepository userRepository;
+    private final Duration ttl;
+
+    public UserStatusCache(StringRedisTemplate redisTemplate,
+                           UserRepository userRepository,
+                           @Value("${auth.user-status.ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public record UserStatus(Long userNo, String email, Role userType, boolean active) {
+    }
+
+    /**
+     * 캐시에 없으면 DB에서 읽어 채운다. Redis 장애 시에는 DB 값을 그대로 쓴다.
+     *
+     * @return 사용자가 없으면 null
+     */
+    public UserStatus get(Long userNo) {
+        String key = KEY_PREFIX + userNo;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return decode(userNo, cached);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ [UserStatusCache] 캐시 조회 실패, DB로 대체 - userNo: {}, error: {}", userNo, e.getMessage());
+        }
+
+        User user = userRepository.findById(userNo).orElse(null);
+        if (user == null) {
+            return null;
+        }
+        return put(user);
+    }
+
+    public UserStatus put(User user) {
+        UserStatus status = new UserStatus(user.getUserNo(), user.getEmail(), user.getUserType(),
+                Boolean.TRUE.equals(user.getIsActive()));
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + user.getUserNo(), encode(status), ttl);
+        } catch (Exception e) {
+            log.warn("⚠️ [UserStatusCache] 캐시 저장 실패 - userNo: {}, error: {}", user.getUserNo(), e.getMessage());
+        }
+        return status;
+    }
+
+    public void evict(Long userNo) {
+        redisTemplate.delete(KEY_PREFIX + userNo);
+    }
+
+    private static String encode(UserStatus status) {
+        return (status.active() ? "1" : "0") + "|" + status.userType().name() + "|" + status.email();
+    }
+
+    private static UserStatus decode(Long userNo, String value) {
+        String[] parts = value.split("\\|", 3);
+        return new UserStatus(userNo, parts[2], Role.valueOf(parts[1]), "1".equals(parts[0]));
+    }
+}
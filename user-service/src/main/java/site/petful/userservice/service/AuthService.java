@@ -4,11 +4,18 @@ import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import site.petful.userservice.entity.User;
-import site.petful.userservice.security.CustomUserDetailsService;
 import site.petful.userservice.security.JwtUtil;
+import site.petful.userservice.security.RefreshSessionStore;
+import site.petful.userservice.security.RefreshSessionStore.RotateResult;
+import site.petful.userservice.security.RefreshSessionStore.Rotation;
+import site.petful.userservice.security.UserStatusCache;
+import site.petful.userservice.security.UserStatusCache.UserStatus;
+
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -16,11 +23,16 @@ import site.petful.userservice.security.JwtUtil;
 public class AuthService {
 
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService userDetailsService;
+    private final RefreshSessionStore sessionStore;
+    private final UserStatusCache userStatusCache;
 
     @Value("${jwt.access-exp-min}")   private long accessExpMin;
     @Value("${jwt.refresh-exp-days}") private long refreshExpDays;
 
+    /** 로그인/재발급 결과 */
+    public record IssuedTokens(String accessToken, String refreshToken, String userType) {
+    }
+
     /** User 객체로부터 userNo/userType을 포함한 Access 토큰 생성 */
     public String issueAccess(User user) {
         return jwtUtil.generateAccessToken(user);
@@ -31,39 +43,67 @@ public class AuthService {
         return jwtUtil.generateAccessToken(username, userNo, userRole);
     }
 
-    /** username으로 Refresh 토큰 생성 */
-    public String issueRefresh(String username) {
-        return jwtUtil.generateRefreshToken(username);
+    /** 로그인: 새 세션을 만들고 Access/Refresh 발급 */
+    public IssuedTokens login(User user) {
+        String sessionId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        sessionStore.create(sessionId, tokenId, user.getUserNo());
+        userStatusCache.put(user);
+
+        String userType = user.getUserType().name();
+        return new IssuedTokens(
+                jwtUtil.generateAccessToken(user.getEmail(), user.getUserNo(), userType, sessionId),
+                jwtUtil.generateRefreshToken(user.getEmail(), user.getUserNo(), sessionId, tokenId),
+                userType);
     }
 
-    /** Refresh 토큰으로 새 Access 발급 */
-    public String refreshAccess(String refreshToken) {
+    /**
+     * Refresh 토큰으로 새 Access/Refresh 발급 (rolling refresh).
+     * 쓰인 Refresh 토큰은 바로 무효가 된다. 단, 유예 시간 안에 같은 토큰이 다시 오면(동시 탭/재시도) 현재 토큰으로 다시 발급하고,
+     * 유예 시간이 지난 뒤 무효가 된 토큰이 다시 오면 세션 전체를 폐기한다.
+     */
+    public IssuedTokens refresh(String refreshToken) {
         Claims claims = jwtUtil.parseRefreshClaims(refreshToken);
         if (jwtUtil.isExpired(claims)) {
             throw new IllegalStateException("refresh token expired");
         }
-        String username = claims.getSubject();
-
-        // 유저 유효성 확인(삭제/잠금 등)
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        if (!(userDetails instanceof User)) {
-            throw new IllegalStateException("Unexpected UserDetails type");
+        String sessionId = jwtUtil.extractSessionId(claims);
+        Long userNo = jwtUtil.extractUserNo(claims);
+        if (sessionId == null || userNo == null) {
+            // 세션 저장소 도입 전에 발급된 토큰
+            throw new IllegalStateException("refresh token has no session");
         }
-        User user = (User) userDetails;
 
-        return jwtUtil.generateAccessToken(user);
-    }
+        String newTokenId = UUID.randomUUID().toString();
+        Rotation rotation = sessionStore.rotate(sessionId, userNo, claims.getId(), newTokenId);
+        RotateResult result = rotation.result();
+        if (result == RotateResult.NOT_FOUND) {
+            throw new IllegalStateException("refresh session revoked or expired");
+        }
+        if (result == RotateResult.REUSED) {
+            sessionStore.revoke(sessionId, userNo);
+            log.warn("⚠️ [AuthService] 회전된 리프레시 토큰 재사용 감지, 세션 폐기 - userNo: {}, sid: {}", userNo, sessionId);
+            throw new IllegalStateException("refresh token reuse detected");
+        }
+        if (result == RotateResult.GRACE) {
+            log.debug("[AuthService] 유예 시간 안의 리프레시 토큰 재사용, 현재 토큰으로 재발급 - userNo: {}, sid: {}", userNo, sessionId);
+        }
 
-    /** (선택) rolling refresh가 필요할 때만 호출 */
-    public String rotateRefresh(String refreshToken) {
-        Claims claims = jwtUtil.parseRefreshClaims(refreshToken);
-        if (jwtUtil.isExpired(claims)) {
-            throw new IllegalStateException("refresh token expired");
+        // 유저 유효성 확인(삭제/정지 등) - 전체 조회 대신 캐시된 상태만 본다
+        UserStatus status = userStatusCache.get(userNo);
+        if (status == null || !status.active()) {
+            sessionStore.revoke(sessionId, userNo);
+            throw new IllegalStateException("user is not active");
         }
-        return jwtUtil.generateRefreshToken(claims.getSubject());
+
+        String userType = status.userType().name();
+        return new IssuedTokens(
+                jwtUtil.generateAccessToken(status.email(), userNo, userType, sessionId),
+                jwtUtil.generateRefreshToken(status.email(), userNo, sessionId, rotation.tokenId()),
+                userType);
     }
 
-    /** 로그아웃 시 리프레시 토큰 검증 */
+    /** 로그아웃: 리프레시 토큰의 세션 폐기 */
     public void logout(String refreshToken) {
         try {
             // 리프레시 토큰 유효성 검증
@@ -71,17 +111,55 @@ public class AuthService {
             if (jwtUtil.isExpired(claims)) {
                 throw new IllegalStateException("refresh token expired");
             }
-            
-            // 여기서는 단순히 토큰 유효성만 검증
-            // Redis를 사용한다면 여기서 토큰을 블랙리스트에 추가할 수 있음
+
             String username = claims.getSubject();
+            String sessionId = jwtUtil.extractSessionId(claims);
+            if (sessionId != null) {
+                sessionStore.revoke(sessionId, jwtUtil.extractUserNo(claims));
+            }
             log.info("사용자 {} 로그아웃 처리 완료", username);
-            
+
         } catch (Exception e) {
             throw new IllegalStateException("Invalid refresh token: " + e.getMessage());
         }
     }
 
+    /** 전체 로그아웃: 사용자의 모든 세션 폐기 */
+    public int logoutAll(Long userNo) {
+        int revoked = sessionStore.revokeAll(userNo);
+        log.info("사용자 {} 전체 로그아웃 처리 완료 - 세션 {}개", userNo, revoked);
+        return revoked;
+    }
+
+    /**
+     * 정지/탈퇴/비밀번호 변경 시 모든 세션을 폐기하고 상태 캐시를 비운다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 처리한다.
+     */
+    public void revokeAllSessions(Long userNo) {
+        if (userNo == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doRevokeAllSessions(userNo);
+                }
+            });
+        } else {
+            doRevokeAllSessions(userNo);
+        }
+    }
+
+    private void doRevokeAllSessions(Long userNo) {
+        try {
+            userStatusCache.evict(userNo);
+            sessionStore.revokeAll(userNo);
+        } catch (Exception e) {
+            log.error("❌ [AuthService] 세션 폐기 실패 - userNo: {}, error: {}", userNo, e.getMessage(), e);
+        }
+    }
+
     // 컨트롤러에서 쿠키 TTL 설정할 때 사용
     public long accessTtlMinutes() { return accessExpMin; }
     public long refreshTtlDays() { return refreshExpDays; }
@@ -7,6 +7,9 @@ public interface EmailService {
     void sendVerificationEmail(EmailVerificationRequest request);
     boolean verifyEmailCode(EmailVerificationConfirmRequest request);
     
+    // 비밀번호 재설정 인증 코드 메일 발송
+    void sendPasswordResetEmail(String to, String name, String code);
+
     // 일반 이메일 발송 메서드
     void sendEmail(String to, String subject, String content);
 }
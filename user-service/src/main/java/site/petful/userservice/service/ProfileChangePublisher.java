@@ -0,0 +1,51 @@
+package site.petful.userservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 닉네임/프로필 이미지 변경 알림.
+ * 다른 서비스가 캐시해 두는 간단 프로필(Redis "user:profile:simple:{userNo}")을 지우고,
+ * "user:profile-changed" 채널로 userNo를 보내 각 인스턴스의 로컬 캐시도 비우게 한다.
+ * 트랜잭션 안에서 호출되면 커밋된 뒤에 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileChangePublisher {
+
+    public static final String KEY_PREFIX = "user:profile:simple:";
+    public static final String CHANGED_CHANNEL = "user:profile-changed";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void publish(Long userNo) {
+        if (userNo == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(userNo);
+                }
+            });
+        } else {
+            send(userNo);
+        }
+    }
+
+    private void send(Long userNo) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + userNo);
+            redisTemplate.convertAndSend(CHANGED_CHANNEL, String.valueOf(userNo));
+        } catch (Exception e) {
+            // 캐시는 TTL이 지나면 다시 채워지므로 요청은 실패시키지 않는다
+            log.warn("프로필 변경 알림 실패 - userNo: {}, error: {}", userNo, e.getMessage());
+        }
+    }
+}
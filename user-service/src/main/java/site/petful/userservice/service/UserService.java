@@ -10,6 +10,7 @@ import site.petful.userservice.dto.VerificationConfirmResponse;
 import site.petful.userservice.dto.FileUploadResponse;
 import site.petful.userservice.dto.ProfileResponse;
 import site.petful.userservice.dto.ProfileUpdateRequest;
+import site.petful.userservice.dto.SimpleProfileBatchResponse;
 import site.petful.userservice.dto.SimpleProfileResponse;
 import site.petful.userservice.dto.SignupRequest;
 import site.petful.userservice.dto.SignupResponse;
@@ -29,7 +30,7 @@ public interface UserService {
     ProfileResponse getProfile(Long userNo);
     ProfileResponse updateProfile(Long userNo, ProfileUpdateRequest request);
     SimpleProfileResponse getSimpleProfile(Long userNo);
-    List<SimpleProfileResponse> getSimpleProfilesBatch(List<Long> userNos);
+    SimpleProfileBatchResponse getSimpleProfilesBatch(List<Long> userNos);
 
     // 비밀번호 재설정 관련 메서드들
     PasswordResetResponse requestPasswordReset(PasswordResetRequest request);
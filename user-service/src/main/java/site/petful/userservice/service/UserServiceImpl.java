@@ -2,6 +2,7 @@ package site.petful.userservice.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,12 +19,14 @@ import site.petful.userservice.dto.VerificationConfirmResponse;
 import site.petful.userservice.dto.FileUploadResponse;
 import site.petful.userservice.dto.ProfileResponse;
 import site.petful.userservice.dto.ProfileUpdateRequest;
+import site.petful.userservice.dto.SimpleProfileBatchResponse;
 import site.petful.userservice.dto.SimpleProfileResponse;
 import site.petful.userservice.dto.SignupRequest;
 import site.petful.userservice.dto.SignupResponse;
 import site.petful.userservice.dto.WithdrawRequest;
 import site.petful.userservice.dto.WithdrawResponse;
 import site.petful.userservice.dto.ReportRequest;
+import site.petful.userservice.repository.SimpleProfileView;
 import site.petful.userservice.repository.UserProfileRepository;
 import site.petful.userservice.repository.UserRepository;
 import site.petful.userservice.common.ftp.FtpService;
@@ -36,7 +39,10 @@ import site.petful.userservice.admin.repository.ReportLogRepository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Slf4j
@@ -51,6 +57,12 @@ public class UserServiceImpl implements UserService {
     private final RedisService redisService;
     private final FtpService ftpService;
     private final ReportLogRepository reportLogRepository;
+    private final ProfileChangePublisher profileChangePublisher;
+    private final AuthService authService;
+
+    // 간단 프로필 일괄 조회 시 IN 절 하나에 넣을 최대 사용자 수
+    @Value("${user.profile.batch-chunk-size:500}")
+    private int batchChunkSize;
 
     @Override
     public SignupResponse signup(SignupRequest request) {
@@ -195,6 +207,9 @@ public class UserServiceImpl implements UserService {
         }
         
         UserProfile savedProfile = userProfileRepository.save(profile);
+        if (request.getNickname() != null || request.getProfileImageUrl() != null) {
+            profileChangePublisher.publish(userNo);
+        }
         
         return ProfileResponse.builder()
                 .userNo(user.getUserNo())
@@ -243,21 +258,8 @@ public class UserServiceImpl implements UserService {
         System.out.println("저장 성공 여부: " + (savedCode != null && savedCode.equals(verificationCode)));
         System.out.println("================================");
         
-        // 이메일 발송
-        String subject = "[Petful] 비밀번호 재설정 인증 코드";
-        String content = String.format(
-            "안녕하세요, %s님!\n\n" +
-            "비밀번호 재설정을 요청하셨습니다.\n\n" +
-            "인증 코드: %s\n\n" +
-            "이 인증 코드는 10분간 유효합니다.\n" +
-            "본인이 요청하지 않았다면 이 이메일을 무시하세요.\n\n" +
-            "감사합니다.\n" +
-            "Petful 팀",
-            user.getName(),
-            verificationCode
-        );
-        
-        emailService.sendEmail(request.getEmail(), subject, content);
+        // 이메일 발송 (큐에 적재만 하고 바로 응답)
+        emailService.sendPasswordResetEmail(request.getEmail(), user.getName(), verificationCode);
         
         return PasswordResetResponse.builder()
                 .message("비밀번호 재설정 인증 코드가 이메일로 발송되었습니다.")
@@ -283,26 +285,52 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    /**
+     * 간단 프로필 일괄 조회. users LEFT JOIN user_profile 한 번의 IN 쿼리로 가져오고,
+     * 요청이 크면 batchChunkSize개씩 나눠 조회한다. (요청 순서 유지, 없는 사용자는 missingUserNos로 알려줌)
+     */
     @Override
-    public List<SimpleProfileResponse> getSimpleProfilesBatch(List<Long> userNos) {
+    @Transactional(readOnly = true)
+    public SimpleProfileBatchResponse getSimpleProfilesBatch(List<Long> userNos) {
         if (userNos == null || userNos.isEmpty()) {
-            return new ArrayList<>();
+            return new SimpleProfileBatchResponse(new ArrayList<>(), new ArrayList<>());
         }
 
-        List<SimpleProfileResponse> profiles = new ArrayList<>();
+        List<Long> distinctUserNos = userNos.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
 
-        for (Long userNo : userNos) {
-            try {
-                SimpleProfileResponse profile = getSimpleProfile(userNo);
-                if (profile != null) {
-                    profiles.add(profile);
-                }
-            } catch (Exception e) {
-                // 개별 사용자 조회 실패 시 로그만 남기고 계속 진행
-                log.warn("Failed to get profile for user {}: {}", userNo, e.getMessage());
+        int chunkSize = Math.max(1, batchChunkSize);
+        Map<Long, SimpleProfileView> found = new HashMap<>();
+        for (int from = 0; from < distinctUserNos.size(); from += chunkSize) {
+            List<Long> chunk = distinctUserNos.subList(from, Math.min(from + chunkSize, distinctUserNos.size()));
+            for (SimpleProfileView view : userRepository.findSimpleProfiles(chunk)) {
+                found.put(view.getUserNo(), view);
             }
         }
-        return profiles;
+
+        List<SimpleProfileResponse> profiles = new ArrayList<>(found.size());
+        List<Long> missingUserNos = new ArrayList<>();
+        for (Long userNo : distinctUserNos) {
+            SimpleProfileView view = found.get(userNo);
+            if (view == null) {
+                missingUserNos.add(userNo);
+                continue;
+            }
+            profiles.add(SimpleProfileResponse.builder()
+                    .id(view.getUserNo())
+                    .nickname(view.getNickname())
+                    .profileImageUrl(view.getProfileImageUrl())
+                    .email(view.getEmail())
+                    .phone(view.getPhone())
+                    .build());
+        }
+
+        if (!missingUserNos.isEmpty()) {
+            log.warn("Profiles not found for users {}", missingUserNos);
+        }
+        return new SimpleProfileBatchResponse(profiles, missingUserNos);
     }
 
     @Override
@@ -363,6 +391,9 @@ public class UserServiceImpl implements UserService {
         // Redis에서 인증 코드 삭제 (선택사항 - 보안을 위해 삭제)
         String redisKey = "password_reset:" + request.getEmail();
         redisService.deleteValue(redisKey);
+        
+        // 비밀번호가 바뀌었으므로 기존 로그인 세션은 모두 폐기
+        authService.revokeAllSessions(user.getUserNo());
     }
     
     @Override
@@ -405,6 +436,8 @@ public class UserServiceImpl implements UserService {
         
         // 실제 DB에서 사용자 데이터 삭제 (Hard Delete)
         userRepository.delete(user);
+        profileChangePublisher.publish(userNo);
+        authService.revokeAllSessions(userNo);
         
         return WithdrawResponse.builder()
                 .userNo(user.getUserNo())
@@ -522,6 +555,7 @@ public class UserServiceImpl implements UserService {
             
             // 저장
             userProfileRepository.save(profile);
+            profileChangePublisher.publish(userNo);
             
         } catch (Exception e) {
             throw new RuntimeException("프로필 이미지 URL 업데이트 중 오류가 발생했습니다: " + e.getMessage(), e);
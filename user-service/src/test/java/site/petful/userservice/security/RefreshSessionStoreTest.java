@@ -0,0 +1,116 @@
+package site.petful.userservice.security;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+import site.petful.userservice.security.RefreshSessionStore.RotateResult;
+import site.petful.userservice.security.RefreshSessionStore.Rotation;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 Redis에서 회전 Lua 스크립트와 폐기 동작을 확인한다.
+ */
+class RefreshSessionStoreTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    void 현재_jti로_회전하면_새_jti가_저장된다() {
+        RefreshSessionStore store = store(10);
+        store.create("sid", "jti-1", 1L);
+
+        Rotation rotation = store.rotate("sid", 1L, "jti-1", "jti-2");
+
+        assertThat(rotation).isEqualTo(new Rotation(RotateResult.ROTATED, "jti-2"));
+        assertThat(redisTemplate.opsForHash().get(RefreshSessionStore.SESSION_KEY_PREFIX + "sid", "jti"))
+                .isEqualTo("jti-2");
+        assertThat(store.rotate("sid", 1L, "jti-2", "jti-3").result()).isEqualTo(RotateResult.ROTATED);
+    }
+
+    @Test
+    void 유예_시간_안에_직전_jti가_다시_오면_회전하지_않고_현재_jti를_돌려준다() {
+        RefreshSessionStore store = store(10);
+        store.create("sid", "jti-1", 1L);
+        store.rotate("sid", 1L, "jti-1", "jti-2");
+
+        Rotation retried = store.rotate("sid", 1L, "jti-1", "jti-3");
+
+        assertThat(retried).isEqualTo(new Rotation(RotateResult.GRACE, "jti-2"));
+        assertThat(redisTemplate.opsForHash().get(RefreshSessionStore.SESSION_KEY_PREFIX + "sid", "jti"))
+                .isEqualTo("jti-2");
+    }
+
+    @Test
+    void 유예_시간이_지난_옛_jti나_두_단계_전_jti는_재사용이다() {
+        RefreshSessionStore noGrace = store(0);
+        noGrace.create("sid", "jti-1", 1L);
+        noGrace.rotate("sid", 1L, "jti-1", "jti-2");
+        assertThat(noGrace.rotate("sid", 1L, "jti-1", "jti-3").result()).isEqualTo(RotateResult.REUSED);
+
+        RefreshSessionStore store = store(10);
+        store.create("sid2", "a", 1L);
+        store.rotate("sid2", 1L, "a", "b");
+        store.rotate("sid2", 1L, "b", "c");
+        assertThat(store.rotate("sid2", 1L, "a", "d").result()).isEqualTo(RotateResult.REUSED);
+    }
+
+    @Test
+    void 폐기된_세션은_찾을_수_없고_폐기_목록에_남는다() {
+        RefreshSessionStore store = store(10);
+        store.create("sid", "jti-1", 1L);
+        store.create("other", "jti-9", 1L);
+
+        assertThat(store.revoke("sid", 1L)).isTrue();
+        assertThat(store.revoke("sid", 1L)).isFalse();
+
+        assertThat(store.rotate("sid", 1L, "jti-1", "jti-2")).isEqualTo(new Rotation(RotateResult.NOT_FOUND, null));
+        assertThat(redisTemplate.opsForZSet().score(RefreshSessionStore.REVOKED_SESSIONS_KEY, "sid")).isNotNull();
+        assertThat(redisTemplate.opsForSet().members(RefreshSessionStore.USER_SESSIONS_KEY_PREFIX + 1))
+                .containsExactly("other");
+
+        assertThat(store.revokeAll(1L)).isEqualTo(1);
+        assertThat(store.rotate("other", 1L, "jti-9", "jti-10").result()).isEqualTo(RotateResult.NOT_FOUND);
+    }
+
+    private static RefreshSessionStore store(long graceSeconds) {
+        return new RefreshSessionStore(redisTemplate, 14, 30, graceSeconds);
+    }
+}
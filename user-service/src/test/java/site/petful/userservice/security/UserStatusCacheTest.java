@@ -0,0 +1,69 @@
+package site.petful.userservice.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import site.petful.userservice.entity.Role;
+import site.petful.userservice.entity.User;
+import site.petful.userservice.repository.UserRepository;
+import site.petful.userservice.security.UserStatusCache.UserStatus;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserStatusCacheTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private UserRepository userRepository;
+    private UserStatusCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        userRepository = mock(UserRepository.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new UserStatusCache(redisTemplate, userRepository, 600);
+    }
+
+    @Test
+    void 캐시된_값을_디코딩한다_이메일에_구분자가_있어도_된다() {
+        when(valueOperations.get(UserStatusCache.KEY_PREFIX + 1)).thenReturn("1|USER|a|b@example.com");
+
+        UserStatus status = cache.get(1L);
+
+        assertThat(status).isEqualTo(new UserStatus(1L, "a|b@example.com", Role.USER, true));
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void 캐시에_없으면_DB에서_읽어_인코딩해_저장한다() {
+        User user = User.builder().userNo(2L).email("c@example.com").userType(Role.ADVERTISER).isActive(false).build();
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+
+        UserStatus status = cache.get(2L);
+
+        assertThat(status).isEqualTo(new UserStatus(2L, "c@example.com", Role.ADVERTISER, false));
+        verify(valueOperations).set(UserStatusCache.KEY_PREFIX + 2, "0|ADVERTISER|c@example.com", Duration.ofSeconds(600));
+    }
+
+    @Test
+    void Redis_장애_시_DB_값을_쓰고_없는_사용자는_null() {
+        when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("redis down"));
+        when(userRepository.findById(eq(3L))).thenReturn(Optional.empty());
+
+        assertThat(cache.get(3L)).isNull();
+    }
+}
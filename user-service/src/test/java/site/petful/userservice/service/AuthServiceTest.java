@@ -0,0 +1,142 @@
+package site.petful.userservice.service;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.petful.userservice.entity.Role;
+import site.petful.userservice.security.JwtUtil;
+import site.petful.userservice.security.RefreshSessionStore;
+import site.petful.userservice.security.RefreshSessionStore.RotateResult;
+import site.petful.userservice.security.RefreshSessionStore.Rotation;
+import site.petful.userservice.security.UserStatusCache;
+import site.petful.userservice.security.UserStatusCache.UserStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    private static final String REFRESH_TOKEN = "refresh-token";
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private RefreshSessionStore sessionStore;
+
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private Claims claims;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 회전되면_새_jti로_리프레시_토큰을_발급한다() {
+        givenRefreshClaims();
+        when(sessionStore.rotate(eq("sid"), eq(1L), eq("jti-1"), anyString()))
+                .thenReturn(new Rotation(RotateResult.ROTATED, "jti-2"));
+        givenActiveUser();
+
+        AuthService.IssuedTokens tokens = authService.refresh(REFRESH_TOKEN);
+
+        assertThat(tokens.refreshToken()).isEqualTo("refresh:jti-2");
+        assertThat(tokens.accessToken()).isEqualTo("access");
+        verify(sessionStore, never()).revoke("sid", 1L);
+    }
+
+    @Test
+    void 유예_시간_안의_재사용은_현재_jti로_다시_발급하고_세션을_유지한다() {
+        givenRefreshClaims();
+        when(sessionStore.rotate(eq("sid"), eq(1L), eq("jti-1"), anyString()))
+                .thenReturn(new Rotation(RotateResult.GRACE, "jti-2"));
+        givenActiveUser();
+
+        AuthService.IssuedTokens tokens = authService.refresh(REFRESH_TOKEN);
+
+        assertThat(tokens.refreshToken()).isEqualTo("refresh:jti-2");
+        verify(sessionStore, never()).revoke("sid", 1L);
+    }
+
+    @Test
+    void 유예_시간이_지난_재사용은_세션을_폐기한다() {
+        givenRefreshClaims();
+        when(sessionStore.rotate(eq("sid"), eq(1L), eq("jti-1"), anyString()))
+                .thenReturn(new Rotation(RotateResult.REUSED, null));
+
+        assertThatThrownBy(() -> authService.refresh(REFRESH_TOKEN))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("refresh token reuse detected");
+        verify(sessionStore).revoke("sid", 1L);
+        verifyNoInteractions(userStatusCache);
+    }
+
+    @Test
+    void 트랜잭션_안의_전체_세션_폐기는_커밋된_뒤에_실행된다() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        authService.revokeAllSessions(1L);
+
+        verifyNoInteractions(sessionStore, userStatusCache);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        verify(userStatusCache).evict(1L);
+        verify(sessionStore).revokeAll(1L);
+    }
+
+    @Test
+    void 롤백되면_세션을_폐기하지_않는다() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        authService.revokeAllSessions(1L);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        verifyNoInteractions(sessionStore, userStatusCache);
+    }
+
+    private void givenRefreshClaims() {
+        when(jwtUtil.parseRefreshClaims(REFRESH_TOKEN)).thenReturn(claims);
+        when(jwtUtil.isExpired(claims)).thenReturn(false);
+        when(jwtUtil.extractSessionId(claims)).thenReturn("sid");
+        when(jwtUtil.extractUserNo(claims)).thenReturn(1L);
+        when(claims.getId()).thenReturn("jti-1");
+    }
+
+    private void givenActiveUser() {
+        when(userStatusCache.get(1L)).thenReturn(new UserStatus(1L, "a@example.com", Role.USER, true));
+        when(jwtUtil.generateAccessToken("a@example.com", 1L, "USER", "sid")).thenReturn("access");
+        when(jwtUtil.generateRefreshToken(eq("a@example.com"), eq(1L), eq("sid"), anyString()))
+                .thenAnswer(invocation -> "refresh:" + invocation.getArgument(3));
+    }
+}